@@ -0,0 +1,119 @@
+package com.example.todo.analytics;
+
+import java.util.Arrays;
+
+/**
+ * Mapa de {@code long} para {@code int} não negativo com endereçamento aberto (sondagem linear) em dois arrays
+ * primitivos: sem um {@code Long} e um {@code Integer} por entrada, como num {@code HashMap}. Remoções puxam para
+ * trás as entradas seguintes da mesma sequência, então não há marcadores de remoção acumulando.
+ * <p>
+ * Não é thread-safe; o {@link TaskColumnStore} cuida do acesso.
+ */
+final class LongIntHashMap {
+
+    static final int MISSING = -1;
+
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+
+    LongIntHashMap() {
+        allocate(MIN_CAPACITY);
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Valor da chave, ou {@link #MISSING}.
+     */
+    int get(long key) {
+        for (int slot = slot(key); ; slot = (slot + 1) & mask) {
+            int value = values[slot];
+            if (value == MISSING || keys[slot] == key) {
+                return value;
+            }
+        }
+    }
+
+    void put(long key, int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Valor negativo: " + value);
+        }
+        int slot = slot(key);
+        while (values[slot] != MISSING && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        if (values[slot] == MISSING) {
+            size++;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        // Ocupação máxima de 50%: as sequências de sondagem continuam curtas
+        if (size * 2 > values.length) {
+            rehash(values.length * 2);
+        }
+    }
+
+    /**
+     * Remove a chave e devolve o valor que ela tinha, ou {@link #MISSING}.
+     */
+    int remove(long key) {
+        int gap = slot(key);
+        while (values[gap] != MISSING && keys[gap] != key) {
+            gap = (gap + 1) & mask;
+        }
+        int removed = values[gap];
+        if (removed == MISSING) {
+            return MISSING;
+        }
+        // Uma entrada só pode ocupar o buraco se a posição ideal dela não estiver entre o buraco e ela
+        for (int slot = (gap + 1) & mask; values[slot] != MISSING; slot = (slot + 1) & mask) {
+            if (((slot - slot(keys[slot])) & mask) >= ((slot - gap) & mask)) {
+                keys[gap] = keys[slot];
+                values[gap] = values[slot];
+                gap = slot;
+            }
+        }
+        values[gap] = MISSING;
+        size--;
+        return removed;
+    }
+
+    void clear() {
+        Arrays.fill(values, MISSING);
+        size = 0;
+    }
+
+    private int slot(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != MISSING) {
+                int slot = slot(oldKeys[i]);
+                while (values[slot] != MISSING) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        Arrays.fill(values, MISSING);
+        mask = capacity - 1;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.todo.analytics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Estatísticas de tarefas criadas e concluídas por hora ({@code todo-api.analytics.*}).
+ *
+ * @param flushInterval intervalo entre as gravações dos contadores no banco (e a releitura do que os outros nós
+ *                      gravaram)
+ * @param maxBuckets    intervalos devolvidos por consulta, no máximo
+ */
+@ConfigurationProperties(prefix = "todo-api.analytics")
+public record TaskAnalyticsProperties(
+        @DefaultValue("1m") Duration flushInterval,
+        @DefaultValue("10000") int maxBuckets
+) {
+}
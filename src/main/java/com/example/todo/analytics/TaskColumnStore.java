@@ -0,0 +1,333 @@
+package com.example.todo.analytics;
+
+import com.example.todo.exception.InvalidRequestException;
+import com.example.todo.model.Task;
+import com.example.todo.model.enums.TaskStatus;
+import com.example.todo.service.TaskChangeListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+
+/**
+ * Cópia colunar de {@code tasks} em memória para estatísticas sobre todas as tarefas sem passar pelo JPA: id,
+ * status (ordinal) e criação (segundos desde a época) em arrays primitivos, título e descrição codificados por
+ * dicionário ({@link TextDictionary}). Carregada na subida e mantida pelas escritas do {@code TaskService}.
+ * <p>
+ * As agregações são laços sem alocação sobre os arrays, divididos em blocos de {@value #CHUNK_ROWS} linhas que
+ * rodam em paralelo no pool comum, cada um com seus próprios contadores, somados no final. Remoções movem a
+ * última linha para o buraco, para que as colunas continuem densas. As agregações copiam as colunas que usam sob o
+ * lock de leitura e somam fora dele: escritas esperam só a cópia, nunca o pool comum.
+ */
+@Component
+public class TaskColumnStore implements TaskChangeListener {
+
+    static final int CHUNK_ROWS = 1 << 16;
+    static final int MAX_WEEKS = 1_000;
+
+    private static final long NO_DATE = Long.MIN_VALUE;
+    private static final long SECONDS_PER_WEEK = 7 * 86_400L;
+    // 1970-01-01 foi uma quinta-feira: deslocando três dias, as semanas começam na segunda
+    private static final long MONDAY_OFFSET = 3 * 86_400L;
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final LongIntHashMap rowById = new LongIntHashMap();
+    private final TextDictionary titles = new TextDictionary();
+    private final TextDictionary descriptions = new TextDictionary();
+
+    private int size;
+    private long[] ids = new long[1024];
+    private byte[] statuses = new byte[1024];
+    private long[] createdAt = new long[1024];
+    private int[] titleCodes = new int[1024];
+    private int[] descriptionCodes = new int[1024];
+
+    /**
+     * Tarefas criadas na semana (começando na segunda-feira), por status.
+     */
+    public record WeekCounts(LocalDate weekStart, Map<TaskStatus, Long> byStatus) {
+    }
+
+    /**
+     * Tamanho médio, em caracteres, de título e descrição; descrição ausente conta como vazia.
+     */
+    public record TextLengths(long tasks, double averageTitleLength, double averageDescriptionLength) {
+    }
+
+    @Override
+    public void onReloadStart() {
+        lock.writeLock().lock();
+        try {
+            for (int row = 0; row < size; row++) {
+                titles.release(titleCodes[row]);
+                descriptions.release(descriptionCodes[row]);
+            }
+            rowById.clear();
+            size = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onReloadPage(List<Task> tasks) {
+        lock.writeLock().lock();
+        try {
+            tasks.forEach(this::upsert);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onSaved(Task task) {
+        lock.writeLock().lock();
+        try {
+            upsert(task);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onDeleted(long taskId) {
+        lock.writeLock().lock();
+        try {
+            int row = rowById.remove(taskId);
+            if (row == LongIntHashMap.MISSING) {
+                return;
+            }
+            titles.release(titleCodes[row]);
+            descriptions.release(descriptionCodes[row]);
+            int last = --size;
+            if (row != last) {
+                ids[row] = ids[last];
+                statuses[row] = statuses[last];
+                createdAt[row] = createdAt[last];
+                titleCodes[row] = titleCodes[last];
+                descriptionCodes[row] = descriptionCodes[last];
+                rowById.put(ids[row], row);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Tarefas criadas por semana e status entre {@code from} (inclusivo) e {@code to} (exclusivo), da semana mais
+     * antiga para a mais recente, com zeros nas semanas sem tarefas. Sem limites, vai da tarefa mais antiga à mais
+     * recente.
+     *
+     * @throws InvalidRequestException se o período for vazio ou tiver mais de {@value #MAX_WEEKS} semanas
+     */
+    public List<WeekCounts> countByStatusAndWeek(LocalDateTime from, LocalDateTime to) {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new InvalidRequestException("O início do período deve ser anterior ao fim");
+        }
+        long[] created;
+        byte[] status;
+        int rows;
+        lock.readLock().lock();
+        try {
+            rows = size;
+            created = Arrays.copyOf(createdAt, rows);
+            status = Arrays.copyOf(statuses, rows);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        long lower = from == null ? NO_DATE + 1 : epochSecond(from);
+        long upper = to == null ? Long.MAX_VALUE : epochSecond(to);
+        long[] range = parallelChunks(rows).mapToObj(chunk -> minMax(created, chunk, rows, lower, upper))
+                .reduce(new long[]{Long.MAX_VALUE, Long.MIN_VALUE},
+                        (a, b) -> new long[]{Math.min(a[0], b[0]), Math.max(a[1], b[1])});
+        if (range[0] > range[1] && (from == null || to == null)) {
+            return List.of();
+        }
+
+        long firstWeek = weekOf(from == null ? range[0] : lower);
+        long lastWeek = weekOf(to == null ? range[1] : upper - 1);
+        long weeks = lastWeek - firstWeek + 1;
+        if (weeks > MAX_WEEKS) {
+            throw new InvalidRequestException("Período longo demais: no máximo " + MAX_WEEKS
+                    + " semanas por consulta; informe from e to");
+        }
+        int width = STATUSES.length;
+        long[] counts = parallelChunks(rows)
+                .mapToObj(chunk -> countChunk(created, status, chunk, rows, lower, upper, firstWeek,
+                        (int) weeks * width))
+                .reduce(new long[(int) weeks * width], TaskColumnStore::sum);
+
+        List<WeekCounts> result = new ArrayList<>((int) weeks);
+        for (int week = 0; week < weeks; week++) {
+            Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+            for (TaskStatus taskStatus : STATUSES) {
+                byStatus.put(taskStatus, counts[week * width + taskStatus.ordinal()]);
+            }
+            result.add(new WeekCounts(weekStart(firstWeek + week), byStatus));
+        }
+        return result;
+    }
+
+    /**
+     * Tamanho médio de título e descrição das tarefas com o status informado, ou de todas quando nulo.
+     */
+    public TextLengths averageTextLengths(TaskStatus taskStatus) {
+        int wanted = taskStatus == null ? -1 : taskStatus.ordinal();
+        byte[] status;
+        int[] titleCode;
+        int[] descriptionCode;
+        int[] titleLength;
+        int[] descriptionLength;
+        int rows;
+        lock.readLock().lock();
+        try {
+            rows = size;
+            status = wanted < 0 ? null : Arrays.copyOf(statuses, rows);
+            titleCode = Arrays.copyOf(titleCodes, rows);
+            descriptionCode = Arrays.copyOf(descriptionCodes, rows);
+            titleLength = titles.lengths().clone();
+            descriptionLength = descriptions.lengths().clone();
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        long[] sums = parallelChunks(rows)
+                .mapToObj(chunk -> wanted < 0
+                        ? sumLengths(titleCode, descriptionCode, titleLength, descriptionLength, chunk, rows)
+                        : sumLengths(status, (byte) wanted, titleCode, descriptionCode, titleLength,
+                        descriptionLength, chunk, rows))
+                .reduce(new long[3], TaskColumnStore::sum);
+        long tasks = sums[0];
+        return new TextLengths(tasks, tasks == 0 ? 0 : (double) sums[1] / tasks,
+                tasks == 0 ? 0 : (double) sums[2] / tasks);
+    }
+
+    private void upsert(Task task) {
+        int row = rowById.get(task.getId());
+        if (row != LongIntHashMap.MISSING) {
+            titles.release(titleCodes[row]);
+            descriptions.release(descriptionCodes[row]);
+        } else {
+            row = size++;
+            ensureCapacity(size);
+            rowById.put(task.getId(), row);
+        }
+        ids[row] = task.getId();
+        statuses[row] = (byte) (task.getStatus() == null ? TaskStatus.PENDING : task.getStatus()).ordinal();
+        createdAt[row] = task.getCreatedAt() == null ? NO_DATE : epochSecond(task.getCreatedAt());
+        titleCodes[row] = titles.acquire(task.getTitle());
+        descriptionCodes[row] = descriptions.acquire(task.getDescription());
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > ids.length) {
+            int grown = Math.max(capacity, ids.length * 2);
+            ids = Arrays.copyOf(ids, grown);
+            statuses = Arrays.copyOf(statuses, grown);
+            createdAt = Arrays.copyOf(createdAt, grown);
+            titleCodes = Arrays.copyOf(titleCodes, grown);
+            descriptionCodes = Arrays.copyOf(descriptionCodes, grown);
+        }
+    }
+
+    // Um bloco só não compensa o custo de despachar para o pool
+    private static IntStream parallelChunks(int rows) {
+        int chunks = (rows + CHUNK_ROWS - 1) / CHUNK_ROWS;
+        IntStream stream = IntStream.range(0, chunks);
+        return chunks > 1 ? stream.parallel() : stream;
+    }
+
+    private static long[] minMax(long[] created, int chunk, int rows, long lower, long upper) {
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (int i = chunk * CHUNK_ROWS, end = Math.min(rows, i + CHUNK_ROWS); i < end; i++) {
+            long t = created[i];
+            if (t >= lower && t < upper) {
+                min = Math.min(min, t);
+                max = Math.max(max, t);
+            }
+        }
+        return new long[]{min, max};
+    }
+
+    private static long[] countChunk(long[] created, byte[] status, int chunk, int rows, long lower, long upper,
+                                     long firstWeek, int cells) {
+        long[] counts = new long[cells];
+        int width = STATUSES.length;
+        for (int i = chunk * CHUNK_ROWS, end = Math.min(rows, i + CHUNK_ROWS); i < end; i++) {
+            long t = created[i];
+            if (t >= lower && t < upper) {
+                counts[(int) (weekOf(t) - firstWeek) * width + status[i]]++;
+            }
+        }
+        return counts;
+    }
+
+    private static long[] sumLengths(int[] titleCode, int[] descriptionCode, int[] titleLength,
+                                     int[] descriptionLength, int chunk, int rows) {
+        int start = chunk * CHUNK_ROWS;
+        int end = Math.min(rows, start + CHUNK_ROWS);
+        long titleSum = 0;
+        long descriptionSum = 0;
+        for (int i = start; i < end; i++) {
+            titleSum += titleLength[titleCode[i]];
+            descriptionSum += descriptionLength[descriptionCode[i]];
+        }
+        return new long[]{end - start, titleSum, descriptionSum};
+    }
+
+    // Sem desvio no laço: a linha entra na soma multiplicada por 0 ou 1
+    private static long[] sumLengths(byte[] status, byte wanted, int[] titleCode, int[] descriptionCode,
+                                     int[] titleLength, int[] descriptionLength, int chunk, int rows) {
+        long matches = 0;
+        long titleSum = 0;
+        long descriptionSum = 0;
+        for (int i = chunk * CHUNK_ROWS, end = Math.min(rows, i + CHUNK_ROWS); i < end; i++) {
+            int match = status[i] == wanted ? 1 : 0;
+            matches += match;
+            titleSum += match * titleLength[titleCode[i]];
+            descriptionSum += match * descriptionLength[descriptionCode[i]];
+        }
+        return new long[]{matches, titleSum, descriptionSum};
+    }
+
+    private static long[] sum(long[] a, long[] b) {
+        long[] total = new long[a.length];
+        for (int i = 0; i < total.length; i++) {
+            total[i] = a[i] + b[i];
+        }
+        return total;
+    }
+
+    private static long epochSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static long weekOf(long epochSecond) {
+        return Math.floorDiv(epochSecond + MONDAY_OFFSET, SECONDS_PER_WEEK);
+    }
+
+    private static LocalDate weekStart(long week) {
+        return LocalDate.ofEpochDay(week * 7 - 3);
+    }
+}
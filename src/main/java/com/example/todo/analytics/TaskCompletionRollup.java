@@ -0,0 +1,356 @@
+package com.example.todo.analytics;
+
+import com.example.todo.exception.InvalidRequestException;
+import com.example.todo.model.Task;
+import com.example.todo.model.dto.TaskAnalyticsBucketDTO;
+import com.example.todo.model.dto.TaskAnalyticsDTO;
+import com.example.todo.model.enums.AnalyticsBucket;
+import com.example.todo.model.enums.TaskStatus;
+import com.example.todo.service.TaskChangeListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Contadores de tarefas criadas e concluídas por hora, mantidos em memória a cada escrita e gravados
+ * periodicamente em {@code task_completion_buckets}. Consultas por hora ou por dia somam no máximo um contador por
+ * hora do período (um ano são 8.760), sem ler {@code tasks}.
+ * <p>
+ * Os contadores registram eventos: uma tarefa concluída, reaberta e concluída de novo conta duas conclusões, e
+ * remover uma tarefa não apaga a sua criação do histórico. Cada nó grava só os incrementos que ele mesmo viu, com
+ * {@code MERGE} (PostgreSQL 15+ ou H2), e depois relê a tabela: as consultas enxergam os outros nós com atraso de
+ * até {@link TaskAnalyticsProperties#flushInterval()}. Na primeira subida, com a tabela vazia, ela é preenchida a
+ * partir das tarefas existentes por um único {@code INSERT ... SELECT} no banco; se vários nós sobem juntos, só o
+ * primeiro grava (os demais esbarram na chave de {@code bucket_start}) e todos releem o mesmo resultado.
+ * <p>
+ * O preenchimento conta só eventos até o instante em que começa; a partir dele as escritas contam em memória, e as
+ * anteriores, já gravadas e vistas pelo {@code INSERT ... SELECT}, são descartadas da memória para não contarem
+ * duas vezes.
+ */
+@Component
+public class TaskCompletionRollup implements TaskChangeListener, SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskCompletionRollup.class);
+
+    // Para depois do servidor web, como o TaskHistoryWriter: o último flush pega todas as escritas
+    static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private static final int CREATED = 0;
+    private static final int COMPLETED = 1;
+    private static final long SECONDS_PER_HOUR = 3600;
+
+    private static final String SELECT = "SELECT bucket_start, created, completed FROM task_completion_buckets";
+    private static final String MERGE = """
+            MERGE INTO task_completion_buckets b
+            USING (VALUES (CAST(? AS TIMESTAMP), CAST(? AS BIGINT), CAST(? AS BIGINT))) AS d (bucket_start, created, completed)
+            ON b.bucket_start = d.bucket_start
+            WHEN MATCHED THEN UPDATE SET created = b.created + d.created, completed = b.completed + d.completed
+            WHEN NOT MATCHED THEN INSERT (bucket_start, created, completed) VALUES (d.bucket_start, d.created, d.completed)
+            """;
+    private static final String SEED = """
+            INSERT INTO task_completion_buckets (bucket_start, created, completed)
+            SELECT e.bucket_start, SUM(e.created), SUM(e.completed)
+            FROM (
+                SELECT DATE_TRUNC('hour', created_at) AS bucket_start, 1 AS created, 0 AS completed
+                FROM tasks WHERE created_at <= ?
+                UNION ALL
+                SELECT DATE_TRUNC('hour', completed_at), 0, 1
+                FROM tasks WHERE task_status = 'COMPLETED' AND completed_at <= ?
+            ) e
+            WHERE NOT EXISTS (SELECT 1 FROM task_completion_buckets)
+            GROUP BY e.bucket_start
+            """;
+
+    private static final String IS_EMPTY = "SELECT NOT EXISTS (SELECT 1 FROM task_completion_buckets)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionOperations writeTransaction;
+    private final TaskAnalyticsProperties properties;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReentrantLock flushing = new ReentrantLock();
+    // Hora (horas desde a época) -> {criadas, concluídas}
+    private NavigableMap<Long, long[]> persisted = new TreeMap<>();
+    private NavigableMap<Long, long[]> inFlight = new TreeMap<>();
+    private NavigableMap<Long, long[]> pending = new TreeMap<>();
+    // Eventos até este instante ficam por conta do preenchimento inicial
+    private LocalDateTime seedCutoff;
+
+    private volatile boolean running;
+
+    @Autowired
+    public TaskCompletionRollup(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                TaskAnalyticsProperties properties) {
+        this(jdbcTemplate, new TransactionTemplate(transactionManager), properties);
+    }
+
+    public TaskCompletionRollup(JdbcTemplate jdbcTemplate, TransactionOperations writeTransaction,
+                                TaskAnalyticsProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.writeTransaction = writeTransaction;
+        this.properties = properties;
+    }
+
+    // Com o flush travado: um MERGE nosso antes do preenchimento faria o NOT EXISTS dele falhar
+    @Override
+    public void onReloadStart() {
+        flushing.lock();
+        try {
+            if (isEmpty()) {
+                seed();
+            }
+        } catch (DataAccessException e) {
+            log.warn("Falha ao verificar se as estatísticas precisam ser preenchidas", e);
+        } finally {
+            flushing.unlock();
+        }
+    }
+
+    @Override
+    public void onReloadEnd() {
+        NavigableMap<Long, long[]> stored = load();
+        lock.writeLock().lock();
+        try {
+            persisted = stored;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onCreated(Task task) {
+        record(task.getCreatedAt(), CREATED);
+    }
+
+    @Override
+    public void onStatusChanged(Task task, TaskStatus previous) {
+        if (task.getStatus() == TaskStatus.COMPLETED) {
+            record(task.getCompletedAt(), COMPLETED);
+        }
+    }
+
+    /**
+     * Criadas e concluídas por intervalo entre {@code from} (arredondado para baixo até o início do intervalo) e
+     * {@code to} (arredondado para cima), com zeros nos intervalos sem movimento.
+     *
+     * @throws InvalidRequestException se o período for vazio ou tiver mais de
+     *                                 {@link TaskAnalyticsProperties#maxBuckets()} intervalos
+     */
+    public TaskAnalyticsDTO query(AnalyticsBucket bucket, LocalDateTime from, LocalDateTime to) {
+        long width = bucket.hours();
+        long fromHour = Math.floorDiv(hourOf(from), width) * width;
+        // Teto a partir dos segundos: hourOf já arredonda para baixo e deixaria a hora em andamento de fora
+        long widthSeconds = SECONDS_PER_HOUR * width;
+        long toHour = Math.floorDiv(to.toEpochSecond(ZoneOffset.UTC) + widthSeconds - 1, widthSeconds) * width;
+        if (toHour <= fromHour) {
+            throw new InvalidRequestException("O início do período deve ser anterior ao fim");
+        }
+        long count = (toHour - fromHour) / width;
+        if (count > properties.maxBuckets()) {
+            throw new InvalidRequestException("Período longo demais: no máximo " + properties.maxBuckets()
+                    + " intervalos por consulta");
+        }
+
+        long[] created = new long[(int) count];
+        long[] completed = new long[(int) count];
+        lock.readLock().lock();
+        try {
+            for (NavigableMap<Long, long[]> counters : List.of(persisted, inFlight, pending)) {
+                for (Map.Entry<Long, long[]> entry : counters.subMap(fromHour, true, toHour, false).entrySet()) {
+                    int index = (int) ((entry.getKey() - fromHour) / width);
+                    created[index] += entry.getValue()[CREATED];
+                    completed[index] += entry.getValue()[COMPLETED];
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<TaskAnalyticsBucketDTO> buckets = new ArrayList<>((int) count);
+        for (int i = 0; i < count; i++) {
+            buckets.add(new TaskAnalyticsBucketDTO(startOf(fromHour + i * width), created[i], completed[i]));
+        }
+        return new TaskAnalyticsDTO(bucket, startOf(fromHour), startOf(toHour), buckets);
+    }
+
+    /**
+     * Grava os incrementos acumulados desde a última vez e relê a tabela. Se a gravação falhar, os incrementos
+     * voltam para a próxima tentativa.
+     */
+    @Scheduled(fixedDelayString = "${todo-api.analytics.flush-interval:PT1M}",
+            initialDelayString = "${todo-api.analytics.flush-interval:PT1M}")
+    public void flush() {
+        if (!flushing.tryLock()) {
+            return;
+        }
+        try {
+            NavigableMap<Long, long[]> deltas;
+            lock.writeLock().lock();
+            try {
+                deltas = pending;
+                inFlight = deltas;
+                pending = new TreeMap<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            try {
+                if (!deltas.isEmpty()) {
+                    writeTransaction.executeWithoutResult(status -> jdbcTemplate.batchUpdate(MERGE, rows(deltas)));
+                }
+            } catch (DataAccessException e) {
+                log.warn("Falha ao gravar as estatísticas de {} horas; nova tentativa no próximo ciclo", deltas.size(), e);
+                lock.writeLock().lock();
+                try {
+                    deltas.forEach((hour, counts) -> add(pending, hour, counts));
+                    inFlight = new TreeMap<>();
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                return;
+            }
+
+            NavigableMap<Long, long[]> stored = null;
+            try {
+                stored = load();
+            } catch (DataAccessException e) {
+                log.warn("Falha ao reler as estatísticas gravadas", e);
+            }
+            lock.writeLock().lock();
+            try {
+                if (stored != null) {
+                    persisted = stored;
+                } else {
+                    // Já gravados: passam a contar como persistidos até a próxima releitura
+                    deltas.forEach((hour, counts) -> add(persisted, hour, counts));
+                }
+                inFlight = new TreeMap<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            flushing.unlock();
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        flush();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    static long hourOf(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), SECONDS_PER_HOUR);
+    }
+
+    static LocalDateTime startOf(long hour) {
+        return LocalDateTime.ofEpochSecond(hour * SECONDS_PER_HOUR, 0, ZoneOffset.UTC);
+    }
+
+    private void record(LocalDateTime at, int counter) {
+        lock.writeLock().lock();
+        try {
+            if (at != null && seedCutoff != null && !at.isAfter(seedCutoff)) {
+                return;
+            }
+            increment(pending, at, counter);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private boolean isEmpty() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(IS_EMPTY, Boolean.class));
+    }
+
+    // O que já está em memória foi gravado antes do corte e entra pelo INSERT ... SELECT
+    private void seed() {
+        LocalDateTime cutoff;
+        NavigableMap<Long, long[]> counted;
+        lock.writeLock().lock();
+        try {
+            cutoff = LocalDateTime.now();
+            counted = pending;
+            pending = new TreeMap<>();
+            seedCutoff = cutoff;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        try {
+            writeTransaction.executeWithoutResult(status -> jdbcTemplate.update(SEED, cutoff, cutoff));
+        } catch (DuplicateKeyException e) {
+            log.debug("Estatísticas já preenchidas por outro nó", e);
+        } catch (DataAccessException e) {
+            log.warn("Falha ao preencher as estatísticas a partir das tarefas existentes", e);
+            lock.writeLock().lock();
+            try {
+                counted.forEach((hour, counts) -> add(pending, hour, counts));
+                seedCutoff = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private NavigableMap<Long, long[]> load() {
+        NavigableMap<Long, long[]> stored = new TreeMap<>();
+        jdbcTemplate.query(SELECT, row -> {
+            stored.put(hourOf(row.getObject("bucket_start", LocalDateTime.class)),
+                    new long[]{row.getLong("created"), row.getLong("completed")});
+        });
+        return stored;
+    }
+
+    private static List<Object[]> rows(NavigableMap<Long, long[]> deltas) {
+        List<Object[]> rows = new ArrayList<>(deltas.size());
+        deltas.forEach((hour, counts) -> rows.add(new Object[]{startOf(hour), counts[CREATED], counts[COMPLETED]}));
+        return rows;
+    }
+
+    private static void increment(NavigableMap<Long, long[]> counters, LocalDateTime at, int counter) {
+        if (at != null) {
+            counters.computeIfAbsent(hourOf(at), hour -> new long[2])[counter]++;
+        }
+    }
+
+    private static void add(NavigableMap<Long, long[]> counters, long hour, long[] counts) {
+        long[] current = counters.computeIfAbsent(hour, key -> new long[2]);
+        current[CREATED] += counts[CREATED];
+        current[COMPLETED] += counts[COMPLETED];
+    }
+}
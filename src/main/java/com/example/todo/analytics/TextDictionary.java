@@ -0,0 +1,96 @@
+package com.example.todo.analytics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Codificação por dicionário de uma coluna de texto: cada valor distinto ganha um código {@code int} e as linhas
+ * guardam só o código. O código 0 é o texto nulo ou vazio. Códigos sem nenhuma linha são reaproveitados, então o
+ * dicionário nunca passa do número de valores distintos em uso.
+ * <p>
+ * Não é thread-safe; o {@link TaskColumnStore} cuida do acesso.
+ */
+final class TextDictionary {
+
+    static final int EMPTY = 0;
+
+    private final Map<String, Integer> codes = new HashMap<>();
+    private final List<String> values = new ArrayList<>();
+    private int[] lengths = new int[16];
+    private int[] references = new int[16];
+    private int[] free = new int[16];
+    private int freeCount;
+
+    TextDictionary() {
+        values.add("");
+    }
+
+    /**
+     * Código do valor, criado se preciso; conta mais uma linha usando o código até o {@link #release(int)}.
+     */
+    int acquire(String value) {
+        if (value == null || value.isEmpty()) {
+            return EMPTY;
+        }
+        Integer existing = codes.get(value);
+        int code;
+        if (existing != null) {
+            code = existing;
+        } else {
+            code = freeCount > 0 ? free[--freeCount] : values.size();
+            if (code == values.size()) {
+                values.add(value);
+            } else {
+                values.set(code, value);
+            }
+            ensureCapacity(code + 1);
+            lengths[code] = value.codePointCount(0, value.length());
+            codes.put(value, code);
+        }
+        references[code]++;
+        return code;
+    }
+
+    void release(int code) {
+        if (code == EMPTY || --references[code] > 0) {
+            return;
+        }
+        codes.remove(values.get(code));
+        values.set(code, null);
+        lengths[code] = 0;
+        if (freeCount == free.length) {
+            free = Arrays.copyOf(free, free.length * 2);
+        }
+        free[freeCount++] = code;
+    }
+
+    String decode(int code) {
+        return values.get(code);
+    }
+
+    /**
+     * Tamanho em caracteres de cada código, indexado pelo código. O array é trocado quando o dicionário cresce:
+     * quem o guarda numa variável local só enxerga os códigos que existiam naquele momento.
+     */
+    int[] lengths() {
+        return lengths;
+    }
+
+    /**
+     * Valores distintos em uso, sem contar o vazio.
+     */
+    int size() {
+        return codes.size();
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > lengths.length) {
+            int grown = Math.max(capacity, lengths.length * 2);
+            lengths = Arrays.copyOf(lengths, grown);
+            references = Arrays.copyOf(references, grown);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.todo.cache;
+
+/**
+ * Canal entre réplicas para avisar que tarefas mudaram.
+ * <p>
+ * A entrega é "pelo menos uma vez ou ressincroniza": mensagens podem chegar fora de ordem ou repetidas (os
+ * assinantes comparam versões), e quando o canal não pode garantir que nada se perdeu ele chama
+ * {@link Subscriber#onResync()}.
+ */
+public interface InvalidationBus {
+
+    void publish(TaskInvalidation invalidation);
+
+    void subscribe(Subscriber subscriber);
+
+    interface Subscriber {
+
+        void onInvalidation(TaskInvalidation invalidation);
+
+        /**
+         * Mensagens podem ter sido perdidas (ex.: reconexão): descartar tudo o que estiver em cache.
+         */
+        void onResync();
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.todo.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Entrega as invalidações na própria JVM, de forma síncrona. Suficiente para um único nó e para testes que
+ * simulam várias réplicas com vários caches no mesmo barramento.
+ */
+@Component
+@ConditionalOnProperty(name = "todo-api.cache.bus", havingValue = "loopback", matchIfMissing = true)
+public class LoopbackInvalidationBus implements InvalidationBus {
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(TaskInvalidation invalidation) {
+        subscribers.forEach(subscriber -> subscriber.onInvalidation(invalidation));
+    }
+
+    @Override
+    public void subscribe(Subscriber subscriber) {
+        subscribers.add(subscriber);
+    }
+}
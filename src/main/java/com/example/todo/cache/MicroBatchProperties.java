@@ -0,0 +1,26 @@
+package com.example.todo.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Agrupamento de buscas por id em lotes ({@code todo-api.micro-batch.*}).
+ *
+ * @param enabled      liga o agrupamento em {@code findById}
+ * @param window       quanto o primeiro id de um lote espera por outros antes da consulta
+ * @param maxBatchSize ids por consulta; um lote cheio é executado sem esperar o fim da janela
+ * @param workers      threads que executam as consultas dos lotes cuja janela terminou
+ * @param timeout      quanto uma busca espera pelo resultado do lote antes de responder 504; o prazo da requisição,
+ *                     se menor, prevalece
+ */
+@ConfigurationProperties(prefix = "todo-api.micro-batch")
+public record MicroBatchProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("500us") Duration window,
+        @DefaultValue("100") int maxBatchSize,
+        @DefaultValue("4") int workers,
+        @DefaultValue("5s") Duration timeout
+) {
+}
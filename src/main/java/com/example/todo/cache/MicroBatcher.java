@@ -0,0 +1,188 @@
+package com.example.todo.cache;
+
+import com.example.todo.exception.OperationTimeoutException;
+import com.example.todo.service.RequestDeadline;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Junta buscas pontuais feitas ao mesmo tempo (estilo DataLoader): a primeira chave de um lote agenda a execução
+ * para daqui a {@code window} e as que chegam nesse intervalo entram no mesmo lote, carregado com uma única
+ * chamada a {@code batchLoader}. Um lote com {@code maxBatchSize} chaves é executado na hora, na thread de quem
+ * o completou. Chaves repetidas no mesmo lote dividem o mesmo resultado.
+ * <p>
+ * A thread do agendador só marca o fim das janelas: os lotes vencidos são carregados por até {@code workers}
+ * threads, para que um carregamento lento não atrase os lotes seguintes. Com a fila de lotes cheia, o lote é
+ * carregado na thread do agendador.
+ * <p>
+ * O lote é carregado com o {@link RequestDeadline} mais apertado entre os participantes, e cada um espera no
+ * máximo {@code timeout} ou o que resta do próprio prazo. Se o lote falhar por prazo esgotado
+ * ({@link RequestDeadline#isExpiry}), quem ainda tem prazo carrega a própria chave sozinho.
+ * <p>
+ * {@link #load} devolve {@code null} para chaves que o carregador não retornou; exceções do carregador chegam a
+ * todos os participantes do lote. Métrica: {@code tasks.micro-batch.size} (tag {@code operation}).
+ */
+public class MicroBatcher<K, V> implements AutoCloseable {
+
+    private final String operation;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final Duration timeout;
+    private final Function<Set<K>, Map<K, V>> batchLoader;
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService workers;
+    private final DistributionSummary batchSizes;
+
+    private final Object lock = new Object();
+    private Batch<K, V> pending = new Batch<>();
+
+    private static final class Batch<K, V> {
+        private final Map<K, CompletableFuture<V>> calls = new HashMap<>();
+        private Long deadline;
+    }
+
+    public MicroBatcher(String operation, Duration window, int maxBatchSize, int workers, Duration timeout,
+                        Function<Set<K>, Map<K, V>> batchLoader, MeterRegistry meterRegistry) {
+        this.operation = operation;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.timeout = timeout;
+        this.batchLoader = batchLoader;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+                runnable -> daemon(runnable, "micro-batch-" + operation + "-timer"));
+        int workerCount = Math.max(1, workers);
+        AtomicInteger workerIds = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(workerCount, workerCount, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(workerCount * 16),
+                runnable -> daemon(runnable, "micro-batch-" + operation + "-" + workerIds.incrementAndGet()));
+        this.batchSizes = DistributionSummary.builder("tasks.micro-batch.size")
+                .description("Chaves carregadas por lote")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    public V load(K key) {
+        CompletableFuture<V> call;
+        Batch<K, V> full = null;
+        synchronized (lock) {
+            Batch<K, V> batch = pending;
+            batch.deadline = batch.calls.isEmpty()
+                    ? RequestDeadline.current()
+                    : RequestDeadline.earliest(batch.deadline, RequestDeadline.current());
+            call = batch.calls.computeIfAbsent(key, k -> new CompletableFuture<>());
+            if (batch.calls.size() >= maxBatchSize) {
+                full = batch;
+                pending = new Batch<>();
+            } else if (batch.calls.size() == 1 && !schedule(batch)) {
+                full = batch;
+                pending = new Batch<>();
+            }
+        }
+        if (full != null) {
+            run(full);
+        }
+        try {
+            return await(key, call);
+        } catch (RuntimeException e) {
+            // O prazo que venceu foi o de outro participante: com prazo sobrando, carrega só esta chave
+            if (!RequestDeadline.isExpiry(e) || RequestDeadline.remainingNanos() <= 0) {
+                throw e;
+            }
+            return batchLoader.apply(Set.of(key)).get(key);
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        workers.shutdown();
+        Batch<K, V> remaining;
+        synchronized (lock) {
+            remaining = pending;
+            pending = new Batch<>();
+        }
+        if (!remaining.calls.isEmpty()) {
+            run(remaining);
+        }
+    }
+
+    // Falha ao agendar (desligamento): o lote é executado na thread de quem chamou
+    private boolean schedule(Batch<K, V> batch) {
+        try {
+            scheduler.schedule(() -> flush(batch), windowNanos, TimeUnit.NANOSECONDS);
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    // O lote pode já ter sido executado por ter enchido antes do fim da janela
+    private void flush(Batch<K, V> batch) {
+        synchronized (lock) {
+            if (pending != batch) {
+                return;
+            }
+            pending = new Batch<>();
+        }
+        try {
+            workers.execute(() -> run(batch));
+        } catch (RejectedExecutionException e) {
+            run(batch);
+        }
+    }
+
+    // Na thread de quem chamou, o prazo dela volta ao fim do carregamento
+    private void run(Batch<K, V> batch) {
+        batchSizes.record(batch.calls.size());
+        try {
+            Map<K, V> loaded = RequestDeadline.callWithin(batch.deadline,
+                    () -> batchLoader.apply(batch.calls.keySet()));
+            batch.calls.forEach((key, call) -> call.complete(loaded.get(key)));
+        } catch (RuntimeException | Error e) {
+            batch.calls.values().forEach(call -> call.completeExceptionally(e));
+        }
+    }
+
+    private static Thread daemon(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private V await(K key, CompletableFuture<V> call) {
+        try {
+            return call.get(Math.min(timeout.toNanos(), RequestDeadline.remainingNanos()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new OperationTimeoutException("Tempo esgotado aguardando " + operation + " para " + key);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OperationTimeoutException("Interrompido aguardando " + operation + " para " + key);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.todo.cache;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Invalidações entre réplicas via LISTEN/NOTIFY do Postgres.
+ * <p>
+ * Publicar é um {@code pg_notify} numa conexão do pool. Para ouvir, uma thread dedicada abre uma conexão própria,
+ * direto pelo driver e fora do pool, e a mantém em {@code LISTEN} enquanto a aplicação roda; assim o pool não
+ * perde uma conexão permanentemente. Como o Postgres não guarda notificações para quem estava desconectado, toda
+ * (re)conexão dispara {@link InvalidationBus.Subscriber#onResync()}.
+ */
+@Component
+@ConditionalOnProperty(name = "todo-api.cache.bus", havingValue = "postgres")
+public class PostgresInvalidationBus implements InvalidationBus, SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(PostgresInvalidationBus.class);
+
+    private static final int POLL_TIMEOUT_MILLIS = 500;
+    private static final long RECONNECT_DELAY_MILLIS = 2_000;
+
+    private final String url;
+    private final String username;
+    private final String password;
+    private final JdbcTemplate jdbcTemplate;
+    private final String channel;
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+
+    private volatile boolean running;
+    private Thread listener;
+
+    public PostgresInvalidationBus(DataSourceProperties dataSourceProperties, JdbcTemplate jdbcTemplate,
+                                   TaskCacheProperties properties) {
+        if (!properties.channel().matches("[a-z_][a-z0-9_]*")) {
+            throw new IllegalArgumentException("Canal de invalidação inválido: " + properties.channel());
+        }
+        this.url = dataSourceProperties.determineUrl();
+        this.username = dataSourceProperties.determineUsername();
+        this.password = dataSourceProperties.determinePassword();
+        this.jdbcTemplate = jdbcTemplate;
+        this.channel = properties.channel();
+    }
+
+    @Override
+    public void publish(TaskInvalidation invalidation) {
+        try {
+            jdbcTemplate.query("SELECT pg_notify(?, ?)", (ResultSetExtractor<Void>) rs -> null,
+                    channel, invalidation.encode());
+        } catch (RuntimeException e) {
+            // As outras réplicas ficam desatualizadas até o TTL do cache; a escrita em si já foi confirmada
+            log.warn("Falha ao publicar invalidação da tarefa {}", invalidation.taskId(), e);
+        }
+    }
+
+    @Override
+    public void subscribe(Subscriber subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        listener = new Thread(this::listen, "task-invalidation-listener");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (listener != null) {
+            try {
+                listener.join(POLL_TIMEOUT_MILLIS * 4L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(url, username, password)) {
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                subscribers.forEach(Subscriber::onResync);
+                log.info("Ouvindo invalidações de cache no canal {}", channel);
+
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MILLIS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            dispatch(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Conexão de LISTEN perdida, reconectando em {} ms", RECONNECT_DELAY_MILLIS, e);
+                sleep();
+            }
+        }
+    }
+
+    private void dispatch(String payload) {
+        TaskInvalidation invalidation;
+        try {
+            invalidation = TaskInvalidation.decode(payload);
+        } catch (IllegalArgumentException e) {
+            log.warn("Notificação ignorada: {}", payload);
+            return;
+        }
+        subscribers.forEach(subscriber -> subscriber.onInvalidation(invalidation));
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(RECONNECT_DELAY_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.todo.cache;
+
+import com.example.todo.exception.OperationTimeoutException;
+import com.example.todo.filter.ServerTiming;
+import com.example.todo.service.RequestDeadline;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Agrupa chamadas concorrentes para a mesma chave: a primeira executa o carregamento na própria thread e as que
+ * chegam enquanto ele está em andamento recebem o mesmo resultado (ou a mesma exceção). Com {@code copy}, cada
+ * chamada agrupada recebe sua própria cópia, para que alterações de uma não apareçam nas outras.
+ * <p>
+ * Quem espera desiste após {@code timeout}, ou antes se o próprio {@link RequestDeadline} vencer, com
+ * {@link OperationTimeoutException}; o carregamento em si não é interrompido. O líder carrega com o prazo dele: se
+ * falhar por prazo esgotado ({@link RequestDeadline#isExpiry}), quem esperava e ainda tem prazo tenta de novo em
+ * vez de devolver o erro do líder. Métricas: {@code tasks.single-flight.calls} (tags {@code operation} e
+ * {@code result=leader|coalesced}) e {@code tasks.single-flight.timeouts}.
+ */
+public class SingleFlight<K, V> {
+
+    private final String operation;
+    private final Duration timeout;
+    private final UnaryOperator<V> copy;
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter leaderCalls;
+    private final Counter coalescedCalls;
+    private final Counter timeouts;
+
+    public SingleFlight(String operation, Duration timeout, MeterRegistry meterRegistry) {
+        this(operation, timeout, meterRegistry, UnaryOperator.identity());
+    }
+
+    public SingleFlight(String operation, Duration timeout, MeterRegistry meterRegistry, UnaryOperator<V> copy) {
+        this.operation = operation;
+        this.timeout = timeout;
+        this.copy = copy;
+        this.leaderCalls = Counter.builder("tasks.single-flight.calls")
+                .tag("operation", operation)
+                .tag("result", "leader")
+                .register(meterRegistry);
+        this.coalescedCalls = Counter.builder("tasks.single-flight.calls")
+                .tag("operation", operation)
+                .tag("result", "coalesced")
+                .register(meterRegistry);
+        this.timeouts = Counter.builder("tasks.single-flight.timeouts")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            coalescedCalls.increment();
+            V shared;
+            try {
+                shared = awaitLeader(key, existing);
+            } catch (RuntimeException e) {
+                if (!RequestDeadline.isExpiry(e) || RequestDeadline.remainingNanos() <= 0) {
+                    throw e;
+                }
+                return execute(key, loader);
+            }
+            return shared == null ? null : copy.apply(shared);
+        }
+
+        leaderCalls.increment();
+        // Sai do mapa antes de concluir: quem tentar de novo após a falha não reencontra esta chamada
+        try {
+            V value = loader.get();
+            inFlight.remove(key, call);
+            call.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(key, call);
+            call.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Desassocia a chave da chamada em andamento: quem chegar depois (ex.: após uma escrita) faz uma nova leitura
+     * em vez de receber um resultado que pode ter começado antes dela.
+     */
+    public void forget(K key) {
+        inFlight.remove(key);
+    }
+
+    public void forgetAll() {
+        inFlight.clear();
+    }
+
+    // A espera pelo líder é espera pelo banco dele: no Server-Timing conta como db, não como mapping
+    private V awaitLeader(K key, CompletableFuture<V> call) {
+        ServerTiming timing = ServerTiming.current();
+        if (timing == null) {
+            return await(key, call);
+        }
+        timing.enter(ServerTiming.Phase.DATABASE);
+        try {
+            return await(key, call);
+        } finally {
+            timing.exit(ServerTiming.Phase.DATABASE);
+        }
+    }
+
+    private V await(K key, CompletableFuture<V> call) {
+        try {
+            return call.get(Math.min(timeout.toNanos(), RequestDeadline.remainingNanos()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            timeouts.increment();
+            throw new OperationTimeoutException("Tempo esgotado aguardando " + operation + " para " + key);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OperationTimeoutException("Interrompido aguardando " + operation + " para " + key);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.todo.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Agrupamento de leituras concorrentes idênticas ({@code todo-api.single-flight.*}).
+ *
+ * @param enabled liga o agrupamento em {@code findById} e {@code findByStatus}
+ * @param timeout quanto uma chamada agrupada espera pelo resultado antes de responder 504; o prazo da requisição,
+ *                se menor, prevalece
+ */
+@ConfigurationProperties(prefix = "todo-api.single-flight")
+public record SingleFlightProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("5s") Duration timeout
+) {
+}
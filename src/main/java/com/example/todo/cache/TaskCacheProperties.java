@@ -0,0 +1,25 @@
+package com.example.todo.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuração do cache local de tarefas ({@code todo-api.cache.*}).
+ *
+ * @param maxSize       tarefas mantidas em cache por nó
+ * @param ttl           validade máxima de uma entrada, rede de segurança para invalidações perdidas
+ * @param tombstoneTtl  por quanto tempo a maior versão invalidada de cada tarefa é lembrada
+ * @param bus           {@code loopback} (um nó) ou {@code postgres} (LISTEN/NOTIFY entre réplicas)
+ * @param channel       canal de NOTIFY usado pelo barramento Postgres
+ */
+@ConfigurationProperties(prefix = "todo-api.cache")
+public record TaskCacheProperties(
+        @DefaultValue("10000") long maxSize,
+        @DefaultValue("10m") Duration ttl,
+        @DefaultValue("1m") Duration tombstoneTtl,
+        @DefaultValue("loopback") String bus,
+        @DefaultValue("task_invalidation") String channel
+) {
+}
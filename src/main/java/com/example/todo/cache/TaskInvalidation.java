@@ -0,0 +1,29 @@
+package com.example.todo.cache;
+
+/**
+ * Aviso de que a tarefa {@code taskId} mudou para {@code version} no nó {@code origin}.
+ * <p>
+ * Remoções usam {@link #DELETED}, maior que qualquer versão real.
+ */
+public record TaskInvalidation(long taskId, long version, String origin) {
+
+    public static final long DELETED = Long.MAX_VALUE;
+
+    /**
+     * Formato compacto usado como payload de NOTIFY: {@code taskId:version:origin}.
+     */
+    public String encode() {
+        return taskId + ":" + version + ":" + origin;
+    }
+
+    public static TaskInvalidation decode(String payload) {
+        int first = payload.indexOf(':');
+        int second = payload.indexOf(':', first + 1);
+        if (first < 0 || second < 0) {
+            throw new IllegalArgumentException("Invalidação mal formada: " + payload);
+        }
+        return new TaskInvalidation(Long.parseLong(payload.substring(0, first)),
+                Long.parseLong(payload.substring(first + 1, second)),
+                payload.substring(second + 1));
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.todo.cache;
+
+import com.example.todo.model.Task;
+import com.example.todo.repository.TaskRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Buscas de tarefa por id agrupadas com {@link MicroBatcher}: {@code findById} concorrentes viram um único
+ * {@code SELECT ... WHERE id IN (...)}, executado numa transação somente leitura própria.
+ * <p>
+ * Dentro de uma transação a busca é direta, para enxergar as alterações ainda não confirmadas dela.
+ */
+@Component
+public class TaskLookupBatcher implements DisposableBean {
+
+    private final boolean enabled;
+    private final TaskRepository taskRepository;
+    private final MicroBatcher<Long, Task> batcher;
+
+    @Autowired
+    public TaskLookupBatcher(TaskRepository taskRepository,
+                             PlatformTransactionManager transactionManager,
+                             MicroBatchProperties properties,
+                             MeterRegistry meterRegistry) {
+        this(taskRepository, readOnly(transactionManager), properties, meterRegistry);
+    }
+
+    public TaskLookupBatcher(TaskRepository taskRepository,
+                             TransactionOperations readTransaction,
+                             MicroBatchProperties properties,
+                             MeterRegistry meterRegistry) {
+        this.enabled = properties.enabled();
+        this.taskRepository = taskRepository;
+        this.batcher = new MicroBatcher<>("findById", properties.window(), properties.maxBatchSize(),
+                properties.workers(), properties.timeout(), ids -> readTransaction.execute(status -> loadAll(ids)), meterRegistry);
+    }
+
+    public Optional<Task> findById(long id) {
+        if (!enabled || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return taskRepository.findById(id);
+        }
+        return Optional.ofNullable(batcher.load(id));
+    }
+
+    @Override
+    public void destroy() {
+        batcher.close();
+    }
+
+    private Map<Long, Task> loadAll(Set<Long> ids) {
+        Map<Long, Task> byId = new HashMap<>(ids.size() * 2);
+        taskRepository.findAllById(ids).forEach(task -> byId.put(task.getId(), task));
+        return byId;
+    }
+
+    private static TransactionOperations readOnly(PlatformTransactionManager transactionManager) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template;
+    }
+}
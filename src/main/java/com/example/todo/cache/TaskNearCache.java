@@ -0,0 +1,116 @@
+package com.example.todo.cache;
+
+import com.example.todo.model.Task;
+import com.example.todo.model.dto.TaskResponseDTO;
+import com.example.todo.service.TaskChangeListener;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Cache local de {@link TaskResponseDTO} por id, coerente entre réplicas através de um {@link InvalidationBus}.
+ * <p>
+ * Cada entrada guarda a versão ({@code @Version}) da tarefa. Uma invalidação para a versão {@code v} remove
+ * entradas com versão menor e é lembrada por {@link TaskCacheProperties#tombstoneTtl()}: uma leitura que
+ * começou antes da escrita e termina depois não consegue gravar a versão antiga, e mensagens atrasadas (versão
+ * menor) não removem entradas mais novas. Checagem e gravação acontecem dentro do {@code compute} da chave.
+ */
+@Component
+public class TaskNearCache implements TaskChangeListener, InvalidationBus.Subscriber {
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final InvalidationBus bus;
+    private final Cache<Long, Entry> entries;
+    private final Cache<Long, Long> invalidatedVersions;
+
+    public TaskNearCache(InvalidationBus bus, TaskCacheProperties properties, MeterRegistry meterRegistry) {
+        this.bus = bus;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(properties.maxSize())
+                .expireAfterWrite(properties.ttl())
+                .recordStats()
+                .build();
+        this.invalidatedVersions = Caffeine.newBuilder()
+                .expireAfterWrite(properties.tombstoneTtl())
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, entries, "tasks.near-cache");
+        bus.subscribe(this);
+    }
+
+    public TaskResponseDTO get(long taskId) {
+        Entry entry = entries.getIfPresent(taskId);
+        return entry == null ? null : entry.value;
+    }
+
+    /**
+     * Guarda o valor lido do banco, a menos que uma versão igual ou mais nova já tenha sido invalidada ou
+     * esteja em cache.
+     */
+    public void put(long taskId, long version, TaskResponseDTO value) {
+        entries.asMap().compute(taskId, (id, current) -> {
+            Long invalidated = invalidatedVersions.getIfPresent(id);
+            if (invalidated != null && version < invalidated) {
+                return current;
+            }
+            if (current != null && current.version >= version) {
+                return current;
+            }
+            return new Entry(version, value);
+        });
+    }
+
+    /**
+     * Remove a entrada sem registrar versão, para que a própria transação que está escrevendo não leia o valor
+     * antigo. A invalidação versionada (e a publicação para os outros nós) vem depois do commit.
+     */
+    public void evict(long taskId) {
+        entries.invalidate(taskId);
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public void onReloadStart() {
+        entries.invalidateAll();
+    }
+
+    @Override
+    public void onSaved(Task task) {
+        invalidate(task.getId(), task.getVersion());
+        bus.publish(new TaskInvalidation(task.getId(), task.getVersion(), nodeId));
+    }
+
+    @Override
+    public void onDeleted(long taskId) {
+        invalidate(taskId, TaskInvalidation.DELETED);
+        bus.publish(new TaskInvalidation(taskId, TaskInvalidation.DELETED, nodeId));
+    }
+
+    @Override
+    public void onInvalidation(TaskInvalidation invalidation) {
+        if (!nodeId.equals(invalidation.origin())) {
+            invalidate(invalidation.taskId(), invalidation.version());
+        }
+    }
+
+    @Override
+    public void onResync() {
+        entries.invalidateAll();
+    }
+
+    private void invalidate(long taskId, long version) {
+        entries.asMap().compute(taskId, (id, current) -> {
+            invalidatedVersions.asMap().merge(id, version, Math::max);
+            return current != null && current.version >= version ? current : null;
+        });
+    }
+
+    private record Entry(long version, TaskResponseDTO value) {
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.todo.cache;
+
+import com.example.todo.model.dto.TaskResponseDTO;
+import com.example.todo.model.enums.TaskField;
+import com.example.todo.model.enums.TaskStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Leituras de tarefas com {@link SingleFlight}. A transação (somente leitura) é aberta só por quem de fato
+ * consulta o banco: quem espera o resultado de outra chamada não segura conexão do pool. A busca por id não abre
+ * transação aqui: ela passa pelo {@link TaskLookupBatcher}, que consulta numa transação própria. Cada chamada
+ * agrupada recebe cópias dos DTOs do resultado.
+ */
+@Component
+public class TaskReadCoalescer {
+
+    private final boolean enabled;
+    private final TransactionOperations readTransaction;
+    private final SingleFlight<Long, TaskResponseDTO> byId;
+    private final SingleFlight<TaskStatus, List<TaskResponseDTO>> byStatus;
+    private final SingleFlight<StatusSelection, List<TaskResponseDTO>> byStatusFields;
+
+    @Autowired
+    public TaskReadCoalescer(PlatformTransactionManager transactionManager,
+                             SingleFlightProperties properties,
+                             MeterRegistry meterRegistry) {
+        this(readOnly(transactionManager), properties, meterRegistry);
+    }
+
+    public TaskReadCoalescer(TransactionOperations readTransaction,
+                             SingleFlightProperties properties,
+                             MeterRegistry meterRegistry) {
+        this.enabled = properties.enabled();
+        this.readTransaction = readTransaction;
+        this.byId = new SingleFlight<>("findById", properties.timeout(), meterRegistry, TaskResponseDTO::copy);
+        this.byStatus = new SingleFlight<>("findByStatus", properties.timeout(), meterRegistry,
+                TaskReadCoalescer::copyAll);
+        this.byStatusFields = new SingleFlight<>("findByStatusFields", properties.timeout(), meterRegistry,
+                TaskReadCoalescer::copyAll);
+    }
+
+    public TaskResponseDTO findById(long id, Supplier<TaskResponseDTO> loader) {
+        return enabled ? byId.execute(id, loader) : loader.get();
+    }
+
+    public List<TaskResponseDTO> findByStatus(TaskStatus taskStatus, Supplier<List<TaskResponseDTO>> loader) {
+        return enabled ? byStatus.execute(taskStatus, () -> read(loader)) : read(loader);
+    }
+
+    /**
+     * Como {@link #findByStatus(TaskStatus, Supplier)}, agrupando apenas chamadas com a mesma seleção de campos.
+     */
+    public List<TaskResponseDTO> findByStatus(TaskStatus taskStatus, Set<TaskField> fields,
+                                              Supplier<List<TaskResponseDTO>> loader) {
+        return enabled
+                ? byStatusFields.execute(new StatusSelection(taskStatus, fields), () -> read(loader))
+                : read(loader);
+    }
+
+    /**
+     * Chamado a cada escrita: a tarefa pode ter mudado de conteúdo e de status.
+     */
+    public void forget(long taskId) {
+        byId.forget(taskId);
+        byStatus.forgetAll();
+        byStatusFields.forgetAll();
+    }
+
+    private static List<TaskResponseDTO> copyAll(List<TaskResponseDTO> tasks) {
+        List<TaskResponseDTO> copies = new ArrayList<>(tasks.size());
+        tasks.forEach(task -> copies.add(task.copy()));
+        return copies;
+    }
+
+    private <V> V read(Supplier<V> loader) {
+        return readTransaction.execute(status -> loader.get());
+    }
+
+    private static TransactionOperations readOnly(PlatformTransactionManager transactionManager) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template;
+    }
+
+    private record StatusSelection(TaskStatus status, Set<TaskField> fields) {
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.todo.controller;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marca as leituras de tarefas que aceitam {@code ?fields=}; só nelas o {@link TaskFieldsResponseAdvice} reduz a
+ * resposta às propriedades pedidas.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface FieldSelection {
+}
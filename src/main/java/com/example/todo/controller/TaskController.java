@@ -1,15 +1,27 @@
 package com.example.todo.controller;
 
 import com.example.todo.domain.swagger.ITaskSwagger;
+import com.example.todo.model.dto.PageResponseDTO;
+import com.example.todo.model.dto.TaskAnalyticsDTO;
+import com.example.todo.model.dto.TaskBatchResponseDTO;
+import com.example.todo.model.dto.TaskHistoryDTO;
 import com.example.todo.model.dto.TaskRequestDTO;
 import com.example.todo.model.dto.TaskResponseDTO;
+import com.example.todo.model.dto.TaskRollupDTO;
+import com.example.todo.model.dto.TaskSuggestionDTO;
+import com.example.todo.model.dto.TaskTextStatsDTO;
+import com.example.todo.model.dto.TaskWeeklyCountDTO;
+import com.example.todo.model.enums.TaskField;
 import com.example.todo.model.enums.TaskStatus;
 import com.example.todo.service.TaskService;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 
 @RestController
 public class TaskController implements ITaskSwagger {
@@ -20,20 +32,112 @@ public class TaskController implements ITaskSwagger {
         this.taskService = taskService;
     }
 
-    public ResponseEntity<List<TaskResponseDTO>> getAll() {
-        return ResponseEntity.ok(taskService.findAll());
+    public ResponseEntity<List<TaskResponseDTO>> getAll(@RequestParam(required = false) String fields) {
+        return ResponseEntity.ok(taskService.findAll(TaskField.parse(fields)));
     }
 
-    public ResponseEntity<TaskResponseDTO> getById(@PathVariable Long id) {
-        return ResponseEntity.ok(taskService.findById(id));
+    public ResponseEntity<TaskBatchResponseDTO> getByIds(
+            @RequestParam List<Long> ids,
+            @RequestParam(required = false) String fields
+    ) {
+        return ResponseEntity.ok(taskService.findByIds(ids, TaskField.parse(fields)));
+    }
+
+    public ResponseEntity<TaskResponseDTO> getById(
+            @PathVariable Long id,
+            @RequestParam(required = false) String fields
+    ) {
+        Set<TaskField> selected = TaskField.parse(fields);
+        return ResponseEntity.ok(selected == null ? taskService.findById(id) : taskService.findById(id, selected));
+    }
+
+    public ResponseEntity<List<TaskResponseDTO>> getByStatus(
+            @PathVariable TaskStatus status,
+            @RequestParam(required = false) String fields
+    ) {
+        Set<TaskField> selected = TaskField.parse(fields);
+        return ResponseEntity.ok(selected == null
+                ? taskService.findByStatus(status)
+                : taskService.findByStatus(status, selected));
+    }
+
+    public ResponseEntity<List<TaskResponseDTO>> getNext(
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(required = false) String fields
+    ) {
+        return ResponseEntity.ok(taskService.findNext(limit, TaskField.parse(fields)));
+    }
+
+    public ResponseEntity<List<TaskSuggestionDTO>> suggest(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(taskService.suggest(prefix, limit));
+    }
+
+    public ResponseEntity<TaskAnalyticsDTO> getAnalytics(
+            @RequestParam(defaultValue = "day") String bucket,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+    ) {
+        return ResponseEntity.ok(taskService.analytics(bucket, from, to));
+    }
+
+    public ResponseEntity<List<TaskWeeklyCountDTO>> getWeeklyCounts(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+    ) {
+        return ResponseEntity.ok(taskService.countByWeek(from, to));
+    }
+
+    public ResponseEntity<TaskTextStatsDTO> getTextStats(@RequestParam(required = false) TaskStatus status) {
+        return ResponseEntity.ok(taskService.textStats(status));
     }
 
-    public ResponseEntity<List<TaskResponseDTO>> getByStatus(@PathVariable TaskStatus status) {
-        return ResponseEntity.ok(taskService.findByStatus(status));
+    public ResponseEntity<PageResponseDTO<TaskResponseDTO>> search(
+            @RequestParam(required = false) Set<String> tags,
+            @RequestParam(required = false) Set<String> anyTags,
+            @RequestParam(required = false) Set<String> excludeTags,
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String fields
+    ) {
+        return ResponseEntity.ok(taskService.search(tags, anyTags, excludeTags, status, page, size,
+                TaskField.parse(fields)));
     }
 
-    public ResponseEntity<TaskResponseDTO> create(@Valid @RequestBody TaskRequestDTO dto) {
-        return ResponseEntity.ok(taskService.create(dto));
+    public ResponseEntity<List<TaskResponseDTO>> getDescendants(
+            @PathVariable Long id,
+            @RequestParam(required = false) String fields
+    ) {
+        return ResponseEntity.ok(taskService.findDescendants(id, TaskField.parse(fields)));
+    }
+
+    public ResponseEntity<List<TaskResponseDTO>> getAncestors(
+            @PathVariable Long id,
+            @RequestParam(required = false) String fields
+    ) {
+        return ResponseEntity.ok(taskService.findAncestors(id, TaskField.parse(fields)));
+    }
+
+    public ResponseEntity<TaskRollupDTO> getRollup(@PathVariable Long id) {
+        return ResponseEntity.ok(taskService.rollup(id));
+    }
+
+    public ResponseEntity<PageResponseDTO<TaskHistoryDTO>> getHistory(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(taskService.findHistory(id, page, size));
+    }
+
+    public ResponseEntity<TaskResponseDTO> create(
+            @Valid @RequestBody TaskRequestDTO dto,
+            @RequestParam(defaultValue = "false") boolean allowDuplicate
+    ) {
+        return ResponseEntity.ok(taskService.create(dto, allowDuplicate));
     }
 
     public ResponseEntity<TaskResponseDTO> update(
@@ -50,6 +154,13 @@ public class TaskController implements ITaskSwagger {
         return ResponseEntity.ok(taskService.updateStatus(id, taskStatus));
     }
 
+    public ResponseEntity<TaskResponseDTO> move(
+            @PathVariable Long id,
+            @RequestParam(required = false) Long parentId
+    ) {
+        return ResponseEntity.ok(taskService.move(id, parentId));
+    }
+
     public ResponseEntity<Void> delete(@PathVariable Long id) {
         taskService.delete(id);
         return ResponseEntity.noContent().build();
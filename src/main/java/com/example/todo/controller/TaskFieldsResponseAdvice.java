@@ -0,0 +1,89 @@
+package com.example.todo.controller;
+
+import com.example.todo.model.dto.PageResponseDTO;
+import com.example.todo.model.dto.TaskBatchResponseDTO;
+import com.example.todo.model.dto.TaskResponseDTO;
+import com.example.todo.model.enums.TaskField;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Escreve apenas as propriedades pedidas em {@code ?fields=} nas respostas dos handlers marcados com
+ * {@link FieldSelection}.
+ * <p>
+ * O {@link TaskController} já validou o parâmetro e o serviço só preencheu os campos pedidos; aqui
+ * {@link TaskResponseDTO} vira um mapa com essas propriedades, para que as demais não apareçam nem como null.
+ */
+@RestControllerAdvice(assignableTypes = TaskController.class)
+public class TaskFieldsResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    static final String FIELDS_PARAMETER = "fields";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return returnType.hasMethodAnnotation(FieldSelection.class);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (body == null || !(request instanceof ServletServerHttpRequest servletRequest)) {
+            return body;
+        }
+        String fields = servletRequest.getServletRequest().getParameter(FIELDS_PARAMETER);
+        if (fields == null) {
+            return body;
+        }
+        Set<TaskField> selected = TaskField.parse(fields);
+        return selected == null ? body : narrow(body, selected);
+    }
+
+    private static Object narrow(Object body, Set<TaskField> fields) {
+        if (body instanceof TaskResponseDTO task) {
+            return toMap(task, fields);
+        }
+        if (body instanceof PageResponseDTO<?> page) {
+            return new PageResponseDTO<>(narrowList(page.getContent(), fields), page.getPage(), page.getSize(),
+                    page.getTotalElements());
+        }
+        if (body instanceof TaskBatchResponseDTO batch) {
+            Map<String, Object> narrowed = new LinkedHashMap<>(4);
+            narrowed.put("content", narrowList(batch.getContent(), fields));
+            narrowed.put("missingIds", batch.getMissingIds());
+            return narrowed;
+        }
+        if (body instanceof List<?> list) {
+            return narrowList(list, fields);
+        }
+        return body;
+    }
+
+    private static List<Object> narrowList(List<?> items, Set<TaskField> fields) {
+        List<Object> narrowed = new ArrayList<>(items.size());
+        for (Object item : items) {
+            narrowed.add(item instanceof TaskResponseDTO task ? toMap(task, fields) : item);
+        }
+        return narrowed;
+    }
+
+    private static Map<String, Object> toMap(TaskResponseDTO task, Set<TaskField> fields) {
+        Map<String, Object> properties = new LinkedHashMap<>(fields.size() * 2);
+        for (TaskField field : fields) {
+            properties.put(field.property(), field.read(task));
+        }
+        return properties;
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.todo.controller;
+
+import com.example.todo.domain.swagger.IWebhookSwagger;
+import com.example.todo.model.dto.PageResponseDTO;
+import com.example.todo.model.dto.WebhookDeadLetterDTO;
+import com.example.todo.model.dto.WebhookSubscriptionRequestDTO;
+import com.example.todo.model.dto.WebhookSubscriptionResponseDTO;
+import com.example.todo.service.WebhookService;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+public class WebhookController implements IWebhookSwagger {
+
+    private final WebhookService webhookService;
+
+    public WebhookController(WebhookService webhookService) {
+        this.webhookService = webhookService;
+    }
+
+    public ResponseEntity<List<WebhookSubscriptionResponseDTO>> getAll() {
+        return ResponseEntity.ok(webhookService.findAll());
+    }
+
+    public ResponseEntity<WebhookSubscriptionResponseDTO> create(@Valid @RequestBody WebhookSubscriptionRequestDTO dto) {
+        return ResponseEntity.ok(webhookService.create(dto));
+    }
+
+    public ResponseEntity<Void> delete(@PathVariable Long id) {
+        webhookService.delete(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    public ResponseEntity<PageResponseDTO<WebhookDeadLetterDTO>> getDeadLetters(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(webhookService.findDeadLetters(id, page, size));
+    }
+
+    public ResponseEntity<Void> replayDeadLetters(@PathVariable Long id) {
+        webhookService.replayDeadLetters(id);
+        return ResponseEntity.accepted().build();
+    }
+}
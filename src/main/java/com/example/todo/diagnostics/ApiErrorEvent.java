@@ -0,0 +1,41 @@
+package com.example.todo.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Exceção convertida em resposta de erro pelo {@code GlobalExceptionHandler}. Evento instantâneo: com uma
+ * gravação ativa, todos os erros são gravados.
+ */
+@Name(ApiErrorEvent.NAME)
+@Label("API Error")
+@Category({"Todo API", "Errors"})
+@Description("Exceção respondida como erro HTTP")
+@StackTrace(false)
+public class ApiErrorEvent extends Event {
+
+    public static final String NAME = "com.example.todo.ApiError";
+
+    @Label("Exception")
+    private String exceptionType;
+
+    @Label("Message")
+    private String message;
+
+    @Label("HTTP Status")
+    private int status;
+
+    public static void emit(Exception exception, int status) {
+        ApiErrorEvent event = new ApiErrorEvent();
+        if (event.shouldCommit()) {
+            event.exceptionType = exception.getClass().getName();
+            event.message = exception.getMessage();
+            event.status = status;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.todo.diagnostics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * Exige {@code Authorization: Bearer <todo-api.jfr.token>} nas chamadas ao endpoint {@code jfr}. A comparação
+ * não depende de onde o token difere, para não revelar prefixos corretos pelo tempo de resposta.
+ */
+class FlightRecordingAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER = "Bearer ";
+
+    private final byte[] token;
+
+    FlightRecordingAuthenticationFilter(String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalStateException("todo-api.jfr.enabled exige todo-api.jfr.token");
+        }
+        this.token = token.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization == null || !authorization.startsWith(BEARER) || !MessageDigest.isEqual(token,
+                authorization.substring(BEARER.length()).getBytes(StandardCharsets.UTF_8))) {
+            response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "Bearer");
+            response.sendError(HttpServletResponse.SC_UNAUTHORIZED);
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.todo.diagnostics;
+
+import com.example.todo.exception.InvalidRequestException;
+import com.example.todo.exception.ResourceNotFoundException;
+import com.example.todo.service.FlightRecordingService;
+import org.springframework.boot.actuate.autoconfigure.web.server.ManagementPortType;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+
+/**
+ * Gravações JFR sob demanda no actuator: {@code POST /actuator/jfr} inicia e {@code DELETE /actuator/jfr} para e
+ * devolve o arquivo {@code .jfr}. Só existe com {@code todo-api.jfr.enabled=true}, e a subida falha se a gerência
+ * não estiver numa porta própria ({@code management.server.port}); nessa porta as chamadas exigem o token de
+ * {@link FlightRecordingAuthenticationFilter}.
+ */
+@Component
+@WebEndpoint(id = "jfr")
+@ConditionalOnProperty(name = "todo-api.jfr.enabled", havingValue = "true")
+public class FlightRecordingEndpoint {
+
+    private final FlightRecordingService flightRecordingService;
+
+    public FlightRecordingEndpoint(FlightRecordingService flightRecordingService, Environment environment) {
+        if (ManagementPortType.get(environment) != ManagementPortType.DIFFERENT) {
+            throw new IllegalStateException(
+                    "todo-api.jfr.enabled exige management.server.port diferente da porta da API");
+        }
+        this.flightRecordingService = flightRecordingService;
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<Object> start() {
+        try {
+            return new WebEndpointResponse<>(flightRecordingService.start());
+        } catch (InvalidRequestException e) {
+            return new WebEndpointResponse<>(Map.of("error", e.getMessage()), WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+    }
+
+    // O arquivo temporário é apagado quando o envio fecha o stream
+    @DeleteOperation(produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public WebEndpointResponse<Resource> stop() throws IOException {
+        Path file;
+        try {
+            file = flightRecordingService.stop();
+        } catch (ResourceNotFoundException e) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        return new WebEndpointResponse<>(new FileSystemResource(file) {
+            @Override
+            public InputStream getInputStream() throws IOException {
+                return Files.newInputStream(file, StandardOpenOption.DELETE_ON_CLOSE);
+            }
+        });
+    }
+}
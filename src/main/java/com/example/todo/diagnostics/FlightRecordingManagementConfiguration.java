@@ -0,0 +1,28 @@
+package com.example.todo.diagnostics;
+
+import com.example.todo.service.FlightRecordingProperties;
+import org.springframework.boot.actuate.autoconfigure.endpoint.web.WebEndpointProperties;
+import org.springframework.boot.actuate.autoconfigure.web.ManagementContextConfiguration;
+import org.springframework.boot.actuate.autoconfigure.web.ManagementContextType;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Registra o {@link FlightRecordingAuthenticationFilter} no contexto da porta de gerência, o único em que o
+ * endpoint {@code jfr} é servido.
+ */
+@ManagementContextConfiguration(value = ManagementContextType.CHILD, proxyBeanMethods = false)
+@ConditionalOnProperty(name = "todo-api.jfr.enabled", havingValue = "true")
+public class FlightRecordingManagementConfiguration {
+
+    @Bean
+    FilterRegistrationBean<FlightRecordingAuthenticationFilter> flightRecordingAuthenticationFilter(
+            FlightRecordingProperties properties, WebEndpointProperties endpointProperties) {
+        FilterRegistrationBean<FlightRecordingAuthenticationFilter> registration =
+                new FilterRegistrationBean<>(new FlightRecordingAuthenticationFilter(properties.token()));
+        String path = endpointProperties.getBasePath() + "/jfr";
+        registration.addUrlPatterns(path, path + "/*");
+        return registration;
+    }
+}
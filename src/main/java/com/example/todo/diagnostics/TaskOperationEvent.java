@@ -0,0 +1,76 @@
+package com.example.todo.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import jdk.jfr.Timespan;
+
+/**
+ * Operação do {@code TaskService} com o tempo gasto no banco e na montagem dos DTOs.
+ * <p>
+ * Só é gravada com uma gravação JFR ativa e acima do limiar ({@value #NAME}#threshold). Sem gravação,
+ * {@link #isEnabled()} é falso e os métodos não fazem nada além dessa verificação.
+ */
+@Name(TaskOperationEvent.NAME)
+@Label("Task Operation")
+@Category({"Todo API", "Tasks"})
+@Description("Operação de tarefa acima do limiar")
+@StackTrace(false)
+@Threshold("20 ms")
+public class TaskOperationEvent extends Event {
+
+    public static final String NAME = "com.example.todo.TaskOperation";
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Task Id")
+    @Description("0 para operações sobre várias tarefas")
+    private long taskId;
+
+    @Label("Database Time")
+    @Timespan(Timespan.NANOSECONDS)
+    private long databaseTime;
+
+    @Label("Mapping Time")
+    @Timespan(Timespan.NANOSECONDS)
+    private long mappingTime;
+
+    private transient long phaseStart;
+
+    public static TaskOperationEvent start(String operation, long taskId) {
+        TaskOperationEvent event = new TaskOperationEvent();
+        if (event.isEnabled()) {
+            event.operation = operation;
+            event.taskId = taskId;
+            event.begin();
+            event.phaseStart = System.nanoTime();
+        }
+        return event;
+    }
+
+    /**
+     * Encerra a fase de banco; o que vier depois, até {@link #finish()}, conta como montagem.
+     */
+    public void databaseDone() {
+        if (isEnabled()) {
+            long now = System.nanoTime();
+            databaseTime = now - phaseStart;
+            phaseStart = now;
+        }
+    }
+
+    public void finish() {
+        if (isEnabled()) {
+            mappingTime = System.nanoTime() - phaseStart;
+            end();
+            if (shouldCommit()) {
+                commit();
+            }
+        }
+    }
+}
@@ -1,7 +1,18 @@
 package com.example.todo.domain.swagger;
 
+import com.example.todo.controller.FieldSelection;
+import com.example.todo.filter.OperationClass;
+import com.example.todo.filter.RateLimited;
+import com.example.todo.model.dto.PageResponseDTO;
+import com.example.todo.model.dto.TaskAnalyticsDTO;
+import com.example.todo.model.dto.TaskBatchResponseDTO;
+import com.example.todo.model.dto.TaskHistoryDTO;
 import com.example.todo.model.dto.TaskRequestDTO;
 import com.example.todo.model.dto.TaskResponseDTO;
+import com.example.todo.model.dto.TaskRollupDTO;
+import com.example.todo.model.dto.TaskSuggestionDTO;
+import com.example.todo.model.dto.TaskTextStatsDTO;
+import com.example.todo.model.dto.TaskWeeklyCountDTO;
 import com.example.todo.model.enums.TaskStatus;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -12,10 +23,13 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 
 @Tag(description = "Api que consulta, cadastra, atualiza e deleta tarefas", name = "Todo")
 @RequestMapping("/tasks")
@@ -25,54 +39,232 @@ public interface ITaskSwagger {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Lista de tarefas retornada com sucesso",
                     content = @Content(mediaType = "application/json",
-                            array = @ArraySchema(schema = @Schema(implementation = TaskResponseDTO.class))))
+                            array = @ArraySchema(schema = @Schema(implementation = TaskResponseDTO.class)))),
+            @ApiResponse(responseCode = "400", description = "Campo desconhecido em fields")
     })
+    @RateLimited(OperationClass.BULK)
+    @FieldSelection
     @GetMapping
-    ResponseEntity<List<TaskResponseDTO>> getAll();
+    ResponseEntity<List<TaskResponseDTO>> getAll(
+            @Parameter(description = "Campos retornados, separados por vírgula (ex.: id,title,taskStatus); vazio retorna todos") @RequestParam(required = false) String fields
+    );
+
+    @Operation(summary = "Buscar tarefas por uma lista de IDs",
+            description = "Retorna as tarefas na ordem dos ids informados, com uma única consulta, e lista os ids não encontrados")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tarefas retornadas com sucesso",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = TaskBatchResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Mais de 100 ids ou campo desconhecido em fields")
+    })
+    @RateLimited(OperationClass.BULK)
+    @FieldSelection
+    @GetMapping(params = "ids")
+    ResponseEntity<TaskBatchResponseDTO> getByIds(
+            @Parameter(description = "IDs das tarefas, separados por vírgula (até 100)", required = true) @RequestParam List<Long> ids,
+            @Parameter(description = "Campos retornados, separados por vírgula (ex.: id,title,taskStatus); vazio retorna todos") @RequestParam(required = false) String fields
+    );
 
     @Operation(summary = "Buscar tarefa por ID", description = "Retorna uma tarefa específica pelo seu identificador")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Tarefa encontrada com sucesso",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = TaskResponseDTO.class))),
-            @ApiResponse(responseCode = "404", description = "Tarefa não encontrada")
+            @ApiResponse(responseCode = "404", description = "Tarefa não encontrada"),
+            @ApiResponse(responseCode = "400", description = "Campo desconhecido em fields")
     })
+    @FieldSelection
     @GetMapping("/{id}")
     ResponseEntity<TaskResponseDTO> getById(
-            @Parameter(description = "ID da tarefa", required = true) @PathVariable Long id
+            @Parameter(description = "ID da tarefa", required = true) @PathVariable Long id,
+            @Parameter(description = "Campos retornados, separados por vírgula (ex.: id,title,taskStatus); vazio retorna todos") @RequestParam(required = false) String fields
     );
 
     @Operation(summary = "Buscar tarefas por status", description = "Retorna uma lista de tarefas filtradas pelo status")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Lista de tarefas por status retornada com sucesso",
                     content = @Content(mediaType = "application/json",
-                            array = @ArraySchema(schema = @Schema(implementation = TaskResponseDTO.class))))
+                            array = @ArraySchema(schema = @Schema(implementation = TaskResponseDTO.class)))),
+            @ApiResponse(responseCode = "400", description = "Campo desconhecido em fields")
     })
+    @FieldSelection
     @GetMapping("/status/{status}")
     ResponseEntity<List<TaskResponseDTO>> getByStatus(
-            @Parameter(description = "Status da tarefa", required = true) @PathVariable TaskStatus status
+            @Parameter(description = "Status da tarefa", required = true) @PathVariable TaskStatus status,
+            @Parameter(description = "Campos retornados, separados por vírgula (ex.: id,title,taskStatus); vazio retorna todos") @RequestParam(required = false) String fields
+    );
+
+    @Operation(summary = "Próximas tarefas", description = "Retorna as próximas tarefas pendentes, ordenadas pela data limite e depois pela prioridade")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Próximas tarefas retornadas com sucesso",
+                    content = @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = TaskResponseDTO.class)))),
+            @ApiResponse(responseCode = "400", description = "Campo desconhecido em fields")
+    })
+    @FieldSelection
+    @GetMapping("/next")
+    ResponseEntity<List<TaskResponseDTO>> getNext(
+            @Parameter(description = "Quantidade máxima de tarefas (1 a 100)") @RequestParam(defaultValue = "10") int limit,
+            @Parameter(description = "Campos retornados, separados por vírgula (ex.: id,title,taskStatus); vazio retorna todos") @RequestParam(required = false) String fields
+    );
+
+    @Operation(summary = "Autocomplete de títulos",
+            description = "Retorna as tarefas cujo título começa com o prefixo (sem diferenciar maiúsculas), das gravadas mais recentemente para as mais antigas")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Sugestões retornadas com sucesso",
+                    content = @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = TaskSuggestionDTO.class)))),
+            @ApiResponse(responseCode = "400", description = "Prefixo vazio")
+    })
+    @GetMapping("/suggest")
+    ResponseEntity<List<TaskSuggestionDTO>> suggest(
+            @Parameter(description = "Início do título", required = true) @RequestParam String prefix,
+            @Parameter(description = "Quantidade máxima de sugestões (1 a 20)") @RequestParam(defaultValue = "10") int limit
+    );
+
+    @Operation(summary = "Tarefas criadas e concluídas por período",
+            description = "Retorna, por hora ou por dia, quantas tarefas foram criadas e quantas conclusões houve, a partir de contadores pré-agregados; cada conclusão conta, mesmo de uma tarefa reaberta, e tarefas removidas continuam contadas")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Estatísticas retornadas com sucesso",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = TaskAnalyticsDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Intervalo desconhecido ou período vazio ou longo demais")
+    })
+    @GetMapping("/analytics")
+    ResponseEntity<TaskAnalyticsDTO> getAnalytics(
+            @Parameter(description = "Tamanho dos intervalos: hour ou day") @RequestParam(defaultValue = "day") String bucket,
+            @Parameter(description = "Início do período (ISO-8601, horário do servidor); padrão: 24 horas ou 30 dias antes do fim") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Fim do período (ISO-8601, horário do servidor); padrão: agora") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+    );
+
+    @Operation(summary = "Tarefas criadas por semana e status",
+            description = "Conta as tarefas existentes pela semana de criação (começando na segunda-feira) e pelo status atual, sobre uma cópia em memória, sem consultar o banco")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Contagens retornadas com sucesso",
+                    content = @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = TaskWeeklyCountDTO.class)))),
+            @ApiResponse(responseCode = "400", description = "Período vazio ou longo demais")
+    })
+    @GetMapping("/analytics/weekly")
+    ResponseEntity<List<TaskWeeklyCountDTO>> getWeeklyCounts(
+            @Parameter(description = "Início do período (ISO-8601, horário do servidor); padrão: tarefa mais antiga") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Fim do período (ISO-8601, horário do servidor); padrão: tarefa mais recente") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+    );
+
+    @Operation(summary = "Tamanho médio de título e descrição",
+            description = "Calcula o tamanho médio, em caracteres, do título e da descrição das tarefas, opcionalmente só de um status, sobre uma cópia em memória")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Médias retornadas com sucesso",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = TaskTextStatsDTO.class)))
+    })
+    @GetMapping("/analytics/text")
+    ResponseEntity<TaskTextStatsDTO> getTextStats(
+            @Parameter(description = "Status considerado; vazio considera todas as tarefas") @RequestParam(required = false) TaskStatus status
+    );
+
+    @Operation(summary = "Filtrar tarefas por tags e status",
+            description = "Combina tags obrigatórias (todas), alternativas (alguma) e excluídas (nenhuma) com o status; resultados paginados em ordem de criação")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Página de tarefas retornada com sucesso",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = PageResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Campo desconhecido em fields")
+    })
+    @FieldSelection
+    @GetMapping("/search")
+    ResponseEntity<PageResponseDTO<TaskResponseDTO>> search(
+            @Parameter(description = "Tags que a tarefa deve ter (todas)") @RequestParam(required = false) Set<String> tags,
+            @Parameter(description = "Tags das quais a tarefa deve ter ao menos uma") @RequestParam(required = false) Set<String> anyTags,
+            @Parameter(description = "Tags que a tarefa não pode ter") @RequestParam(required = false) Set<String> excludeTags,
+            @Parameter(description = "Status da tarefa") @RequestParam(required = false) TaskStatus status,
+            @Parameter(description = "Número da página (começa em 0)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Tamanho da página (1 a 100)") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Campos retornados, separados por vírgula (ex.: id,title,taskStatus); vazio retorna todos") @RequestParam(required = false) String fields
     );
 
-    @Operation(summary = "Criar nova tarefa", description = "Cria uma nova tarefa no sistema")
+    @Operation(summary = "Listar subtarefas", description = "Retorna todas as subtarefas da tarefa, em qualquer nível, ordenadas por profundidade")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Subtarefas retornadas com sucesso",
+                    content = @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = TaskResponseDTO.class)))),
+            @ApiResponse(responseCode = "404", description = "Tarefa não encontrada"),
+            @ApiResponse(responseCode = "400", description = "Campo desconhecido em fields")
+    })
+    @RateLimited(OperationClass.BULK)
+    @FieldSelection
+    @GetMapping("/{id}/descendants")
+    ResponseEntity<List<TaskResponseDTO>> getDescendants(
+            @Parameter(description = "ID da tarefa", required = true) @PathVariable Long id,
+            @Parameter(description = "Campos retornados, separados por vírgula (ex.: id,title,taskStatus); vazio retorna todos") @RequestParam(required = false) String fields
+    );
+
+    @Operation(summary = "Listar tarefas ancestrais", description = "Retorna o caminho da tarefa raiz até o pai direto da tarefa")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Ancestrais retornados com sucesso",
+                    content = @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = TaskResponseDTO.class)))),
+            @ApiResponse(responseCode = "404", description = "Tarefa não encontrada"),
+            @ApiResponse(responseCode = "400", description = "Campo desconhecido em fields")
+    })
+    @FieldSelection
+    @GetMapping("/{id}/ancestors")
+    ResponseEntity<List<TaskResponseDTO>> getAncestors(
+            @Parameter(description = "ID da tarefa", required = true) @PathVariable Long id,
+            @Parameter(description = "Campos retornados, separados por vírgula (ex.: id,title,taskStatus); vazio retorna todos") @RequestParam(required = false) String fields
+    );
+
+    @Operation(summary = "Progresso das subtarefas", description = "Retorna quantas subtarefas existem e quantas já foram concluídas")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Progresso retornado com sucesso",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = TaskRollupDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Tarefa não encontrada")
+    })
+    @GetMapping("/{id}/rollup")
+    ResponseEntity<TaskRollupDTO> getRollup(
+            @Parameter(description = "ID da tarefa", required = true) @PathVariable Long id
+    );
+
+    @Operation(summary = "Histórico da tarefa",
+            description = "Retorna as alterações de título, descrição e status da tarefa, mais recentes primeiro. A gravação é assíncrona e pode atrasar alguns milissegundos")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Página do histórico retornada com sucesso",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = PageResponseDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Tarefa não encontrada")
+    })
+    @GetMapping("/{id}/history")
+    ResponseEntity<PageResponseDTO<TaskHistoryDTO>> getHistory(
+            @Parameter(description = "ID da tarefa", required = true) @PathVariable Long id,
+            @Parameter(description = "Número da página (começa em 0)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Tamanho da página (1 a 100)") @RequestParam(defaultValue = "20") int size
+    );
+
+    @Operation(summary = "Criar nova tarefa",
+            description = "Cria uma nova tarefa no sistema. Com a detecção de duplicatas ligada, tarefas parecidas já existentes voltam em possibleDuplicateIds")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Tarefa criada com sucesso",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = TaskResponseDTO.class))),
-            @ApiResponse(responseCode = "400", description = "Dados inválidos fornecidos")
+            @ApiResponse(responseCode = "400", description = "Dados inválidos fornecidos"),
+            @ApiResponse(responseCode = "409", description = "Já existe uma tarefa parecida (apenas quando a recusa de duplicatas está ligada)")
     })
     @PostMapping
     ResponseEntity<TaskResponseDTO> create(
             @Parameter(description = "Dados da nova tarefa", required = true)
-            @Valid @RequestBody TaskRequestDTO dto
+            @Valid @RequestBody TaskRequestDTO dto,
+            @Parameter(description = "Cria mesmo que existam tarefas parecidas") @RequestParam(defaultValue = "false") boolean allowDuplicate
     );
 
-    @Operation(summary = "Atualizar tarefa", description = "Atualiza o título e descrição de uma tarefa existente")
+    @Operation(summary = "Atualizar tarefa", description = "Atualiza o título, descrição, data limite, prioridade e tags de uma tarefa existente")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Tarefa atualizada com sucesso",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = TaskResponseDTO.class))),
             @ApiResponse(responseCode = "404", description = "Tarefa não encontrada"),
-            @ApiResponse(responseCode = "400", description = "Dados inválidos fornecidos")
+            @ApiResponse(responseCode = "400", description = "Dados inválidos fornecidos"),
+            @ApiResponse(responseCode = "409", description = "A tarefa foi alterada por outra requisição")
     })
     @PutMapping("/{id}")
     ResponseEntity<TaskResponseDTO> update(
@@ -86,7 +278,8 @@ public interface ITaskSwagger {
             @ApiResponse(responseCode = "200", description = "Status da tarefa atualizado com sucesso",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = TaskResponseDTO.class))),
-            @ApiResponse(responseCode = "404", description = "Tarefa não encontrada")
+            @ApiResponse(responseCode = "404", description = "Tarefa não encontrada"),
+            @ApiResponse(responseCode = "409", description = "A tarefa foi alterada por outra requisição")
     })
     @PutMapping("/{id}/status")
     ResponseEntity<TaskResponseDTO> updateStatus(
@@ -94,10 +287,25 @@ public interface ITaskSwagger {
             @Parameter(description = "Novo status da tarefa", required = true) @RequestParam TaskStatus taskStatus
     );
 
-    @Operation(summary = "Deletar tarefa", description = "Remove uma tarefa do sistema")
+    @Operation(summary = "Mover tarefa", description = "Move a tarefa e todas as suas subtarefas para outro pai; sem parentId a tarefa vira raiz")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tarefa movida com sucesso",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = TaskResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "O novo pai é a própria tarefa ou uma de suas subtarefas"),
+            @ApiResponse(responseCode = "404", description = "Tarefa ou tarefa pai não encontrada")
+    })
+    @PutMapping("/{id}/parent")
+    ResponseEntity<TaskResponseDTO> move(
+            @Parameter(description = "ID da tarefa", required = true) @PathVariable Long id,
+            @Parameter(description = "ID do novo pai (vazio para tornar a tarefa raiz)") @RequestParam(required = false) Long parentId
+    );
+
+    @Operation(summary = "Deletar tarefa", description = "Remove uma tarefa do sistema; tarefas com subtarefas não podem ser removidas")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "204", description = "Tarefa deletada com sucesso"),
-            @ApiResponse(responseCode = "404", description = "Tarefa não encontrada")
+            @ApiResponse(responseCode = "404", description = "Tarefa não encontrada"),
+            @ApiResponse(responseCode = "409", description = "A tarefa possui subtarefas")
     })
     @DeleteMapping("/{id}")
     ResponseEntity<Void> delete(
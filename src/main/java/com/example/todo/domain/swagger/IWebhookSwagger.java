@@ -0,0 +1,81 @@
+package com.example.todo.domain.swagger;
+
+import com.example.todo.model.dto.PageResponseDTO;
+import com.example.todo.model.dto.WebhookDeadLetterDTO;
+import com.example.todo.model.dto.WebhookSubscriptionRequestDTO;
+import com.example.todo.model.dto.WebhookSubscriptionResponseDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Tag(description = "Api que cadastra webhooks notificados quando o status de uma tarefa muda", name = "Webhooks")
+@RequestMapping("/webhooks")
+public interface IWebhookSwagger {
+
+    @Operation(summary = "Listar webhooks", description = "Retorna todos os webhooks cadastrados")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lista de webhooks retornada com sucesso",
+                    content = @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = WebhookSubscriptionResponseDTO.class))))
+    })
+    @GetMapping
+    ResponseEntity<List<WebhookSubscriptionResponseDTO>> getAll();
+
+    @Operation(summary = "Cadastrar webhook",
+            description = "Cadastra um endereço que receberá, via POST, listas de eventos de mudança de status das tarefas")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Webhook cadastrado com sucesso",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = WebhookSubscriptionResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Dados inválidos fornecidos")
+    })
+    @PostMapping
+    ResponseEntity<WebhookSubscriptionResponseDTO> create(
+            @Parameter(description = "Dados do webhook", required = true)
+            @Valid @RequestBody WebhookSubscriptionRequestDTO dto
+    );
+
+    @Operation(summary = "Remover webhook", description = "Remove o webhook e seus eventos não entregues")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Webhook removido com sucesso"),
+            @ApiResponse(responseCode = "404", description = "Webhook não encontrado")
+    })
+    @DeleteMapping("/{id}")
+    ResponseEntity<Void> delete(
+            @Parameter(description = "ID do webhook", required = true) @PathVariable Long id
+    );
+
+    @Operation(summary = "Eventos não entregues", description = "Lista os eventos que esgotaram as tentativas de envio, mais antigos primeiro")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Página de eventos retornada com sucesso",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = PageResponseDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Webhook não encontrado")
+    })
+    @GetMapping("/{id}/dead-letters")
+    ResponseEntity<PageResponseDTO<WebhookDeadLetterDTO>> getDeadLetters(
+            @Parameter(description = "ID do webhook", required = true) @PathVariable Long id,
+            @Parameter(description = "Número da página (começa em 0)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Tamanho da página (1 a 100)") @RequestParam(defaultValue = "20") int size
+    );
+
+    @Operation(summary = "Reenviar eventos não entregues", description = "Devolve à fila de envio até 1000 eventos não entregues; com o envio de webhooks parado nada é reenviado")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Eventos devolvidos à fila de envio"),
+            @ApiResponse(responseCode = "404", description = "Webhook não encontrado")
+    })
+    @PostMapping("/{id}/dead-letters/replay")
+    ResponseEntity<Void> replayDeadLetters(
+            @Parameter(description = "ID do webhook", required = true) @PathVariable Long id
+    );
+}
@@ -0,0 +1,17 @@
+package com.example.todo.exception;
+
+import java.util.List;
+
+public class DuplicateTaskException extends RuntimeException {
+
+    private final List<Long> duplicateIds;
+
+    public DuplicateTaskException(String message, List<Long> duplicateIds) {
+        super(message);
+        this.duplicateIds = duplicateIds;
+    }
+
+    public List<Long> getDuplicateIds() {
+        return duplicateIds;
+    }
+}
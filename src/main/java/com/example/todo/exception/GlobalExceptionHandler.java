@@ -1,7 +1,12 @@
 package com.example.todo.exception;
 
+import com.example.todo.diagnostics.ApiErrorEvent;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.TransactionTimedOutException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -16,14 +21,78 @@ public class GlobalExceptionHandler {
     public ResponseEntity<Map<String, String>> handleNotFound(ResourceNotFoundException ex) {
         Map<String, String> response = new HashMap<>();
         response.put("error", ex.getMessage());
+        ApiErrorEvent.emit(ex, HttpStatus.NOT_FOUND.value());
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
     }
 
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidRequest(InvalidRequestException ex) {
+        Map<String, String> response = new HashMap<>();
+        response.put("error", ex.getMessage());
+        ApiErrorEvent.emit(ex, HttpStatus.BAD_REQUEST.value());
+        return ResponseEntity.badRequest().body(response);
+    }
+
+    @ExceptionHandler(DuplicateTaskException.class)
+    public ResponseEntity<Map<String, Object>> handleDuplicate(DuplicateTaskException ex) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("error", ex.getMessage());
+        // Como os ids das tarefas nas respostas: texto, para não perder precisão em clientes JavaScript
+        response.put("duplicateIds", ex.getDuplicateIds().stream().map(String::valueOf).toList());
+        ApiErrorEvent.emit(ex, HttpStatus.CONFLICT.value());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
+    @ExceptionHandler(TaskHasSubtasksException.class)
+    public ResponseEntity<Map<String, String>> handleHasSubtasks(TaskHasSubtasksException ex) {
+        Map<String, String> response = new HashMap<>();
+        response.put("error", ex.getMessage());
+        ApiErrorEvent.emit(ex, HttpStatus.CONFLICT.value());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
+    // Outra requisição gravou a mesma tarefa entre a leitura e o commit (@Version)
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<Map<String, String>> handleOptimisticLock(ObjectOptimisticLockingFailureException ex) {
+        Map<String, String> response = new HashMap<>();
+        response.put("error", "A tarefa foi alterada por outra requisição; carregue a versão atual e tente novamente");
+        ApiErrorEvent.emit(ex, HttpStatus.CONFLICT.value());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<Map<String, String>> handleRateLimit(RateLimitExceededException ex) {
+        Map<String, String> response = new HashMap<>();
+        response.put("error", ex.getMessage());
+        ApiErrorEvent.emit(ex, HttpStatus.TOO_MANY_REQUESTS.value());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(response);
+    }
+
+    @ExceptionHandler(OperationTimeoutException.class)
+    public ResponseEntity<Map<String, String>> handleTimeout(OperationTimeoutException ex) {
+        Map<String, String> response = new HashMap<>();
+        response.put("error", ex.getMessage());
+        ApiErrorEvent.emit(ex, HttpStatus.GATEWAY_TIMEOUT.value());
+        return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).body(response);
+    }
+
+    // Comando cancelado pelo tempo limite ou transação recusada com o prazo da requisição vencido
+    @ExceptionHandler({QueryTimeoutException.class, TransactionTimedOutException.class})
+    public ResponseEntity<Map<String, String>> handleDeadlineExceeded(RuntimeException ex) {
+        Map<String, String> response = new HashMap<>();
+        response.put("error", "Tempo esgotado aguardando o banco de dados");
+        ApiErrorEvent.emit(ex, HttpStatus.GATEWAY_TIMEOUT.value());
+        return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).body(response);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, String>> handleValidation(MethodArgumentNotValidException ex) {
         Map<String, String> errors = new HashMap<>();
         ex.getBindingResult().getFieldErrors().forEach(err ->
                 errors.put(err.getField(), err.getDefaultMessage()));
+        ApiErrorEvent.emit(ex, HttpStatus.BAD_REQUEST.value());
         return ResponseEntity.badRequest().body(errors);
     }
 }
@@ -0,0 +1,7 @@
+package com.example.todo.exception;
+
+public class OperationTimeoutException extends RuntimeException {
+    public OperationTimeoutException(String message) {
+        super(message);
+    }
+}
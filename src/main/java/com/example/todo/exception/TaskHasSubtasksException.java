@@ -0,0 +1,7 @@
+package com.example.todo.exception;
+
+public class TaskHasSubtasksException extends RuntimeException {
+    public TaskHasSubtasksException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.todo.filter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Limite de requisições simultâneas ajustado pela latência, no estilo do algoritmo de gradiente: compara a latência
+ * recente com uma média de longo prazo e encolhe o limite quando a fila começa a crescer dentro do serviço.
+ * <p>
+ * A cada amostra, {@code gradiente = clamp(tolerância × referência / recente, 0.5, 1)} e o novo limite é
+ * {@code limite × gradiente + √limite}: com latência estável o limite cresce devagar pela folga {@code √limite};
+ * quando a latência sobe ele cai até metade por amostra. Amostras de quando o grupo estava com menos da metade do
+ * limite ocupado não dizem nada sobre saturação e são ignoradas. Se outra thread estiver atualizando a
+ * estimativa, a amostra é descartada em vez de esperar.
+ */
+final class AdaptiveConcurrencyLimiter {
+
+    private static final int SHORT_WINDOW = 10;
+
+    private final ConcurrencyLimitProperties properties;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final ReentrantLock estimating = new ReentrantLock();
+
+    private volatile int limit;
+    private double estimatedLimit;
+    private double longRtt;
+    private double shortRtt;
+
+    AdaptiveConcurrencyLimiter(ConcurrencyLimitProperties properties) {
+        this.properties = properties;
+        this.estimatedLimit = clamp(properties.initialLimit(), properties.minLimit(), properties.maxLimit());
+        this.limit = (int) estimatedLimit;
+    }
+
+    /**
+     * Ocupa uma vaga se houver; quem recebe {@code true} precisa chamar {@link #release(long)}.
+     */
+    boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Libera a vaga e usa a latência da requisição para reajustar o limite.
+     */
+    void release(long rttNanos) {
+        int inFlightAtRelease = inFlight.getAndDecrement();
+        if (rttNanos <= 0 || !estimating.tryLock()) {
+            return;
+        }
+        try {
+            update(rttNanos, inFlightAtRelease);
+        } finally {
+            estimating.unlock();
+        }
+    }
+
+    int limit() {
+        return limit;
+    }
+
+    int inFlight() {
+        return inFlight.get();
+    }
+
+    private void update(long rtt, int inFlightAtRelease) {
+        if (longRtt == 0) {
+            longRtt = rtt;
+            shortRtt = rtt;
+            return;
+        }
+        longRtt += (rtt - longRtt) / Math.max(1, properties.longWindow());
+        shortRtt += (rtt - shortRtt) / SHORT_WINDOW;
+        // Depois de uma mudança de patamar a referência antiga deixaria o limite preso no máximo; ela se aproxima
+        if (longRtt / shortRtt > 2) {
+            longRtt *= 0.95;
+        }
+        if (inFlightAtRelease < estimatedLimit / 2) {
+            return;
+        }
+        double gradient = clamp(properties.tolerance() * longRtt / shortRtt, 0.5, 1.0);
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        double smoothing = properties.smoothing();
+        estimatedLimit = clamp(estimatedLimit * (1 - smoothing) + newLimit * smoothing,
+                properties.minLimit(), properties.maxLimit());
+        limit = (int) estimatedLimit;
+    }
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.todo.filter;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Contabiliza os bytes alocados pela thread de cada requisição (contadores de alocação da JVM)
+ * e publica na métrica {@value #METRIC_NAME}, por método, rota e status. Cada combinação de tags é registrada uma
+ * vez e reaproveitada nas requisições seguintes.
+ */
+@Component
+@ConditionalOnProperty(name = "todo-api.allocation-tracking.enabled", havingValue = "true", matchIfMissing = true)
+public class AllocationTrackingFilter extends OncePerRequestFilter {
+
+    public static final String METRIC_NAME = "http.server.requests.allocated";
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final MeterRegistry registry;
+    private final Map<Route, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+    private record Route(String method, String uri, int status) {
+    }
+
+    public AllocationTrackingFilter(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.registry = meterRegistry.getIfAvailable();
+    }
+
+    /**
+     * Bytes alocados até agora pela thread atual, ou -1 se a JVM não suportar a medição.
+     */
+    public static long currentThreadAllocatedBytes() {
+        if (!THREADS.isThreadAllocatedMemorySupported() || !THREADS.isThreadAllocatedMemoryEnabled()) {
+            return -1;
+        }
+        return THREADS.getCurrentThreadAllocatedBytes();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long before = registry == null ? -1 : currentThreadAllocatedBytes();
+        if (before < 0) {
+            chain.doFilter(request, response);
+            return;
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            long allocated = currentThreadAllocatedBytes() - before;
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            Route route = new Route(request.getMethod(), pattern != null ? pattern.toString() : "UNKNOWN",
+                    response.getStatus());
+            summaries.computeIfAbsent(route, this::summary).record(allocated);
+        }
+    }
+
+    private DistributionSummary summary(Route route) {
+        return DistributionSummary.builder(METRIC_NAME)
+                .description("Bytes alocados pela thread durante a requisição")
+                .baseUnit("bytes")
+                .tag("method", route.method())
+                .tag("uri", route.uri())
+                .tag("status", String.valueOf(route.status()))
+                .register(registry);
+    }
+}
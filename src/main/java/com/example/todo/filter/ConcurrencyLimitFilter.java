@@ -0,0 +1,132 @@
+package com.example.todo.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Limita as requisições simultâneas em {@code /tasks} com um {@link AdaptiveConcurrencyLimiter} para leituras
+ * ({@code GET}/{@code HEAD}) e outro para escritas, para que uma rajada de escritas lentas não derrube as leituras.
+ * Acima do limite a requisição recebe 503 com {@code Retry-After} na hora, em vez de esperar numa fila do Tomcat.
+ * <p>
+ * Publica {@value #LIMIT_METRIC}, {@value #IN_FLIGHT_METRIC} e {@value #REJECTED_METRIC}, por grupo.
+ */
+@Component
+@Order(ConcurrencyLimitFilter.ORDER)
+@ConditionalOnProperty(name = "todo-api.concurrency-limit.enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(ConcurrencyLimitProperties.class)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    // Logo depois dos filtros de encoding do Spring: recusar antes de qualquer outro trabalho
+    public static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 10;
+
+    public static final String LIMIT_METRIC = "tasks.concurrency-limit.limit";
+    public static final String IN_FLIGHT_METRIC = "tasks.concurrency-limit.in-flight";
+    public static final String REJECTED_METRIC = "tasks.concurrency-limit.rejected";
+
+    private static final String LIMITED_PATH = "/tasks";
+
+    enum Bulkhead {
+        READ, WRITE
+    }
+
+    private final Map<Bulkhead, AdaptiveConcurrencyLimiter> limiters;
+    private final Map<Bulkhead, Counter> rejections;
+    private final String retryAfter;
+
+    public ConcurrencyLimitFilter(ConcurrencyLimitProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.limiters = Map.of(
+                Bulkhead.READ, new AdaptiveConcurrencyLimiter(properties),
+                Bulkhead.WRITE, new AdaptiveConcurrencyLimiter(properties));
+        this.retryAfter = String.valueOf(Math.max(1, (properties.retryAfter().toMillis() + 999) / 1000));
+
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry == null) {
+            this.rejections = Map.of();
+            return;
+        }
+        for (Map.Entry<Bulkhead, AdaptiveConcurrencyLimiter> entry : limiters.entrySet()) {
+            String bulkhead = tag(entry.getKey());
+            Gauge.builder(LIMIT_METRIC, entry.getValue(), AdaptiveConcurrencyLimiter::limit)
+                    .tag("bulkhead", bulkhead)
+                    .description("Requisições simultâneas permitidas")
+                    .register(registry);
+            Gauge.builder(IN_FLIGHT_METRIC, entry.getValue(), AdaptiveConcurrencyLimiter::inFlight)
+                    .tag("bulkhead", bulkhead)
+                    .description("Requisições em andamento")
+                    .register(registry);
+        }
+        this.rejections = Map.of(
+                Bulkhead.READ, rejectionCounter(registry, Bulkhead.READ),
+                Bulkhead.WRITE, rejectionCounter(registry, Bulkhead.WRITE));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !(path.equals(LIMITED_PATH) || path.startsWith(LIMITED_PATH + "/"));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Bulkhead bulkhead = bulkheadOf(request);
+        AdaptiveConcurrencyLimiter limiter = limiters.get(bulkhead);
+        if (!limiter.tryAcquire()) {
+            reject(bulkhead, response);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            limiter.release(System.nanoTime() - start);
+        }
+    }
+
+    static Bulkhead bulkheadOf(HttpServletRequest request) {
+        String method = request.getMethod();
+        return "GET".equals(method) || "HEAD".equals(method) ? Bulkhead.READ : Bulkhead.WRITE;
+    }
+
+    private void reject(Bulkhead bulkhead, HttpServletResponse response) throws IOException {
+        Counter counter = rejections.get(bulkhead);
+        if (counter != null) {
+            counter.increment();
+        }
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfter);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.getWriter().write("{\"error\":\"Serviço sobrecarregado, tente novamente em instantes\"}");
+    }
+
+    private static Counter rejectionCounter(MeterRegistry registry, Bulkhead bulkhead) {
+        return Counter.builder(REJECTED_METRIC)
+                .tag("bulkhead", tag(bulkhead))
+                .description("Requisições recusadas com 503 por excesso de concorrência")
+                .register(registry);
+    }
+
+    private static String tag(Bulkhead bulkhead) {
+        return bulkhead.name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.todo.filter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Limite adaptativo de requisições simultâneas em {@code /tasks} ({@code todo-api.concurrency-limit.*}).
+ * Leituras e escritas têm limites separados, com os mesmos parâmetros.
+ *
+ * @param enabled      instala o filtro; desligado, nenhuma requisição é recusada
+ * @param initialLimit limite inicial de cada grupo, ajustado a partir da latência observada
+ * @param minLimit     piso do limite, mesmo com a latência muito acima da de referência
+ * @param maxLimit     teto do limite
+ * @param tolerance    quanto a latência pode subir acima da de referência antes de o limite começar a cair
+ * @param smoothing    peso (0 a 1) de cada nova estimativa sobre o limite atual
+ * @param longWindow   amostras da média móvel que define a latência de referência
+ * @param retryAfter   valor do {@code Retry-After} das respostas 503
+ */
+@ConfigurationProperties(prefix = "todo-api.concurrency-limit")
+public record ConcurrencyLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("20") int initialLimit,
+        @DefaultValue("4") int minLimit,
+        @DefaultValue("200") int maxLimit,
+        @DefaultValue("1.5") double tolerance,
+        @DefaultValue("0.2") double smoothing,
+        @DefaultValue("600") int longWindow,
+        @DefaultValue("1s") Duration retryAfter
+) {
+}
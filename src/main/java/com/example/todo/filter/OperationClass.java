@@ -0,0 +1,32 @@
+package com.example.todo.filter;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.method.HandlerMethod;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Classe de uma operação da API, usada pelo limite de requisições por cliente e pelo prazo padrão das requisições.
+ */
+public enum OperationClass {
+    READ, WRITE, BULK;
+
+    private static final Map<Method, Optional<OperationClass>> ANNOTATED = new ConcurrentHashMap<>();
+
+    /**
+     * A classe declarada com {@link RateLimited} no handler ou, sem ela, {@link #READ} para {@code GET}/{@code HEAD}
+     * e {@link #WRITE} para o resto.
+     */
+    public static OperationClass of(HandlerMethod handlerMethod, HttpServletRequest request) {
+        Optional<OperationClass> annotated = ANNOTATED.computeIfAbsent(handlerMethod.getMethod(), method ->
+                Optional.ofNullable(handlerMethod.getMethodAnnotation(RateLimited.class)).map(RateLimited::value));
+        if (annotated.isPresent()) {
+            return annotated.get();
+        }
+        String method = request.getMethod();
+        return "GET".equals(method) || "HEAD".equals(method) ? READ : WRITE;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.todo.filter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Aplica o {@link RateLimitInterceptor} às operações de {@code /tasks}.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "todo-api.rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitConfiguration implements WebMvcConfigurer {
+
+    private final RateLimitInterceptor interceptor;
+
+    public RateLimitConfiguration(RateLimitProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.interceptor = new RateLimitInterceptor(properties, meterRegistry.getIfAvailable());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(interceptor).addPathPatterns("/tasks", "/tasks/**");
+    }
+}
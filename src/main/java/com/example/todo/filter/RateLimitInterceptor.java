@@ -0,0 +1,163 @@
+package com.example.todo.filter;
+
+import com.example.todo.exception.RateLimitExceededException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limita as requisições de cada cliente por classe de operação ({@link OperationClass}) com um {@link TokenBucket}
+ * por cliente e classe, e responde com os cabeçalhos {@code RateLimit-Limit}, {@code RateLimit-Remaining} e
+ * {@code RateLimit-Reset}; sem token, a requisição termina em 429 com {@code Retry-After}.
+ * <p>
+ * Os baldes ficam num cache Caffeine: a leitura de um balde existente não usa lock (os acessos são registrados em
+ * buffers distribuídos por thread) e consumir um token é um compare-and-set. Um balde só sai do cache depois de
+ * parado por mais tempo do que leva para encher, então descartá-lo não devolve tokens a ninguém. Não há despejo por
+ * tamanho, que zeraria baldes esvaziados: com {@link RateLimitProperties#maxClients()} baldes em memória, clientes
+ * novos dividem um balde por classe de operação até que algum expire ({@value #OVERFLOW_METRIC} conta essas
+ * requisições). Chaves desconhecidas só viram cliente próprio dentro do limite por IP descrito em {@link RateLimitProperties}.
+ * Registrado pela {@link RateLimitConfiguration}.
+ */
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    public static final String LIMIT_HEADER = "RateLimit-Limit";
+    public static final String REMAINING_HEADER = "RateLimit-Remaining";
+    public static final String RESET_HEADER = "RateLimit-Reset";
+    public static final String REJECTED_METRIC = "tasks.rate-limit.rejected";
+    public static final String CLIENTS_METRIC = "tasks.rate-limit.clients";
+    public static final String OVERFLOW_METRIC = "tasks.rate-limit.overflow";
+
+    private static final int MAX_API_KEY_LENGTH = 128;
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final RateLimitProperties properties;
+    private final Cache<BucketKey, TokenBucket> buckets;
+    // IP -> chaves não cadastradas já aceitas dele
+    private final Cache<String, Set<String>> keysByAddress;
+    private final Map<OperationClass, Counter> rejections = new EnumMap<>(OperationClass.class);
+    // Balde comum dos clientes novos enquanto o cache está cheio
+    private final Map<OperationClass, TokenBucket> overflow = new EnumMap<>(OperationClass.class);
+    private final Counter overflowed;
+
+    private record BucketKey(String client, OperationClass operation) {
+    }
+
+    public RateLimitInterceptor(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        // O scheduler expira os baldes no horário mesmo sem tráfego nas chaves existentes
+        this.buckets = Caffeine.newBuilder()
+                .expireAfterAccess(timeToRefill(properties))
+                .scheduler(Scheduler.systemScheduler())
+                .build();
+        this.keysByAddress = Caffeine.newBuilder()
+                .maximumSize(properties.maxClients())
+                .expireAfterAccess(timeToRefill(properties))
+                .build();
+        for (OperationClass operation : OperationClass.values()) {
+            overflow.put(operation,
+                    new TokenBucket(properties.perSecond(operation), properties.burst(operation), System.nanoTime()));
+        }
+        this.overflowed = meterRegistry == null ? null : Counter.builder(OVERFLOW_METRIC)
+                .description("Requisições de clientes novos atendidas pelo balde comum com o cache de baldes cheio")
+                .register(meterRegistry);
+        if (meterRegistry != null) {
+            for (OperationClass operation : OperationClass.values()) {
+                rejections.put(operation, Counter.builder(REJECTED_METRIC)
+                        .tag("operation", operation.name().toLowerCase(Locale.ROOT))
+                        .description("Requisições recusadas com 429 pelo limite por cliente")
+                        .register(meterRegistry));
+            }
+            Gauge.builder(CLIENTS_METRIC, buckets, Cache::estimatedSize)
+                    .description("Baldes de clientes em memória")
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        OperationClass operation = OperationClass.of(handlerMethod, request);
+        TokenBucket bucket = bucketOf(new BucketKey(clientOf(request), operation));
+
+        long now = System.nanoTime();
+        boolean allowed = bucket.tryAcquire(now);
+        response.setHeader(LIMIT_HEADER, String.valueOf(bucket.capacity()));
+        response.setHeader(REMAINING_HEADER, String.valueOf(bucket.remaining(now)));
+        response.setHeader(RESET_HEADER, String.valueOf(toSeconds(bucket.nanosUntilFull(now))));
+        if (!allowed) {
+            Counter counter = rejections.get(operation);
+            if (counter != null) {
+                counter.increment();
+            }
+            throw new RateLimitExceededException("Limite de requisições excedido, tente novamente em instantes",
+                    Math.max(1, toSeconds(bucket.nanosUntilAvailable(now))));
+        }
+        return true;
+    }
+
+    // Com o cache cheio o tamanho pode passar um pouco do limite (criações simultâneas), nunca crescer sem limite
+    private TokenBucket bucketOf(BucketKey key) {
+        TokenBucket bucket = buckets.getIfPresent(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.estimatedSize() >= properties.maxClients()) {
+            if (overflowed != null) {
+                overflowed.increment();
+            }
+            return overflow.get(key.operation());
+        }
+        return buckets.get(key, k -> new TokenBucket(properties.perSecond(k.operation()), properties.burst(k.operation()),
+                System.nanoTime()));
+    }
+
+    private String clientOf(HttpServletRequest request) {
+        String address = request.getRemoteAddr();
+        String apiKey = request.getHeader(properties.apiKeyHeader());
+        if (apiKey == null || apiKey.isBlank() || apiKey.length() > MAX_API_KEY_LENGTH) {
+            return "ip:" + address;
+        }
+        apiKey = apiKey.strip();
+        boolean accepted = properties.apiKeys().isEmpty()
+                ? admit(address, apiKey)
+                : properties.apiKeys().contains(apiKey);
+        return accepted ? "key:" + apiKey : "ip:" + address;
+    }
+
+    private boolean admit(String address, String apiKey) {
+        Set<String> keys = keysByAddress.get(address, key -> new HashSet<>());
+        synchronized (keys) {
+            return keys.contains(apiKey) || (keys.size() < properties.maxKeysPerAddress() && keys.add(apiKey));
+        }
+    }
+
+    private static long toSeconds(long nanos) {
+        return (nanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND;
+    }
+
+    // Um balde parado por mais tempo do que isso está cheio: descartá-lo equivale a recriá-lo
+    private static Duration timeToRefill(RateLimitProperties properties) {
+        double seconds = 1;
+        for (OperationClass operation : OperationClass.values()) {
+            seconds = Math.max(seconds, properties.burst(operation) / properties.perSecond(operation));
+        }
+        return Duration.ofMillis((long) Math.ceil(seconds * 1000));
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.todo.filter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Set;
+
+/**
+ * Limite de requisições por cliente em {@code /tasks} ({@code todo-api.rate-limit.*}). O cliente é a chave enviada
+ * em {@code apiKeyHeader} ou, sem ela, o IP de origem; cada classe de operação tem o seu balde de tokens.
+ * <p>
+ * A aplicação não autentica as chaves. Com {@code apiKeys} preenchido, só essas ganham balde próprio e qualquer
+ * outra conta no IP. Sem a lista, cada IP pode usar até {@code maxKeysPerAddress} chaves distintas; as seguintes
+ * contam no IP, para que trocar de chave a cada requisição não crie baldes novos indefinidamente.
+ *
+ * @param enabled           instala o limite; desligado, nenhuma requisição é recusada
+ * @param apiKeyHeader      cabeçalho que identifica o cliente
+ * @param apiKeys           chaves conhecidas; vazio aceita qualquer chave, limitada por {@code maxKeysPerAddress}
+ * @param maxKeysPerAddress chaves não cadastradas aceitas por IP
+ * @param maxClients        baldes mantidos em memória; atingido o limite, clientes novos dividem um balde por classe de
+ *                          operação até que algum expire (um balde só expira depois de encher)
+ * @param readPerSecond     tokens repostos por segundo para leituras
+ * @param readBurst         capacidade do balde de leituras (rajada máxima)
+ * @param writePerSecond    tokens repostos por segundo para escritas
+ * @param writeBurst        capacidade do balde de escritas
+ * @param bulkPerSecond     tokens repostos por segundo para operações em lote
+ * @param bulkBurst         capacidade do balde de operações em lote
+ */
+@ConfigurationProperties(prefix = "todo-api.rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("X-API-Key") String apiKeyHeader,
+        @DefaultValue Set<String> apiKeys,
+        @DefaultValue("5") int maxKeysPerAddress,
+        @DefaultValue("100000") long maxClients,
+        @DefaultValue("50") double readPerSecond,
+        @DefaultValue("100") int readBurst,
+        @DefaultValue("10") double writePerSecond,
+        @DefaultValue("20") int writeBurst,
+        @DefaultValue("1") double bulkPerSecond,
+        @DefaultValue("5") int bulkBurst
+) {
+
+    double perSecond(OperationClass operation) {
+        return switch (operation) {
+            case READ -> readPerSecond;
+            case WRITE -> writePerSecond;
+            case BULK -> bulkPerSecond;
+        };
+    }
+
+    int burst(OperationClass operation) {
+        return switch (operation) {
+            case READ -> readBurst;
+            case WRITE -> writeBurst;
+            case BULK -> bulkBurst;
+        };
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.todo.filter;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Classe da operação para o {@link RateLimitInterceptor} e para o prazo padrão da requisição. Sem a anotação, {@code GET} e {@code HEAD} contam como
+ * {@link OperationClass#READ} e os demais métodos como {@link OperationClass#WRITE}.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimited {
+
+    OperationClass value();
+}
@@ -0,0 +1,27 @@
+package com.example.todo.filter;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Aplica o {@link RequestDeadlineInterceptor} às operações de {@code /tasks}.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "todo-api.deadline.enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(RequestDeadlineProperties.class)
+public class RequestDeadlineConfiguration implements WebMvcConfigurer {
+
+    private final RequestDeadlineInterceptor interceptor;
+
+    public RequestDeadlineConfiguration(RequestDeadlineProperties properties) {
+        this.interceptor = new RequestDeadlineInterceptor(properties);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(interceptor).addPathPatterns("/tasks", "/tasks/**");
+    }
+}
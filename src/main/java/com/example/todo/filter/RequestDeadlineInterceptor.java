@@ -0,0 +1,57 @@
+package com.example.todo.filter;
+
+import com.example.todo.exception.InvalidRequestException;
+import com.example.todo.service.RequestDeadline;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Duration;
+
+/**
+ * Define o {@link RequestDeadline} da requisição: o prazo pedido pelo cliente no cabeçalho
+ * {@link RequestDeadlineProperties#header()}, limitado a {@link RequestDeadlineProperties#max()}, ou o padrão da
+ * {@link OperationClass} do handler. Registrado pela {@link RequestDeadlineConfiguration}.
+ */
+public class RequestDeadlineInterceptor implements HandlerInterceptor {
+
+    private final RequestDeadlineProperties properties;
+
+    public RequestDeadlineInterceptor(RequestDeadlineProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            RequestDeadline.start(timeoutOf(handlerMethod, request));
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        RequestDeadline.clear();
+    }
+
+    Duration timeoutOf(HandlerMethod handlerMethod, HttpServletRequest request) {
+        String requested = request.getHeader(properties.header());
+        if (requested == null || requested.isBlank()) {
+            return properties.defaultFor(OperationClass.of(handlerMethod, request));
+        }
+        long millis;
+        try {
+            millis = Long.parseLong(requested.strip());
+        } catch (NumberFormatException e) {
+            millis = -1;
+        }
+        if (millis <= 0) {
+            throw new InvalidRequestException("O cabeçalho " + properties.header()
+                    + " deve ser um número positivo de milissegundos");
+        }
+        Duration timeout = Duration.ofMillis(millis);
+        return timeout.compareTo(properties.max()) > 0 ? properties.max() : timeout;
+    }
+}
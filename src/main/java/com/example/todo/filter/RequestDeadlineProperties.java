@@ -0,0 +1,36 @@
+package com.example.todo.filter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Prazo das requisições em {@code /tasks} ({@code todo-api.deadline.*}). O cliente pode informar o próprio prazo
+ * em milissegundos no cabeçalho {@code header}; sem ele vale o padrão da classe da operação.
+ *
+ * @param enabled aplica o prazo; desligado, os comandos no banco não têm tempo limite
+ * @param header  cabeçalho com o prazo do cliente, em milissegundos
+ * @param read    prazo padrão das leituras
+ * @param write   prazo padrão das escritas
+ * @param bulk    prazo padrão das operações em lote
+ * @param max     maior prazo aceito, mesmo que o cliente peça mais
+ */
+@ConfigurationProperties(prefix = "todo-api.deadline")
+public record RequestDeadlineProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("X-Request-Timeout") String header,
+        @DefaultValue("2s") Duration read,
+        @DefaultValue("5s") Duration write,
+        @DefaultValue("10s") Duration bulk,
+        @DefaultValue("30s") Duration max
+) {
+
+    Duration defaultFor(OperationClass operation) {
+        return switch (operation) {
+            case READ -> read;
+            case WRITE -> write;
+            case BULK -> bulk;
+        };
+    }
+}
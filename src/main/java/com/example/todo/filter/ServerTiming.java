@@ -0,0 +1,94 @@
+package com.example.todo.filter;
+
+import java.util.Locale;
+
+/**
+ * Tempos por fase de uma requisição amostrada pelo {@link ServerTimingFilter}, guardados na thread que a atende.
+ * <p>
+ * Entradas aninhadas na mesma fase (um serviço chamando outro, um método default do repositório chamando uma
+ * consulta) contam uma vez. O que roda em outras threads (o lote do {@code TaskLookupBatcher}, por exemplo)
+ * aparece como espera na fase de quem aguardou; a espera por outra chamada no {@code SingleFlight} conta como banco.
+ */
+public final class ServerTiming {
+
+    public enum Phase {
+        CONTROLLER, SERVICE, DATABASE
+    }
+
+    private static final ThreadLocal<ServerTiming> CURRENT = new ThreadLocal<>();
+    private static final int PHASES = Phase.values().length;
+
+    private final long startedAt = System.nanoTime();
+    private final long[] elapsed = new long[PHASES];
+    private final long[] enteredAt = new long[PHASES];
+    private final int[] depth = new int[PHASES];
+    private long handlerStartedAt = -1;
+    private long validation = -1;
+    private long serializationStartedAt = -1;
+
+    private ServerTiming() {
+    }
+
+    /**
+     * Tempos da requisição atual, ou {@code null} quando ela não está sendo medida.
+     */
+    public static ServerTiming current() {
+        return CURRENT.get();
+    }
+
+    static ServerTiming begin() {
+        ServerTiming timing = new ServerTiming();
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    public void enter(Phase phase) {
+        int index = phase.ordinal();
+        if (depth[index]++ == 0) {
+            long now = System.nanoTime();
+            enteredAt[index] = now;
+            // Leitura do corpo, conversão e validação dos argumentos acontecem entre o handler e o controller
+            if (phase == Phase.CONTROLLER && validation < 0 && handlerStartedAt >= 0) {
+                validation = now - handlerStartedAt;
+            }
+        }
+    }
+
+    public void exit(Phase phase) {
+        int index = phase.ordinal();
+        if (--depth[index] == 0) {
+            elapsed[index] += System.nanoTime() - enteredAt[index];
+        }
+    }
+
+    void handlerStarted() {
+        handlerStartedAt = System.nanoTime();
+    }
+
+    void serializationStarted() {
+        serializationStartedAt = System.nanoTime();
+    }
+
+    /**
+     * Valor do cabeçalho {@code Server-Timing}; {@code mapping} é o tempo nos serviços fora do banco.
+     */
+    String header() {
+        long now = System.nanoTime();
+        long database = elapsed[Phase.DATABASE.ordinal()];
+        long mapping = Math.max(0, elapsed[Phase.SERVICE.ordinal()] - database);
+        long serialization = serializationStartedAt < 0 ? 0 : now - serializationStartedAt;
+        return metric("validation", Math.max(0, validation))
+                + ", " + metric("db", database)
+                + ", " + metric("mapping", mapping)
+                + ", " + metric("serialization", serialization)
+                + ", " + metric("total", now - startedAt);
+    }
+
+    private static String metric(String name, long nanos) {
+        return name + ";dur=" + String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0);
+    }
+}
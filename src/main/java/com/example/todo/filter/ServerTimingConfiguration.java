@@ -0,0 +1,94 @@
+package com.example.todo.filter;
+
+import com.example.todo.cache.TaskLookupBatcher;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Service;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Liga as fases do {@link ServerTiming}: controllers, serviços e acesso ao banco (repositórios e o
+ * {@link TaskLookupBatcher}) ganham um interceptador que só mede quando a requisição está sendo medida; fora
+ * disso o custo é uma leitura de {@link ThreadLocal}. Os advisors são de infraestrutura para serem aplicados
+ * pelo mesmo criador de proxies do {@code @Transactional}.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "todo-api.server-timing.enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(ServerTimingProperties.class)
+public class ServerTimingConfiguration implements WebMvcConfigurer {
+
+    @Bean
+    ServerTimingFilter serverTimingFilter(ServerTimingProperties properties) {
+        return new ServerTimingFilter(properties);
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor serverTimingControllerAdvisor() {
+        return new DefaultPointcutAdvisor(new AnnotationMatchingPointcut(RestController.class, true),
+                new PhaseInterceptor(ServerTiming.Phase.CONTROLLER));
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor serverTimingServiceAdvisor() {
+        return new DefaultPointcutAdvisor(new AnnotationMatchingPointcut(Service.class, true),
+                new PhaseInterceptor(ServerTiming.Phase.SERVICE));
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor serverTimingDatabaseAdvisor() {
+        return new DefaultPointcutAdvisor(
+                new ComposablePointcut(type -> Repository.class.isAssignableFrom(type)
+                        || TaskLookupBatcher.class.isAssignableFrom(type)),
+                new PhaseInterceptor(ServerTiming.Phase.DATABASE));
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                ServerTiming timing = ServerTiming.current();
+                if (timing != null) {
+                    timing.handlerStarted();
+                }
+                return true;
+            }
+        });
+    }
+
+    private record PhaseInterceptor(ServerTiming.Phase phase) implements MethodInterceptor {
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            ServerTiming timing = ServerTiming.current();
+            if (timing == null) {
+                return invocation.proceed();
+            }
+            timing.enter(phase);
+            try {
+                return invocation.proceed();
+            } finally {
+                timing.exit(phase);
+            }
+        }
+    }
+}
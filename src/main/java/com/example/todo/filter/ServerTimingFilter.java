@@ -0,0 +1,66 @@
+package com.example.todo.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Mede as fases das requisições de {@code /tasks} sorteadas por {@link ServerTimingProperties#sampleRate()} ou,
+ * com {@link ServerTimingProperties#allowRequestHeader()}, pedidas com {@value #REQUEST_HEADER}{@code : true}, e
+ * responde com o cabeçalho {@value #RESPONSE_HEADER}.
+ * <p>
+ * Como a serialização acontece depois de o controller retornar, o corpo das requisições medidas fica em memória
+ * até o fim para o cabeçalho ainda poder ser enviado. As demais seguem sem buffer e sem {@link ServerTiming}.
+ * Registrado pela {@link ServerTimingConfiguration}.
+ */
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    public static final String REQUEST_HEADER = "X-Server-Timing";
+    public static final String RESPONSE_HEADER = "Server-Timing";
+
+    private static final String TIMED_PATH = "/tasks";
+
+    private final ServerTimingProperties properties;
+
+    public ServerTimingFilter(ServerTimingProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !(path.equals(TIMED_PATH) || path.startsWith(TIMED_PATH + "/"));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!sampled(request)) {
+            chain.doFilter(request, response);
+            return;
+        }
+        ServerTiming timing = ServerTiming.begin();
+        ContentCachingResponseWrapper buffered = new ContentCachingResponseWrapper(response);
+        try {
+            chain.doFilter(request, buffered);
+            buffered.setHeader(RESPONSE_HEADER, timing.header());
+        } finally {
+            ServerTiming.end();
+            buffered.copyBodyToResponse();
+        }
+    }
+
+    private boolean sampled(HttpServletRequest request) {
+        if (properties.allowRequestHeader() && "true".equalsIgnoreCase(request.getHeader(REQUEST_HEADER))) {
+            return true;
+        }
+        double sampleRate = properties.sampleRate();
+        return sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+}
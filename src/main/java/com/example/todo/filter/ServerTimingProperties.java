@@ -0,0 +1,21 @@
+package com.example.todo.filter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Cabeçalho {@code Server-Timing} com o tempo de cada fase ({@code todo-api.server-timing.*}).
+ *
+ * @param enabled            instala a medição; desligado, nenhum proxy ou filtro é registrado
+ * @param sampleRate         fração das requisições medidas sem pedir (0 a 1)
+ * @param allowRequestHeader atende o cabeçalho {@value ServerTimingFilter#REQUEST_HEADER}{@code : true} de
+ *                           qualquer cliente; desligado, só a amostragem mede, para que clientes não forcem o
+ *                           buffer do corpo nem vejam os tempos internos quando quiserem
+ */
+@ConfigurationProperties(prefix = "todo-api.server-timing")
+public record ServerTimingProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("0") double sampleRate,
+        @DefaultValue("false") boolean allowRequestHeader
+) {
+}
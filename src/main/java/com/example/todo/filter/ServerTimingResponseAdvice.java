@@ -0,0 +1,34 @@
+package com.example.todo.filter;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Marca o início da serialização do corpo: daqui até o fim do {@link ServerTimingFilter} o tempo é do conversor.
+ */
+@RestControllerAdvice
+@ConditionalOnProperty(name = "todo-api.server-timing.enabled", havingValue = "true", matchIfMissing = true)
+public class ServerTimingResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        ServerTiming timing = ServerTiming.current();
+        if (timing != null) {
+            timing.serializationStarted();
+        }
+        return body;
+    }
+}
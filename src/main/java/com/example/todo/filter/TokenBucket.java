@@ -0,0 +1,59 @@
+package com.example.todo.filter;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Balde de tokens sem lock, na forma de GCRA: todo o estado é o instante teórico ({@code tat}) em que o balde
+ * estaria cheio de novo, atualizado com um único compare-and-set. Consumir um token adianta o {@code tat} em um
+ * intervalo; o pedido é recusado se isso deixaria o {@code tat} mais de {@code burst} intervalos à frente de agora.
+ */
+final class TokenBucket {
+
+    private final long interval;
+    private final long tolerance;
+    private final int burst;
+    private final AtomicLong tat;
+
+    TokenBucket(double perSecond, int burst, long now) {
+        this.interval = Math.max(1, (long) (1_000_000_000L / perSecond));
+        this.burst = Math.max(1, burst);
+        this.tolerance = this.burst * interval;
+        this.tat = new AtomicLong(now);
+    }
+
+    boolean tryAcquire(long now) {
+        while (true) {
+            long current = tat.get();
+            long next = Math.max(current, now) + interval;
+            if (next - now > tolerance) {
+                return false;
+            }
+            if (tat.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    int capacity() {
+        return burst;
+    }
+
+    int remaining(long now) {
+        long backlog = Math.max(0, tat.get() - now);
+        return (int) Math.max(0, (tolerance - backlog) / interval);
+    }
+
+    /**
+     * Tempo até o balde voltar a ficar cheio.
+     */
+    long nanosUntilFull(long now) {
+        return Math.max(0, tat.get() - now);
+    }
+
+    /**
+     * Tempo até o próximo token.
+     */
+    long nanosUntilAvailable(long now) {
+        return Math.max(0, tat.get() + interval - tolerance - now);
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.todo.index;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Última versão ({@code @Version}) de cada tarefa aplicada a um índice. Os listeners rodam depois do commit, na
+ * thread de cada requisição: duas escritas seguidas da mesma tarefa podem chegar fora de ordem, e a mais antiga
+ * não pode sobrescrever a mais nova. A versão fica registrada mesmo quando a tarefa sai do índice por status.
+ * <p>
+ * Sem sincronização própria: é usada sob o lock de escrita do índice.
+ */
+final class AppliedVersions {
+
+    private final Map<Long, Long> versions = new HashMap<>();
+
+    /**
+     * Registra {@code version} e indica se a escrita deve ser aplicada: {@code false} quando o índice já tem uma
+     * versão mais nova da tarefa. A mesma versão é aplicada de novo (a recarga pode repetir uma escrita).
+     */
+    boolean advance(long taskId, long version) {
+        Long applied = versions.get(taskId);
+        if (applied != null && applied > version) {
+            return false;
+        }
+        versions.put(taskId, version);
+        return true;
+    }
+
+    void remove(long taskId) {
+        versions.remove(taskId);
+    }
+
+    void clear() {
+        versions.clear();
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.todo.index;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Detecção de tarefas quase duplicadas na criação ({@code todo-api.duplicates.*}).
+ * <p>
+ * A similaridade é o Jaccard estimado entre os trigramas de título + descrição. {@code bands} e {@code rows}
+ * definem a partir de que similaridade duas tarefas costumam cair no mesmo bucket, por volta de
+ * {@code (1 / bands) ^ (1 / rows)}; {@code threshold} é o corte final.
+ *
+ * @param enabled    mantém o índice e confere duplicatas em {@code create}
+ * @param reject     recusa a criação (409) em vez de só devolver as prováveis duplicatas
+ * @param threshold  similaridade mínima (0 a 1) para considerar duplicata
+ * @param bands      bandas do LSH; mais bandas encontram pares menos parecidos
+ * @param rows       linhas por banda; mais linhas exigem pares mais parecidos
+ * @param maxResults duplicatas devolvidas por criação
+ */
+@ConfigurationProperties(prefix = "todo-api.duplicates")
+public record DuplicateDetectionProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("false") boolean reject,
+        @DefaultValue("0.8") double threshold,
+        @DefaultValue("16") int bands,
+        @DefaultValue("4") int rows,
+        @DefaultValue("5") int maxResults
+) {
+}
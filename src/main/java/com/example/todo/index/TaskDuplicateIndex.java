@@ -0,0 +1,277 @@
+package com.example.todo.index;
+
+import com.example.todo.model.Task;
+import com.example.todo.service.TaskChangeListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Assinaturas MinHash dos trigramas de título + descrição, distribuídas em buckets LSH, para achar tarefas quase
+ * duplicadas sem varrer o banco.
+ * <p>
+ * Título e descrição têm tamanho limitado, então calcular a assinatura custa sempre o mesmo; cada bucket guarda no
+ * máximo {@value #MAX_BUCKET_SIZE} tarefas (as mais recentes), o que limita também a conferência dos candidatos.
+ * Desligado por {@link DuplicateDetectionProperties#enabled()}, não guarda nada.
+ */
+@Component
+public class TaskDuplicateIndex implements TaskChangeListener {
+
+    static final int MAX_BUCKET_SIZE = 32;
+
+    private static final long[] EMPTY = new long[0];
+
+    private final DuplicateDetectionProperties properties;
+    private final int bands;
+    private final int rows;
+    private final long[] seeds;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, int[]> signatures = new HashMap<>();
+    private final Map<Long, long[]> buckets = new HashMap<>();
+    private final AppliedVersions versions = new AppliedVersions();
+
+    /**
+     * Tarefa parecida e a similaridade estimada (0 a 1).
+     */
+    public record Match(long id, double similarity) {
+    }
+
+    public TaskDuplicateIndex(DuplicateDetectionProperties properties) {
+        this.properties = properties;
+        this.bands = Math.max(1, properties.bands());
+        this.rows = Math.max(1, properties.rows());
+        this.seeds = new long[bands * rows];
+        for (int i = 0; i < seeds.length; i++) {
+            seeds[i] = mix(0x9E3779B97F4A7C15L * (i + 1));
+        }
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    /**
+     * Se prováveis duplicatas devem impedir a criação em vez de apenas serem informadas.
+     */
+    public boolean rejectsDuplicates() {
+        return properties.enabled() && properties.reject();
+    }
+
+    @Override
+    public void onReloadStart() {
+        if (!isEnabled()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            signatures.clear();
+            buckets.clear();
+            versions.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // As páginas vêm em ordem de id: os buckets cheios ficam com as tarefas mais recentes
+    @Override
+    public void onReloadPage(List<Task> tasks) {
+        tasks.forEach(this::onSaved);
+    }
+
+    @Override
+    public void onSaved(Task task) {
+        if (!isEnabled()) {
+            return;
+        }
+        int[] signature = signature(task.getTitle(), task.getDescription());
+        lock.writeLock().lock();
+        try {
+            if (!versions.advance(task.getId(), task.getVersion())) {
+                return;
+            }
+            remove(task.getId());
+            put(task.getId(), signature);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onDeleted(long taskId) {
+        if (!isEnabled()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            versions.remove(taskId);
+            remove(taskId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Tarefas com similaridade de pelo menos {@link DuplicateDetectionProperties#threshold()}, da mais parecida
+     * para a menos parecida, limitadas a {@link DuplicateDetectionProperties#maxResults()}.
+     */
+    public List<Match> findDuplicates(String title, String description) {
+        if (!isEnabled()) {
+            return List.of();
+        }
+        int[] signature = signature(title, description);
+        List<Match> matches = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            Set<Long> seen = new HashSet<>();
+            for (int band = 0; band < bands; band++) {
+                for (long candidate : buckets.getOrDefault(bandKey(signature, band), EMPTY)) {
+                    if (!seen.add(candidate)) {
+                        continue;
+                    }
+                    double similarity = similarity(signature, signatures.get(candidate));
+                    if (similarity >= properties.threshold()) {
+                        matches.add(new Match(candidate, similarity));
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        matches.sort(Comparator.comparingDouble(Match::similarity).reversed().thenComparing(Match::id, Comparator.reverseOrder()));
+        return matches.size() > properties.maxResults() ? matches.subList(0, properties.maxResults()) : matches;
+    }
+
+    private void put(long id, int[] signature) {
+        signatures.put(id, signature);
+        for (int band = 0; band < bands; band++) {
+            long key = bandKey(signature, band);
+            long[] bucket = buckets.getOrDefault(key, EMPTY);
+            if (bucket.length == MAX_BUCKET_SIZE) {
+                // Bucket cheio (muitas cópias da mesma tarefa): sai a mais antiga
+                long evicted = bucket[0];
+                System.arraycopy(bucket, 1, bucket, 0, bucket.length - 1);
+                bucket[bucket.length - 1] = id;
+                forgetIfUnreferenced(evicted);
+            } else {
+                long[] grown = Arrays.copyOf(bucket, bucket.length + 1);
+                grown[bucket.length] = id;
+                buckets.put(key, grown);
+            }
+        }
+    }
+
+    private void remove(long id) {
+        int[] signature = signatures.remove(id);
+        if (signature == null) {
+            return;
+        }
+        for (int band = 0; band < bands; band++) {
+            long key = bandKey(signature, band);
+            long[] bucket = buckets.get(key);
+            if (bucket == null) {
+                continue;
+            }
+            int index = indexOf(bucket, id);
+            if (index < 0) {
+                continue;
+            }
+            if (bucket.length == 1) {
+                buckets.remove(key);
+            } else {
+                long[] shrunk = new long[bucket.length - 1];
+                System.arraycopy(bucket, 0, shrunk, 0, index);
+                System.arraycopy(bucket, index + 1, shrunk, index, shrunk.length - index);
+                buckets.put(key, shrunk);
+            }
+        }
+    }
+
+    // Uma tarefa expulsa de todos os seus buckets não pode mais ser encontrada: a assinatura só ocuparia memória
+    private void forgetIfUnreferenced(long id) {
+        int[] signature = signatures.get(id);
+        if (signature == null) {
+            return;
+        }
+        for (int band = 0; band < bands; band++) {
+            long[] bucket = buckets.get(bandKey(signature, band));
+            if (bucket != null && indexOf(bucket, id) >= 0) {
+                return;
+            }
+        }
+        signatures.remove(id);
+    }
+
+    int[] signature(String title, String description) {
+        String text = normalize(title) + ' ' + normalize(description);
+        int[] signature = new int[seeds.length];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        int shingles = Math.max(1, text.length() - 2);
+        for (int start = 0; start < shingles; start++) {
+            long shingle = 0;
+            for (int i = start; i < Math.min(start + 3, text.length()); i++) {
+                shingle = (shingle << 16) | text.charAt(i);
+            }
+            long base = mix(shingle);
+            for (int i = 0; i < seeds.length; i++) {
+                int hash = (int) (mix(base ^ seeds[i]) >>> 33);
+                if (hash < signature[i]) {
+                    signature[i] = hash;
+                }
+            }
+        }
+        return signature;
+    }
+
+    private long bandKey(int[] signature, int band) {
+        long key = band;
+        for (int row = band * rows; row < (band + 1) * rows; row++) {
+            key = key * 0x100000001B3L + signature[row];
+        }
+        return mix(key);
+    }
+
+    private static double similarity(int[] a, int[] b) {
+        int equal = 0;
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] == b[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / a.length;
+    }
+
+    private static int indexOf(long[] values, long value) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // Caixa baixa e espaços colapsados: "Comprar  Pão" e "comprar pão" geram os mesmos trigramas
+    private static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    // Finalizador do SplitMix64
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+}
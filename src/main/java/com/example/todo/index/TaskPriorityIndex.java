@@ -0,0 +1,228 @@
+package com.example.todo.index;
+
+import com.example.todo.model.Task;
+import com.example.todo.model.enums.TaskPriority;
+import com.example.todo.model.enums.TaskStatus;
+import com.example.todo.service.TaskChangeListener;
+import org.springframework.stereotype.Component;
+
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Heap binário indexado (min-heap) das tarefas pendentes, ordenado pela próxima a ser feita:
+ * menor dueAt primeiro (sem data por último), depois maior prioridade, depois menor id.
+ * <p>
+ * Inserção, alteração e remoção custam O(log n). {@link #next(int)} percorre o heap a partir da raiz
+ * com uma fila de fronteira, então os N primeiros custam O(N log N) sem alterar o heap.
+ * Tarefas concluídas não ficam no índice.
+ */
+@Component
+public class TaskPriorityIndex implements TaskChangeListener {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> positions = new HashMap<>();
+    private final AppliedVersions versions = new AppliedVersions();
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private long[] dueKeys = new long[INITIAL_CAPACITY];
+    private int[] priorityKeys = new int[INITIAL_CAPACITY];
+    private int size;
+
+    @Override
+    public void onReloadStart() {
+        lock.writeLock().lock();
+        try {
+            positions.clear();
+            versions.clear();
+            size = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Inserção com sift a cada tarefa: escritas chegam entre as páginas e o heap tem de valer o tempo todo
+    @Override
+    public void onReloadPage(List<Task> tasks) {
+        lock.writeLock().lock();
+        try {
+            tasks.forEach(this::onSaved);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onSaved(Task task) {
+        lock.writeLock().lock();
+        try {
+            if (!versions.advance(task.getId(), task.getVersion())) {
+                return;
+            }
+            if (!isIndexable(task)) {
+                removeFromHeap(task.getId());
+                return;
+            }
+            Integer position = positions.get(task.getId());
+            if (position == null) {
+                ensureCapacity(size + 1);
+                set(size, task.getId(), dueKey(task), priorityKey(task));
+                siftUp(size++);
+            } else {
+                set(position, task.getId(), dueKey(task), priorityKey(task));
+                siftUp(position);
+                siftDown(positions.get(task.getId()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onDeleted(long taskId) {
+        lock.writeLock().lock();
+        try {
+            versions.remove(taskId);
+            removeFromHeap(taskId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ids das próximas {@code limit} tarefas pendentes, em ordem.
+     */
+    public long[] next(int limit) {
+        lock.readLock().lock();
+        try {
+            int count = Math.min(limit, size);
+            long[] result = new long[count];
+            if (count == 0) {
+                return result;
+            }
+            PriorityQueue<Integer> frontier = new PriorityQueue<>(Math.min(2 * count + 1, size), this::compare);
+            frontier.add(0);
+            for (int i = 0; i < count; i++) {
+                int node = frontier.poll();
+                result[i] = ids[node];
+                int left = 2 * node + 1;
+                if (left < size) {
+                    frontier.add(left);
+                }
+                if (left + 1 < size) {
+                    frontier.add(left + 1);
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeFromHeap(long taskId) {
+        Integer position = positions.remove(taskId);
+        if (position == null) {
+            return;
+        }
+        int last = --size;
+        if (position != last) {
+            long movedId = ids[last];
+            set(position, movedId, dueKeys[last], priorityKeys[last]);
+            siftUp(position);
+            siftDown(positions.get(movedId));
+        }
+    }
+
+    private static boolean isIndexable(Task task) {
+        return task.getStatus() != TaskStatus.COMPLETED;
+    }
+
+    private static long dueKey(Task task) {
+        return task.getDueAt() == null ? Long.MAX_VALUE : task.getDueAt().toEpochSecond(ZoneOffset.UTC);
+    }
+
+    // maior prioridade deve vir primeiro no min-heap
+    private static int priorityKey(Task task) {
+        TaskPriority priority = task.getPriority() == null ? TaskPriority.MEDIUM : task.getPriority();
+        return -priority.ordinal();
+    }
+
+    private int compare(int a, int b) {
+        int byDue = Long.compare(dueKeys[a], dueKeys[b]);
+        if (byDue != 0) {
+            return byDue;
+        }
+        int byPriority = Integer.compare(priorityKeys[a], priorityKeys[b]);
+        return byPriority != 0 ? byPriority : Long.compare(ids[a], ids[b]);
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (compare(index, parent) >= 0) {
+                return;
+            }
+            swap(index, parent);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        while (true) {
+            int smallest = index;
+            int left = 2 * index + 1;
+            if (left < size && compare(left, smallest) < 0) {
+                smallest = left;
+            }
+            if (left + 1 < size && compare(left + 1, smallest) < 0) {
+                smallest = left + 1;
+            }
+            if (smallest == index) {
+                return;
+            }
+            swap(index, smallest);
+            index = smallest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        long id = ids[a];
+        long due = dueKeys[a];
+        int priority = priorityKeys[a];
+        set(a, ids[b], dueKeys[b], priorityKeys[b]);
+        set(b, id, due, priority);
+    }
+
+    private void set(int index, long id, long dueKey, int priorityKey) {
+        ids[index] = id;
+        dueKeys[index] = dueKey;
+        priorityKeys[index] = priorityKey;
+        positions.put(id, index);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > ids.length) {
+            int newLength = Math.max(capacity, ids.length * 2);
+            ids = Arrays.copyOf(ids, newLength);
+            dueKeys = Arrays.copyOf(dueKeys, newLength);
+            priorityKeys = Arrays.copyOf(priorityKeys, newLength);
+        }
+    }
+}
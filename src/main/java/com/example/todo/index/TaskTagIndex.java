@@ -0,0 +1,207 @@
+package com.example.todo.index;
+
+import com.example.todo.model.Task;
+import com.example.todo.model.enums.TaskStatus;
+import com.example.todo.service.TaskChangeListener;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice de bitmaps comprimidos (Roaring) por tag e por {@link TaskStatus}.
+ * <p>
+ * Cada tarefa recebe um ordinal denso; os filtros (todas as tags, alguma das tags, nenhuma das tags, status)
+ * viram interseções/uniões/diferenças de bitmaps. Ordinais são atribuídos em ordem de inserção
+ * (na recarga, em ordem de id) e não são reaproveitados: os resultados saem na ordem de criação.
+ */
+@Component
+public class TaskTagIndex implements TaskChangeListener {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private final Map<String, RoaringBitmap> byTag = new HashMap<>();
+    private final Map<TaskStatus, RoaringBitmap> byStatus = new EnumMap<>(TaskStatus.class);
+    private final Map<Integer, String[]> tagsByOrdinal = new HashMap<>();
+    private final RoaringBitmap all = new RoaringBitmap();
+    private final AppliedVersions versions = new AppliedVersions();
+
+    private long[] idsByOrdinal = new long[64];
+    private int nextOrdinal;
+
+    /**
+     * Filtro booleano sobre tags e status. Coleções vazias (ou status nulo) não restringem o resultado.
+     */
+    public record Query(Set<String> allOf, Set<String> anyOf, Set<String> noneOf, TaskStatus status) {
+    }
+
+    /**
+     * Ids da página pedida, em ordem de criação, e o total de tarefas que atendem ao filtro.
+     */
+    public record Result(long[] ids, long total) {
+    }
+
+    @Override
+    public void onReloadStart() {
+        lock.writeLock().lock();
+        try {
+            ordinals.clear();
+            byTag.clear();
+            byStatus.clear();
+            tagsByOrdinal.clear();
+            all.clear();
+            versions.clear();
+            idsByOrdinal = new long[64];
+            nextOrdinal = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onReloadPage(List<Task> tasks) {
+        lock.writeLock().lock();
+        try {
+            tasks.forEach(this::onSaved);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onReloadEnd() {
+        lock.writeLock().lock();
+        try {
+            byTag.values().forEach(RoaringBitmap::runOptimize);
+            byStatus.values().forEach(RoaringBitmap::runOptimize);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onSaved(Task task) {
+        lock.writeLock().lock();
+        try {
+            if (versions.advance(task.getId(), task.getVersion())) {
+                put(task);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onDeleted(long taskId) {
+        lock.writeLock().lock();
+        try {
+            versions.remove(taskId);
+            Integer ordinal = ordinals.remove(taskId);
+            if (ordinal != null) {
+                clear(ordinal);
+                all.remove(ordinal);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Result search(Query query, int page, int size) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap matches = evaluate(query);
+            long total = matches.getLongCardinality();
+            long offset = (long) page * size;
+            if (offset >= total) {
+                return new Result(new long[0], total);
+            }
+            long[] ids = new long[(int) Math.min(size, total - offset)];
+            PeekableIntIterator iterator = matches.getIntIterator();
+            iterator.advanceIfNeeded(matches.select((int) offset));
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = idsByOrdinal[iterator.next()];
+            }
+            return new Result(ids, total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private RoaringBitmap evaluate(Query query) {
+        RoaringBitmap result = query.status() == null
+                ? all.clone()
+                : bitmapOrEmpty(byStatus.get(query.status())).clone();
+        if (query.allOf() != null) {
+            for (String tag : query.allOf()) {
+                result.and(bitmapOrEmpty(byTag.get(tag)));
+            }
+        }
+        if (query.anyOf() != null && !query.anyOf().isEmpty()) {
+            RoaringBitmap any = new RoaringBitmap();
+            for (String tag : query.anyOf()) {
+                any.or(bitmapOrEmpty(byTag.get(tag)));
+            }
+            result.and(any);
+        }
+        if (query.noneOf() != null) {
+            for (String tag : query.noneOf()) {
+                result.andNot(bitmapOrEmpty(byTag.get(tag)));
+            }
+        }
+        return result;
+    }
+
+    private void put(Task task) {
+        Integer ordinal = ordinals.get(task.getId());
+        if (ordinal == null) {
+            ordinal = nextOrdinal++;
+            if (ordinal == idsByOrdinal.length) {
+                idsByOrdinal = Arrays.copyOf(idsByOrdinal, idsByOrdinal.length * 2);
+            }
+            idsByOrdinal[ordinal] = task.getId();
+            ordinals.put(task.getId(), ordinal);
+            all.add(ordinal);
+        } else {
+            clear(ordinal);
+        }
+        if (task.getStatus() != null) {
+            byStatus.computeIfAbsent(task.getStatus(), status -> new RoaringBitmap()).add(ordinal);
+        }
+        Collection<String> tags = task.getTags();
+        if (!tags.isEmpty()) {
+            String[] copy = tags.toArray(new String[0]);
+            for (String tag : copy) {
+                byTag.computeIfAbsent(tag, key -> new RoaringBitmap()).add(ordinal);
+            }
+            tagsByOrdinal.put(ordinal, copy);
+        }
+    }
+
+    private void clear(int ordinal) {
+        byStatus.values().forEach(bitmap -> bitmap.remove(ordinal));
+        String[] tags = tagsByOrdinal.remove(ordinal);
+        if (tags != null) {
+            for (String tag : tags) {
+                RoaringBitmap bitmap = byTag.get(tag);
+                bitmap.remove(ordinal);
+                if (bitmap.isEmpty()) {
+                    byTag.remove(tag);
+                }
+            }
+        }
+    }
+
+    private static RoaringBitmap bitmapOrEmpty(RoaringBitmap bitmap) {
+        return bitmap == null ? new RoaringBitmap() : bitmap;
+    }
+}
@@ -0,0 +1,408 @@
+package com.example.todo.index;
+
+import com.example.todo.model.Task;
+import com.example.todo.service.TaskChangeListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Árvore radix (trie compactada) dos títulos normalizados, para sugestões por prefixo ordenadas por recência.
+ * <p>
+ * Cada gravação recebe um carimbo crescente (na recarga, em ordem de id, que é a de criação); cada nó guarda os
+ * {@value #MAX_SUGGESTIONS} maiores carimbos da sua subárvore. Uma consulta custa O(tamanho do prefixo + limite),
+ * independente da quantidade de títulos; inserir custa O(profundidade × {@value #MAX_SUGGESTIONS}) e remover
+ * recalcula apenas os nós em que a tarefa estava entre as mais recentes.
+ */
+@Component
+public class TaskTitleTrie implements TaskChangeListener {
+
+    public static final int MAX_SUGGESTIONS = 20;
+
+    private static final char[] NO_CHARS = new char[0];
+    private static final int[] NO_STAMPS = new int[0];
+    private static final Node[] NO_NODES = new Node[0];
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final AppliedVersions versions = new AppliedVersions();
+
+    private Node root = new Node(NO_CHARS);
+    private long[] idsByStamp = new long[64];
+    private String[] titlesByStamp = new String[64];
+    private int nextStamp;
+
+    /**
+     * Tarefa sugerida: id e título como foi gravado.
+     */
+    public record Suggestion(long id, String title) {
+    }
+
+    private record Entry(String key, int stamp) {
+    }
+
+    @Override
+    public void onReloadStart() {
+        lock.writeLock().lock();
+        try {
+            reset(0);
+            versions.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Os ids crescem com a criação: a ordem das páginas é a ordem de criação
+    @Override
+    public void onReloadPage(List<Task> tasks) {
+        lock.writeLock().lock();
+        try {
+            for (Task task : tasks) {
+                if (versions.advance(task.getId(), task.getVersion())) {
+                    remove(task.getId());
+                    put(task.getId(), task.getTitle());
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onSaved(Task task) {
+        lock.writeLock().lock();
+        try {
+            if (!versions.advance(task.getId(), task.getVersion())) {
+                return;
+            }
+            remove(task.getId());
+            put(task.getId(), task.getTitle());
+            if (nextStamp == Integer.MAX_VALUE || nextStamp > 1024 && entries.size() < nextStamp / 4) {
+                compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onDeleted(long taskId) {
+        lock.writeLock().lock();
+        try {
+            versions.remove(taskId);
+            remove(taskId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Até {@code limit} tarefas cujo título normalizado começa com {@code prefix}, das gravadas mais
+     * recentemente para as mais antigas.
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        // Só o início é aparado: o espaço final distingue "compra " de "comprar"
+        char[] key = prefix.stripLeading().toLowerCase(Locale.ROOT).toCharArray();
+        lock.readLock().lock();
+        try {
+            Node node = find(key);
+            if (node == null) {
+                return List.of();
+            }
+            int count = Math.min(Math.min(limit, MAX_SUGGESTIONS), node.top.length);
+            List<Suggestion> result = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                int stamp = node.top[i];
+                result.add(new Suggestion(idsByStamp[stamp], titlesByStamp[stamp]));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void reset(int capacity) {
+        entries.clear();
+        root = new Node(NO_CHARS);
+        idsByStamp = new long[Math.max(64, capacity)];
+        titlesByStamp = new String[Math.max(64, capacity)];
+        nextStamp = 0;
+    }
+
+    // Reatribui os carimbos em ordem, descartando os de tarefas alteradas ou removidas
+    private void compact() {
+        long[] ids = idsByStamp;
+        String[] titles = titlesByStamp;
+        int[] live = entries.values().stream().mapToInt(Entry::stamp).sorted().toArray();
+        reset(live.length);
+        for (int stamp : live) {
+            put(ids[stamp], titles[stamp]);
+        }
+    }
+
+    private void put(long id, String title) {
+        if (title == null) {
+            return;
+        }
+        String key = Task.normalizeTitle(title);
+        int stamp = nextStamp++;
+        if (stamp == idsByStamp.length) {
+            idsByStamp = Arrays.copyOf(idsByStamp, stamp * 2);
+            titlesByStamp = Arrays.copyOf(titlesByStamp, stamp * 2);
+        }
+        idsByStamp[stamp] = id;
+        titlesByStamp[stamp] = title;
+        entries.put(id, new Entry(key, stamp));
+
+        char[] chars = key.toCharArray();
+        Node node = root;
+        node.offer(stamp);
+        int position = 0;
+        while (position < chars.length) {
+            int slot = node.slotOf(chars[position]);
+            if (slot < 0) {
+                Node leaf = new Node(Arrays.copyOfRange(chars, position, chars.length));
+                leaf.offer(stamp);
+                node.addChild(-slot - 1, leaf);
+                node = leaf;
+                position = chars.length;
+                break;
+            }
+            Node child = node.children[slot];
+            int common = commonPrefix(child.label, chars, position);
+            if (common < child.label.length) {
+                child = node.split(slot, common);
+            }
+            child.offer(stamp);
+            node = child;
+            position += common;
+        }
+        node.stamps = append(node.stamps, stamp);
+    }
+
+    private void remove(long id) {
+        Entry entry = entries.remove(id);
+        if (entry == null) {
+            return;
+        }
+        int stamp = entry.stamp();
+        titlesByStamp[stamp] = null;
+
+        char[] chars = entry.key().toCharArray();
+        List<Node> path = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+        Node node = root;
+        int position = 0;
+        while (position < chars.length) {
+            int slot = node.slotOf(chars[position]);
+            path.add(node);
+            slots.add(slot);
+            node = node.children[slot];
+            position += node.label.length;
+        }
+        node.stamps = without(node.stamps, stamp);
+
+        // De baixo para cima: onde a tarefa não estava entre as mais recentes, os ancestrais também não estão
+        for (int i = path.size(); i >= 0; i--) {
+            Node current = i == path.size() ? node : path.get(i);
+            if (!current.removeFromTop(stamp)) {
+                break;
+            }
+        }
+        // Nó sem títulos próprios e com um só filho (ou nenhum) deixa de existir; o pai pode ficar na mesma situação
+        int parent = path.size() - 1;
+        if (parent >= 0 && node.stamps.length == 0 && node.children.length <= 1) {
+            path.get(parent).collapse(slots.get(parent));
+            Node parentNode = path.get(parent);
+            if (parent >= 1 && parentNode.stamps.length == 0 && parentNode.children.length == 1) {
+                path.get(parent - 1).collapse(slots.get(parent - 1));
+            }
+        }
+    }
+
+    private Node find(char[] key) {
+        Node node = root;
+        int position = 0;
+        while (position < key.length) {
+            int slot = node.slotOf(key[position]);
+            if (slot < 0) {
+                return null;
+            }
+            Node child = node.children[slot];
+            int common = commonPrefix(child.label, key, position);
+            if (position + common == key.length) {
+                return child;
+            }
+            if (common < child.label.length) {
+                return null;
+            }
+            node = child;
+            position += common;
+        }
+        return node;
+    }
+
+    private static int commonPrefix(char[] label, char[] key, int offset) {
+        int max = Math.min(label.length, key.length - offset);
+        int i = 0;
+        while (i < max && label[i] == key[offset + i]) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int[] append(int[] stamps, int stamp) {
+        int[] result = Arrays.copyOf(stamps, stamps.length + 1);
+        result[stamps.length] = stamp;
+        return result;
+    }
+
+    // Carimbos crescentes: busca binária e cópia sem o elemento
+    private static int[] without(int[] stamps, int stamp) {
+        int index = Arrays.binarySearch(stamps, stamp);
+        if (index < 0) {
+            return stamps;
+        }
+        int[] result = new int[stamps.length - 1];
+        System.arraycopy(stamps, 0, result, 0, index);
+        System.arraycopy(stamps, index + 1, result, index, result.length - index);
+        return result;
+    }
+
+    private static final class Node {
+
+        private char[] label;
+        // primeiro caractere de cada filho, ordenado, para busca binária
+        private char[] firsts = NO_CHARS;
+        private Node[] children = NO_NODES;
+        // tarefas cujo título termina neste nó, em ordem crescente de carimbo
+        private int[] stamps = NO_STAMPS;
+        // até MAX_SUGGESTIONS maiores carimbos da subárvore, em ordem decrescente
+        private int[] top = NO_STAMPS;
+
+        private Node(char[] label) {
+            this.label = label;
+        }
+
+        private int slotOf(char first) {
+            return Arrays.binarySearch(firsts, first);
+        }
+
+        private void addChild(int slot, Node child) {
+            char[] newFirsts = new char[firsts.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(firsts, 0, newFirsts, 0, slot);
+            System.arraycopy(children, 0, newChildren, 0, slot);
+            newFirsts[slot] = child.label[0];
+            newChildren[slot] = child;
+            System.arraycopy(firsts, slot, newFirsts, slot + 1, firsts.length - slot);
+            System.arraycopy(children, slot, newChildren, slot + 1, children.length - slot);
+            firsts = newFirsts;
+            children = newChildren;
+        }
+
+        private void removeChild(int slot) {
+            char[] newFirsts = new char[firsts.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(firsts, 0, newFirsts, 0, slot);
+            System.arraycopy(children, 0, newChildren, 0, slot);
+            System.arraycopy(firsts, slot + 1, newFirsts, slot, newFirsts.length - slot);
+            System.arraycopy(children, slot + 1, newChildren, slot, newChildren.length - slot);
+            firsts = newFirsts;
+            children = newChildren;
+        }
+
+        // Quebra a aresta do filho em `slot` após `length` caracteres; o nó intermediário herda a subárvore inteira
+        private Node split(int slot, int length) {
+            Node child = children[slot];
+            Node middle = new Node(Arrays.copyOf(child.label, length));
+            middle.top = child.top.clone();
+            child.label = Arrays.copyOfRange(child.label, length, child.label.length);
+            middle.firsts = new char[]{child.label[0]};
+            middle.children = new Node[]{child};
+            children[slot] = middle;
+            return middle;
+        }
+
+        // Filho em `slot` sem títulos próprios: some se não tiver filhos, ou é fundido ao único filho
+        private void collapse(int slot) {
+            Node child = children[slot];
+            if (child.children.length == 0) {
+                removeChild(slot);
+            } else {
+                Node grandchild = child.children[0];
+                char[] merged = Arrays.copyOf(child.label, child.label.length + grandchild.label.length);
+                System.arraycopy(grandchild.label, 0, merged, child.label.length, grandchild.label.length);
+                grandchild.label = merged;
+                children[slot] = grandchild;
+            }
+        }
+
+        // Carimbos novos são sempre os maiores: entram na frente
+        private void offer(int stamp) {
+            if (top.length == MAX_SUGGESTIONS) {
+                System.arraycopy(top, 0, top, 1, MAX_SUGGESTIONS - 1);
+                top[0] = stamp;
+                return;
+            }
+            int length = top.length + 1;
+            int[] newTop = new int[length];
+            newTop[0] = stamp;
+            System.arraycopy(top, 0, newTop, 1, length - 1);
+            top = newTop;
+        }
+
+        /**
+         * Tira o carimbo do top, recalculando a partir dos filhos; retorna falso se ele não estava lá.
+         */
+        private boolean removeFromTop(int stamp) {
+            boolean present = false;
+            for (int value : top) {
+                if (value == stamp) {
+                    present = true;
+                    break;
+                }
+            }
+            if (!present) {
+                return false;
+            }
+            int candidates = Math.min(stamps.length, MAX_SUGGESTIONS);
+            for (Node child : children) {
+                candidates += child.top.length;
+            }
+            int[] merged = new int[candidates];
+            int size = 0;
+            for (int i = stamps.length - 1; i >= 0 && size < MAX_SUGGESTIONS; i--) {
+                merged[size++] = stamps[i];
+            }
+            for (Node child : children) {
+                System.arraycopy(child.top, 0, merged, size, child.top.length);
+                size += child.top.length;
+            }
+            Arrays.sort(merged);
+            int length = Math.min(size, MAX_SUGGESTIONS);
+            int[] newTop = new int[length];
+            for (int i = 0; i < length; i++) {
+                newTop[i] = merged[size - 1 - i];
+            }
+            top = newTop;
+            return true;
+        }
+    }
+}
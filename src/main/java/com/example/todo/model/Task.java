@@ -1,26 +1,78 @@
 package com.example.todo.model;
 
+import com.example.todo.model.enums.TaskPriority;
 import com.example.todo.model.enums.TaskStatus;
+import com.example.todo.model.id.SnowflakeId;
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
 
 import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Set;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+        @Index(name = "idx_tasks_parent", columnList = "parent_id"),
+        @Index(name = "idx_tasks_status_created", columnList = "task_status, created_at"),
+        @Index(name = "idx_tasks_created", columnList = "created_at"),
+        @Index(name = "idx_tasks_normalized_title", columnList = "normalized_title")
+})
 public class Task {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private long id;
 
+    @Column(length = 75)
     private String title;
 
+    // Título em minúsculas e sem espaços nas pontas: buscas por prefixo usam o índice sem LOWER() na consulta.
+    // Sempre preenchido por normalizeTitle; no PostgreSQL o LIKE usa o índice de TaskTitlePatternIndex
+    @Column(name = "normalized_title", length = 75)
+    private String normalizedTitle;
+
+    @Column(length = 300)
     private String description;
 
     @Enumerated(EnumType.STRING)
     private TaskStatus taskStatus;
 
-    private LocalDateTime createdAt = LocalDateTime.now();
+    private LocalDateTime createdAt;
+
+    private LocalDateTime dueAt;
+
+    // Quando avisar sobre a tarefa (TaskReminderScheduler); nulo = sem lembrete
+    @Column(name = "remind_at")
+    private LocalDateTime remindAt;
+
+    // Quando o lembrete foi entregue; vale para remindAt até esse instante. Só o agendador grava a coluna
+    // (TaskRepository.markReminderSent), para que uma edição concorrente não apague a marca
+    @Column(name = "reminder_sent_at", updatable = false)
+    private LocalDateTime reminderSentAt;
+
+    // Quando a tarefa foi concluída; volta a nulo se ela for reaberta
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Enumerated(EnumType.STRING)
+    private TaskPriority priority;
+
+    @ElementCollection(fetch = FetchType.EAGER)
+    @Fetch(FetchMode.SUBSELECT)
+    @CollectionTable(name = "task_tags", joinColumns = @JoinColumn(name = "task_id"))
+    @Column(name = "tag", length = 30, nullable = false)
+    private Set<String> tags;
+
+    @Column(name = "parent_id")
+    private Long parentId;
+
+    // Default 0 para que a coluna possa ser adicionada a tabelas já populadas
+    @Version
+    @ColumnDefault("0")
+    private long version;
 
     public Task() {
     }
@@ -28,11 +80,20 @@ public class Task {
     public Task(long id, String title, String description, TaskStatus taskStatus, LocalDateTime createdAt) {
         this.id = id;
         this.title = title;
+        this.normalizedTitle = normalizeTitle(title);
         this.description = description;
         this.taskStatus = taskStatus;
         this.createdAt = createdAt;
     }
 
+    // Preenchido só na inserção: entidades hidratadas pelo Hibernate não precisam consultar o relógio
+    @PrePersist
+    void onCreate() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+
     public long getId() {
         return id;
     }
@@ -47,6 +108,15 @@ public class Task {
 
     public void setTitle(String title) {
         this.title = title;
+        this.normalizedTitle = normalizeTitle(title);
+    }
+
+    public String getNormalizedTitle() {
+        return normalizedTitle;
+    }
+
+    public static String normalizeTitle(String title) {
+        return title == null ? null : title.trim().toLowerCase(Locale.ROOT);
     }
 
     public String getDescription() {
@@ -72,4 +142,68 @@ public class Task {
     public void setCreatedAt(LocalDateTime createdAt) {
         this.createdAt = createdAt;
     }
+
+    public LocalDateTime getDueAt() {
+        return dueAt;
+    }
+
+    public void setDueAt(LocalDateTime dueAt) {
+        this.dueAt = dueAt;
+    }
+
+    public LocalDateTime getRemindAt() {
+        return remindAt;
+    }
+
+    public void setRemindAt(LocalDateTime remindAt) {
+        this.remindAt = remindAt;
+    }
+
+    public LocalDateTime getReminderSentAt() {
+        return reminderSentAt;
+    }
+
+    public void setReminderSentAt(LocalDateTime reminderSentAt) {
+        this.reminderSentAt = reminderSentAt;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(LocalDateTime completedAt) {
+        this.completedAt = completedAt;
+    }
+
+    public TaskPriority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(TaskPriority priority) {
+        this.priority = priority;
+    }
+
+    public Set<String> getTags() {
+        return tags == null ? Collections.emptySet() : tags;
+    }
+
+    public void setTags(Set<String> tags) {
+        this.tags = tags;
+    }
+
+    public Long getParentId() {
+        return parentId;
+    }
+
+    public void setParentId(Long parentId) {
+        this.parentId = parentId;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
 }
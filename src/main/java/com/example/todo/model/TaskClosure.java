@@ -0,0 +1,35 @@
+package com.example.todo.model;
+
+import jakarta.persistence.*;
+
+/**
+ * Tabela de fechamento da hierarquia de tarefas: uma linha para cada par (ancestral, descendente),
+ * incluindo a própria tarefa com profundidade 0.
+ */
+@Entity
+@Table(name = "task_closure", indexes = {
+        @Index(name = "idx_task_closure_descendant", columnList = "descendant_id, depth")
+})
+public class TaskClosure {
+
+    @EmbeddedId
+    private TaskClosureId id;
+
+    private int depth;
+
+    public TaskClosure() {
+    }
+
+    public TaskClosure(long ancestorId, long descendantId, int depth) {
+        this.id = new TaskClosureId(ancestorId, descendantId);
+        this.depth = depth;
+    }
+
+    public TaskClosureId getId() {
+        return id;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.todo.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+@Embeddable
+public class TaskClosureId implements Serializable {
+
+    @Column(name = "ancestor_id")
+    private long ancestorId;
+
+    @Column(name = "descendant_id")
+    private long descendantId;
+
+    public TaskClosureId() {
+    }
+
+    public TaskClosureId(long ancestorId, long descendantId) {
+        this.ancestorId = ancestorId;
+        this.descendantId = descendantId;
+    }
+
+    public long getAncestorId() {
+        return ancestorId;
+    }
+
+    public long getDescendantId() {
+        return descendantId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TaskClosureId that)) {
+            return false;
+        }
+        return ancestorId == that.ancestorId && descendantId == that.descendantId;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(ancestorId, descendantId);
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.todo.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * Tarefas criadas e concluídas numa hora, gravadas periodicamente pelo
+ * {@link com.example.todo.analytics.TaskCompletionRollup}. Os incrementos são feitos por SQL; a entidade existe
+ * para a tabela fazer parte do esquema.
+ */
+@Entity
+@Table(name = "task_completion_buckets")
+public class TaskCompletionBucket {
+
+    @Id
+    @Column(name = "bucket_start")
+    private LocalDateTime bucketStart;
+
+    @Column(nullable = false)
+    private long created;
+
+    @Column(nullable = false)
+    private long completed;
+
+    public TaskCompletionBucket() {
+    }
+
+    public TaskCompletionBucket(LocalDateTime bucketStart, long created, long completed) {
+        this.bucketStart = bucketStart;
+        this.created = created;
+        this.completed = completed;
+    }
+
+    public LocalDateTime getBucketStart() {
+        return bucketStart;
+    }
+
+    public long getCreated() {
+        return created;
+    }
+
+    public long getCompleted() {
+        return completed;
+    }
+}
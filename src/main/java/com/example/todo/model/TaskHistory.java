@@ -0,0 +1,72 @@
+package com.example.todo.model;
+
+import com.example.todo.model.enums.TaskHistoryField;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Registro imutável de uma alteração de campo; gravado em lote pelo
+ * {@link com.example.todo.service.TaskHistoryWriter}.
+ */
+@Entity
+@Table(name = "task_history", indexes = {
+        @Index(name = "idx_task_history_task_changed", columnList = "task_id, changed_at, id")
+})
+public class TaskHistory {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "task_id", nullable = false)
+    private long taskId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private TaskHistoryField field;
+
+    @Column(name = "old_value", length = 300)
+    private String oldValue;
+
+    @Column(name = "new_value", length = 300)
+    private String newValue;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+
+    public TaskHistory() {
+    }
+
+    public TaskHistory(long taskId, TaskHistoryField field, String oldValue, String newValue, LocalDateTime changedAt) {
+        this.taskId = taskId;
+        this.field = field;
+        this.oldValue = oldValue;
+        this.newValue = newValue;
+        this.changedAt = changedAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public long getTaskId() {
+        return taskId;
+    }
+
+    public TaskHistoryField getField() {
+        return field;
+    }
+
+    public String getOldValue() {
+        return oldValue;
+    }
+
+    public String getNewValue() {
+        return newValue;
+    }
+
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+}
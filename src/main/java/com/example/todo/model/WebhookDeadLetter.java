@@ -0,0 +1,68 @@
+package com.example.todo.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Evento que não pôde ser entregue a um assinante; pode ser reenviado pela API de webhooks.
+ */
+@Entity
+@Table(name = "webhook_dead_letters", indexes = {
+        @Index(name = "idx_webhook_dead_letters_subscription", columnList = "subscription_id, id")
+})
+public class WebhookDeadLetter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "subscription_id", nullable = false)
+    private long subscriptionId;
+
+    @Column(nullable = false, length = 4000)
+    private String payload;
+
+    private int attempts;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "failed_at", nullable = false)
+    private LocalDateTime failedAt;
+
+    public WebhookDeadLetter() {
+    }
+
+    public WebhookDeadLetter(long subscriptionId, String payload, int attempts, String lastError, LocalDateTime failedAt) {
+        this.subscriptionId = subscriptionId;
+        this.payload = payload;
+        this.attempts = attempts;
+        this.lastError = lastError;
+        this.failedAt = failedAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public long getSubscriptionId() {
+        return subscriptionId;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public LocalDateTime getFailedAt() {
+        return failedAt;
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.todo.model;
+
+import com.example.todo.model.enums.TaskStatus;
+import com.example.todo.model.id.SnowflakeId;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "webhook_subscriptions")
+public class WebhookSubscription {
+
+    @Id
+    @SnowflakeId
+    private long id;
+
+    @Column(nullable = false, length = 500)
+    private String url;
+
+    // Nulo: recebe qualquer mudança de status
+    @Enumerated(EnumType.STRING)
+    private TaskStatus status;
+
+    private LocalDateTime createdAt;
+
+    // Chave do HMAC das entregas, em hexadecimal; nula em webhooks cadastrados antes da assinatura (envio sem ela)
+    @Column(length = 64)
+    private String secret;
+
+    public WebhookSubscription() {
+    }
+
+    public WebhookSubscription(long id, String url, TaskStatus status) {
+        this.id = id;
+        this.url = url;
+        this.status = status;
+    }
+
+    @PrePersist
+    void onCreate() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(TaskStatus status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public String getSecret() {
+        return secret;
+    }
+
+    public void setSecret(String secret) {
+        this.secret = secret;
+    }
+}
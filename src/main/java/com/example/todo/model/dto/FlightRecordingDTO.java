@@ -0,0 +1,63 @@
+package com.example.todo.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+
+@Schema(description = "Gravação JFR iniciada")
+public class FlightRecordingDTO {
+
+    @Schema(description = "ID da gravação na JVM", example = "3")
+    private long id;
+
+    @Schema(description = "Início da gravação")
+    private Instant startedAt;
+
+    @Schema(description = "Momento em que a gravação para sozinha se não for parada antes")
+    private Instant stopsAt;
+
+    @Schema(description = "Tamanho máximo mantido, em bytes", example = "52428800")
+    private long maxSizeBytes;
+
+    public FlightRecordingDTO() {
+    }
+
+    public FlightRecordingDTO(long id, Instant startedAt, Instant stopsAt, long maxSizeBytes) {
+        this.id = id;
+        this.startedAt = startedAt;
+        this.stopsAt = stopsAt;
+        this.maxSizeBytes = maxSizeBytes;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(Instant startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public Instant getStopsAt() {
+        return stopsAt;
+    }
+
+    public void setStopsAt(Instant stopsAt) {
+        this.stopsAt = stopsAt;
+    }
+
+    public long getMaxSizeBytes() {
+        return maxSizeBytes;
+    }
+
+    public void setMaxSizeBytes(long maxSizeBytes) {
+        this.maxSizeBytes = maxSizeBytes;
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.todo.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Página de resultados")
+public class PageResponseDTO<T> {
+
+    @Schema(description = "Itens da página")
+    private List<T> content;
+
+    @Schema(description = "Número da página (começa em 0)", example = "0")
+    private int page;
+
+    @Schema(description = "Tamanho da página", example = "20")
+    private int size;
+
+    @Schema(description = "Total de itens encontrados", example = "42")
+    private long totalElements;
+
+    public PageResponseDTO() {
+    }
+
+    public PageResponseDTO(List<T> content, int page, int size, long totalElements) {
+        this.content = content;
+        this.page = page;
+        this.size = size;
+        this.totalElements = totalElements;
+    }
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    public void setContent(List<T> content) {
+        this.content = content;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public void setPage(int page) {
+        this.page = page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public long getTotalElements() {
+        return totalElements;
+    }
+
+    public void setTotalElements(long totalElements) {
+        this.totalElements = totalElements;
+    }
+
+    @Schema(description = "Total de páginas", example = "3")
+    public int getTotalPages() {
+        return size == 0 ? 0 : (int) ((totalElements + size - 1) / size);
+    }
+}
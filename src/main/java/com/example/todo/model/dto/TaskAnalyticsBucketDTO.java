@@ -0,0 +1,51 @@
+package com.example.todo.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "Tarefas criadas e concluídas num intervalo")
+public class TaskAnalyticsBucketDTO {
+
+    @Schema(description = "Início do intervalo", example = "2025-09-26T00:00:00")
+    private LocalDateTime start;
+
+    @Schema(description = "Tarefas criadas no intervalo", example = "12")
+    private long created;
+
+    @Schema(description = "Conclusões no intervalo", example = "9")
+    private long completed;
+
+    public TaskAnalyticsBucketDTO() {
+    }
+
+    public TaskAnalyticsBucketDTO(LocalDateTime start, long created, long completed) {
+        this.start = start;
+        this.created = created;
+        this.completed = completed;
+    }
+
+    public LocalDateTime getStart() {
+        return start;
+    }
+
+    public void setStart(LocalDateTime start) {
+        this.start = start;
+    }
+
+    public long getCreated() {
+        return created;
+    }
+
+    public void setCreated(long created) {
+        this.created = created;
+    }
+
+    public long getCompleted() {
+        return completed;
+    }
+
+    public void setCompleted(long completed) {
+        this.completed = completed;
+    }
+}
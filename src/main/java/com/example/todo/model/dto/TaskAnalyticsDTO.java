@@ -0,0 +1,66 @@
+package com.example.todo.model.dto;
+
+import com.example.todo.model.enums.AnalyticsBucket;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Schema(description = "Tarefas criadas e concluídas por intervalo, do mais antigo para o mais recente")
+public class TaskAnalyticsDTO {
+
+    @Schema(description = "Tamanho dos intervalos")
+    private AnalyticsBucket bucket;
+
+    @Schema(description = "Início do primeiro intervalo (inclusivo)", example = "2025-09-01T00:00:00")
+    private LocalDateTime from;
+
+    @Schema(description = "Fim do último intervalo (exclusivo)", example = "2025-10-01T00:00:00")
+    private LocalDateTime to;
+
+    @Schema(description = "Um item por intervalo, inclusive os sem movimento")
+    private List<TaskAnalyticsBucketDTO> buckets;
+
+    public TaskAnalyticsDTO() {
+    }
+
+    public TaskAnalyticsDTO(AnalyticsBucket bucket, LocalDateTime from, LocalDateTime to,
+                            List<TaskAnalyticsBucketDTO> buckets) {
+        this.bucket = bucket;
+        this.from = from;
+        this.to = to;
+        this.buckets = buckets;
+    }
+
+    public AnalyticsBucket getBucket() {
+        return bucket;
+    }
+
+    public void setBucket(AnalyticsBucket bucket) {
+        this.bucket = bucket;
+    }
+
+    public LocalDateTime getFrom() {
+        return from;
+    }
+
+    public void setFrom(LocalDateTime from) {
+        this.from = from;
+    }
+
+    public LocalDateTime getTo() {
+        return to;
+    }
+
+    public void setTo(LocalDateTime to) {
+        this.to = to;
+    }
+
+    public List<TaskAnalyticsBucketDTO> getBuckets() {
+        return buckets;
+    }
+
+    public void setBuckets(List<TaskAnalyticsBucketDTO> buckets) {
+        this.buckets = buckets;
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.todo.model.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Tarefas buscadas por uma lista de ids")
+public class TaskBatchResponseDTO {
+
+    @Schema(description = "Tarefas encontradas, na ordem dos ids pedidos")
+    private List<TaskResponseDTO> content;
+
+    @ArraySchema(arraySchema = @Schema(description = "Ids pedidos que não correspondem a nenhuma tarefa", example = "[\"3\"]"),
+            schema = @Schema(type = "string"))
+    @JsonSerialize(contentUsing = ToStringSerializer.class)
+    private List<Long> missingIds;
+
+    public TaskBatchResponseDTO() {
+    }
+
+    public TaskBatchResponseDTO(List<TaskResponseDTO> content, List<Long> missingIds) {
+        this.content = content;
+        this.missingIds = missingIds;
+    }
+
+    public List<TaskResponseDTO> getContent() {
+        return content;
+    }
+
+    public void setContent(List<TaskResponseDTO> content) {
+        this.content = content;
+    }
+
+    public List<Long> getMissingIds() {
+        return missingIds;
+    }
+
+    public void setMissingIds(List<Long> missingIds) {
+        this.missingIds = missingIds;
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.todo.model.dto;
+
+import com.example.todo.model.enums.TaskHistoryField;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "DTO de uma alteração registrada no histórico da tarefa")
+public class TaskHistoryDTO {
+
+    @Schema(description = "ID do registro de histórico", example = "1")
+    private Long id;
+
+    @Schema(type = "string", description = "ID da tarefa alterada", example = "1")
+    @JsonSerialize(using = ToStringSerializer.class)
+    private Long taskId;
+
+    @Schema(description = "Campo alterado")
+    private TaskHistoryField field;
+
+    @Schema(description = "Valor anterior", example = "PENDING")
+    private String oldValue;
+
+    @Schema(description = "Novo valor", example = "COMPLETED")
+    private String newValue;
+
+    @Schema(description = "Data e hora da alteração", example = "2025-09-26T10:30:00")
+    private LocalDateTime changedAt;
+
+    public TaskHistoryDTO() {
+    }
+
+    public TaskHistoryDTO(Long id, Long taskId, TaskHistoryField field, String oldValue, String newValue,
+                          LocalDateTime changedAt) {
+        this.id = id;
+        this.taskId = taskId;
+        this.field = field;
+        this.oldValue = oldValue;
+        this.newValue = newValue;
+        this.changedAt = changedAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public void setTaskId(Long taskId) {
+        this.taskId = taskId;
+    }
+
+    public TaskHistoryField getField() {
+        return field;
+    }
+
+    public void setField(TaskHistoryField field) {
+        this.field = field;
+    }
+
+    public String getOldValue() {
+        return oldValue;
+    }
+
+    public void setOldValue(String oldValue) {
+        this.oldValue = oldValue;
+    }
+
+    public String getNewValue() {
+        return newValue;
+    }
+
+    public void setNewValue(String newValue) {
+        this.newValue = newValue;
+    }
+
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+
+    public void setChangedAt(LocalDateTime changedAt) {
+        this.changedAt = changedAt;
+    }
+}
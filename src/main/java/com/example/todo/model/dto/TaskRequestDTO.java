@@ -1,9 +1,13 @@
 package com.example.todo.model.dto;
 
+import com.example.todo.model.enums.TaskPriority;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
+import java.time.LocalDateTime;
+import java.util.Set;
+
 @Schema(description = "DTO para requisição de criação/atualização de tarefa")
 public class TaskRequestDTO {
 
@@ -16,6 +20,22 @@ public class TaskRequestDTO {
     @Schema(description = "Descrição detalhada da tarefa", example = "Implementar todas as operações CRUD da API de tarefas")
     private String description;
 
+    @Schema(description = "Data e hora limite da tarefa; na atualização, ausente mantém a atual", example = "2025-10-01T18:00:00")
+    private LocalDateTime dueAt;
+
+    @Schema(description = "Data e hora do lembrete da tarefa (opcional); na atualização, ausente mantém o atual", example = "2025-10-01T09:00:00")
+    private LocalDateTime remindAt;
+
+    @Schema(description = "Prioridade da tarefa (MEDIUM quando não informada na criação; na atualização, ausente mantém a atual)", example = "HIGH")
+    private TaskPriority priority;
+
+    @Size(max = 20, message = "Uma tarefa pode ter no máximo 20 tags")
+    @Schema(description = "Tags da tarefa (normalizadas para minúsculas); na atualização, ausente mantém as atuais e [] remove todas", example = "[\"backend\", \"api\"]")
+    private Set<@NotBlank(message = "Tag não pode ser vazia") @Size(max = 30, message = "Tag deve ter no máximo 30 caracteres") String> tags;
+
+    @Schema(type = "string", description = "ID da tarefa pai, como texto ou número; usado apenas na criação (para mover use PUT /tasks/{id}/parent)", example = "1")
+    private Long parentId;
+
     public TaskRequestDTO() {
     }
 
@@ -39,4 +59,44 @@ public class TaskRequestDTO {
     public void setDescription(String description) {
         this.description = description;
     }
+
+    public LocalDateTime getDueAt() {
+        return dueAt;
+    }
+
+    public void setDueAt(LocalDateTime dueAt) {
+        this.dueAt = dueAt;
+    }
+
+    public LocalDateTime getRemindAt() {
+        return remindAt;
+    }
+
+    public void setRemindAt(LocalDateTime remindAt) {
+        this.remindAt = remindAt;
+    }
+
+    public TaskPriority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(TaskPriority priority) {
+        this.priority = priority;
+    }
+
+    public Set<String> getTags() {
+        return tags;
+    }
+
+    public void setTags(Set<String> tags) {
+        this.tags = tags;
+    }
+
+    public Long getParentId() {
+        return parentId;
+    }
+
+    public void setParentId(Long parentId) {
+        this.parentId = parentId;
+    }
 }
@@ -1,14 +1,25 @@
 package com.example.todo.model.dto;
 
+import com.example.todo.model.enums.TaskPriority;
 import com.example.todo.model.enums.TaskStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 
 @Schema(description = "DTO de resposta contendo dados completos da tarefa")
 public class TaskResponseDTO {
 
-    @Schema(description = "ID único da tarefa", example = "1")
+    // Ids Snowflake passam de 2^53 e perderiam precisão como número em clientes JavaScript: no JSON vão como texto
+    @Schema(type = "string", description = "ID único da tarefa", example = "1")
+    @JsonSerialize(using = ToStringSerializer.class)
     private Long id;
 
     @Schema(description = "Título da tarefa", example = "Implementar API REST")
@@ -23,6 +34,31 @@ public class TaskResponseDTO {
     @Schema(description = "Data e hora de criação da tarefa", example = "2025-09-26T10:30:00")
     private LocalDateTime createdAt;
 
+    @Schema(description = "Data e hora limite da tarefa", example = "2025-10-01T18:00:00")
+    private LocalDateTime dueAt;
+
+    @Schema(description = "Data e hora do lembrete da tarefa", example = "2025-10-01T09:00:00")
+    private LocalDateTime remindAt;
+
+    @Schema(description = "Data e hora de conclusão (nula enquanto a tarefa não estiver concluída)", example = "2025-09-30T17:45:00")
+    private LocalDateTime completedAt;
+
+    @Schema(description = "Prioridade da tarefa")
+    private TaskPriority priority;
+
+    @Schema(description = "Tags da tarefa", example = "[\"api\", \"backend\"]")
+    private Set<String> tags;
+
+    @Schema(type = "string", description = "ID da tarefa pai (nulo para tarefas raiz)", example = "1")
+    @JsonSerialize(using = ToStringSerializer.class)
+    private Long parentId;
+
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    @ArraySchema(arraySchema = @Schema(description = "Tarefas parecidas já existentes, devolvidas apenas na criação quando a detecção de duplicatas está ligada", example = "[\"7\"]"),
+            schema = @Schema(type = "string"))
+    @JsonSerialize(contentUsing = ToStringSerializer.class)
+    private List<Long> possibleDuplicateIds;
+
     public TaskResponseDTO() {
     }
 
@@ -34,6 +70,21 @@ public class TaskResponseDTO {
         this.createdAt = createdAt;
     }
 
+    /**
+     * Cópia independente, com as coleções também copiadas.
+     */
+    public TaskResponseDTO copy() {
+        TaskResponseDTO copy = new TaskResponseDTO(id, title, description, taskStatus, createdAt);
+        copy.dueAt = dueAt;
+        copy.remindAt = remindAt;
+        copy.completedAt = completedAt;
+        copy.priority = priority;
+        copy.tags = tags == null ? null : new LinkedHashSet<>(tags);
+        copy.parentId = parentId;
+        copy.possibleDuplicateIds = possibleDuplicateIds == null ? null : new ArrayList<>(possibleDuplicateIds);
+        return copy;
+    }
+
     public Long getId() {
         return id;
     }
@@ -73,4 +124,60 @@ public class TaskResponseDTO {
     public void setCreatedAt(LocalDateTime createdAt) {
         this.createdAt = createdAt;
     }
+
+    public LocalDateTime getDueAt() {
+        return dueAt;
+    }
+
+    public void setDueAt(LocalDateTime dueAt) {
+        this.dueAt = dueAt;
+    }
+
+    public LocalDateTime getRemindAt() {
+        return remindAt;
+    }
+
+    public void setRemindAt(LocalDateTime remindAt) {
+        this.remindAt = remindAt;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(LocalDateTime completedAt) {
+        this.completedAt = completedAt;
+    }
+
+    public TaskPriority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(TaskPriority priority) {
+        this.priority = priority;
+    }
+
+    public Set<String> getTags() {
+        return tags;
+    }
+
+    public void setTags(Set<String> tags) {
+        this.tags = tags;
+    }
+
+    public Long getParentId() {
+        return parentId;
+    }
+
+    public void setParentId(Long parentId) {
+        this.parentId = parentId;
+    }
+
+    public List<Long> getPossibleDuplicateIds() {
+        return possibleDuplicateIds;
+    }
+
+    public void setPossibleDuplicateIds(List<Long> possibleDuplicateIds) {
+        this.possibleDuplicateIds = possibleDuplicateIds;
+    }
 }
@@ -0,0 +1,64 @@
+package com.example.todo.model.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "DTO com o progresso consolidado das subtarefas de uma tarefa")
+public class TaskRollupDTO {
+
+    @Schema(type = "string", description = "ID da tarefa", example = "1")
+    @JsonSerialize(using = ToStringSerializer.class)
+    private Long taskId;
+
+    @Schema(description = "Quantidade de subtarefas em todos os níveis", example = "8")
+    private long totalDescendants;
+
+    @Schema(description = "Quantidade de subtarefas concluídas", example = "6")
+    private long completedDescendants;
+
+    @Schema(description = "Percentual de subtarefas concluídas (0 quando não há subtarefas)", example = "75.0")
+    private double completionPercentage;
+
+    public TaskRollupDTO() {
+    }
+
+    public TaskRollupDTO(Long taskId, long totalDescendants, long completedDescendants) {
+        this.taskId = taskId;
+        this.totalDescendants = totalDescendants;
+        this.completedDescendants = completedDescendants;
+        this.completionPercentage = totalDescendants == 0 ? 0.0 : completedDescendants * 100.0 / totalDescendants;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public void setTaskId(Long taskId) {
+        this.taskId = taskId;
+    }
+
+    public long getTotalDescendants() {
+        return totalDescendants;
+    }
+
+    public void setTotalDescendants(long totalDescendants) {
+        this.totalDescendants = totalDescendants;
+    }
+
+    public long getCompletedDescendants() {
+        return completedDescendants;
+    }
+
+    public void setCompletedDescendants(long completedDescendants) {
+        this.completedDescendants = completedDescendants;
+    }
+
+    public double getCompletionPercentage() {
+        return completionPercentage;
+    }
+
+    public void setCompletionPercentage(double completionPercentage) {
+        this.completionPercentage = completionPercentage;
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.todo.model.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Sugestão do autocomplete de títulos")
+public class TaskSuggestionDTO {
+
+    @Schema(type = "string", description = "ID da tarefa", example = "1")
+    @JsonSerialize(using = ToStringSerializer.class)
+    private Long id;
+
+    @Schema(description = "Título da tarefa", example = "Comprar pão")
+    private String title;
+
+    public TaskSuggestionDTO() {
+    }
+
+    public TaskSuggestionDTO(Long id, String title) {
+        this.id = id;
+        this.title = title;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.todo.model.dto;
+
+import com.example.todo.model.enums.TaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Tamanho médio dos textos das tarefas")
+public class TaskTextStatsDTO {
+
+    @Schema(description = "Status considerado (nulo = todas as tarefas)", example = "PENDING")
+    private TaskStatus status;
+
+    @Schema(description = "Quantidade de tarefas consideradas", example = "1520")
+    private long tasks;
+
+    @Schema(description = "Tamanho médio do título, em caracteres", example = "24.3")
+    private double averageTitleLength;
+
+    @Schema(description = "Tamanho médio da descrição, em caracteres (sem descrição conta como 0)", example = "87.1")
+    private double averageDescriptionLength;
+
+    public TaskTextStatsDTO() {
+    }
+
+    public TaskTextStatsDTO(TaskStatus status, long tasks, double averageTitleLength, double averageDescriptionLength) {
+        this.status = status;
+        this.tasks = tasks;
+        this.averageTitleLength = averageTitleLength;
+        this.averageDescriptionLength = averageDescriptionLength;
+    }
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(TaskStatus status) {
+        this.status = status;
+    }
+
+    public long getTasks() {
+        return tasks;
+    }
+
+    public void setTasks(long tasks) {
+        this.tasks = tasks;
+    }
+
+    public double getAverageTitleLength() {
+        return averageTitleLength;
+    }
+
+    public void setAverageTitleLength(double averageTitleLength) {
+        this.averageTitleLength = averageTitleLength;
+    }
+
+    public double getAverageDescriptionLength() {
+        return averageDescriptionLength;
+    }
+
+    public void setAverageDescriptionLength(double averageDescriptionLength) {
+        this.averageDescriptionLength = averageDescriptionLength;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.todo.model.dto;
+
+import com.example.todo.model.enums.TaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+@Schema(description = "Tarefas criadas numa semana, por status atual")
+public class TaskWeeklyCountDTO {
+
+    @Schema(description = "Segunda-feira que inicia a semana", example = "2025-09-01")
+    private LocalDate weekStart;
+
+    @Schema(description = "Quantidade de tarefas por status, inclusive os zerados", example = "{\"PENDING\": 12, \"COMPLETED\": 30}")
+    private Map<TaskStatus, Long> counts;
+
+    public TaskWeeklyCountDTO() {
+    }
+
+    public TaskWeeklyCountDTO(LocalDate weekStart, Map<TaskStatus, Long> counts) {
+        this.weekStart = weekStart;
+        this.counts = counts;
+    }
+
+    public LocalDate getWeekStart() {
+        return weekStart;
+    }
+
+    public void setWeekStart(LocalDate weekStart) {
+        this.weekStart = weekStart;
+    }
+
+    public Map<TaskStatus, Long> getCounts() {
+        return counts;
+    }
+
+    public void setCounts(Map<TaskStatus, Long> counts) {
+        this.counts = counts;
+    }
+}
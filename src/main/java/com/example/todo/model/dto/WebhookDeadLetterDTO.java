@@ -0,0 +1,75 @@
+package com.example.todo.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "DTO de um evento de webhook não entregue")
+public class WebhookDeadLetterDTO {
+
+    @Schema(description = "ID do registro", example = "1")
+    private Long id;
+
+    @Schema(description = "Evento que não foi entregue")
+    private WebhookEventDTO event;
+
+    @Schema(description = "Tentativas feitas antes de desistir", example = "5")
+    private int attempts;
+
+    @Schema(description = "Último erro recebido", example = "HTTP 503")
+    private String lastError;
+
+    @Schema(description = "Data e hora em que o evento foi registrado como não entregue", example = "2025-09-26T10:30:00")
+    private LocalDateTime failedAt;
+
+    public WebhookDeadLetterDTO() {
+    }
+
+    public WebhookDeadLetterDTO(Long id, WebhookEventDTO event, int attempts, String lastError, LocalDateTime failedAt) {
+        this.id = id;
+        this.event = event;
+        this.attempts = attempts;
+        this.lastError = lastError;
+        this.failedAt = failedAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public WebhookEventDTO getEvent() {
+        return event;
+    }
+
+    public void setEvent(WebhookEventDTO event) {
+        this.event = event;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    public LocalDateTime getFailedAt() {
+        return failedAt;
+    }
+
+    public void setFailedAt(LocalDateTime failedAt) {
+        this.failedAt = failedAt;
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.todo.model.dto;
+
+import com.example.todo.model.enums.TaskStatus;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "Evento de mudança de status enviado aos webhooks (os envios são listas de eventos)")
+public class WebhookEventDTO {
+
+    @Schema(type = "string", description = "ID da tarefa", example = "1")
+    @JsonSerialize(using = ToStringSerializer.class)
+    private Long taskId;
+
+    @Schema(description = "Título da tarefa", example = "Implementar API REST")
+    private String title;
+
+    @Schema(description = "Status anterior")
+    private TaskStatus previousStatus;
+
+    @Schema(description = "Novo status")
+    private TaskStatus taskStatus;
+
+    @Schema(description = "Data e hora da mudança", example = "2025-09-26T10:30:00")
+    private LocalDateTime occurredAt;
+
+    public WebhookEventDTO() {
+    }
+
+    public WebhookEventDTO(Long taskId, String title, TaskStatus previousStatus, TaskStatus taskStatus,
+                           LocalDateTime occurredAt) {
+        this.taskId = taskId;
+        this.title = title;
+        this.previousStatus = previousStatus;
+        this.taskStatus = taskStatus;
+        this.occurredAt = occurredAt;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public void setTaskId(Long taskId) {
+        this.taskId = taskId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public TaskStatus getPreviousStatus() {
+        return previousStatus;
+    }
+
+    public void setPreviousStatus(TaskStatus previousStatus) {
+        this.previousStatus = previousStatus;
+    }
+
+    public TaskStatus getTaskStatus() {
+        return taskStatus;
+    }
+
+    public void setTaskStatus(TaskStatus taskStatus) {
+        this.taskStatus = taskStatus;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    public void setOccurredAt(LocalDateTime occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+}
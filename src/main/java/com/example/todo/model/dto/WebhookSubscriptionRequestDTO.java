@@ -0,0 +1,44 @@
+package com.example.todo.model.dto;
+
+import com.example.todo.model.enums.TaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+@Schema(description = "DTO para cadastro de webhook")
+public class WebhookSubscriptionRequestDTO {
+
+    @NotBlank(message = "URL é obrigatória")
+    @Size(max = 500, message = "URL não pode ser maior do que 500 caracteres")
+    @Pattern(regexp = "^https?://.+", message = "URL deve começar com http:// ou https://")
+    @Schema(description = "Endereço que receberá os eventos via POST", example = "https://example.com/hooks/tasks", required = true)
+    private String url;
+
+    @Schema(description = "Status que dispara o envio (vazio para qualquer mudança de status)", example = "COMPLETED")
+    private TaskStatus status;
+
+    public WebhookSubscriptionRequestDTO() {
+    }
+
+    public WebhookSubscriptionRequestDTO(String url, TaskStatus status) {
+        this.url = url;
+        this.status = status;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(TaskStatus status) {
+        this.status = status;
+    }
+}
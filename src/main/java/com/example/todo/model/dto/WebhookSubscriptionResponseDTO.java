@@ -0,0 +1,92 @@
+package com.example.todo.model.dto;
+
+import com.example.todo.model.enums.TaskStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "DTO de resposta com os dados do webhook")
+public class WebhookSubscriptionResponseDTO {
+
+    @Schema(type = "string", description = "ID do webhook", example = "1")
+    @JsonSerialize(using = ToStringSerializer.class)
+    private Long id;
+
+    @Schema(description = "Endereço que recebe os eventos", example = "https://example.com/hooks/tasks")
+    private String url;
+
+    @Schema(description = "Status que dispara o envio (nulo para qualquer mudança de status)")
+    private TaskStatus status;
+
+    @Schema(description = "Data e hora do cadastro", example = "2025-09-26T10:30:00")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "Eventos não entregues aguardando reenvio", example = "0")
+    private long pendingDeadLetters;
+
+    @Schema(description = "Chave das assinaturas HMAC-SHA256 (cabeçalho X-Webhook-Signature); devolvida só no cadastro",
+            example = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String secret;
+
+    public WebhookSubscriptionResponseDTO() {
+    }
+
+    public WebhookSubscriptionResponseDTO(Long id, String url, TaskStatus status, LocalDateTime createdAt) {
+        this.id = id;
+        this.url = url;
+        this.status = status;
+        this.createdAt = createdAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(TaskStatus status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public long getPendingDeadLetters() {
+        return pendingDeadLetters;
+    }
+
+    public void setPendingDeadLetters(long pendingDeadLetters) {
+        this.pendingDeadLetters = pendingDeadLetters;
+    }
+
+    public String getSecret() {
+        return secret;
+    }
+
+    public void setSecret(String secret) {
+        this.secret = secret;
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.todo.model.enums;
+
+import com.example.todo.exception.InvalidRequestException;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Tamanho dos intervalos das estatísticas")
+public enum AnalyticsBucket {
+    @Schema(description = "Uma hora")
+    HOUR(1),
+
+    @Schema(description = "Um dia")
+    DAY(24);
+
+    private final int hours;
+
+    AnalyticsBucket(int hours) {
+        this.hours = hours;
+    }
+
+    public int hours() {
+        return hours;
+    }
+
+    /**
+     * Converte o parâmetro {@code bucket} ({@code hour} ou {@code day}, sem diferenciar maiúsculas).
+     *
+     * @throws InvalidRequestException se o valor não for um dos dois
+     */
+    public static AnalyticsBucket parse(String bucket) {
+        if (bucket != null) {
+            for (AnalyticsBucket value : values()) {
+                if (value.name().equalsIgnoreCase(bucket.strip())) {
+                    return value;
+                }
+            }
+        }
+        throw new InvalidRequestException("Intervalo inválido: " + bucket + ". Use hour ou day");
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.todo.model.enums;
+
+import com.example.todo.exception.InvalidRequestException;
+import com.example.todo.model.dto.TaskResponseDTO;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Propriedades de {@link TaskResponseDTO} que podem ser pedidas com {@code ?fields=}.
+ * <p>
+ * {@code attribute} é o atributo da entidade selecionado na consulta; tags são uma coleção e vêm de uma
+ * segunda consulta.
+ */
+public enum TaskField {
+    ID("id", "id", TaskResponseDTO::getId, (dto, value) -> dto.setId((Long) value)),
+    TITLE("title", "title", TaskResponseDTO::getTitle, (dto, value) -> dto.setTitle((String) value)),
+    DESCRIPTION("description", "description", TaskResponseDTO::getDescription,
+            (dto, value) -> dto.setDescription((String) value)),
+    TASK_STATUS("taskStatus", "taskStatus", TaskResponseDTO::getTaskStatus,
+            (dto, value) -> dto.setTaskStatus((TaskStatus) value)),
+    CREATED_AT("createdAt", "createdAt", TaskResponseDTO::getCreatedAt,
+            (dto, value) -> dto.setCreatedAt((LocalDateTime) value)),
+    DUE_AT("dueAt", "dueAt", TaskResponseDTO::getDueAt, (dto, value) -> dto.setDueAt((LocalDateTime) value)),
+    REMIND_AT("remindAt", "remindAt", TaskResponseDTO::getRemindAt,
+            (dto, value) -> dto.setRemindAt((LocalDateTime) value)),
+    COMPLETED_AT("completedAt", "completedAt", TaskResponseDTO::getCompletedAt,
+            (dto, value) -> dto.setCompletedAt((LocalDateTime) value)),
+    PRIORITY("priority", "priority", TaskResponseDTO::getPriority,
+            (dto, value) -> dto.setPriority((TaskPriority) value)),
+    TAGS("tags", null, TaskResponseDTO::getTags, null),
+    PARENT_ID("parentId", "parentId", TaskResponseDTO::getParentId, (dto, value) -> dto.setParentId((Long) value));
+
+    private final String property;
+    private final String attribute;
+    private final Function<TaskResponseDTO, Object> getter;
+    private final BiConsumer<TaskResponseDTO, Object> setter;
+
+    TaskField(String property, String attribute, Function<TaskResponseDTO, Object> getter,
+              BiConsumer<TaskResponseDTO, Object> setter) {
+        this.property = property;
+        this.attribute = attribute;
+        this.getter = getter;
+        this.setter = setter;
+    }
+
+    public String property() {
+        return property;
+    }
+
+    /**
+     * Atributo da entidade {@code Task}, ou nulo quando o campo não é uma coluna de {@code tasks}.
+     */
+    public String attribute() {
+        return attribute;
+    }
+
+    public Object read(TaskResponseDTO dto) {
+        return getter.apply(dto);
+    }
+
+    public void write(TaskResponseDTO dto, Object value) {
+        setter.accept(dto, value);
+    }
+
+    /**
+     * Converte a lista separada por vírgulas do parâmetro {@code fields}; nulo ou vazio significa todos os campos.
+     *
+     * @throws InvalidRequestException se algum campo não existir
+     */
+    public static Set<TaskField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        Set<TaskField> selected = EnumSet.noneOf(TaskField.class);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (!trimmed.isEmpty()) {
+                selected.add(fromProperty(trimmed));
+            }
+        }
+        return selected.isEmpty() ? null : selected;
+    }
+
+    private static TaskField fromProperty(String property) {
+        for (TaskField field : values()) {
+            if (field.property.equals(property)) {
+                return field;
+            }
+        }
+        throw new InvalidRequestException("Campo desconhecido: " + property + ". Campos válidos: "
+                + Arrays.stream(values()).map(TaskField::property).collect(Collectors.joining(", ")));
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.todo.model.enums;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Campos da tarefa registrados no histórico")
+public enum TaskHistoryField {
+    @Schema(description = "Título da tarefa")
+    TITLE,
+
+    @Schema(description = "Descrição da tarefa")
+    DESCRIPTION,
+
+    @Schema(description = "Status da tarefa")
+    STATUS
+}
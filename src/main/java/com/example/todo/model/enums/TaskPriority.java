@@ -0,0 +1,18 @@
+package com.example.todo.model.enums;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Prioridades possíveis para uma tarefa")
+public enum TaskPriority {
+    @Schema(description = "Prioridade baixa")
+    LOW,
+
+    @Schema(description = "Prioridade média (padrão)")
+    MEDIUM,
+
+    @Schema(description = "Prioridade alta")
+    HIGH,
+
+    @Schema(description = "Prioridade urgente")
+    URGENT
+}
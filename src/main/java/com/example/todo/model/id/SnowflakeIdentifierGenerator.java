@@ -0,0 +1,35 @@
+package com.example.todo.model.id;
+
+import com.example.todo.utils.SnowflakeIdGenerator;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.util.Properties;
+
+/**
+ * Adaptador do {@link SnowflakeIdGenerator} para o Hibernate.
+ * <p>
+ * O id do nó vem da propriedade {@value #NODE_ID_SETTING}
+ * (em application.properties: {@code spring.jpa.properties.todo.snowflake.node-id}).
+ */
+public class SnowflakeIdentifierGenerator implements IdentifierGenerator {
+
+    public static final String NODE_ID_SETTING = "todo.snowflake.node-id";
+
+    private SnowflakeIdGenerator generator;
+
+    @Override
+    public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry) {
+        ConfigurationService configuration = serviceRegistry.requireService(ConfigurationService.class);
+        long nodeId = configuration.getSetting(NODE_ID_SETTING, value -> Long.parseLong(value.toString()), 0L);
+        this.generator = new SnowflakeIdGenerator(nodeId);
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return generator.nextId();
+    }
+}
@@ -0,0 +1,196 @@
+package com.example.todo.reminder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Roda de temporização hierárquica: cada nível tem {@code size} posições e cada posição do nível {@code n} cobre
+ * {@code size^n} ticks. Um timer entra na posição do nível mais baixo que alcança o seu prazo; quando o relógio
+ * chega ao início de uma posição de nível alto, os timers dela descem de nível até vencerem no nível 0.
+ * <p>
+ * As posições são listas duplamente ligadas, então agendar e cancelar custam O(1) qualquer que seja o número de
+ * timers; avançar um tick custa o número de timers que vencem ou descem de nível. Os níveis são criados sob
+ * demanda. O tempo é medido em ticks (inteiros) e a classe não é thread-safe.
+ */
+final class HierarchicalTimingWheel<T> {
+
+    private static final int MAX_LEVELS = 64;
+
+    /**
+     * Timer agendado; serve de referência para {@link #cancel(Timer)}.
+     */
+    static final class Timer<T> {
+
+        private final long deadline;
+        private final T payload;
+        private Timer<T> previous;
+        private Timer<T> next;
+        private Slot<T> slot;
+
+        private Timer(long deadline, T payload) {
+            this.deadline = deadline;
+            this.payload = payload;
+        }
+
+        long deadline() {
+            return deadline;
+        }
+
+        T payload() {
+            return payload;
+        }
+
+        boolean isScheduled() {
+            return slot != null;
+        }
+    }
+
+    private static final class Slot<T> {
+
+        private Timer<T> head;
+
+        void add(Timer<T> timer) {
+            timer.slot = this;
+            timer.previous = null;
+            timer.next = head;
+            if (head != null) {
+                head.previous = timer;
+            }
+            head = timer;
+        }
+
+        void remove(Timer<T> timer) {
+            if (timer.previous != null) {
+                timer.previous.next = timer.next;
+            } else {
+                head = timer.next;
+            }
+            if (timer.next != null) {
+                timer.next.previous = timer.previous;
+            }
+            timer.slot = null;
+            timer.previous = null;
+            timer.next = null;
+        }
+
+        Timer<T> takeAll() {
+            Timer<T> timers = head;
+            head = null;
+            return timers;
+        }
+    }
+
+    private final int bits;
+    private final long mask;
+    private final List<Slot<T>[]> levels = new ArrayList<>();
+    private long currentTick;
+    private int size;
+
+    /**
+     * @param slotsPerLevel posições por nível, arredondado para a próxima potência de 2
+     * @param startTick     tick atual
+     */
+    HierarchicalTimingWheel(int slotsPerLevel, long startTick) {
+        this.bits = Math.max(1, 32 - Integer.numberOfLeadingZeros(Math.max(2, slotsPerLevel) - 1));
+        this.mask = (1L << bits) - 1;
+        this.currentTick = startTick;
+        addLevel();
+    }
+
+    /**
+     * Agenda {@code payload} para o tick {@code deadline}; prazos já vencidos vencem no próximo {@link #advanceTo}.
+     */
+    Timer<T> schedule(long deadline, T payload) {
+        Timer<T> timer = new Timer<>(deadline, payload);
+        place(timer, Math.max(deadline, currentTick + 1));
+        size++;
+        return timer;
+    }
+
+    /**
+     * Tira o timer da roda; sem efeito se ele já venceu ou foi cancelado.
+     */
+    boolean cancel(Timer<T> timer) {
+        if (timer.slot == null) {
+            return false;
+        }
+        timer.slot.remove(timer);
+        size--;
+        return true;
+    }
+
+    /**
+     * Avança o relógio até {@code tick}, entregando a {@code expired} os timers vencidos, em ordem de prazo.
+     */
+    void advanceTo(long tick, Consumer<T> expired) {
+        while (currentTick < tick) {
+            currentTick++;
+            for (int level = 1; level < levels.size(); level++) {
+                if ((currentTick & ((1L << (level * bits)) - 1)) != 0) {
+                    break;
+                }
+                cascade(level, expired);
+            }
+            fire(levels.get(0)[(int) (currentTick & mask)], expired);
+        }
+    }
+
+    long currentTick() {
+        return currentTick;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void cascade(int level, Consumer<T> expired) {
+        Slot<T> slot = levels.get(level)[(int) ((currentTick >>> (level * bits)) & mask)];
+        Timer<T> timer = slot.takeAll();
+        while (timer != null) {
+            Timer<T> next = timer.next;
+            timer.slot = null;
+            if (timer.deadline <= currentTick) {
+                size--;
+                expired.accept(timer.payload);
+            } else {
+                place(timer, timer.deadline);
+            }
+            timer = next;
+        }
+    }
+
+    private void fire(Slot<T> slot, Consumer<T> expired) {
+        Timer<T> timer = slot.takeAll();
+        while (timer != null) {
+            Timer<T> next = timer.next;
+            timer.slot = null;
+            timer.next = null;
+            size--;
+            expired.accept(timer.payload);
+            timer = next;
+        }
+    }
+
+    // Nível mais baixo cujo alcance a partir do tick atual cobre o prazo
+    private void place(Timer<T> timer, long deadline) {
+        long delta = deadline - currentTick;
+        int level = 0;
+        while (level + 1 < MAX_LEVELS / bits && (delta >>> ((level + 1) * bits)) != 0) {
+            level++;
+        }
+        while (levels.size() <= level) {
+            addLevel();
+        }
+        levels.get(level)[(int) ((deadline >>> (level * bits)) & mask)].add(timer);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void addLevel() {
+        Slot<T>[] slots = new Slot[(int) mask + 1];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = new Slot<>();
+        }
+        levels.add(slots);
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.todo.reminder;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Lembretes de tarefas ({@code todo-api.reminders.*}).
+ *
+ * @param enabled       liga o agendamento dos lembretes; desligado por padrão, porque cada nó com ele ligado
+ *                      entrega todos os lembretes (ligue em uma única instância)
+ * @param tick          resolução do relógio: um lembrete dispara até um tick depois do horário
+ * @param slotsPerLevel posições em cada nível da roda de temporização (potência de 2)
+ * @param catchUp       na subida, lembretes vencidos há no máximo este tempo (com a aplicação fora do ar) ainda
+ *                      disparam, se ainda não tiverem sido entregues; os mais antigos são ignorados
+ */
+@ConfigurationProperties(prefix = "todo-api.reminders")
+public record ReminderProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("1s") Duration tick,
+        @DefaultValue("512") int slotsPerLevel,
+        @DefaultValue("15m") Duration catchUp
+) {
+}
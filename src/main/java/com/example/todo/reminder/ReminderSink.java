@@ -0,0 +1,13 @@
+package com.example.todo.reminder;
+
+/**
+ * Destino dos lembretes vencidos. Basta registrar um bean que implemente esta interface; com vários, todos recebem
+ * cada lembrete, na ordem de {@link org.springframework.core.annotation.Order @Order}.
+ * <p>
+ * É chamado na thread do {@link TaskReminderScheduler}: envios lentos atrasam os lembretes seguintes e devem ser
+ * repassados a outra thread.
+ */
+public interface ReminderSink {
+
+    void send(TaskReminder reminder);
+}
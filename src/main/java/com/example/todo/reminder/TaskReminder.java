@@ -0,0 +1,9 @@
+package com.example.todo.reminder;
+
+import java.time.LocalDateTime;
+
+/**
+ * Lembrete vencido de uma tarefa, com o título do momento em que foi agendado.
+ */
+public record TaskReminder(long taskId, String title, LocalDateTime remindAt) {
+}
@@ -0,0 +1,262 @@
+package com.example.todo.reminder;
+
+import com.example.todo.model.Task;
+import com.example.todo.model.enums.TaskStatus;
+import com.example.todo.repository.TaskRepository;
+import com.example.todo.service.TaskChangeListener;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Dispara os lembretes das tarefas ({@code remindAt}) e os entrega aos {@link ReminderSink}s.
+ * <p>
+ * Os lembretes pendentes ficam numa {@link HierarchicalTimingWheel} em memória, onde agendar e cancelar custam
+ * O(1), e uma thread avança o relógio a cada {@link ReminderProperties#tick()}. Na subida a roda é montada a partir
+ * das tarefas do banco; depois, cada gravação de tarefa reagenda o seu lembrete e a remoção o cancela. Tarefas
+ * concluídas e lembretes com horário já passado não são agendados, então editar uma tarefa não repete um lembrete
+ * que já disparou. Cada entrega grava {@code reminder_sent_at} na tarefa, e a carga da subida pula os lembretes já
+ * entregues: reiniciar a aplicação não repete os que caem na janela de {@link ReminderProperties#catchUp()}.
+ * <p>
+ * Os horários são {@link LocalDateTime} no fuso do servidor, como o resto da aplicação, e o relógio da roda é
+ * {@code LocalDateTime.now()} convertido com {@link ZoneOffset#UTC}, a mesma conversão dos índices e do analytics:
+ * horário e relógio usam a mesma régua, sem conversão de fuso no meio.
+ * <p>
+ * Cada nó mantém a sua roda: com mais de uma instância, cada lembrete seria entregue por todas elas. Por isso o
+ * agendamento só existe com {@code todo-api.reminders.enabled=true}, que deve ficar ligado em uma única instância.
+ */
+@Component
+@ConditionalOnProperty(name = "todo-api.reminders.enabled", havingValue = "true")
+public class TaskReminderScheduler implements TaskChangeListener, SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskReminderScheduler.class);
+
+    // Como o TaskHistoryWriter: começa antes do servidor web e para depois dele
+    static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private final ReminderProperties properties;
+    private final ObjectProvider<ReminderSink> sinks;
+    private final TaskRepository taskRepository;
+    private final long tickMillis;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final HierarchicalTimingWheel<TaskReminder> wheel;
+    private final Map<Long, HierarchicalTimingWheel.Timer<TaskReminder>> timers = new HashMap<>();
+    private final Counter fired;
+    private final Counter failed;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public TaskReminderScheduler(ReminderProperties properties, ObjectProvider<ReminderSink> sinks,
+                                 TaskRepository taskRepository, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.sinks = sinks;
+        this.taskRepository = taskRepository;
+        this.tickMillis = Math.max(1, properties.tick().toMillis());
+        this.wheel = new HierarchicalTimingWheel<>(properties.slotsPerLevel(),
+                Math.floorDiv(epochMillis(LocalDateTime.now()), tickMillis));
+        this.fired = Counter.builder("tasks.reminders.fired")
+                .description("Lembretes entregues aos destinos")
+                .register(meterRegistry);
+        this.failed = Counter.builder("tasks.reminders.failed")
+                .description("Entregas de lembrete que falharam")
+                .register(meterRegistry);
+        Gauge.builder("tasks.reminders.pending", this, TaskReminderScheduler::pending)
+                .description("Lembretes agendados")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void onReloadStart() {
+        lock.lock();
+        try {
+            timers.values().forEach(wheel::cancel);
+            timers.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void onReloadPage(List<Task> tasks) {
+        LocalDateTime oldest = LocalDateTime.now().minus(properties.catchUp());
+        lock.lock();
+        try {
+            for (Task task : tasks) {
+                cancel(task.getId());
+                if (isPending(task, oldest)) {
+                    schedule(task);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void onSaved(Task task) {
+        LocalDateTime now = LocalDateTime.now();
+        lock.lock();
+        try {
+            cancel(task.getId());
+            if (isPending(task, now)) {
+                schedule(task);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void onDeleted(long taskId) {
+        lock.lock();
+        try {
+            cancel(taskId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int pending() {
+        lock.lock();
+        try {
+            return wheel.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Dispara os lembretes vencidos até {@code nowMillis} (relógio local convertido com UTC) e os entrega, fora do
+     * lock, aos destinos.
+     */
+    void fireDue(long nowMillis) {
+        List<TaskReminder> due = new ArrayList<>();
+        lock.lock();
+        try {
+            wheel.advanceTo(Math.floorDiv(nowMillis, tickMillis), reminder -> {
+                timers.remove(reminder.taskId());
+                due.add(reminder);
+            });
+        } finally {
+            lock.unlock();
+        }
+        due.forEach(this::deliver);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::run, "task-reminders");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            try {
+                worker.join(tickMillis + 5_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                long now = System.currentTimeMillis();
+                Thread.sleep(tickMillis - Math.floorMod(now, tickMillis));
+                fireDue(epochMillis(LocalDateTime.now()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Falha inesperada no disparo de lembretes", e);
+            }
+        }
+    }
+
+    private void deliver(TaskReminder reminder) {
+        List<ReminderSink> targets = sinks.orderedStream().toList();
+        if (targets.isEmpty()) {
+            log.info("Lembrete da tarefa {} ({}) para {}", reminder.taskId(), reminder.title(), reminder.remindAt());
+            fired.increment();
+        }
+        for (ReminderSink sink : targets) {
+            try {
+                sink.send(reminder);
+                fired.increment();
+            } catch (RuntimeException e) {
+                failed.increment();
+                log.warn("Falha ao entregar o lembrete da tarefa {} em {}", reminder.taskId(),
+                        sink.getClass().getSimpleName(), e);
+            }
+        }
+        markSent(reminder);
+    }
+
+    // Depois da entrega: uma queda entre as duas repete o lembrete na subida, em vez de perdê-lo
+    private void markSent(TaskReminder reminder) {
+        try {
+            taskRepository.markReminderSent(reminder.taskId(), LocalDateTime.now());
+        } catch (RuntimeException e) {
+            log.warn("Falha ao marcar o lembrete da tarefa {} como entregue", reminder.taskId(), e);
+        }
+    }
+
+    private void schedule(Task task) {
+        TaskReminder reminder = new TaskReminder(task.getId(), task.getTitle(), task.getRemindAt());
+        // Arredonda para cima: o lembrete nunca dispara antes do horário
+        long deadline = Math.floorDiv(epochMillis(task.getRemindAt()) + tickMillis - 1, tickMillis);
+        timers.put(task.getId(), wheel.schedule(deadline, reminder));
+    }
+
+    private void cancel(long taskId) {
+        HierarchicalTimingWheel.Timer<TaskReminder> timer = timers.remove(taskId);
+        if (timer != null) {
+            wheel.cancel(timer);
+        }
+    }
+
+    private static boolean isPending(Task task, LocalDateTime after) {
+        return task.getRemindAt() != null && task.getRemindAt().isAfter(after)
+                && task.getStatus() != TaskStatus.COMPLETED && !isSent(task);
+    }
+
+    // A marca vale para o horário até o qual o lembrete foi entregue: remarcado para depois dela, volta a valer
+    private static boolean isSent(Task task) {
+        return task.getReminderSentAt() != null && !task.getReminderSentAt().isBefore(task.getRemindAt());
+    }
+
+    private static long epochMillis(LocalDateTime dateTime) {
+        return dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.todo.repository;
+
+import com.example.todo.model.TaskClosure;
+import com.example.todo.model.TaskClosureId;
+import com.example.todo.model.enums.TaskStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TaskClosureRepository extends JpaRepository<TaskClosure, TaskClosureId> {
+
+    /**
+     * Liga uma tarefa recém-criada a todos os ancestrais do pai (parentId 0 = tarefa raiz).
+     */
+    @Modifying
+    @Query(value = "INSERT INTO task_closure (ancestor_id, descendant_id, depth) "
+            + "SELECT ancestor_id, CAST(:taskId AS BIGINT), depth + 1 FROM task_closure WHERE descendant_id = :parentId "
+            + "UNION ALL SELECT CAST(:taskId AS BIGINT), CAST(:taskId AS BIGINT), 0", nativeQuery = true)
+    int insertPaths(@Param("taskId") long taskId, @Param("parentId") long parentId);
+
+    /**
+     * Desliga a subárvore de {@code taskId} de todos os ancestrais atuais de {@code taskId}.
+     */
+    @Modifying
+    @Query(value = "DELETE FROM task_closure "
+            + "WHERE descendant_id IN (SELECT descendant_id FROM task_closure WHERE ancestor_id = :taskId) "
+            + "AND ancestor_id IN (SELECT ancestor_id FROM task_closure WHERE descendant_id = :taskId AND ancestor_id <> :taskId)",
+            nativeQuery = true)
+    int detachSubtree(@Param("taskId") long taskId);
+
+    /**
+     * Liga a subárvore de {@code taskId} a {@code parentId} e a todos os ancestrais dele.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO task_closure (ancestor_id, descendant_id, depth) "
+            + "SELECT ancestors.ancestor_id, subtree.descendant_id, ancestors.depth + subtree.depth + 1 "
+            + "FROM task_closure ancestors CROSS JOIN task_closure subtree "
+            + "WHERE ancestors.descendant_id = :parentId AND subtree.ancestor_id = :taskId", nativeQuery = true)
+    int attachSubtree(@Param("taskId") long taskId, @Param("parentId") long parentId);
+
+    /**
+     * Cria a linha de profundidade 0 para tarefas que ainda não estão na tabela (dados anteriores à hierarquia).
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO task_closure (ancestor_id, descendant_id, depth) "
+            + "SELECT t.id, t.id, 0 FROM tasks t "
+            + "WHERE NOT EXISTS (SELECT 1 FROM task_closure c WHERE c.ancestor_id = t.id AND c.descendant_id = t.id)",
+            nativeQuery = true)
+    int insertMissingSelfPaths();
+
+    /**
+     * Remove caminhos que apontam para tarefas do intervalo que não existem mais (remoções em lote da retenção).
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM task_closure "
+            + "WHERE (descendant_id BETWEEN :fromId AND :toId AND NOT EXISTS (SELECT 1 FROM tasks t WHERE t.id = descendant_id)) "
+            + "OR (ancestor_id BETWEEN :fromId AND :toId AND NOT EXISTS (SELECT 1 FROM tasks t WHERE t.id = ancestor_id))",
+            nativeQuery = true)
+    int deleteDanglingPaths(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    @Query("select c.id.descendantId from TaskClosure c where c.id.ancestorId = :taskId and c.depth > 0 "
+            + "order by c.depth, c.id.descendantId")
+    List<Long> findDescendantIds(@Param("taskId") long taskId);
+
+    @Query("select c.id.ancestorId from TaskClosure c where c.id.descendantId = :taskId and c.depth > 0 "
+            + "order by c.depth desc")
+    List<Long> findAncestorIds(@Param("taskId") long taskId);
+
+    boolean existsByIdAncestorIdAndIdDescendantId(long ancestorId, long descendantId);
+
+    @Query("select count(t), coalesce(sum(case when t.taskStatus = :completed then 1 else 0 end), 0) "
+            + "from TaskClosure c join Task t on t.id = c.id.descendantId "
+            + "where c.id.ancestorId = :taskId and c.depth > 0")
+    List<Object[]> countDescendantsByCompletion(@Param("taskId") long taskId, @Param("completed") TaskStatus completed);
+
+    @Modifying
+    @Query("delete from TaskClosure c where c.id.descendantId in :taskIds")
+    int deleteByDescendantIds(@Param("taskIds") Collection<Long> taskIds);
+}
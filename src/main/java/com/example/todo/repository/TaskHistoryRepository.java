@@ -0,0 +1,17 @@
+package com.example.todo.repository;
+
+import com.example.todo.model.TaskHistory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TaskHistoryRepository extends JpaRepository<TaskHistory, Long> {
+
+    /**
+     * Histórico da tarefa pelo horário da alteração. O id não serve de ordem: lotes regravados do disco depois de
+     * uma falha recebem ids maiores do que alterações feitas depois deles.
+     */
+    Page<TaskHistory> findByTaskIdOrderByChangedAtDescIdDesc(long taskId, Pageable pageable);
+}
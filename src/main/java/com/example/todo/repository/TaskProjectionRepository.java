@@ -0,0 +1,28 @@
+package com.example.todo.repository;
+
+import com.example.todo.model.enums.TaskField;
+import com.example.todo.model.enums.TaskStatus;
+import jakarta.persistence.Tuple;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Consultas que selecionam apenas as colunas pedidas em {@code ?fields=}.
+ * <p>
+ * Cada {@link Tuple} traz sempre {@code id} mais os campos com {@link TaskField#attribute()}, com o alias
+ * igual a {@link TaskField#property()}.
+ */
+public interface TaskProjectionRepository {
+
+    /**
+     * @param taskStatus filtro opcional; nulo traz todas as tarefas
+     */
+    List<Tuple> findFields(Set<TaskField> fields, TaskStatus taskStatus);
+
+    List<Tuple> findFieldsByIds(Set<TaskField> fields, Collection<Long> ids);
+
+    Map<Long, Set<String>> findTagsByIds(Collection<Long> ids);
+}
@@ -0,0 +1,82 @@
+package com.example.todo.repository;
+
+import com.example.todo.model.Task;
+import com.example.todo.model.enums.TaskField;
+import com.example.todo.model.enums.TaskStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.BiFunction;
+
+class TaskProjectionRepositoryImpl implements TaskProjectionRepository {
+
+    // Listas grandes de ids vão em blocos para não estourar o limite de parâmetros por comando do driver
+    private static final int ID_CHUNK_SIZE = 1000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Tuple> findFields(Set<TaskField> fields, TaskStatus taskStatus) {
+        return select(fields, (cb, root) -> taskStatus == null ? null : cb.equal(root.get("taskStatus"), taskStatus));
+    }
+
+    @Override
+    public List<Tuple> findFieldsByIds(Set<TaskField> fields, Collection<Long> ids) {
+        List<Long> idList = new ArrayList<>(ids);
+        List<Tuple> rows = new ArrayList<>(idList.size());
+        for (int from = 0; from < idList.size(); from += ID_CHUNK_SIZE) {
+            List<Long> chunk = idList.subList(from, Math.min(from + ID_CHUNK_SIZE, idList.size()));
+            rows.addAll(select(fields, (cb, root) -> root.get("id").in(chunk)));
+        }
+        return rows;
+    }
+
+    @Override
+    public Map<Long, Set<String>> findTagsByIds(Collection<Long> ids) {
+        Map<Long, Set<String>> tagsById = new HashMap<>();
+        List<Long> idList = new ArrayList<>(ids);
+        for (int from = 0; from < idList.size(); from += ID_CHUNK_SIZE) {
+            List<Long> chunk = idList.subList(from, Math.min(from + ID_CHUNK_SIZE, idList.size()));
+            entityManager.createQuery("select t.id, tag from Task t join t.tags tag where t.id in :ids", Object[].class)
+                    .setParameter("ids", chunk)
+                    .getResultList()
+                    .forEach(row -> tagsById.computeIfAbsent((Long) row[0], id -> new TreeSet<>()).add((String) row[1]));
+        }
+        return tagsById;
+    }
+
+    private List<Tuple> select(Set<TaskField> fields, BiFunction<CriteriaBuilder, Root<Task>, Predicate> where) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Task> root = query.from(Task.class);
+
+        List<Selection<?>> selections = new ArrayList<>(fields.size() + 1);
+        selections.add(root.get(TaskField.ID.attribute()).alias(TaskField.ID.property()));
+        for (TaskField field : fields) {
+            if (field != TaskField.ID && field.attribute() != null) {
+                selections.add(root.get(field.attribute()).alias(field.property()));
+            }
+        }
+        query.multiselect(selections);
+
+        Predicate predicate = where.apply(cb, root);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getResultList();
+    }
+}
@@ -2,13 +2,107 @@ package com.example.todo.repository;
 
 import com.example.todo.model.Task;
 import com.example.todo.model.enums.TaskStatus;
+import org.springframework.data.domain.Limit;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskProjectionRepository {
     List<Task> findByTaskStatus(TaskStatus taskStatus);
-    List<Task> findByTitleContainingIgnoreCase(String title);
+
+    /**
+     * Tarefas cujo título começa com {@code prefix}, sem diferenciar maiúsculas; usa o índice do título normalizado.
+     */
+    default List<Task> findByTitlePrefix(String prefix) {
+        String normalized = Task.normalizeTitle(prefix);
+        String escaped = normalized.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+        return findByNormalizedTitlePrefix(normalized, escaped + "%");
+    }
+
+    /**
+     * O {@code LIKE} decide o resultado em qualquer collation; no PostgreSQL ele usa o índice
+     * {@code text_pattern_ops} criado por {@link TaskTitlePatternIndex}. O {@code >=} não exclui nenhuma tarefa
+     * (um título nunca ordena antes do próprio prefixo) e deixa bancos sem índice de padrão, como o H2, percorrerem
+     * o índice comum a partir do prefixo.
+     */
+    @Query("select t from Task t where t.normalizedTitle >= :prefix and t.normalizedTitle like :pattern escape '!' "
+            + "order by t.normalizedTitle")
+    List<Task> findByNormalizedTitlePrefix(@Param("prefix") String prefix, @Param("pattern") String pattern);
+
+    /**
+     * Tarefas gravadas antes de a coluna do título normalizado existir; o preenchimento usa
+     * {@link Task#normalizeTitle}, a mesma normalização das escritas.
+     */
+    List<Task> findByNormalizedTitleIsNullAndTitleIsNotNull(Limit limit);
+
+    /**
+     * Página da carga completa dos índices na subida, percorrida por id.
+     */
+    List<Task> findByIdGreaterThanOrderById(long afterId, Limit limit);
+
+    @Query("select t.id from Task t where t.taskStatus = :status and t.createdAt < :cutoff and t.id > :afterId order by t.id")
+    List<Long> findPurgeCandidateIds(@Param("status") TaskStatus status,
+                                     @Param("cutoff") LocalDateTime cutoff,
+                                     @Param("afterId") long afterId,
+                                     Limit limit);
+
+    @Transactional
+    @Modifying
+    @Query("delete from Task t where t.id between :fromId and :toId and t.taskStatus = :status and t.createdAt < :cutoff")
+    int deletePurgeBatch(@Param("fromId") long fromId,
+                         @Param("toId") long toId,
+                         @Param("status") TaskStatus status,
+                         @Param("cutoff") LocalDateTime cutoff);
+
+    boolean existsByParentId(Long parentId);
+
+    /**
+     * Subtarefas cujo pai está no intervalo e não existe mais (pais removidos em lote pela retenção).
+     */
+    @Query("select t.id from Task t where t.parentId between :fromId and :toId "
+            + "and not exists (select p.id from Task p where p.id = t.parentId)")
+    List<Long> findOrphanedChildIds(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    /**
+     * Transforma as tarefas em raízes, incrementando a versão para que caches descartem as cópias antigas.
+     */
+    @Transactional
+    @Modifying
+    @Query("update Task t set t.parentId = null, t.version = t.version + 1 where t.id in :ids")
+    int clearParents(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Marca o lembrete como entregue, sem mudar a versão: a marca é só do agendador e não conflita com edições
+     * da tarefa. Se o lembrete foi remarcado para depois da entrega, nada muda.
+     */
+    @Transactional
+    @Modifying
+    @Query("update Task t set t.reminderSentAt = :sentAt where t.id = :id and t.remindAt <= :sentAt")
+    int markReminderSent(@Param("id") long id, @Param("sentAt") LocalDateTime sentAt);
+
+    /**
+     * Trava as tarefas até o fim da transação ({@code SELECT ... FOR UPDATE}), na ordem do id para que duas
+     * transações travando conjuntos sobrepostos não esperem uma pela outra.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from Task t where t.id in :ids order by t.id")
+    List<Task> lockByIds(@Param("ids") Collection<Long> ids);
+
+    @Query("select t from TaskClosure c join Task t on t.id = c.id.descendantId "
+            + "where c.id.ancestorId = :taskId and c.depth > 0 order by c.depth, t.id")
+    List<Task> findDescendants(@Param("taskId") long taskId);
+
+    @Query("select t from TaskClosure c join Task t on t.id = c.id.ancestorId "
+            + "where c.id.descendantId = :taskId and c.depth > 0 order by c.depth desc")
+    List<Task> findAncestors(@Param("taskId") long taskId);
 }
@@ -0,0 +1,45 @@
+package com.example.todo.repository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Índice do título normalizado com {@code text_pattern_ops} no PostgreSQL. O índice declarado na entidade segue a
+ * collation do banco e, fora da collation {@code C}, não serve para {@code LIKE 'prefixo%'}; as buscas por prefixo
+ * de {@link TaskRepository#findByTitlePrefix} dependem deste. O JPA não tem como declarar classes de operador, então
+ * o índice é criado na subida, sem bloquear escritas ({@code CONCURRENTLY}). Em outros bancos não faz nada.
+ */
+@Component
+public class TaskTitlePatternIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskTitlePatternIndex.class);
+
+    static final String CREATE_INDEX = "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_normalized_title_pattern "
+            + "ON tasks (normalized_title text_pattern_ops)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TaskTitlePatternIndex(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void create() {
+        try {
+            Boolean postgres = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                    "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName()));
+            if (Boolean.TRUE.equals(postgres)) {
+                jdbcTemplate.execute(CREATE_INDEX);
+            }
+        } catch (DataAccessException e) {
+            // Sem o índice as buscas por prefixo continuam corretas, só mais lentas
+            log.warn("Falha ao criar o índice de prefixo do título", e);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.todo.repository;
+
+import com.example.todo.model.WebhookDeadLetter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface WebhookDeadLetterRepository extends JpaRepository<WebhookDeadLetter, Long> {
+    Page<WebhookDeadLetter> findBySubscriptionIdOrderByIdAsc(long subscriptionId, Pageable pageable);
+
+    long countBySubscriptionId(long subscriptionId);
+
+    @Modifying
+    @Query("delete from WebhookDeadLetter d where d.subscriptionId = :subscriptionId")
+    int deleteBySubscriptionId(@Param("subscriptionId") long subscriptionId);
+}
@@ -0,0 +1,36 @@
+package com.example.todo.service;
+
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionTimedOutException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link JpaTransactionManager} que limita o tempo de cada transação nova ao que resta do {@link RequestDeadline}.
+ * <p>
+ * O Hibernate aplica o tempo restante da transação como {@code setQueryTimeout} de cada comando, e o Spring como
+ * dica {@code jakarta.persistence.query.timeout} (em milissegundos) de cada consulta criada nela: um banco parado
+ * faz o driver cancelar o comando e a conexão volta ao pool em vez de ficar presa a uma requisição que o cliente já
+ * abandonou. Com o prazo vencido, a transação nem começa.
+ */
+public class DeadlineAwareTransactionManager extends JpaTransactionManager {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Override
+    protected int determineTimeout(TransactionDefinition definition) {
+        int timeout = super.determineTimeout(definition);
+        if (!RequestDeadline.isSet()) {
+            return timeout;
+        }
+        long remaining = RequestDeadline.remainingNanos();
+        if (remaining <= 0) {
+            // TransactionException sai do doBegin como está, sem virar CannotCreateTransactionException
+            throw new TransactionTimedOutException("Prazo da requisição esgotado antes de abrir a transação");
+        }
+        // O JDBC só aceita segundos inteiros: arredonda para cima para não cancelar antes do prazo
+        int seconds = (int) Math.min(Integer.MAX_VALUE, (remaining + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND);
+        return timeout == TransactionDefinition.TIMEOUT_DEFAULT ? seconds : Math.min(timeout, seconds);
+    }
+}
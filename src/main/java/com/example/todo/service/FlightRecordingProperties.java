@@ -0,0 +1,26 @@
+package com.example.todo.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Gravações JFR sob demanda ({@code todo-api.jfr.*}).
+ *
+ * @param enabled            expõe o endpoint {@code jfr} do actuator; exige {@code management.server.port} próprio
+ * @param operationThreshold operações de tarefa mais rápidas que isso não são gravadas
+ * @param maxDuration        a gravação para sozinha após esse tempo, mesmo sem chamada de parada
+ * @param maxSize            tamanho máximo mantido em disco; acima disso os dados mais antigos são descartados
+ * @param token              token exigido em {@code Authorization: Bearer} nas chamadas ao endpoint
+ */
+@ConfigurationProperties(prefix = "todo-api.jfr")
+public record FlightRecordingProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("20ms") Duration operationThreshold,
+        @DefaultValue("5m") Duration maxDuration,
+        @DefaultValue("50MB") DataSize maxSize,
+        String token
+) {
+}
@@ -0,0 +1,111 @@
+package com.example.todo.service;
+
+import com.example.todo.diagnostics.ApiErrorEvent;
+import com.example.todo.diagnostics.TaskOperationEvent;
+import com.example.todo.exception.InvalidRequestException;
+import com.example.todo.exception.ResourceNotFoundException;
+import com.example.todo.model.dto.FlightRecordingDTO;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Uma gravação JFR por vez, com a configuração {@code default} da JVM mais os eventos da aplicação
+ * ({@link TaskOperationEvent} com o limiar configurado e {@link ApiErrorEvent}). Os eventos com as variáveis de
+ * ambiente e as propriedades de sistema da JVM ficam desligados: costumam carregar senhas e tokens.
+ * <p>
+ * A gravação é limitada em tempo e em tamanho: para sozinha após {@link FlightRecordingProperties#maxDuration()}
+ * e guarda o conteúdo até {@link #stop()} ser chamado.
+ */
+@Service
+@ConditionalOnProperty(name = "todo-api.jfr.enabled", havingValue = "true")
+public class FlightRecordingService implements DisposableBean {
+
+    static final String RECORDING_NAME = "todo-api";
+
+    private final FlightRecordingProperties properties;
+
+    private Recording recording;
+
+    public FlightRecordingService(FlightRecordingProperties properties) {
+        this.properties = properties;
+    }
+
+    public synchronized FlightRecordingDTO start() {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            throw new InvalidRequestException("Já existe uma gravação JFR em andamento");
+        }
+        closeCurrent();
+
+        Recording started = new Recording(settings());
+        started.setName(RECORDING_NAME);
+        started.setToDisk(true);
+        started.setMaxSize(properties.maxSize().toBytes());
+        started.setDuration(properties.maxDuration());
+        started.start();
+        recording = started;
+        Instant now = Instant.now();
+        return new FlightRecordingDTO(started.getId(), now, now.plus(properties.maxDuration()),
+                properties.maxSize().toBytes());
+    }
+
+    /**
+     * Para a gravação (se ainda estiver rodando) e grava o conteúdo num arquivo temporário, que passa a ser
+     * responsabilidade de quem chamou.
+     */
+    public synchronized Path stop() throws IOException {
+        if (recording == null) {
+            throw new ResourceNotFoundException("Nenhuma gravação JFR em andamento");
+        }
+        Recording stopped = recording;
+        recording = null;
+        try {
+            if (stopped.getState() == RecordingState.RUNNING) {
+                stopped.stop();
+            }
+            Path file = Files.createTempFile(RECORDING_NAME + "-", ".jfr");
+            stopped.dump(file);
+            return file;
+        } finally {
+            stopped.close();
+        }
+    }
+
+    @Override
+    public synchronized void destroy() {
+        closeCurrent();
+    }
+
+    private void closeCurrent() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    private Map<String, String> settings() {
+        Map<String, String> settings;
+        try {
+            settings = new HashMap<>(Configuration.getConfiguration("default").getSettings());
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("Configuração JFR 'default' indisponível", e);
+        }
+        settings.put(TaskOperationEvent.NAME + "#enabled", "true");
+        settings.put(TaskOperationEvent.NAME + "#threshold", properties.operationThreshold().toMillis() + " ms");
+        settings.put(ApiErrorEvent.NAME + "#enabled", "true");
+        settings.put("jdk.InitialEnvironmentVariable#enabled", "false");
+        settings.put("jdk.InitialSystemProperty#enabled", "false");
+        return settings;
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.todo.service;
+
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.TransactionTimedOutException;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Prazo da requisição atendida pela thread atual, em {@link System#nanoTime()}. Definido na entrada da requisição
+ * e lido pelo {@link DeadlineAwareTransactionManager}, que o transforma no tempo limite das transações e, por
+ * elas, dos comandos enviados ao banco. Sem prazo definido (tarefas agendadas) nada muda.
+ * <p>
+ * Quem executa trabalho de outra thread (lotes, leituras agrupadas) repassa o prazo com {@link #current()} e
+ * {@link #callWithin}.
+ */
+public final class RequestDeadline {
+
+    private static final ThreadLocal<Long> CURRENT = new ThreadLocal<>();
+
+    private RequestDeadline() {
+    }
+
+    public static void start(Duration timeout) {
+        CURRENT.set(System.nanoTime() + timeout.toNanos());
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    public static boolean isSet() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * Prazo da thread atual em {@link System#nanoTime()}, ou {@code null} sem prazo definido.
+     */
+    public static Long current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Executa {@code action} com o prazo {@code deadline} (de {@link #current()}; {@code null} para nenhum) e depois
+     * devolve à thread o prazo que ela tinha.
+     */
+    public static <T> T callWithin(Long deadline, Supplier<T> action) {
+        Long previous = CURRENT.get();
+        set(deadline);
+        try {
+            return action.get();
+        } finally {
+            set(previous);
+        }
+    }
+
+    /**
+     * O prazo que vencer primeiro entre os dois; {@code null} conta como sem prazo.
+     */
+    public static Long earliest(Long first, Long second) {
+        if (first == null) {
+            return second;
+        }
+        return second == null || first - second <= 0 ? first : second;
+    }
+
+    /**
+     * Indica se a falha é de um prazo esgotado no banco: quem compartilhava o resultado e ainda tem prazo pode
+     * carregar de novo por conta própria.
+     */
+    public static boolean isExpiry(Throwable failure) {
+        return failure instanceof QueryTimeoutException || failure instanceof TransactionTimedOutException;
+    }
+
+    /**
+     * Tempo que ainda resta, negativo depois de vencido, ou {@link Long#MAX_VALUE} sem prazo definido.
+     */
+    public static long remainingNanos() {
+        Long deadline = CURRENT.get();
+        return deadline == null ? Long.MAX_VALUE : deadline - System.nanoTime();
+    }
+
+    private static void set(Long deadline) {
+        if (deadline == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(deadline);
+        }
+    }
+}
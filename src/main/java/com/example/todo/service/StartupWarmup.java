@@ -0,0 +1,275 @@
+package com.example.todo.service;
+
+import com.example.todo.index.TaskPriorityIndex;
+import com.example.todo.model.Task;
+import com.example.todo.model.enums.TaskField;
+import com.example.todo.model.enums.TaskStatus;
+import com.example.todo.repository.TaskRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Aquece a aplicação na subida, depois de os índices serem carregados e antes de ela se declarar pronta: o Spring
+ * Boot só muda o readiness para {@code ACCEPTING_TRAFFIC} quando os listeners de {@link ApplicationReadyEvent}
+ * terminam, então o tráfego chega com o pool cheio, os planos de consulta do Hibernate em cache e o JIT já tendo
+ * compilado o caminho repositório → {@code toDTO} → Jackson.
+ * <p>
+ * As etapas são: abrir as {@code minimumIdle} conexões do Hikari, rodar {@link StartupWarmupProperties#iterations()}
+ * vezes cada consulta do {@link TaskRepository} e as leituras do {@link TaskService} com serialização para JSON, e
+ * carregar no {@code TaskNearCache} as próximas tarefas pendentes. Consultas que leem a tabela inteira
+ * ({@code findAll}, {@code findByTaskStatus}, {@code findFields}) ficam de fora, e as de escrita também.
+ * <p>
+ * O tempo gasto e o p99 das primeiras e das últimas rodadas vão para o log e para {@value #DURATION_METRIC} e
+ * {@value #P99_METRIC}. Uma falha no aquecimento só é registrada: a aplicação sobe mesmo assim.
+ */
+@Component
+@ConditionalOnProperty(name = "todo-api.warmup.enabled", havingValue = "true", matchIfMissing = true)
+public class StartupWarmup {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupWarmup.class);
+
+    static final String DURATION_METRIC = "tasks.warmup.duration";
+    static final String P99_METRIC = "tasks.warmup.p99";
+
+    private static final Set<TaskField> ALL_FIELDS = EnumSet.allOf(TaskField.class);
+    private static final int PRELOAD_BATCH = 100;
+
+    private final TaskRepository taskRepository;
+    private final TaskService taskService;
+    private final TaskPriorityIndex priorityIndex;
+    private final DataSource dataSource;
+    private final ObjectMapper objectMapper;
+    private final TransactionOperations readTransaction;
+    private final StartupWarmupProperties properties;
+
+    private volatile Report report;
+
+    /**
+     * Resultado do aquecimento. {@code coldP99} e {@code warmP99} são o p99 do tempo de uma rodada completa entre
+     * os primeiros e os últimos 10% das rodadas.
+     */
+    public record Report(Duration elapsed, int connections, int iterations, Duration coldP99, Duration warmP99,
+                         int preloaded) {
+    }
+
+    public StartupWarmup(TaskRepository taskRepository,
+                         TaskService taskService,
+                         TaskPriorityIndex priorityIndex,
+                         DataSource dataSource,
+                         ObjectMapper objectMapper,
+                         PlatformTransactionManager transactionManager,
+                         StartupWarmupProperties properties,
+                         MeterRegistry meterRegistry) {
+        this.taskRepository = taskRepository;
+        this.taskService = taskService;
+        this.priorityIndex = priorityIndex;
+        this.dataSource = dataSource;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        this.readTransaction = template;
+
+        TimeGauge.builder(DURATION_METRIC, this, TimeUnit.NANOSECONDS, reportValue(Report::elapsed))
+                .description("Tempo gasto no aquecimento da subida")
+                .register(meterRegistry);
+        TimeGauge.builder(P99_METRIC, this, TimeUnit.NANOSECONDS, reportValue(Report::coldP99))
+                .tag("window", "cold")
+                .description("p99 de uma rodada de aquecimento, primeiras rodadas")
+                .register(meterRegistry);
+        TimeGauge.builder(P99_METRIC, this, TimeUnit.NANOSECONDS, reportValue(Report::warmP99))
+                .tag("window", "warm")
+                .description("p99 de uma rodada de aquecimento, últimas rodadas")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Resultado do último aquecimento, ou {@code null} se ele ainda não terminou.
+     */
+    public Report lastReport() {
+        return report;
+    }
+
+    // Depois do TaskService.reloadChangeListeners: as amostras saem do índice de prioridade
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void warmUp() {
+        try {
+            report = run();
+            log.info("Aquecimento concluído em {} ms: {} conexões abertas, {} rodadas, p99 de {} µs nas primeiras e "
+                            + "{} µs nas últimas, {} tarefas no cache",
+                    report.elapsed().toMillis(), report.connections(), report.iterations(),
+                    report.coldP99().toNanos() / 1000, report.warmP99().toNanos() / 1000, report.preloaded());
+        } catch (RuntimeException e) {
+            log.warn("Aquecimento interrompido; a aplicação segue sem ele", e);
+        }
+    }
+
+    private Report run() {
+        long start = System.nanoTime();
+        long deadline = start + properties.maxDuration().toNanos();
+        int connections = openPoolConnections();
+
+        long[] hot = priorityIndex.next(Math.max(properties.samples(), properties.preloadTasks()));
+        List<Long> samples = Arrays.stream(hot).limit(Math.max(0, properties.samples())).boxed().toList();
+        List<String> prefixes = taskRepository.findAllById(samples).stream()
+                .map(Task::getTitle)
+                .filter(title -> title != null && !title.isBlank())
+                .map(title -> title.strip().substring(0, Math.min(3, title.strip().length())).toLowerCase(Locale.ROOT))
+                .toList();
+
+        long[] latencies = new long[Math.max(0, properties.iterations())];
+        int done = 0;
+        // Sem requisição não há prazo: o maxDuration vira o RequestDeadline das rodadas e limita cada consulta
+        RequestDeadline.start(Duration.ofNanos(deadline - System.nanoTime()));
+        try {
+            while (done < latencies.length && System.nanoTime() < deadline) {
+                long iterationStart = System.nanoTime();
+                runRepositoryQueries(samples, prefixes, done);
+                runServiceReads(samples, done);
+                latencies[done++] = System.nanoTime() - iterationStart;
+            }
+        } finally {
+            RequestDeadline.clear();
+        }
+        if (done < latencies.length) {
+            log.warn("Aquecimento parou após {} de {} rodadas por atingir {}", done, latencies.length,
+                    properties.maxDuration());
+        }
+
+        int preloaded;
+        RequestDeadline.start(properties.maxDuration());
+        try {
+            preloaded = preload(hot);
+        } finally {
+            RequestDeadline.clear();
+        }
+        int window = Math.max(1, done / 10);
+        return new Report(Duration.ofNanos(System.nanoTime() - start), connections, done,
+                Duration.ofNanos(p99(latencies, 0, Math.min(window, done))),
+                Duration.ofNanos(p99(latencies, Math.max(0, done - window), done)),
+                preloaded);
+    }
+
+    // O Hikari completa o mínimo em segundo plano; pedir as conexões de uma vez garante o pool cheio agora
+    private int openPoolConnections() {
+        List<Connection> connections = new ArrayList<>();
+        try {
+            if (!dataSource.isWrapperFor(HikariDataSource.class)) {
+                return 0;
+            }
+            HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+            int minimum = Math.max(1, Math.min(hikari.getMinimumIdle(), hikari.getMaximumPoolSize()));
+            while (connections.size() < minimum) {
+                connections.add(dataSource.getConnection());
+            }
+            return connections.size();
+        } catch (SQLException e) {
+            log.warn("Não foi possível abrir as conexões mínimas do pool", e);
+            return connections.size();
+        } finally {
+            for (Connection connection : connections) {
+                try {
+                    connection.close();
+                } catch (SQLException ignored) {
+                    // Devolver ao pool não falha na prática; se falhar o Hikari descarta a conexão
+                }
+            }
+        }
+    }
+
+    private void runRepositoryQueries(List<Long> samples, List<String> prefixes, int iteration) {
+        List<Long> ids = samples.isEmpty() ? List.of(0L) : samples;
+        long id = ids.get(iteration % ids.size());
+        String prefix = prefixes.isEmpty() ? "a" : prefixes.get(iteration % prefixes.size());
+        readTransaction.executeWithoutResult(status -> {
+            taskRepository.findById(id);
+            taskRepository.existsById(id);
+            taskRepository.findAllById(ids);
+            taskRepository.findByTitlePrefix(prefix);
+            taskRepository.findDescendants(id);
+            taskRepository.findAncestors(id);
+            taskRepository.findFieldsByIds(ALL_FIELDS, ids);
+            taskRepository.findTagsByIds(ids);
+            // afterId no máximo: percorre o plano da consulta sem devolver linhas
+            taskRepository.findPurgeCandidateIds(TaskStatus.COMPLETED, LocalDateTime.now(), Long.MAX_VALUE,
+                    Limit.of(1));
+        });
+    }
+
+    private void runServiceReads(List<Long> samples, int iteration) {
+        serialize(taskService.findNext(10));
+        if (samples.isEmpty()) {
+            return;
+        }
+        long id = samples.get(iteration % samples.size());
+        serialize(taskService.findById(id));
+        serialize(taskService.findByIds(samples, null));
+        serialize(taskService.findDescendants(id));
+        serialize(taskService.findAncestors(id));
+    }
+
+    private int preload(long[] ids) {
+        int count = Math.min(ids.length, Math.max(0, properties.preloadTasks()));
+        int preloaded = 0;
+        for (int from = 0; from < count; from += PRELOAD_BATCH) {
+            List<Long> batch = Arrays.stream(ids, from, Math.min(count, from + PRELOAD_BATCH)).boxed().toList();
+            preloaded += taskService.findByIds(batch, null).getContent().size();
+        }
+        return preloaded;
+    }
+
+    private void serialize(Object value) {
+        try {
+            objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar no aquecimento", e);
+        }
+    }
+
+    private static long p99(long[] latencies, int from, int to) {
+        if (to <= from) {
+            return 0;
+        }
+        long[] window = Arrays.copyOfRange(latencies, from, to);
+        Arrays.sort(window);
+        return window[(int) Math.ceil(window.length * 0.99) - 1];
+    }
+
+    private static ToDoubleFunction<StartupWarmup> reportValue(Function<Report, Duration> value) {
+        return warmup -> {
+            Report current = warmup.report;
+            return current == null ? 0 : value.apply(current).toNanos();
+        };
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.todo.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Aquecimento na subida, antes de a aplicação se declarar pronta ({@code todo-api.warmup.*}).
+ *
+ * @param enabled      executa o aquecimento; desligado, a aplicação fica pronta logo após carregar os índices
+ * @param iterations   rodadas de cada consulta do repositório e do caminho serviço → DTO → JSON
+ * @param samples      tarefas usadas como parâmetro das consultas em cada rodada
+ * @param preloadTasks próximas tarefas pendentes carregadas no cache local ao final
+ * @param maxDuration  tempo máximo das rodadas, aplicado também como prazo das consultas delas e do carregamento do
+ *                     cache; passado dele, a aplicação fica pronta com o que já aqueceu
+ */
+@ConfigurationProperties(prefix = "todo-api.warmup")
+public record StartupWarmupProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("200") int iterations,
+        @DefaultValue("20") int samples,
+        @DefaultValue("1000") int preloadTasks,
+        @DefaultValue("60s") Duration maxDuration
+) {
+}
@@ -0,0 +1,62 @@
+package com.example.todo.service;
+
+import com.example.todo.model.Task;
+import com.example.todo.model.enums.TaskStatus;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Recebe as escritas feitas pelo {@link TaskService} para manter estruturas em memória atualizadas.
+ * <p>
+ * Os métodos são chamados na thread da requisição, logo após o commit da escrita: devem ser rápidos.
+ */
+public interface TaskChangeListener {
+
+    /**
+     * Início da carga completa na inicialização da aplicação: descarta o estado atual. As tarefas chegam em seguida
+     * por {@link #onReloadPage} e a carga termina em {@link #onReloadEnd}.
+     */
+    default void onReloadStart() {
+    }
+
+    /**
+     * Uma página da carga completa, em ordem crescente de id. As páginas não ficam em memória depois da chamada:
+     * guarde só o que a estrutura precisa de cada tarefa.
+     */
+    default void onReloadPage(List<Task> tasks) {
+    }
+
+    default void onReloadEnd() {
+    }
+
+    /**
+     * Carga completa de uma lista só, nas mesmas etapas da carga em páginas.
+     */
+    default void onReload(List<Task> tasks) {
+        onReloadStart();
+        onReloadPage(tasks.stream().sorted(Comparator.comparingLong(Task::getId)).toList());
+        onReloadEnd();
+    }
+
+    /**
+     * Tarefa criada ou alterada.
+     */
+    default void onSaved(Task task) {
+    }
+
+    /**
+     * Tarefa nova; chamado depois de {@link #onSaved(Task)}.
+     */
+    default void onCreated(Task task) {
+    }
+
+    /**
+     * Status alterado; chamado depois de {@link #onSaved(Task)}.
+     */
+    default void onStatusChanged(Task task, TaskStatus previous) {
+    }
+
+    default void onDeleted(long taskId) {
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.todo.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuração da gravação assíncrona do histórico ({@code todo-api.history.*}).
+ *
+ * @param queueCapacity  alterações aguardando gravação; acima disso a gravação passa a ser síncrona
+ * @param batchSize      linhas por INSERT
+ * @param flushInterval  espera máxima por novas alterações antes de gravar o que já está na fila
+ * @param maxAttempts    tentativas da thread de gravação antes de enviar o lote ao arquivo de contingência
+ * @param spillDirectory diretório dos lotes que não puderam ser gravados; regravados quando o banco volta
+ */
+@ConfigurationProperties(prefix = "todo-api.history")
+public record TaskHistoryProperties(
+        @DefaultValue("10000") int queueCapacity,
+        @DefaultValue("200") int batchSize,
+        @DefaultValue("200ms") Duration flushInterval,
+        @DefaultValue("3") int maxAttempts,
+        @DefaultValue("data/history-spill") Path spillDirectory
+) {
+}
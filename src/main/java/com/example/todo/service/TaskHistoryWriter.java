@@ -0,0 +1,374 @@
+package com.example.todo.service;
+
+import com.example.todo.model.TaskHistory;
+import com.example.todo.model.enums.TaskHistoryField;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Grava o histórico de alterações em segundo plano, com INSERTs de várias linhas.
+ * <p>
+ * As alterações ficam numa fila em memória e uma thread dedicada agrupa até
+ * {@link TaskHistoryProperties#batchSize()} linhas por comando. Com a fila cheia, ou fora do ciclo de vida,
+ * a gravação é feita na thread de quem chamou, numa única tentativa: só a thread dedicada repete e espera.
+ * Lotes que continuam falhando vão para arquivos em {@link TaskHistoryProperties#spillDirectory()}, que a
+ * thread dedicada regrava quando fica ociosa. No desligamento a thread é parada depois do servidor web
+ * (fase mais baixa) e a fila é esvaziada antes de o pool de conexões fechar.
+ */
+@Component
+public class TaskHistoryWriter implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskHistoryWriter.class);
+
+    // Inicia antes e para depois do servidor web: nenhuma requisição enfileira após o flush final
+    static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO task_history (task_id, field, old_value, new_value, changed_at) VALUES ";
+    private static final int COLUMNS = 5;
+    private static final String SPILL_SUFFIX = ".tsv";
+    private static final String NULL_VALUE = "\\N";
+    private static final long MAX_REPLAY_BACKOFF_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TaskHistoryProperties properties;
+    private final BlockingQueue<TaskHistory> queue;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final AtomicLong spillSequence = new AtomicLong();
+    private final String spillPrefix = "history-" + UUID.randomUUID() + "-";
+    private final Counter written;
+    private final Counter spilled;
+    private final Counter dropped;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    // Usados só pela thread de gravação: espera crescente entre regravações enquanto o banco segue fora
+    private long replayBackoffNanos;
+    private long nextReplayNanos;
+
+    public TaskHistoryWriter(JdbcTemplate jdbcTemplate, TaskHistoryProperties properties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.queue = new LinkedBlockingQueue<>(properties.queueCapacity());
+        this.written = Counter.builder("tasks.history.written")
+                .description("Registros de histórico gravados")
+                .register(meterRegistry);
+        this.spilled = Counter.builder("tasks.history.spilled")
+                .description("Registros de histórico enviados ao arquivo de contingência")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("tasks.history.dropped")
+                .description("Registros de histórico perdidos por falha também no arquivo de contingência")
+                .register(meterRegistry);
+        Gauge.builder("tasks.history.queue", queue, BlockingQueue::size)
+                .description("Registros aguardando gravação")
+                .register(meterRegistry);
+    }
+
+    public void enqueue(Collection<TaskHistory> changes) {
+        List<TaskHistory> overflow = null;
+        for (TaskHistory change : changes) {
+            if (!running || !queue.offer(change)) {
+                if (overflow == null) {
+                    overflow = new ArrayList<>();
+                }
+                overflow.add(change);
+            }
+        }
+        if (overflow != null) {
+            writeOnce(overflow);
+        }
+    }
+
+    /**
+     * Grava imediatamente tudo o que estiver na fila.
+     */
+    public void flush() {
+        List<TaskHistory> batch = new ArrayList<>(properties.batchSize());
+        while (queue.drainTo(batch, properties.batchSize()) > 0) {
+            writeWithRetry(batch);
+            batch.clear();
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::run, "task-history-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            try {
+                worker.join(properties.flushInterval().toMillis() * 2 + 5_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flush();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private void run() {
+        List<TaskHistory> batch = new ArrayList<>(properties.batchSize());
+        long pollMillis = properties.flushInterval().toMillis();
+        while (running) {
+            try {
+                TaskHistory first = queue.poll(pollMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    if (System.nanoTime() - nextReplayNanos >= 0) {
+                        replaySpilled();
+                    }
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, properties.batchSize() - 1);
+                writeWithRetry(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Falha inesperada no gravador de histórico", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // Espera entre tentativas sem segurar o lock, para não bloquear gravações síncronas de requisições
+    private void writeWithRetry(List<TaskHistory> batch) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                lockedInsert(batch);
+                written.increment(batch.size());
+                return;
+            } catch (RuntimeException e) {
+                if (attempt >= properties.maxAttempts()) {
+                    log.error("Falha ao gravar histórico após {} tentativas ({} registros)", attempt, batch.size(), e);
+                    spill(batch);
+                    return;
+                }
+                log.warn("Falha ao gravar histórico (tentativa {}), tentando novamente", attempt, e);
+                sleep(properties.flushInterval().toMillis() * attempt);
+            }
+        }
+    }
+
+    private void writeOnce(List<TaskHistory> batch) {
+        try {
+            lockedInsert(batch);
+            written.increment(batch.size());
+        } catch (RuntimeException e) {
+            log.warn("Falha ao gravar histórico fora da fila ({} registros)", batch.size(), e);
+            spill(batch);
+        }
+    }
+
+    private void lockedInsert(List<TaskHistory> batch) {
+        writeLock.lock();
+        try {
+            insert(batch);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void spill(List<TaskHistory> batch) {
+        Path directory = properties.spillDirectory();
+        Path file = directory.resolve(String.format("%s%020d%s", spillPrefix, spillSequence.incrementAndGet(), SPILL_SUFFIX));
+        Path temporary = directory.resolve(file.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(directory);
+            Files.write(temporary, batch.stream().map(TaskHistoryWriter::toLine).toList(), StandardCharsets.UTF_8);
+            Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE);
+            spilled.increment(batch.size());
+        } catch (IOException e) {
+            dropped.increment(batch.size());
+            log.error("Histórico descartado: não foi possível gravar {} ({} registros)", file, batch.size(), e);
+        }
+    }
+
+    /**
+     * Regrava os lotes do arquivo de contingência, mais antigos primeiro, parando na primeira falha.
+     */
+    void replaySpilled() {
+        for (Path file : spilledFiles()) {
+            List<TaskHistory> batch;
+            try {
+                batch = Files.readAllLines(file, StandardCharsets.UTF_8).stream().map(TaskHistoryWriter::fromLine).toList();
+            } catch (IOException | UncheckedIOException | IllegalArgumentException e) {
+                quarantine(file, e);
+                continue;
+            }
+            try {
+                if (!batch.isEmpty()) {
+                    lockedInsert(batch);
+                }
+            } catch (RuntimeException e) {
+                replayBackoffNanos = Math.min(MAX_REPLAY_BACKOFF_NANOS,
+                        Math.max(properties.flushInterval().toNanos(), replayBackoffNanos * 2));
+                nextReplayNanos = System.nanoTime() + replayBackoffNanos;
+                log.debug("Banco ainda indisponível para regravar {}", file, e);
+                return;
+            }
+            replayBackoffNanos = 0;
+            written.increment(batch.size());
+            try {
+                Files.delete(file);
+            } catch (IOException e) {
+                log.error("Histórico regravado mas o arquivo {} não pôde ser removido", file, e);
+                return;
+            }
+        }
+    }
+
+    // Renomeia para fora do padrão, evitando novas tentativas a cada ciclo ocioso
+    private static void quarantine(Path file, Exception cause) {
+        Path invalid = file.resolveSibling(file.getFileName() + ".invalid");
+        log.error("Arquivo de contingência do histórico ilegível, mantido como {}", invalid, cause);
+        try {
+            Files.move(file, invalid, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            log.error("Não foi possível renomear {}", file, e);
+        }
+    }
+
+    private List<Path> spilledFiles() {
+        Path directory = properties.spillDirectory();
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(SPILL_SUFFIX))
+                    .sorted(Comparator.comparingLong(TaskHistoryWriter::modifiedMillis).thenComparing(Path::getFileName))
+                    .toList();
+        } catch (IOException e) {
+            log.warn("Não foi possível listar {}", directory, e);
+            return List.of();
+        }
+    }
+
+    private static long modifiedMillis(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    // Uma alteração por linha, colunas separadas por tabulação
+    static String toLine(TaskHistory change) {
+        return change.getTaskId() + "\t" + change.getField().name() + "\t" + escape(change.getOldValue())
+                + "\t" + escape(change.getNewValue()) + "\t" + change.getChangedAt();
+    }
+
+    static TaskHistory fromLine(String line) {
+        String[] columns = line.split("\t", -1);
+        if (columns.length != COLUMNS) {
+            throw new IllegalArgumentException("Linha de histórico inválida: " + line);
+        }
+        return new TaskHistory(Long.parseLong(columns[0]), TaskHistoryField.valueOf(columns[1]),
+                unescape(columns[2]), unescape(columns[3]), LocalDateTime.parse(columns[4]));
+    }
+
+    private static String escape(String value) {
+        if (value == null) {
+            return NULL_VALUE;
+        }
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> escaped.append("\\\\");
+                case '\t' -> escaped.append("\\t");
+                case '\n' -> escaped.append("\\n");
+                case '\r' -> escaped.append("\\r");
+                default -> escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    private static String unescape(String value) {
+        if (value.equals(NULL_VALUE)) {
+            return null;
+        }
+        StringBuilder unescaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c != '\\' || i + 1 == value.length()) {
+                unescaped.append(c);
+                continue;
+            }
+            char next = value.charAt(++i);
+            unescaped.append(switch (next) {
+                case 't' -> '\t';
+                case 'n' -> '\n';
+                case 'r' -> '\r';
+                default -> next;
+            });
+        }
+        return unescaped.toString();
+    }
+
+    private void insert(List<TaskHistory> batch) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + batch.size() * 18).append(INSERT_PREFIX);
+        Object[] args = new Object[batch.size() * COLUMNS];
+        int i = 0;
+        for (TaskHistory change : batch) {
+            sql.append(i == 0 ? "(?, ?, ?, ?, ?)" : ", (?, ?, ?, ?, ?)");
+            args[i++] = change.getTaskId();
+            args[i++] = change.getField().name();
+            args[i++] = change.getOldValue();
+            args[i++] = change.getNewValue();
+            args[i++] = change.getChangedAt();
+        }
+        jdbcTemplate.update(sql.toString(), args);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.todo.service;
+
+import com.example.todo.model.enums.TaskStatus;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuração da rotina de retenção ({@code todo-api.retention.*}).
+ *
+ * @param enabled              liga a rotina agendada
+ * @param status               status das tarefas que podem ser removidas
+ * @param maxAge               idade mínima (a partir de createdAt) para remoção
+ * @param batchSize            quantidade máxima de linhas por lote
+ * @param maxBatchesPerSecond  limite de lotes por segundo
+ * @param latencyThreshold     latência média das requisições acima da qual a rotina pausa
+ * @param pauseDuration        duração de cada pausa
+ */
+@ConfigurationProperties(prefix = "todo-api.retention")
+public record TaskRetentionProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("COMPLETED") TaskStatus status,
+        @DefaultValue("90d") Duration maxAge,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("5") double maxBatchesPerSecond,
+        @DefaultValue("250ms") Duration latencyThreshold,
+        @DefaultValue("5s") Duration pauseDuration
+) {
+}
@@ -0,0 +1,209 @@
+package com.example.todo.service;
+
+import com.example.todo.repository.TaskClosureRepository;
+import com.example.todo.repository.TaskRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Remove periodicamente tarefas antigas em lotes pequenos por faixa de id.
+ * <p>
+ * Cada lote é uma transação curta ({@link TaskRepository#deletePurgeBatch}), o ritmo é limitado por
+ * {@link TaskRetentionProperties#maxBatchesPerSecond()} e a rotina pausa enquanto a latência média das
+ * requisições HTTP estiver acima de {@link TaskRetentionProperties#latencyThreshold()}.
+ */
+@Service
+@ConditionalOnProperty(name = "todo-api.retention.enabled", havingValue = "true")
+public class TaskRetentionService {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskRetentionService.class);
+
+    static final String REQUEST_LATENCY_METRIC = "http.server.requests";
+
+    private final TaskRepository taskRepository;
+    private final TaskRetentionProperties properties;
+    private final TaskClosureRepository closureRepository;
+    private final MeterRegistry meterRegistry;
+    private final List<TaskChangeListener> changeListeners;
+
+    private final Counter purgedRows;
+    private final Counter pauses;
+    private final AtomicLong runPurgedRows = new AtomicLong();
+    private final AtomicLong lastPurgedId = new AtomicLong();
+    private final AtomicLong paused = new AtomicLong();
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private long lastLatencyCount;
+    private double lastLatencyTotalNanos;
+
+    public TaskRetentionService(TaskRepository taskRepository,
+                                TaskClosureRepository closureRepository,
+                                TaskRetentionProperties properties,
+                                MeterRegistry meterRegistry,
+                                List<TaskChangeListener> changeListeners) {
+        this.taskRepository = taskRepository;
+        this.closureRepository = closureRepository;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.changeListeners = changeListeners;
+        this.purgedRows = Counter.builder("tasks.retention.purged")
+                .description("Tarefas removidas pela rotina de retenção")
+                .register(meterRegistry);
+        this.pauses = Counter.builder("tasks.retention.pauses")
+                .description("Pausas causadas por latência alta")
+                .register(meterRegistry);
+        Gauge.builder("tasks.retention.run.purged", runPurgedRows, AtomicLong::get)
+                .description("Tarefas removidas na execução atual ou na última")
+                .register(meterRegistry);
+        Gauge.builder("tasks.retention.run.last-id", lastPurgedId, AtomicLong::get)
+                .description("Último id processado (progresso da execução)")
+                .register(meterRegistry);
+        Gauge.builder("tasks.retention.paused", paused, AtomicLong::get)
+                .description("1 enquanto a rotina está pausada por latência")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${todo-api.retention.interval:PT1H}",
+            initialDelayString = "${todo-api.retention.initial-delay:PT5M}")
+    public void scheduledPurge() {
+        purge();
+    }
+
+    /**
+     * Executa uma rodada completa de remoção e retorna a quantidade de tarefas removidas.
+     */
+    public long purge() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("Rotina de retenção já está em execução");
+            return 0;
+        }
+        try {
+            LocalDateTime cutoff = LocalDateTime.now().minus(properties.maxAge());
+            long minNanosPerBatch = (long) (TimeUnit.SECONDS.toNanos(1) / properties.maxBatchesPerSecond());
+            long afterId = 0;
+            runPurgedRows.set(0);
+            lastPurgedId.set(0);
+            resetLatencyBaseline();
+
+            while (!Thread.currentThread().isInterrupted()) {
+                waitWhileLatencyIsHigh();
+                long batchStart = System.nanoTime();
+
+                List<Long> ids = taskRepository.findPurgeCandidateIds(
+                        properties.status(), cutoff, afterId, Limit.of(properties.batchSize()));
+                if (ids.isEmpty()) {
+                    break;
+                }
+                long fromId = ids.get(0);
+                long toId = ids.get(ids.size() - 1);
+                int deleted = taskRepository.deletePurgeBatch(fromId, toId, properties.status(), cutoff);
+                if (deleted > 0) {
+                    closureRepository.deleteDanglingPaths(fromId, toId);
+                    detachOrphanedChildren(fromId, toId);
+                }
+                notifyDeleted(ids, deleted);
+
+                purgedRows.increment(deleted);
+                runPurgedRows.addAndGet(deleted);
+                lastPurgedId.set(toId);
+                afterId = toId;
+
+                if (ids.size() < properties.batchSize()) {
+                    break;
+                }
+                sleepNanos(minNanosPerBatch - (System.nanoTime() - batchStart));
+            }
+            log.info("Retenção removeu {} tarefas {} anteriores a {}", runPurgedRows.get(), properties.status(), cutoff);
+            return runPurgedRows.get();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    // Subtarefas que sobreviveram ao pai viram raízes, como já acontece na tabela de fechamento
+    private void detachOrphanedChildren(long fromId, long toId) {
+        List<Long> orphanIds = taskRepository.findOrphanedChildIds(fromId, toId);
+        if (orphanIds.isEmpty()) {
+            return;
+        }
+        taskRepository.clearParents(orphanIds);
+        if (!changeListeners.isEmpty()) {
+            taskRepository.findAllById(orphanIds)
+                    .forEach(task -> changeListeners.forEach(listener -> listener.onSaved(task)));
+        }
+    }
+
+    // Candidatos alterados entre a busca e o delete continuam no banco e não são notificados
+    private void notifyDeleted(List<Long> candidateIds, int deleted) {
+        if (changeListeners.isEmpty() || deleted == 0) {
+            return;
+        }
+        Set<Long> survivors = new HashSet<>();
+        if (deleted < candidateIds.size()) {
+            taskRepository.findAllById(candidateIds).forEach(task -> survivors.add(task.getId()));
+        }
+        for (Long id : candidateIds) {
+            if (!survivors.contains(id)) {
+                changeListeners.forEach(listener -> listener.onDeleted(id));
+            }
+        }
+    }
+
+    private void waitWhileLatencyIsHigh() {
+        long thresholdNanos = properties.latencyThreshold().toNanos();
+        while (recentRequestLatencyNanos() > thresholdNanos && !Thread.currentThread().isInterrupted()) {
+            paused.set(1);
+            pauses.increment();
+            sleepNanos(properties.pauseDuration().toNanos());
+        }
+        paused.set(0);
+    }
+
+    /**
+     * Latência média das requisições HTTP concluídas desde a última amostra (0 se não houve requisições).
+     */
+    double recentRequestLatencyNanos() {
+        long count = 0;
+        double totalNanos = 0;
+        for (Timer timer : meterRegistry.find(REQUEST_LATENCY_METRIC).timers()) {
+            count += timer.count();
+            totalNanos += timer.totalTime(TimeUnit.NANOSECONDS);
+        }
+        long deltaCount = count - lastLatencyCount;
+        double deltaNanos = totalNanos - lastLatencyTotalNanos;
+        lastLatencyCount = count;
+        lastLatencyTotalNanos = totalNanos;
+        return deltaCount <= 0 ? 0 : deltaNanos / deltaCount;
+    }
+
+    private void resetLatencyBaseline() {
+        recentRequestLatencyNanos();
+    }
+
+    private static void sleepNanos(long nanos) {
+        if (nanos <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
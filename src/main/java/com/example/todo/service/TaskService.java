@@ -1,25 +1,167 @@
 package com.example.todo.service;
 
+import com.example.todo.analytics.TaskColumnStore;
+import com.example.todo.analytics.TaskCompletionRollup;
+import com.example.todo.cache.TaskLookupBatcher;
+import com.example.todo.cache.TaskNearCache;
+import com.example.todo.cache.TaskReadCoalescer;
+import com.example.todo.diagnostics.TaskOperationEvent;
+import com.example.todo.exception.DuplicateTaskException;
+import com.example.todo.exception.InvalidRequestException;
 import com.example.todo.exception.ResourceNotFoundException;
+import com.example.todo.exception.TaskHasSubtasksException;
+import com.example.todo.index.TaskDuplicateIndex;
+import com.example.todo.index.TaskPriorityIndex;
+import com.example.todo.index.TaskTagIndex;
+import com.example.todo.index.TaskTitleTrie;
 import com.example.todo.model.Task;
+import com.example.todo.model.TaskHistory;
+import com.example.todo.model.dto.PageResponseDTO;
+import com.example.todo.model.dto.TaskAnalyticsDTO;
+import com.example.todo.model.dto.TaskBatchResponseDTO;
+import com.example.todo.model.dto.TaskHistoryDTO;
+import com.example.todo.model.dto.TaskRollupDTO;
 import com.example.todo.model.dto.TaskRequestDTO;
 import com.example.todo.model.dto.TaskResponseDTO;
+import com.example.todo.model.dto.TaskSuggestionDTO;
+import com.example.todo.model.dto.TaskTextStatsDTO;
+import com.example.todo.model.dto.TaskWeeklyCountDTO;
+import com.example.todo.model.enums.AnalyticsBucket;
+import com.example.todo.model.enums.TaskField;
+import com.example.todo.model.enums.TaskHistoryField;
+import com.example.todo.model.enums.TaskPriority;
 import com.example.todo.model.enums.TaskStatus;
+import com.example.todo.repository.TaskClosureRepository;
+import com.example.todo.repository.TaskHistoryRepository;
 import com.example.todo.repository.TaskRepository;
+import jakarta.persistence.Tuple;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
 public class TaskService {
 
+    static final int MAX_NEXT_LIMIT = 100;
+    static final int MAX_PAGE_SIZE = 100;
+    static final int MAX_BATCH_IDS = 100;
+    static final int BACKFILL_BATCH_SIZE = 500;
+    static final int RELOAD_PAGE_SIZE = 1_000;
+
     private final TaskRepository taskRepository;
+    private final TaskClosureRepository closureRepository;
+    private final TaskHistoryRepository historyRepository;
+    private final TaskHistoryWriter historyWriter;
+    private final TaskPriorityIndex priorityIndex;
+    private final TaskTagIndex tagIndex;
+    private final TaskTitleTrie titleTrie;
+    private final TaskDuplicateIndex duplicateIndex;
+    private final TaskCompletionRollup completionRollup;
+    private final TaskColumnStore columnStore;
+    private final TaskNearCache nearCache;
+    private final TaskReadCoalescer readCoalescer;
+    private final TaskLookupBatcher lookupBatcher;
+    private final List<TaskChangeListener> changeListeners;
 
-    public TaskService(TaskRepository taskRepository) {
+    public TaskService(TaskRepository taskRepository,
+                       TaskClosureRepository closureRepository,
+                       TaskHistoryRepository historyRepository,
+                       TaskHistoryWriter historyWriter,
+                       TaskPriorityIndex priorityIndex,
+                       TaskTagIndex tagIndex,
+                       TaskTitleTrie titleTrie,
+                       TaskDuplicateIndex duplicateIndex,
+                       TaskCompletionRollup completionRollup,
+                       TaskColumnStore columnStore,
+                       TaskNearCache nearCache,
+                       TaskReadCoalescer readCoalescer,
+                       TaskLookupBatcher lookupBatcher,
+                       List<TaskChangeListener> changeListeners) {
         this.taskRepository = taskRepository;
+        this.closureRepository = closureRepository;
+        this.historyRepository = historyRepository;
+        this.historyWriter = historyWriter;
+        this.priorityIndex = priorityIndex;
+        this.tagIndex = tagIndex;
+        this.titleTrie = titleTrie;
+        this.duplicateIndex = duplicateIndex;
+        this.completionRollup = completionRollup;
+        this.columnStore = columnStore;
+        this.nearCache = nearCache;
+        this.readCoalescer = readCoalescer;
+        this.lookupBatcher = lookupBatcher;
+        this.changeListeners = changeListeners;
+    }
+
+    /**
+     * Carrega as estruturas em memória (índices) a partir do banco antes de a aplicação receber tráfego. Roda antes
+     * dos demais listeners de prontidão, como o {@link StartupWarmup}, que dependem dos índices carregados.
+     * <p>
+     * A tabela é lida em páginas de {@value #RELOAD_PAGE_SIZE} tarefas por id, cada uma na sua própria transação:
+     * só uma página (com as tags) fica em memória por vez, em vez da tabela inteira no contexto de persistência.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void reloadChangeListeners() {
+        if (changeListeners.isEmpty()) {
+            return;
+        }
+        changeListeners.forEach(TaskChangeListener::onReloadStart);
+        List<Task> page;
+        long afterId = Long.MIN_VALUE;
+        while (!(page = taskRepository.findByIdGreaterThanOrderById(afterId, Limit.of(RELOAD_PAGE_SIZE))).isEmpty()) {
+            List<Task> tasks = page;
+            changeListeners.forEach(listener -> listener.onReloadPage(tasks));
+            afterId = page.get(page.size() - 1).getId();
+        }
+        changeListeners.forEach(TaskChangeListener::onReloadEnd);
+    }
+
+    /**
+     * Garante que tarefas gravadas antes da hierarquia existir tenham sua linha de profundidade 0 na tabela de fechamento.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillHierarchy() {
+        closureRepository.insertMissingSelfPaths();
+    }
+
+    /**
+     * Preenche o título normalizado (usado nas buscas por prefixo) de tarefas gravadas antes da coluna existir, com
+     * {@link Task#normalizeTitle}: um {@code lower(trim())} no banco poderia normalizar diferente das escritas.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillNormalizedTitles() {
+        List<Task> tasks;
+        while (!(tasks = taskRepository.findByNormalizedTitleIsNullAndTitleIsNotNull(Limit.of(BACKFILL_BATCH_SIZE)))
+                .isEmpty()) {
+            tasks.forEach(task -> task.setTitle(task.getTitle()));
+            taskRepository.flush();
+        }
     }
 
+    @Transactional(readOnly = true)
     public List<TaskResponseDTO> findAll() {
         return taskRepository.findAll()
                 .stream()
@@ -27,63 +169,596 @@ public class TaskService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Como {@link #findAll()}, mas seleciona e preenche apenas {@code fields} (nulo = todos os campos).
+     */
+    @Transactional(readOnly = true)
+    public List<TaskResponseDTO> findAll(Set<TaskField> fields) {
+        if (fields == null) {
+            return findAll();
+        }
+        return project(taskRepository.findFields(fields, null), fields);
+    }
+
+    /**
+     * Servido pelo {@link TaskNearCache} quando possível; num miss, chamadas concorrentes para o mesmo id dividem
+     * uma única consulta ({@link TaskReadCoalescer}) e as de ids diferentes são agrupadas num único {@code IN}
+     * ({@link TaskLookupBatcher}). O valor lido do banco entra no cache com a versão da linha, para que
+     * invalidações concorrentes (deste ou de outro nó) prevaleçam.
+     */
     public TaskResponseDTO findById(Long id) {
-        Task task = taskRepository.findById(id)
+        TaskResponseDTO cached = nearCache.get(id);
+        if (cached != null) {
+            return cached;
+        }
+        return readCoalescer.findById(id, () -> loadById(id));
+    }
+
+    private TaskResponseDTO loadById(Long id) {
+        TaskOperationEvent event = TaskOperationEvent.start("findById", id);
+        Task task = lookupBatcher.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Tarefa Não Encontrada Para o Id: " + id));
-        return toDTO(task);
+        event.databaseDone();
+        TaskResponseDTO response = toDTO(task);
+        if (readsCommittedState()) {
+            nearCache.put(id, task.getVersion(), response);
+        }
+        event.finish();
+        return response;
     }
 
+    /**
+     * Uma entrada completa no cache atende qualquer seleção de campos; sem ela, faz a projeção no banco. Sem seleção
+     * de campos prefira {@link #findById(Long)}, que não abre transação enquanto espera uma leitura agrupada.
+     */
+    @Transactional(readOnly = true)
+    public TaskResponseDTO findById(Long id, Set<TaskField> fields) {
+        if (fields == null) {
+            return findById(id);
+        }
+        TaskResponseDTO cached = nearCache.get(id);
+        if (cached != null) {
+            return cached;
+        }
+        return project(taskRepository.findFieldsByIds(fields, List.of(id)), fields)
+                .stream()
+                .findFirst()
+                .orElseThrow(() -> new ResourceNotFoundException("Tarefa Não Encontrada Para o Id: " + id));
+    }
+
+    /**
+     * Busca várias tarefas de uma vez: as que estão no {@link TaskNearCache} saem dele e as demais vêm de uma única
+     * consulta {@code IN}. Mantém a ordem pedida (ids repetidos aparecem uma vez) e lista os ids não encontrados.
+     */
+    @Transactional(readOnly = true)
+    public TaskBatchResponseDTO findByIds(List<Long> ids, Set<TaskField> fields) {
+        Set<Long> requested = new LinkedHashSet<>(ids);
+        requested.remove(null);
+        if (requested.size() > MAX_BATCH_IDS) {
+            throw new InvalidRequestException("Informe no máximo " + MAX_BATCH_IDS + " ids por consulta");
+        }
+
+        TaskOperationEvent event = TaskOperationEvent.start("findByIds", 0L);
+        Map<Long, TaskResponseDTO> byId = new HashMap<>(requested.size() * 2);
+        List<Long> misses = new ArrayList<>(requested.size());
+        for (Long id : requested) {
+            TaskResponseDTO cached = nearCache.get(id);
+            if (cached != null) {
+                byId.put(id, cached);
+            } else {
+                misses.add(id);
+            }
+        }
+        if (!misses.isEmpty()) {
+            if (fields != null) {
+                List<Tuple> rows = taskRepository.findFieldsByIds(fields, misses);
+                event.databaseDone();
+                project(rows, fields).forEach(dto -> byId.put(dto.getId(), dto));
+            } else {
+                boolean cacheable = readsCommittedState();
+                List<Task> tasks = taskRepository.findAllById(misses);
+                event.databaseDone();
+                for (Task task : tasks) {
+                    TaskResponseDTO response = toDTO(task);
+                    if (cacheable) {
+                        nearCache.put(task.getId(), task.getVersion(), response);
+                    }
+                    byId.put(task.getId(), response);
+                }
+            }
+        }
+
+        List<TaskResponseDTO> content = new ArrayList<>(requested.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : requested) {
+            TaskResponseDTO dto = byId.get(id);
+            if (dto != null) {
+                content.add(dto);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        event.finish();
+        return new TaskBatchResponseDTO(content, missingIds);
+    }
+
+    /**
+     * Chamadas concorrentes para o mesmo status dividem uma única consulta e a mesma lista de resultado.
+     */
     public List<TaskResponseDTO> findByStatus(TaskStatus taskStatus) {
-        return taskRepository.findByTaskStatus(taskStatus)
+        return readCoalescer.findByStatus(taskStatus, () -> {
+            TaskOperationEvent event = TaskOperationEvent.start("findByStatus", 0L);
+            List<Task> tasks = taskRepository.findByTaskStatus(taskStatus);
+            event.databaseDone();
+            List<TaskResponseDTO> result = tasks.stream()
+                    .map(this::toDTO)
+                    .collect(Collectors.toList());
+            event.finish();
+            return result;
+        });
+    }
+
+    /**
+     * Projeção no banco; chamadas concorrentes com o mesmo status e os mesmos campos dividem uma única consulta. Sem
+     * seleção de campos prefira {@link #findByStatus(TaskStatus)}, que não abre transação enquanto espera.
+     */
+    @Transactional(readOnly = true)
+    public List<TaskResponseDTO> findByStatus(TaskStatus taskStatus, Set<TaskField> fields) {
+        if (fields == null) {
+            return findByStatus(taskStatus);
+        }
+        return readCoalescer.findByStatus(taskStatus, fields,
+                () -> project(taskRepository.findFields(fields, taskStatus), fields));
+    }
+
+    /**
+     * Próximas tarefas pendentes (dueAt mais próximo, depois maior prioridade), servidas pelo índice em memória.
+     */
+    @Transactional(readOnly = true)
+    public List<TaskResponseDTO> findNext(int limit) {
+        return findNext(limit, null);
+    }
+
+    @Transactional(readOnly = true)
+    public List<TaskResponseDTO> findNext(int limit, Set<TaskField> fields) {
+        long[] ids = priorityIndex.next(Math.max(1, Math.min(limit, MAX_NEXT_LIMIT)));
+        return findAllInOrder(ids, fields);
+    }
+
+    /**
+     * Filtra por tags (todas, alguma, nenhuma) e status usando o índice de bitmaps; resultados em ordem de criação.
+     */
+    @Transactional(readOnly = true)
+    public PageResponseDTO<TaskResponseDTO> search(Set<String> tags, Set<String> anyTags, Set<String> excludeTags,
+                                                   TaskStatus taskStatus, int page, int size) {
+        return search(tags, anyTags, excludeTags, taskStatus, page, size, null);
+    }
+
+    @Transactional(readOnly = true)
+    public PageResponseDTO<TaskResponseDTO> search(Set<String> tags, Set<String> anyTags, Set<String> excludeTags,
+                                                   TaskStatus taskStatus, int page, int size, Set<TaskField> fields) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        int pageNumber = Math.max(0, page);
+        TaskTagIndex.Result result = tagIndex.search(
+                new TaskTagIndex.Query(normalizeTags(tags), normalizeTags(anyTags), normalizeTags(excludeTags), taskStatus),
+                pageNumber, pageSize);
+        return new PageResponseDTO<>(findAllInOrder(result.ids(), fields), pageNumber, pageSize, result.total());
+    }
+
+    /**
+     * Autocomplete de títulos servido pela {@link TaskTitleTrie}: tarefas cujo título começa com {@code prefix},
+     * das gravadas mais recentemente para as mais antigas. Não consulta o banco.
+     */
+    public List<TaskSuggestionDTO> suggest(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            throw new InvalidRequestException("Informe o início do título em prefix");
+        }
+        return titleTrie.suggest(prefix, Math.max(1, Math.min(limit, TaskTitleTrie.MAX_SUGGESTIONS)))
+                .stream()
+                .map(suggestion -> new TaskSuggestionDTO(suggestion.id(), suggestion.title()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Todas as subtarefas de uma tarefa, em qualquer nível, ordenadas por profundidade.
+     */
+    @Transactional(readOnly = true)
+    public List<TaskResponseDTO> findDescendants(Long id) {
+        requireExists(id);
+        return taskRepository.findDescendants(id)
                 .stream()
                 .map(this::toDTO)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public List<TaskResponseDTO> findDescendants(Long id, Set<TaskField> fields) {
+        if (fields == null) {
+            return findDescendants(id);
+        }
+        requireExists(id);
+        return findAllInOrder(closureRepository.findDescendantIds(id), fields);
+    }
+
+    /**
+     * Caminho da raiz até o pai direto da tarefa.
+     */
+    @Transactional(readOnly = true)
+    public List<TaskResponseDTO> findAncestors(Long id) {
+        requireExists(id);
+        return taskRepository.findAncestors(id)
+                .stream()
+                .map(this::toDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    public List<TaskResponseDTO> findAncestors(Long id, Set<TaskField> fields) {
+        if (fields == null) {
+            return findAncestors(id);
+        }
+        requireExists(id);
+        return findAllInOrder(closureRepository.findAncestorIds(id), fields);
+    }
+
+    @Transactional(readOnly = true)
+    public TaskRollupDTO rollup(Long id) {
+        requireExists(id);
+        Object[] counts = closureRepository.countDescendantsByCompletion(id, TaskStatus.COMPLETED).get(0);
+        return new TaskRollupDTO(id, ((Number) counts[0]).longValue(), ((Number) counts[1]).longValue());
+    }
+
+    /**
+     * Histórico de alterações da tarefa, mais recentes primeiro pelo horário da alteração. A gravação é
+     * assíncrona, então uma alteração pode levar alguns milissegundos para aparecer.
+     */
+    @Transactional(readOnly = true)
+    public PageResponseDTO<TaskHistoryDTO> findHistory(Long id, int page, int size) {
+        requireExists(id);
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        int pageNumber = Math.max(0, page);
+        Page<TaskHistory> history = historyRepository.findByTaskIdOrderByChangedAtDescIdDesc(id,
+                PageRequest.of(pageNumber, pageSize));
+        List<TaskHistoryDTO> content = history.getContent()
+                .stream()
+                .map(entry -> new TaskHistoryDTO(entry.getId(), entry.getTaskId(), entry.getField(),
+                        entry.getOldValue(), entry.getNewValue(), entry.getChangedAt()))
+                .collect(Collectors.toList());
+        return new PageResponseDTO<>(content, pageNumber, pageSize, history.getTotalElements());
+    }
+
+    /**
+     * Tarefas criadas e concluídas por hora ou por dia, servidas pelos contadores do {@link TaskCompletionRollup}
+     * sem varrer {@code tasks}. Sem {@code to}, vai até agora; sem {@code from}, volta 24 horas ({@code hour}) ou
+     * 30 dias ({@code day}).
+     */
+    public TaskAnalyticsDTO analytics(String bucket, LocalDateTime from, LocalDateTime to) {
+        AnalyticsBucket size = AnalyticsBucket.parse(bucket);
+        LocalDateTime end = to == null ? LocalDateTime.now() : to;
+        LocalDateTime start = from != null ? from
+                : size == AnalyticsBucket.HOUR ? end.minusHours(24) : end.minusDays(30);
+        return completionRollup.query(size, start, end);
+    }
+
+    /**
+     * Tarefas criadas por semana e status atual, calculadas sobre a cópia colunar em memória
+     * ({@link TaskColumnStore}) sem consultar o banco.
+     */
+    public List<TaskWeeklyCountDTO> countByWeek(LocalDateTime from, LocalDateTime to) {
+        return columnStore.countByStatusAndWeek(from, to)
+                .stream()
+                .map(week -> new TaskWeeklyCountDTO(week.weekStart(), week.byStatus()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Tamanho médio de título e descrição, de todas as tarefas ou só das que têm {@code taskStatus}, calculado
+     * sobre o {@link TaskColumnStore}.
+     */
+    public TaskTextStatsDTO textStats(TaskStatus taskStatus) {
+        TaskColumnStore.TextLengths lengths = columnStore.averageTextLengths(taskStatus);
+        return new TaskTextStatsDTO(taskStatus, lengths.tasks(), lengths.averageTitleLength(),
+                lengths.averageDescriptionLength());
+    }
+
+    @Transactional
     public TaskResponseDTO create(TaskRequestDTO taskRequestDTO) {
+        return create(taskRequestDTO, false);
+    }
+
+    /**
+     * Cria a tarefa conferindo antes, no {@link TaskDuplicateIndex}, se já existem tarefas parecidas: elas voltam
+     * em {@code possibleDuplicateIds} ou, se a configuração mandar recusar, impedem a criação, a menos que
+     * {@code allowDuplicate} seja verdadeiro.
+     */
+    @Transactional
+    public TaskResponseDTO create(TaskRequestDTO taskRequestDTO, boolean allowDuplicate) {
+        TaskOperationEvent event = TaskOperationEvent.start("create", 0L);
+        Long parentId = taskRequestDTO.getParentId();
+        if (parentId != null && !taskRepository.existsById(parentId)) {
+            throw new ResourceNotFoundException("Tarefa Pai Não Encontrada Para o Id: " + parentId);
+        }
+        List<Long> duplicateIds = duplicateIndex.findDuplicates(taskRequestDTO.getTitle(), taskRequestDTO.getDescription())
+                .stream()
+                .map(TaskDuplicateIndex.Match::id)
+                .collect(Collectors.toList());
+        if (!duplicateIds.isEmpty() && !allowDuplicate && duplicateIndex.rejectsDuplicates()) {
+            throw new DuplicateTaskException("Já existe uma tarefa parecida com esta", duplicateIds);
+        }
         Task task = toEntity(taskRequestDTO);
         task.setStatus(TaskStatus.PENDING);
-        return toDTO(taskRepository.save(task));
+        task.setParentId(parentId);
+        Task saved = taskRepository.save(task);
+        closureRepository.insertPaths(saved.getId(), parentId == null ? 0L : parentId);
+        event.databaseDone();
+        TaskResponseDTO response = toDTO(saved(saved));
+        notifyListeners(listener -> listener.onCreated(saved));
+        response.setPossibleDuplicateIds(duplicateIds);
+        event.finish();
+        return response;
+    }
+
+    /**
+     * Move a tarefa (com toda a sua subárvore) para outro pai, ou para a raiz quando {@code parentId} é nulo.
+     * <p>
+     * Antes de conferir se o destino fica dentro da própria subárvore, trava a tarefa, o novo pai e todos os
+     * ancestrais dele. Duas movimentações que juntas fechariam um ciclo (A para baixo de B e B para baixo de A, ou de
+     * descendentes deles) sempre disputam uma dessas linhas: a segunda espera o commit da primeira e a conferência
+     * já enxerga a árvore nova.
+     */
+    @Transactional
+    public TaskResponseDTO move(Long id, Long parentId) {
+        Task task = taskRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Tarefa Não Encontrada Para o Id: " + id));
+        if (parentId != null) {
+            if (!taskRepository.existsById(parentId)) {
+                throw new ResourceNotFoundException("Tarefa Pai Não Encontrada Para o Id: " + parentId);
+            }
+            lockMovePath(id, parentId);
+            if (parentId.equals(id) || closureRepository.existsByIdAncestorIdAndIdDescendantId(id, parentId)) {
+                throw new InvalidRequestException("Uma tarefa não pode ser movida para dentro dela mesma ou de uma subtarefa");
+            }
+        }
+
+        closureRepository.detachSubtree(id);
+        if (parentId != null) {
+            closureRepository.attachSubtree(id, parentId);
+        }
+        task.setParentId(parentId);
+        return toDTO(saved(taskRepository.save(task)));
+    }
+
+    // A cadeia pode mudar entre a leitura e a trava: relê até que todas as linhas dela estejam travadas
+    private void lockMovePath(long id, long parentId) {
+        Set<Long> locked = new HashSet<>();
+        for (Set<Long> path = movePath(id, parentId); !locked.containsAll(path); path = movePath(id, parentId)) {
+            taskRepository.lockByIds(path);
+            locked.addAll(path);
+        }
+    }
+
+    private Set<Long> movePath(long id, long parentId) {
+        Set<Long> path = new TreeSet<>(closureRepository.findAncestorIds(parentId));
+        path.add(parentId);
+        path.add(id);
+        return path;
     }
 
     public TaskResponseDTO update(Long id, TaskRequestDTO taskRequestDTO) {
+        TaskOperationEvent event = TaskOperationEvent.start("update", id);
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Tarefa Não Encontrada Para o Id: " + id));
 
+        LocalDateTime now = LocalDateTime.now();
+        List<TaskHistory> changes = new ArrayList<>(2);
+        addChange(changes, task, TaskHistoryField.TITLE, task.getTitle(), taskRequestDTO.getTitle(), now);
+        addChange(changes, task, TaskHistoryField.DESCRIPTION, task.getDescription(), taskRequestDTO.getDescription(), now);
+
         task.setTitle(taskRequestDTO.getTitle());
         task.setDescription(taskRequestDTO.getDescription());
+        // Campos mais novos que o PUT original: ausentes no corpo, mantêm o valor atual
+        if (taskRequestDTO.getDueAt() != null) {
+            task.setDueAt(taskRequestDTO.getDueAt());
+        }
+        if (taskRequestDTO.getRemindAt() != null) {
+            task.setRemindAt(taskRequestDTO.getRemindAt());
+        }
+        if (taskRequestDTO.getPriority() != null) {
+            task.setPriority(taskRequestDTO.getPriority());
+        }
+        if (taskRequestDTO.getTags() != null) {
+            task.setTags(normalizeTags(taskRequestDTO.getTags()));
+        }
 
-        return toDTO(taskRepository.save(task));
+        Task saved = saved(taskRepository.save(task));
+        recordHistory(changes);
+        event.databaseDone();
+        TaskResponseDTO response = toDTO(saved);
+        event.finish();
+        return response;
     }
 
     public TaskResponseDTO updateStatus(Long id, TaskStatus taskStatus) {
+        TaskOperationEvent event = TaskOperationEvent.start("updateStatus", id);
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Tarefa Não Encontrada Para o Id: " + id));
+        TaskStatus previous = task.getStatus();
+        List<TaskHistory> changes = new ArrayList<>(1);
+        addChange(changes, task, TaskHistoryField.STATUS, nameOf(previous), nameOf(taskStatus), LocalDateTime.now());
         task.setStatus(taskStatus);
-        return toDTO(taskRepository.save(task));
+        if (taskStatus == TaskStatus.COMPLETED && previous != TaskStatus.COMPLETED) {
+            task.setCompletedAt(LocalDateTime.now());
+        } else if (taskStatus != TaskStatus.COMPLETED) {
+            task.setCompletedAt(null);
+        }
+        Task saved = saved(taskRepository.save(task));
+        if (previous != taskStatus) {
+            notifyListeners(listener -> listener.onStatusChanged(saved, previous));
+        }
+        recordHistory(changes);
+        event.databaseDone();
+        TaskResponseDTO response = toDTO(saved);
+        event.finish();
+        return response;
     }
 
+    /**
+     * Remove a tarefa. Tarefas com subtarefas não são removidas: as subtarefas precisam ser removidas ou movidas antes.
+     */
+    @Transactional
     public void delete(Long id) {
+        TaskOperationEvent event = TaskOperationEvent.start("delete", id);
+        requireExists(id);
+        if (taskRepository.existsByParentId(id)) {
+            throw new TaskHasSubtasksException("Tarefa Possui Subtarefas e Não Pode Ser Removida: " + id);
+        }
+        closureRepository.deleteByDescendantIds(List.of(id));
+        taskRepository.deleteById(id);
+        nearCache.evict(id);
+        readCoalescer.forget(id);
+        notifyListeners(listener -> listener.onDeleted(id));
+        event.databaseDone();
+        event.finish();
+    }
+
+    private void requireExists(Long id) {
         if (!taskRepository.existsById(id)) {
             throw new ResourceNotFoundException("Tarefa Não Encontrada Para o Id: " + id);
         }
-        taskRepository.deleteById(id);
+    }
+
+    private Task saved(Task task) {
+        nearCache.evict(task.getId());
+        readCoalescer.forget(task.getId());
+        notifyListeners(listener -> listener.onSaved(task));
+        return task;
+    }
+
+    private void notifyListeners(Consumer<TaskChangeListener> notification) {
+        TransactionCallbacks.afterCommit(() -> changeListeners.forEach(notification));
+    }
+
+    private void recordHistory(List<TaskHistory> changes) {
+        if (!changes.isEmpty()) {
+            TransactionCallbacks.afterCommit(() -> historyWriter.enqueue(changes));
+        }
+    }
+
+    // Dentro de uma transação de escrita a leitura pode conter alterações ainda não confirmadas
+    private static boolean readsCommittedState() {
+        return !TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    private static void addChange(List<TaskHistory> changes, Task task, TaskHistoryField field,
+                                  String oldValue, String newValue, LocalDateTime changedAt) {
+        if (!Objects.equals(oldValue, newValue)) {
+            changes.add(new TaskHistory(task.getId(), field, oldValue, newValue, changedAt));
+        }
+    }
+
+    private static String nameOf(TaskStatus taskStatus) {
+        return taskStatus == null ? null : taskStatus.name();
+    }
+
+    private List<TaskResponseDTO> findAllInOrder(long[] ids, Set<TaskField> fields) {
+        List<Long> idList = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            idList.add(id);
+        }
+        if (fields != null) {
+            return findAllInOrder(idList, fields);
+        }
+        Map<Long, Task> byId = new HashMap<>();
+        taskRepository.findAllById(idList).forEach(task -> byId.put(task.getId(), task));
+
+        List<TaskResponseDTO> result = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            Task task = byId.get(id);
+            if (task != null) {
+                result.add(toDTO(task));
+            }
+        }
+        return result;
+    }
+
+    private List<TaskResponseDTO> findAllInOrder(List<Long> ids, Set<TaskField> fields) {
+        Map<Long, TaskResponseDTO> byId = new HashMap<>();
+        project(taskRepository.findFieldsByIds(fields, ids), fields).forEach(dto -> byId.put(dto.getId(), dto));
+
+        List<TaskResponseDTO> result = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            TaskResponseDTO dto = byId.get(id);
+            if (dto != null) {
+                result.add(dto);
+            }
+        }
+        return result;
+    }
+
+    // Preenche só os campos selecionados; o id vem sempre na consulta para ordenar e buscar as tags
+    private List<TaskResponseDTO> project(List<Tuple> rows, Set<TaskField> fields) {
+        Map<Long, Set<String>> tagsById = Map.of();
+        if (fields.contains(TaskField.TAGS)) {
+            List<Long> ids = new ArrayList<>(rows.size());
+            rows.forEach(row -> ids.add(row.get(TaskField.ID.property(), Long.class)));
+            tagsById = taskRepository.findTagsByIds(ids);
+        }
+
+        List<TaskResponseDTO> result = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            TaskResponseDTO dto = new TaskResponseDTO();
+            for (TaskField field : fields) {
+                if (field.attribute() != null) {
+                    field.write(dto, row.get(field.property()));
+                }
+            }
+            Long id = row.get(TaskField.ID.property(), Long.class);
+            dto.setId(id);
+            if (fields.contains(TaskField.TAGS)) {
+                dto.setTags(tagsById.getOrDefault(id, new TreeSet<>()));
+            }
+            result.add(dto);
+        }
+        return result;
+    }
+
+    static Set<String> normalizeTags(Set<String> tags) {
+        Set<String> normalized = new LinkedHashSet<>();
+        if (tags != null) {
+            for (String tag : tags) {
+                if (tag != null && !tag.isBlank()) {
+                    normalized.add(tag.trim().toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+        return normalized;
+    }
+
+    private static TaskPriority priorityOf(TaskRequestDTO taskRequestDTO) {
+        return taskRequestDTO.getPriority() == null ? TaskPriority.MEDIUM : taskRequestDTO.getPriority();
     }
 
     private Task toEntity(TaskRequestDTO taskRequestDTO) {
         Task task = new Task();
         task.setTitle(taskRequestDTO.getTitle());
         task.setDescription(taskRequestDTO.getDescription());
+        task.setDueAt(taskRequestDTO.getDueAt());
+        task.setRemindAt(taskRequestDTO.getRemindAt());
+        task.setPriority(priorityOf(taskRequestDTO));
+        task.setTags(normalizeTags(taskRequestDTO.getTags()));
         return task;
     }
 
     private TaskResponseDTO toDTO(Task task) {
-        TaskResponseDTO dto = new TaskResponseDTO();
-        dto.setId(task.getId());
-        dto.setTitle(task.getTitle());
-        dto.setDescription(task.getDescription());
-        dto.setTaskStatus(task.getStatus());
-        dto.setCreatedAt(task.getCreatedAt());
+        TaskResponseDTO dto = new TaskResponseDTO(task.getId(), task.getTitle(), task.getDescription(),
+                task.getStatus(), task.getCreatedAt());
+        dto.setDueAt(task.getDueAt());
+        dto.setRemindAt(task.getRemindAt());
+        dto.setCompletedAt(task.getCompletedAt());
+        dto.setPriority(task.getPriority());
+        dto.setTags(new TreeSet<>(task.getTags()));
+        dto.setParentId(task.getParentId());
         return dto;
     }
 }
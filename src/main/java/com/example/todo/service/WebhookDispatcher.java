@@ -0,0 +1,405 @@
+package com.example.todo.service;
+
+import com.example.todo.model.Task;
+import com.example.todo.model.WebhookDeadLetter;
+import com.example.todo.model.WebhookSubscription;
+import com.example.todo.model.dto.WebhookEventDTO;
+import com.example.todo.model.enums.TaskStatus;
+import com.example.todo.repository.WebhookDeadLetterRepository;
+import com.example.todo.repository.WebhookSubscriptionRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Entrega eventos de mudança de status aos webhooks cadastrados sem bloquear a thread da requisição.
+ * <p>
+ * Cada assinante tem uma fila própria: eventos que chegam dentro de {@link WebhookProperties#batchWindow()} são
+ * enviados juntos (até {@link WebhookProperties#batchSize()} por requisição). Um semáforo por endereço limita as
+ * requisições simultâneas, falhas são repetidas com backoff exponencial e jitter, e o que não puder ser entregue
+ * (tentativas esgotadas, fila cheia ou desligamento) vai para a tabela {@code webhook_dead_letters}. Essa gravação
+ * também sai da thread de quem chamou: os registros entram numa fila gravada pelo agendador, ou no desligamento.
+ * <p>
+ * Cada requisição leva {@value #TIMESTAMP_HEADER} (segundos desde a época) e {@value #SIGNATURE_HEADER}
+ * ({@code sha256=<hex>}, HMAC-SHA256 de {@code <timestamp>.<corpo>} com a chave do webhook): o destino confere a origem
+ * e recusa reenvios antigos. Cada nova tentativa é assinada de novo.
+ * <p>
+ * Os assinantes vêm da tabela {@code webhook_subscriptions}, relida a cada {@link WebhookProperties#refreshInterval()}
+ * para que cadastros e remoções feitos em qualquer nó cheguem a todos.
+ */
+@Component
+public class WebhookDispatcher implements TaskChangeListener, SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(WebhookDispatcher.class);
+
+    // Para depois do servidor web: nenhum evento novo chega durante o desligamento
+    static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    static final String ATTEMPT_HEADER = "X-Webhook-Attempt";
+    static final String TIMESTAMP_HEADER = "X-Webhook-Timestamp";
+    static final String SIGNATURE_HEADER = "X-Webhook-Signature";
+
+    private final WebhookSubscriptionRepository subscriptionRepository;
+    private final WebhookDeadLetterRepository deadLetterRepository;
+    private final ObjectMapper objectMapper;
+    private final WebhookProperties properties;
+    private final HttpClient httpClient;
+
+    private final Map<Long, Subscriber> subscribers = new ConcurrentHashMap<>();
+    // Remoções feitas neste nó (id -> nanoTime): uma leitura da tabela iniciada antes delas não traz o assinante de volta
+    private final Map<Long, Long> unregisteredAt = new ConcurrentHashMap<>();
+    private final Map<String, Semaphore> permitsByUrl = new ConcurrentHashMap<>();
+    private final Set<Delivery> pendingRetries = ConcurrentHashMap.newKeySet();
+    private final Set<CompletableFuture<?>> inFlight = ConcurrentHashMap.newKeySet();
+    private final Queue<WebhookDeadLetter> deadLetterBacklog = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean deadLetterFlushScheduled = new AtomicBoolean();
+
+    private final Counter delivered;
+    private final Counter retries;
+    private final Counter deadLettered;
+
+    private volatile boolean running;
+    private ScheduledExecutorService scheduler;
+
+    public WebhookDispatcher(WebhookSubscriptionRepository subscriptionRepository,
+                             WebhookDeadLetterRepository deadLetterRepository,
+                             ObjectMapper objectMapper,
+                             WebhookProperties properties,
+                             MeterRegistry meterRegistry) {
+        this.subscriptionRepository = subscriptionRepository;
+        this.deadLetterRepository = deadLetterRepository;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(properties.requestTimeout())
+                .build();
+        this.delivered = Counter.builder("webhooks.delivered")
+                .description("Eventos entregues aos webhooks")
+                .register(meterRegistry);
+        this.retries = Counter.builder("webhooks.retries")
+                .description("Novas tentativas de envio de lotes")
+                .register(meterRegistry);
+        this.deadLettered = Counter.builder("webhooks.dead-lettered")
+                .description("Eventos gravados como não entregues")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void onStatusChanged(Task task, TaskStatus previous) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        WebhookEventDTO event = new WebhookEventDTO(task.getId(), task.getTitle(), previous, task.getStatus(),
+                LocalDateTime.now());
+        for (Subscriber subscriber : subscribers.values()) {
+            if (subscriber.status == null || subscriber.status == task.getStatus()) {
+                offer(subscriber, event);
+            }
+        }
+    }
+
+    public void register(WebhookSubscription subscription) {
+        unregisteredAt.remove(subscription.getId());
+        subscribers.computeIfAbsent(subscription.getId(), id -> subscriber(subscription));
+    }
+
+    public void unregister(long subscriptionId) {
+        unregisteredAt.put(subscriptionId, System.nanoTime());
+        subscribers.remove(subscriptionId);
+    }
+
+    /**
+     * Sincroniza os assinantes com a tabela. Cadastros e remoções feitos neste nó enquanto a leitura acontecia
+     * prevalecem sobre ela: quem foi registrado depois do início não é removido, e quem foi removido não volta.
+     */
+    void refreshSubscriptions() {
+        long startedAt = System.nanoTime();
+        List<WebhookSubscription> stored;
+        try {
+            stored = subscriptionRepository.findAll();
+        } catch (RuntimeException e) {
+            log.warn("Falha ao recarregar os webhooks cadastrados", e);
+            return;
+        }
+        Set<Long> storedIds = new HashSet<>();
+        for (WebhookSubscription subscription : stored) {
+            storedIds.add(subscription.getId());
+            if (!unregisteredAt.containsKey(subscription.getId())) {
+                subscribers.computeIfAbsent(subscription.getId(), id -> subscriber(subscription));
+            }
+        }
+        subscribers.values().removeIf(subscriber ->
+                !storedIds.contains(subscriber.id) && subscriber.registeredAt - startedAt < 0);
+        unregisteredAt.values().removeIf(removedAt -> removedAt - startedAt < 0);
+    }
+
+    /**
+     * Enfileira eventos já existentes (reenvio de não entregues) para um assinante lido do banco, registrando-o
+     * neste nó caso ele tenha sido cadastrado em outro.
+     */
+    public void enqueue(WebhookSubscription subscription, List<WebhookEventDTO> events) {
+        Subscriber subscriber = subscribers.computeIfAbsent(subscription.getId(), id -> subscriber(subscription));
+        events.forEach(event -> offer(subscriber, event));
+    }
+
+    @Override
+    public void start() {
+        scheduler = Executors.newScheduledThreadPool(2, runnable -> {
+            Thread thread = new Thread(runnable, "webhook-dispatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        subscriptionRepository.findAll().forEach(this::register);
+        long refreshMillis = properties.refreshInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::refreshSubscriptions, refreshMillis, refreshMillis,
+                TimeUnit.MILLISECONDS);
+        running = true;
+        if (!deadLetterBacklog.isEmpty()) {
+            scheduleDeadLetterFlush();
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        scheduler.shutdownNow();
+        try {
+            CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new))
+                    .get(properties.requestTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("Envios de webhook ainda em andamento no desligamento", e);
+        }
+        for (Delivery delivery : pendingRetries) {
+            if (pendingRetries.remove(delivery)) {
+                deadLetter(delivery.subscriber, delivery.events, delivery.attempt, "desligamento antes da nova tentativa");
+            }
+        }
+        for (Subscriber subscriber : subscribers.values()) {
+            List<WebhookEventDTO> pending = new ArrayList<>();
+            subscriber.queue.drainTo(pending);
+            if (!pending.isEmpty()) {
+                deadLetter(subscriber, pending, 0, "desligamento antes do envio");
+            }
+        }
+        flushDeadLetters();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private void offer(Subscriber subscriber, WebhookEventDTO event) {
+        if (!running) {
+            deadLetter(subscriber, List.of(event), 0, "envio de webhooks parado");
+            return;
+        }
+        if (!subscriber.queue.offer(event)) {
+            deadLetter(subscriber, List.of(event), 0, "fila do assinante cheia");
+            return;
+        }
+        scheduleFlush(subscriber, properties.batchWindow().toMillis());
+    }
+
+    private void scheduleFlush(Subscriber subscriber, long delayMillis) {
+        if (running && subscriber.flushScheduled.compareAndSet(false, true)) {
+            try {
+                scheduler.schedule(() -> flush(subscriber), delayMillis, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                subscriber.flushScheduled.set(false);
+            }
+        }
+    }
+
+    // Sem permissão livre os eventos ficam na fila: a próxima entrega concluída agenda um novo flush
+    private void flush(Subscriber subscriber) {
+        subscriber.flushScheduled.set(false);
+        while (!subscriber.queue.isEmpty() && subscriber.permits.tryAcquire()) {
+            List<WebhookEventDTO> batch = new ArrayList<>(properties.batchSize());
+            subscriber.queue.drainTo(batch, properties.batchSize());
+            if (batch.isEmpty()) {
+                subscriber.permits.release();
+                return;
+            }
+            send(new Delivery(subscriber, batch, 1));
+        }
+    }
+
+    private void send(Delivery delivery) {
+        HttpRequest request;
+        try {
+            URI uri = URI.create(delivery.subscriber.url);
+            if (!properties.allowPrivateAddresses()) {
+                WebhookTargets.requirePublic(uri);
+            }
+            byte[] body = objectMapper.writeValueAsBytes(delivery.events);
+            HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
+                    .timeout(properties.requestTimeout())
+                    .header("Content-Type", "application/json")
+                    .header(ATTEMPT_HEADER, Integer.toString(delivery.attempt));
+            if (delivery.subscriber.secret != null) {
+                long timestamp = Instant.now().getEpochSecond();
+                builder.header(TIMESTAMP_HEADER, Long.toString(timestamp))
+                        .header(SIGNATURE_HEADER, WebhookSignatures.sign(delivery.subscriber.secret, timestamp, body));
+            }
+            request = builder.POST(HttpRequest.BodyPublishers.ofByteArray(body)).build();
+        } catch (UnknownHostException e) {
+            retryOrDeadLetter(delivery, e.toString());
+            return;
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            complete(delivery, e.toString());
+            return;
+        }
+        CompletableFuture<HttpResponse<Void>> response =
+                httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding());
+        inFlight.add(response);
+        response.whenComplete((result, error) -> {
+            inFlight.remove(response);
+            if (error == null && result.statusCode() / 100 == 2) {
+                delivered.increment(delivery.events.size());
+                release(delivery.subscriber);
+            } else {
+                retryOrDeadLetter(delivery, error != null ? error.toString() : "HTTP " + result.statusCode());
+            }
+        });
+    }
+
+    // Mantém a permissão durante o backoff: novas tentativas também contam no limite do endereço
+    private void retryOrDeadLetter(Delivery delivery, String error) {
+        if (delivery.attempt < properties.maxAttempts() && running) {
+            Delivery retry = new Delivery(delivery.subscriber, delivery.events, delivery.attempt + 1);
+            pendingRetries.add(retry);
+            try {
+                scheduler.schedule(() -> {
+                    if (pendingRetries.remove(retry)) {
+                        retries.increment();
+                        send(retry);
+                    }
+                }, backoffMillis(delivery.attempt), TimeUnit.MILLISECONDS);
+                return;
+            } catch (RejectedExecutionException e) {
+                pendingRetries.remove(retry);
+            }
+        }
+        complete(delivery, error);
+    }
+
+    private void complete(Delivery delivery, String error) {
+        log.warn("Webhook {} não entregue após {} tentativas: {}", delivery.subscriber.url, delivery.attempt, error);
+        deadLetter(delivery.subscriber, delivery.events, delivery.attempt, error);
+        release(delivery.subscriber);
+    }
+
+    private void release(Subscriber subscriber) {
+        subscriber.permits.release();
+        if (!subscriber.queue.isEmpty()) {
+            scheduleFlush(subscriber, 0);
+        }
+    }
+
+    long backoffMillis(int attempt) {
+        long base = Math.min(properties.maxBackoff().toMillis(),
+                properties.initialBackoff().toMillis() << Math.min(attempt - 1, 30));
+        long half = base / 2;
+        return half + ThreadLocalRandom.current().nextLong(half + 1);
+    }
+
+    private void deadLetter(Subscriber subscriber, List<WebhookEventDTO> events, int attempts, String error) {
+        LocalDateTime now = LocalDateTime.now();
+        String lastError = error.length() > 500 ? error.substring(0, 500) : error;
+        for (WebhookEventDTO event : events) {
+            try {
+                deadLetterBacklog.add(new WebhookDeadLetter(subscriber.id, objectMapper.writeValueAsString(event),
+                        attempts, lastError, now));
+            } catch (JsonProcessingException e) {
+                log.error("Evento de webhook descartado: não foi possível serializar", e);
+            }
+        }
+        scheduleDeadLetterFlush();
+    }
+
+    // Parado, o backlog espera o próximo start ou o flush final do stop
+    private void scheduleDeadLetterFlush() {
+        if (running && deadLetterFlushScheduled.compareAndSet(false, true)) {
+            try {
+                scheduler.execute(this::flushDeadLetters);
+            } catch (RejectedExecutionException e) {
+                deadLetterFlushScheduled.set(false);
+            }
+        }
+    }
+
+    private void flushDeadLetters() {
+        deadLetterFlushScheduled.set(false);
+        List<WebhookDeadLetter> deadLetters = new ArrayList<>();
+        for (WebhookDeadLetter deadLetter; (deadLetter = deadLetterBacklog.poll()) != null; ) {
+            deadLetters.add(deadLetter);
+        }
+        if (deadLetters.isEmpty()) {
+            return;
+        }
+        try {
+            deadLetterRepository.saveAll(deadLetters);
+            deadLettered.increment(deadLetters.size());
+        } catch (RuntimeException e) {
+            log.error("Falha ao gravar {} eventos de webhook não entregues", deadLetters.size(), e);
+        }
+    }
+
+    private Subscriber subscriber(WebhookSubscription subscription) {
+        return new Subscriber(subscription.getId(), subscription.getUrl(), subscription.getStatus(),
+                subscription.getSecret(), permitsByUrl.computeIfAbsent(subscription.getUrl(), url -> new Semaphore(properties.maxConcurrency())),
+                properties.queueCapacity());
+    }
+
+    private static final class Subscriber {
+        final long id;
+        final String url;
+        final TaskStatus status;
+        final String secret;
+        final Semaphore permits;
+        final BlockingQueue<WebhookEventDTO> queue;
+        final AtomicBoolean flushScheduled = new AtomicBoolean();
+        final long registeredAt = System.nanoTime();
+
+        Subscriber(long id, String url, TaskStatus status, String secret, Semaphore permits, int queueCapacity) {
+            this.id = id;
+            this.url = url;
+            this.status = status;
+            this.secret = secret;
+            this.permits = permits;
+            this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        }
+    }
+
+    private record Delivery(Subscriber subscriber, List<WebhookEventDTO> events, int attempt) {
+    }
+}
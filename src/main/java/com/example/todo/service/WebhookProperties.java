@@ -0,0 +1,37 @@
+package com.example.todo.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuração do envio de webhooks ({@code todo-api.webhooks.*}).
+ *
+ * @param queueCapacity   eventos pendentes por assinante; o excedente vai direto para a tabela de não entregues
+ * @param batchSize       eventos por requisição
+ * @param batchWindow     tempo de espera para juntar eventos antes de enviar
+ * @param maxConcurrency  requisições simultâneas por endereço
+ * @param maxAttempts     tentativas por lote antes de registrá-lo como não entregue
+ * @param initialBackoff  espera antes da primeira nova tentativa (dobra a cada tentativa, com jitter)
+ * @param maxBackoff      teto da espera entre tentativas
+ * @param requestTimeout  tempo máximo de cada requisição
+ * @param refreshInterval intervalo entre as leituras da tabela de webhooks: cadastros e remoções feitos em outros nós
+ *                        passam a valer neste em até esse tempo
+ * @param allowPrivateAddresses aceita webhooks em loopback e redes internas (desenvolvimento e testes); desligado,
+ *                        esses endereços são recusados no cadastro e no envio
+ */
+@ConfigurationProperties(prefix = "todo-api.webhooks")
+public record WebhookProperties(
+        @DefaultValue("10000") int queueCapacity,
+        @DefaultValue("50") int batchSize,
+        @DefaultValue("200ms") Duration batchWindow,
+        @DefaultValue("2") int maxConcurrency,
+        @DefaultValue("5") int maxAttempts,
+        @DefaultValue("500ms") Duration initialBackoff,
+        @DefaultValue("30s") Duration maxBackoff,
+        @DefaultValue("5s") Duration requestTimeout,
+        @DefaultValue("30s") Duration refreshInterval,
+        @DefaultValue("false") boolean allowPrivateAddresses
+) {
+}
@@ -0,0 +1,166 @@
+package com.example.todo.service;
+
+import com.example.todo.exception.InvalidRequestException;
+import com.example.todo.exception.ResourceNotFoundException;
+import com.example.todo.model.WebhookDeadLetter;
+import com.example.todo.model.WebhookSubscription;
+import com.example.todo.model.dto.PageResponseDTO;
+import com.example.todo.model.dto.WebhookDeadLetterDTO;
+import com.example.todo.model.dto.WebhookEventDTO;
+import com.example.todo.model.dto.WebhookSubscriptionRequestDTO;
+import com.example.todo.model.dto.WebhookSubscriptionResponseDTO;
+import com.example.todo.repository.WebhookDeadLetterRepository;
+import com.example.todo.repository.WebhookSubscriptionRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+public class WebhookService {
+
+    static final int MAX_PAGE_SIZE = 100;
+    static final int MAX_REPLAY = 1000;
+
+    private final WebhookSubscriptionRepository subscriptionRepository;
+    private final WebhookDeadLetterRepository deadLetterRepository;
+    private final WebhookDispatcher dispatcher;
+    private final ObjectMapper objectMapper;
+    private final WebhookProperties properties;
+
+    public WebhookService(WebhookSubscriptionRepository subscriptionRepository,
+                          WebhookDeadLetterRepository deadLetterRepository,
+                          WebhookDispatcher dispatcher,
+                          ObjectMapper objectMapper,
+                          WebhookProperties properties) {
+        this.subscriptionRepository = subscriptionRepository;
+        this.deadLetterRepository = deadLetterRepository;
+        this.dispatcher = dispatcher;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+    }
+
+    @Transactional(readOnly = true)
+    public List<WebhookSubscriptionResponseDTO> findAll() {
+        return subscriptionRepository.findAll()
+                .stream()
+                .map(this::toDTO)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Grava o webhook e passa a enviar eventos a ele neste nó depois do commit; os demais nós o encontram na
+     * próxima leitura da tabela ({@link WebhookProperties#refreshInterval()}). Endereços internos são recusados.
+     * A chave das assinaturas das entregas é gerada aqui e aparece só nesta resposta.
+     */
+    @Transactional
+    public WebhookSubscriptionResponseDTO create(WebhookSubscriptionRequestDTO requestDTO) {
+        requirePublicUrl(requestDTO.getUrl());
+        WebhookSubscription subscription = new WebhookSubscription();
+        subscription.setUrl(requestDTO.getUrl());
+        subscription.setStatus(requestDTO.getStatus());
+        subscription.setSecret(WebhookSignatures.newSecret());
+        WebhookSubscription saved = subscriptionRepository.save(subscription);
+        TransactionCallbacks.afterCommit(() -> dispatcher.register(saved));
+        WebhookSubscriptionResponseDTO dto = toDTO(saved);
+        dto.setSecret(saved.getSecret());
+        return dto;
+    }
+
+    @Transactional
+    public void delete(Long id) {
+        requireExists(id);
+        TransactionCallbacks.afterCommit(() -> dispatcher.unregister(id));
+        deadLetterRepository.deleteBySubscriptionId(id);
+        subscriptionRepository.deleteById(id);
+    }
+
+    @Transactional(readOnly = true)
+    public PageResponseDTO<WebhookDeadLetterDTO> findDeadLetters(Long id, int page, int size) {
+        requireExists(id);
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        int pageNumber = Math.max(0, page);
+        Page<WebhookDeadLetter> deadLetters =
+                deadLetterRepository.findBySubscriptionIdOrderByIdAsc(id, PageRequest.of(pageNumber, pageSize));
+        List<WebhookDeadLetterDTO> content = deadLetters.getContent()
+                .stream()
+                .map(deadLetter -> new WebhookDeadLetterDTO(deadLetter.getId(), toEvent(deadLetter),
+                        deadLetter.getAttempts(), deadLetter.getLastError(), deadLetter.getFailedAt()))
+                .collect(Collectors.toList());
+        return new PageResponseDTO<>(content, pageNumber, pageSize, deadLetters.getTotalElements());
+    }
+
+    /**
+     * Devolve à fila de envio os eventos não entregues mais antigos (até {@value #MAX_REPLAY} por chamada).
+     * Os eventos só são enfileirados depois do commit; se falharem de novo, voltam para a tabela. Com o envio
+     * de webhooks parado nada é reenviado.
+     */
+    @Transactional
+    public int replayDeadLetters(Long id) {
+        WebhookSubscription subscription = subscriptionRepository.findById(id)
+                .orElseThrow(() -> notFound(id));
+        if (!dispatcher.isRunning()) {
+            return 0;
+        }
+        List<WebhookDeadLetter> deadLetters = deadLetterRepository
+                .findBySubscriptionIdOrderByIdAsc(id, PageRequest.of(0, MAX_REPLAY))
+                .getContent();
+        List<WebhookEventDTO> events = new ArrayList<>(deadLetters.size());
+        deadLetters.forEach(deadLetter -> events.add(toEvent(deadLetter)));
+        deadLetterRepository.deleteAllInBatch(deadLetters);
+        TransactionCallbacks.afterCommit(() -> dispatcher.enqueue(subscription, events));
+        return events.size();
+    }
+
+    private void requirePublicUrl(String url) {
+        if (properties.allowPrivateAddresses()) {
+            return;
+        }
+        URI uri;
+        try {
+            uri = URI.create(url);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("URL de webhook inválida: " + url);
+        }
+        try {
+            WebhookTargets.requirePublic(uri);
+        } catch (UnknownHostException e) {
+            throw new InvalidRequestException("Host do webhook não encontrado: " + uri.getHost());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException(e.getMessage());
+        }
+    }
+
+    private void requireExists(Long id) {
+        if (!subscriptionRepository.existsById(id)) {
+            throw notFound(id);
+        }
+    }
+
+    private static ResourceNotFoundException notFound(Long id) {
+        return new ResourceNotFoundException("Webhook Não Encontrado Para o Id: " + id);
+    }
+
+    private WebhookEventDTO toEvent(WebhookDeadLetter deadLetter) {
+        try {
+            return objectMapper.readValue(deadLetter.getPayload(), WebhookEventDTO.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Evento de webhook inválido no registro " + deadLetter.getId(), e);
+        }
+    }
+
+    private WebhookSubscriptionResponseDTO toDTO(WebhookSubscription subscription) {
+        WebhookSubscriptionResponseDTO dto = new WebhookSubscriptionResponseDTO(subscription.getId(),
+                subscription.getUrl(), subscription.getStatus(), subscription.getCreatedAt());
+        dto.setPendingDeadLetters(deadLetterRepository.countBySubscriptionId(subscription.getId()));
+        return dto;
+    }
+}
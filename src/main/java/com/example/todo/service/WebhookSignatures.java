@@ -0,0 +1,39 @@
+package com.example.todo.service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.HexFormat;
+
+/**
+ * Assinatura HMAC-SHA256 das entregas de webhook: {@code sha256=<hex>} calculado sobre {@code <timestamp>.<corpo>}.
+ * Para conferir, o destino refaz o cálculo com a chave recebida no cadastro e compara em tempo constante.
+ */
+final class WebhookSignatures {
+
+    static final String ALGORITHM = "HmacSHA256";
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private WebhookSignatures() {
+    }
+
+    static String newSecret() {
+        byte[] secret = new byte[32];
+        RANDOM.nextBytes(secret);
+        return HexFormat.of().formatHex(secret);
+    }
+
+    static String sign(String secret, long timestamp, byte[] body) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM));
+            mac.update((timestamp + ".").getBytes(StandardCharsets.UTF_8));
+            return "sha256=" + HexFormat.of().formatHex(mac.doFinal(body));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 indisponível", e);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.todo.service;
+
+import java.net.Inet4Address;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.UnknownHostException;
+
+/**
+ * Recusa webhooks que apontem para a própria máquina ou para a rede interna (SSRF): o host é resolvido e todos os
+ * endereços devolvidos precisam ser públicos. A verificação se repete antes de cada envio, porque o DNS pode mudar
+ * depois do cadastro; o {@link java.net.http.HttpClient} usado no envio não segue redirecionamentos.
+ */
+final class WebhookTargets {
+
+    private WebhookTargets() {
+    }
+
+    /**
+     * @throws IllegalArgumentException se o endereço não tiver host ou resolver para algum endereço interno
+     * @throws UnknownHostException     se o host não puder ser resolvido
+     */
+    static void requirePublic(URI uri) throws UnknownHostException {
+        String host = uri.getHost();
+        if (host == null) {
+            throw new IllegalArgumentException("Endereço de webhook sem host: " + uri);
+        }
+        for (InetAddress address : InetAddress.getAllByName(host)) {
+            if (isInternal(address)) {
+                throw new IllegalArgumentException("Endereço de webhook interno não permitido: " + host
+                        + " (" + address.getHostAddress() + ")");
+            }
+        }
+    }
+
+    // Loopback, link-local (inclui 169.254.169.254, metadados de nuvem), privados, multicast, 0.0.0.0/8,
+    // 100.64.0.0/10 (CGNAT) e fc00::/7 (IPv6 único local)
+    static boolean isInternal(InetAddress address) {
+        if (address.isAnyLocalAddress() || address.isLoopbackAddress() || address.isLinkLocalAddress()
+                || address.isSiteLocalAddress() || address.isMulticastAddress()) {
+            return true;
+        }
+        byte[] bytes = address.getAddress();
+        if (address instanceof Inet4Address) {
+            int first = bytes[0] & 0xff;
+            int second = bytes[1] & 0xff;
+            return first == 0 || (first == 100 && (second & 0xc0) == 64);
+        }
+        return (bytes[0] & 0xfe) == 0xfc;
+    }
+}
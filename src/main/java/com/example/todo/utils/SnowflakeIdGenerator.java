@@ -0,0 +1,81 @@
+package com.example.todo.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Gerador de identificadores de 64 bits ordenados pelo tempo (estilo Snowflake).
+ * <p>
+ * Layout: 41 bits de timestamp (ms desde {@link #DEFAULT_EPOCH}), 10 bits de nó e 12 bits de sequência.
+ * O estado (timestamp + sequência) fica em um único {@link AtomicLong} atualizado via CAS, sem locks.
+ * Se o relógio voltar no tempo, o gerador continua a partir do último timestamp emitido,
+ * então os ids permanecem únicos e crescentes.
+ *
+ * @author Hylan Silva
+ */
+public class SnowflakeIdGenerator {
+
+    /** 2025-01-01T00:00:00Z */
+    public static final long DEFAULT_EPOCH = 1735689600000L;
+
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    static final int TIMESTAMP_BITS = 41;
+
+    public static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final long MAX_TIMESTAMP = (1L << TIMESTAMP_BITS) - 1;
+
+    private final long nodeId;
+    private final long epoch;
+    private final LongSupplier clock;
+
+    // (timestamp << SEQUENCE_BITS) | sequence do último id emitido
+    private final AtomicLong state = new AtomicLong();
+
+    public SnowflakeIdGenerator(long nodeId) {
+        this(nodeId, DEFAULT_EPOCH, System::currentTimeMillis);
+    }
+
+    public SnowflakeIdGenerator(long nodeId, long epoch, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Node id deve estar entre 0 e " + MAX_NODE_ID + ": " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.epoch = epoch;
+        this.clock = clock;
+    }
+
+    public long nextId() {
+        while (true) {
+            long current = state.get();
+            long now = (clock.getAsLong() - epoch) << SEQUENCE_BITS;
+            // current + 1 cobre tanto o estouro da sequência (avança 1 ms) quanto o relógio regredindo
+            long next = Math.max(current + 1, now);
+            if (state.compareAndSet(current, next)) {
+                return compose(next);
+            }
+        }
+    }
+
+    public long getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Retorna o instante (epoch millis) embutido em um id gerado com o mesmo epoch.
+     */
+    public long extractTimestamp(long id) {
+        return (id >>> (NODE_BITS + SEQUENCE_BITS)) + epoch;
+    }
+
+    private long compose(long packed) {
+        long timestamp = packed >>> SEQUENCE_BITS;
+        if (timestamp > MAX_TIMESTAMP) {
+            throw new IllegalStateException("Timestamp excede os 41 bits disponíveis");
+        }
+        return (timestamp << (NODE_BITS + SEQUENCE_BITS))
+                | (nodeId << SEQUENCE_BITS)
+                | (packed & SEQUENCE_MASK);
+    }
+}
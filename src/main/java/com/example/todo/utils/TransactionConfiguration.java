@@ -0,0 +1,24 @@
+package com.example.todo.utils;
+
+import com.example.todo.service.DeadlineAwareTransactionManager;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.JpaTransactionManager;
+
+/**
+ * Substitui o {@link JpaTransactionManager} da autoconfiguração pelo {@link DeadlineAwareTransactionManager},
+ * mantendo os ajustes de {@code spring.transaction.*}. O gerenciador encontra o {@code EntityManagerFactory}
+ * sozinho, como o da autoconfiguração.
+ */
+@Configuration(proxyBeanMethods = false)
+public class TransactionConfiguration {
+
+    @Bean
+    JpaTransactionManager transactionManager(ObjectProvider<TransactionManagerCustomizers> customizers) {
+        JpaTransactionManager transactionManager = new DeadlineAwareTransactionManager();
+        customizers.ifAvailable(customizer -> customizer.customize(transactionManager));
+        return transactionManager;
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.todo.analytics;
+
+import com.example.todo.exception.InvalidRequestException;
+import com.example.todo.model.Task;
+import com.example.todo.model.enums.TaskStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TaskColumnStore Tests")
+class TaskColumnStoreTest {
+
+    // Segunda-feira
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2025, 9, 1, 9, 0);
+
+    private TaskColumnStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new TaskColumnStore();
+        store.onReload(List.of(
+                task(1, "Comprar pão", "Na padaria", TaskStatus.PENDING, MONDAY),
+                task(2, "Comprar pão", null, TaskStatus.COMPLETED, MONDAY.plusDays(6)),
+                task(3, "Pagar contas", "Luz e água", TaskStatus.COMPLETED, MONDAY.plusDays(7)),
+                task(4, "Estudar", null, TaskStatus.PENDING, MONDAY.plusDays(15))));
+    }
+
+    @Test
+    @DisplayName("Should count tasks by creation week starting on Monday and by status, zero-filling empty weeks")
+    void shouldCountByWeekAndStatus() {
+        // When
+        List<TaskColumnStore.WeekCounts> weeks = store.countByStatusAndWeek(null, null);
+
+        // Then
+        assertThat(weeks).extracting(TaskColumnStore.WeekCounts::weekStart).containsExactly(
+                LocalDate.of(2025, 9, 1), LocalDate.of(2025, 9, 8), LocalDate.of(2025, 9, 15));
+        assertThat(weeks.get(0).byStatus()).containsEntry(TaskStatus.PENDING, 1L).containsEntry(TaskStatus.COMPLETED, 1L);
+        assertThat(weeks.get(1).byStatus()).containsEntry(TaskStatus.PENDING, 0L).containsEntry(TaskStatus.COMPLETED, 1L);
+        assertThat(weeks.get(2).byStatus()).containsEntry(TaskStatus.PENDING, 1L).containsEntry(TaskStatus.COMPLETED, 0L);
+    }
+
+    @Test
+    @DisplayName("Should restrict the weekly counts to the requested period")
+    void shouldRestrictWeeklyCountsToPeriod() {
+        // When
+        List<TaskColumnStore.WeekCounts> weeks = store.countByStatusAndWeek(MONDAY.plusDays(7), MONDAY.plusDays(28));
+
+        // Then
+        assertThat(weeks).extracting(week -> week.byStatus().get(TaskStatus.PENDING) + week.byStatus().get(TaskStatus.COMPLETED))
+                .containsExactly(1L, 1L, 0L, 0L);
+        assertThatThrownBy(() -> store.countByStatusAndWeek(MONDAY, MONDAY))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> store.countByStatusAndWeek(MONDAY, MONDAY.plusYears(30)))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    @Test
+    @DisplayName("Should average title and description lengths, counting a missing description as empty")
+    void shouldAverageTextLengths() {
+        // When
+        TaskColumnStore.TextLengths all = store.averageTextLengths(null);
+        TaskColumnStore.TextLengths completed = store.averageTextLengths(TaskStatus.COMPLETED);
+
+        // Then
+        assertThat(all.tasks()).isEqualTo(4);
+        assertThat(all.averageTitleLength()).isEqualTo((11 + 11 + 12 + 7) / 4.0);
+        assertThat(all.averageDescriptionLength()).isEqualTo((10 + 10) / 4.0);
+        assertThat(completed.tasks()).isEqualTo(2);
+        assertThat(completed.averageDescriptionLength()).isEqualTo(10 / 2.0);
+    }
+
+    @Test
+    @DisplayName("Should apply updates and deletes, reusing the slots of removed rows")
+    void shouldApplyUpdatesAndDeletes() {
+        // When
+        store.onSaved(task(4, "Estudar Java", null, TaskStatus.COMPLETED, MONDAY.plusDays(15)));
+        store.onDeleted(1);
+        store.onDeleted(99);
+        store.onSaved(task(5, "Nova", null, TaskStatus.PENDING, MONDAY));
+
+        // Then
+        assertThat(store.size()).isEqualTo(4);
+        TaskColumnStore.TextLengths completed = store.averageTextLengths(TaskStatus.COMPLETED);
+        assertThat(completed.tasks()).isEqualTo(3);
+        assertThat(completed.averageTitleLength()).isEqualTo((11 + 12 + 12) / 3.0);
+        assertThat(store.countByStatusAndWeek(null, null).get(0).byStatus())
+                .containsEntry(TaskStatus.PENDING, 1L).containsEntry(TaskStatus.COMPLETED, 1L);
+    }
+
+    @Test
+    @DisplayName("Should give the same answers when the rows are split across parallel chunks")
+    void shouldAggregateAcrossParallelChunks() {
+        // Given
+        int rows = TaskColumnStore.CHUNK_ROWS * 3 + 17;
+        List<Task> tasks = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            tasks.add(task(i, "T" + (i % 10), null, i % 4 == 0 ? TaskStatus.COMPLETED : TaskStatus.PENDING,
+                    MONDAY.plusDays(i % 14)));
+        }
+
+        // When
+        store.onReload(tasks);
+        List<TaskColumnStore.WeekCounts> weeks = store.countByStatusAndWeek(null, null);
+
+        // Then
+        assertThat(weeks).hasSize(2);
+        assertThat(weeks.stream().mapToLong(week -> week.byStatus().get(TaskStatus.COMPLETED)).sum())
+                .isEqualTo(tasks.stream().filter(task -> task.getStatus() == TaskStatus.COMPLETED).count());
+        assertThat(store.averageTextLengths(null).tasks()).isEqualTo(rows);
+    }
+
+    private static Task task(long id, String title, String description, TaskStatus status, LocalDateTime createdAt) {
+        return new Task(id, title, description, status, createdAt);
+    }
+}
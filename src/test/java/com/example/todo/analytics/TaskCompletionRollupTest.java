@@ -0,0 +1,230 @@
+package com.example.todo.analytics;
+
+import com.example.todo.exception.InvalidRequestException;
+import com.example.todo.model.Task;
+import com.example.todo.model.dto.TaskAnalyticsBucketDTO;
+import com.example.todo.model.dto.TaskAnalyticsDTO;
+import com.example.todo.model.enums.AnalyticsBucket;
+import com.example.todo.model.enums.TaskStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskCompletionRollup Unit Tests")
+class TaskCompletionRollupTest {
+
+    private static final LocalDateTime DAY_ONE = LocalDateTime.of(2025, 9, 1, 0, 0);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private TaskCompletionRollup rollup;
+
+    @BeforeEach
+    void setUp() {
+        rollup = new TaskCompletionRollup(jdbcTemplate, TransactionOperations.withoutTransaction(),
+                new TaskAnalyticsProperties(Duration.ofMinutes(1), 48));
+    }
+
+    @Test
+    @DisplayName("Should align the range to whole days and zero-fill buckets without activity")
+    void shouldAlignRangeAndZeroFillBuckets() {
+        // Given
+        rollup.onCreated(task(1L, TaskStatus.PENDING, DAY_ONE.plusHours(10), null));
+        rollup.onStatusChanged(task(1L, TaskStatus.COMPLETED, DAY_ONE.plusHours(10), DAY_ONE.plusHours(27)),
+                TaskStatus.PENDING);
+        rollup.onStatusChanged(task(1L, TaskStatus.PENDING, DAY_ONE.plusHours(10), null), TaskStatus.COMPLETED);
+
+        // When
+        TaskAnalyticsDTO result = rollup.query(AnalyticsBucket.DAY, DAY_ONE.plusHours(12), DAY_ONE.plusDays(2).plusHours(1));
+
+        // Then
+        assertThat(result.getFrom()).isEqualTo(DAY_ONE);
+        assertThat(result.getTo()).isEqualTo(DAY_ONE.plusDays(3));
+        assertThat(result.getBuckets()).extracting(TaskAnalyticsBucketDTO::getStart)
+                .containsExactly(DAY_ONE, DAY_ONE.plusDays(1), DAY_ONE.plusDays(2));
+        assertThat(result.getBuckets()).extracting(TaskAnalyticsBucketDTO::getCreated).containsExactly(1L, 0L, 0L);
+        assertThat(result.getBuckets()).extracting(TaskAnalyticsBucketDTO::getCompleted).containsExactly(0L, 1L, 0L);
+    }
+
+    @Test
+    @DisplayName("Should include the hour in progress when the range ends in the middle of it")
+    void shouldIncludePartialLastHour() {
+        // Given
+        rollup.onCreated(task(1L, TaskStatus.PENDING, DAY_ONE.plusHours(5).plusMinutes(10), null));
+
+        // When
+        TaskAnalyticsDTO result = rollup.query(AnalyticsBucket.HOUR, DAY_ONE.plusHours(4), DAY_ONE.plusHours(5).plusMinutes(30));
+
+        // Then
+        assertThat(result.getTo()).isEqualTo(DAY_ONE.plusHours(6));
+        assertThat(result.getBuckets()).extracting(TaskAnalyticsBucketDTO::getCreated).containsExactly(0L, 1L);
+    }
+
+    @Test
+    @DisplayName("Should merge the deltas into the table and serve what was reloaded from it")
+    void shouldMergeDeltasAndServeReloadedTable() throws Exception {
+        // Given
+        rollup.onCreated(task(1L, TaskStatus.PENDING, DAY_ONE.plusHours(3).plusMinutes(20), null));
+        ResultSet row = mock(ResultSet.class);
+        when(row.getObject("bucket_start", LocalDateTime.class)).thenReturn(DAY_ONE.plusHours(3));
+        when(row.getLong("created")).thenReturn(3L);
+        when(row.getLong("completed")).thenReturn(1L);
+        doAnswer(invocation -> {
+            invocation.<RowCallbackHandler>getArgument(1).processRow(row);
+            return null;
+        }).when(jdbcTemplate).query(startsWith("SELECT"), any(RowCallbackHandler.class));
+
+        // When
+        rollup.flush();
+
+        // Then
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("MERGE INTO task_completion_buckets"), rows.capture());
+        assertThat(rows.getValue()).singleElement()
+                .satisfies(values -> assertThat(values).containsExactly(DAY_ONE.plusHours(3), 1L, 0L));
+        TaskAnalyticsDTO result = rollup.query(AnalyticsBucket.HOUR, DAY_ONE, DAY_ONE.plusHours(6));
+        assertThat(result.getBuckets()).extracting(TaskAnalyticsBucketDTO::getCreated).containsExactly(0L, 0L, 0L, 3L, 0L, 0L);
+        assertThat(result.getBuckets()).extracting(TaskAnalyticsBucketDTO::getCompleted).containsExactly(0L, 0L, 0L, 1L, 0L, 0L);
+    }
+
+    @Test
+    @DisplayName("Should keep the deltas for the next flush when the write fails")
+    void shouldKeepDeltasWhenWriteFails() {
+        // Given
+        rollup.onCreated(task(1L, TaskStatus.PENDING, DAY_ONE.plusHours(1), null));
+        rollup.onCreated(task(2L, TaskStatus.PENDING, DAY_ONE.plusHours(1), null));
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("banco fora do ar"))
+                .thenReturn(new int[]{1});
+
+        // When
+        rollup.flush();
+        long createdAfterFailure = rollup.query(AnalyticsBucket.DAY, DAY_ONE, DAY_ONE.plusDays(1))
+                .getBuckets().get(0).getCreated();
+        rollup.flush();
+
+        // Then
+        assertThat(createdAfterFailure).isEqualTo(2);
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), rows.capture());
+        assertThat(rows.getAllValues().get(1)).singleElement()
+                .satisfies(values -> assertThat(values).containsExactly(DAY_ONE.plusHours(1), 2L, 0L));
+    }
+
+    @Test
+    @DisplayName("Should seed the table on the database and serve what was reloaded from it")
+    void shouldSeedOnDatabaseAndReload() throws Exception {
+        // Given
+        tableIsEmpty();
+        ResultSet row = mock(ResultSet.class);
+        when(row.getObject("bucket_start", LocalDateTime.class)).thenReturn(DAY_ONE.plusHours(2));
+        when(row.getLong("created")).thenReturn(2L);
+        when(row.getLong("completed")).thenReturn(1L);
+        doAnswer(invocation -> {
+            invocation.<RowCallbackHandler>getArgument(1).processRow(row);
+            return null;
+        }).when(jdbcTemplate).query(startsWith("SELECT"), any(RowCallbackHandler.class));
+
+        // When
+        rollup.onReload(List.of(task(1L, TaskStatus.COMPLETED, DAY_ONE.plusHours(2), DAY_ONE.plusHours(2))));
+        rollup.flush();
+        TaskAnalyticsDTO result = rollup.query(AnalyticsBucket.DAY, DAY_ONE, DAY_ONE.plusDays(1));
+
+        // Then
+        verify(jdbcTemplate).update(startsWith("INSERT INTO task_completion_buckets"), any(LocalDateTime.class),
+                any(LocalDateTime.class));
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+        assertThat(result.getBuckets()).extracting(TaskAnalyticsBucketDTO::getCreated).containsExactly(2L);
+        assertThat(result.getBuckets()).extracting(TaskAnalyticsBucketDTO::getCompleted).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Should reload without failing when another node seeded the table first")
+    void shouldToleratePeerSeeding() {
+        // Given
+        tableIsEmpty();
+        when(jdbcTemplate.update(startsWith("INSERT INTO task_completion_buckets"), any(LocalDateTime.class),
+                any(LocalDateTime.class)))
+                .thenThrow(new DuplicateKeyException("bucket_start já existe"));
+
+        // When
+        rollup.onReload(List.of());
+
+        // Then
+        verify(jdbcTemplate).query(startsWith("SELECT"), any(RowCallbackHandler.class));
+    }
+
+    @Test
+    @DisplayName("Should leave writes up to the seed cutoff to the seed and count only later ones in memory")
+    void shouldNotCountSeededWritesTwice() {
+        // Given: criada antes da recarga, já gravada e portanto contada pelo INSERT ... SELECT
+        tableIsEmpty();
+        LocalDateTime now = LocalDateTime.now();
+        rollup.onCreated(task(1L, TaskStatus.PENDING, now.minusMinutes(1), null));
+
+        // When
+        rollup.onReload(List.of());
+        rollup.onCreated(task(2L, TaskStatus.PENDING, now.minusMinutes(1), null));
+        rollup.onCreated(task(3L, TaskStatus.PENDING, now.plusMinutes(1), null));
+        TaskAnalyticsDTO result = rollup.query(AnalyticsBucket.DAY, now.minusDays(1), now.plusDays(1));
+
+        // Then
+        assertThat(result.getBuckets()).extracting(TaskAnalyticsBucketDTO::getCreated).containsOnly(0L, 1L)
+                .filteredOn(created -> created == 1L).hasSize(1);
+        verify(jdbcTemplate).update(startsWith("INSERT INTO task_completion_buckets"), any(LocalDateTime.class),
+                any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Should not seed when the table already has counters")
+    void shouldNotSeedExistingTable() {
+        // When
+        rollup.onReload(List.of());
+
+        // Then
+        verify(jdbcTemplate, never()).update(startsWith("INSERT INTO task_completion_buckets"), any(LocalDateTime.class),
+                any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Should reject empty ranges and ranges with too many buckets")
+    void shouldRejectInvalidRanges() {
+        // When / Then
+        assertThatThrownBy(() -> rollup.query(AnalyticsBucket.HOUR, DAY_ONE.plusHours(1), DAY_ONE))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> rollup.query(AnalyticsBucket.HOUR, DAY_ONE, DAY_ONE.plusDays(3)))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("48");
+    }
+
+    private void tableIsEmpty() {
+        when(jdbcTemplate.queryForObject(startsWith("SELECT NOT EXISTS"), eq(Boolean.class))).thenReturn(true);
+    }
+
+    private static Task task(long id, TaskStatus status, LocalDateTime createdAt, LocalDateTime completedAt) {
+        Task task = new Task(id, "Tarefa " + id, null, status, createdAt);
+        task.setCompletedAt(completedAt);
+        return task;
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.todo.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Tempo até a primeira resposta de {@code GET /tasks}, medido do lançamento do processo: o jar comum com o perfil
+ * padrão contra o jar extraído com o perfil {@code fast-startup}, AOT e o arquivo CDS. Precisa do Docker e da
+ * construção do perfil: {@code mvn -Pfast-startup package -DskipTests} e depois
+ * {@code mvn test -Pbenchmark -Dtest=StartupTimeBenchmark}.
+ */
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Startup time benchmark")
+class StartupTimeBenchmark {
+
+    private static final int RUNS = 3;
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+    private static final Path TARGET = Path.of("target");
+    private static final Path APPLICATION = TARGET.resolve("application");
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+
+    @Test
+    @DisplayName("Time to first request: default profile vs fast-startup")
+    void timeToFirstRequest() throws Exception {
+        Path jar = jar(TARGET);
+        Path extractedJar = jar(APPLICATION);
+        Path archive = APPLICATION.resolve("application.jsa");
+        assumeTrue(jar != null && extractedJar != null && Files.exists(archive),
+                "Rode mvn -Pfast-startup package antes do benchmark");
+
+        // O perfil padrão (ddl-auto=update) cria o esquema que o fast-startup só valida
+        List<Long> baseline = new ArrayList<>();
+        List<Long> fast = new ArrayList<>();
+        for (int run = 0; run < RUNS; run++) {
+            baseline.add(timeToFirstRequest(List.of("-jar", jar.toString()), "default-" + run));
+            fast.add(timeToFirstRequest(List.of(
+                    "-XX:SharedArchiveFile=" + archive,
+                    "-Dspring.aot.enabled=true",
+                    "-Dspring.profiles.active=fast-startup",
+                    "-jar", extractedJar.toString()), "fast-startup-" + run));
+        }
+
+        long baselineMedian = median(baseline);
+        long fastMedian = median(fast);
+        System.out.printf("[benchmark] time to first request: default %d ms %s, fast-startup %d ms %s (%.0f%% menos)%n",
+                baselineMedian, baseline, fastMedian, fast, 100.0 * (baselineMedian - fastMedian) / baselineMedian);
+        assertThat(fastMedian).isPositive();
+    }
+
+    private long timeToFirstRequest(List<String> launch, String name) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(ProcessHandle.current().info().command().orElse("java"));
+        command.addAll(launch);
+        command.addAll(List.of(
+                "--server.port=" + port,
+                "--spring.datasource.url=" + POSTGRES.getJdbcUrl(),
+                "--spring.datasource.username=" + POSTGRES.getUsername(),
+                "--spring.datasource.password=" + POSTGRES.getPassword()));
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(TARGET.resolve("startup-" + name + ".log").toFile())
+                .start();
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/tasks"))
+                    .timeout(Duration.ofSeconds(5))
+                    .build();
+            long deadline = start + STARTUP_TIMEOUT.toNanos();
+            while (System.nanoTime() < deadline) {
+                assertThat(process.isAlive()).as("processo %s terminou antes de responder", name).isTrue();
+                try {
+                    if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                    }
+                } catch (IOException e) {
+                    // Ainda não está escutando
+                }
+                Thread.sleep(10);
+            }
+            throw new AssertionError(name + " não respondeu em " + STARTUP_TIMEOUT);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private static Path jar(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return null;
+        }
+        try (var files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().matches("todo-.*(?<!-plain)\\.jar"))
+                    .findFirst()
+                    .orElse(null);
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static long median(List<Long> values) {
+        long[] sorted = values.stream().mapToLong(Long::longValue).sorted().toArray();
+        return sorted[sorted.length / 2];
+    }
+}
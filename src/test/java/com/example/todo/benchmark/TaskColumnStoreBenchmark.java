@@ -0,0 +1,98 @@
+package com.example.todo.benchmark;
+
+import com.example.todo.analytics.TaskColumnStore;
+import com.example.todo.model.Task;
+import com.example.todo.model.enums.TaskStatus;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Vazão das agregações do {@link TaskColumnStore} em linhas por segundo por núcleo, comparada com o mesmo cálculo
+ * linha a linha sobre as entidades já em memória (o melhor caso de uma consulta JPA). Executar com
+ * {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@DisplayName("Columnar analytics benchmark")
+class TaskColumnStoreBenchmark {
+
+    private static final int TASKS = 2_000_000;
+    private static final int WARMUP = 10;
+    private static final int ITERATIONS = 20;
+    private static final LocalDateTime START = LocalDateTime.of(2023, 1, 2, 0, 0);
+
+    private static List<Task> tasks;
+    private static TaskColumnStore store;
+
+    @BeforeAll
+    static void setUp() {
+        tasks = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            tasks.add(new Task(i + 1, "Tarefa de benchmark " + (i % 5_000), i % 3 == 0 ? null : "Descrição " + (i % 700),
+                    i % 4 == 0 ? TaskStatus.COMPLETED : TaskStatus.PENDING, START.plusMinutes(i / 2)));
+        }
+        store = new TaskColumnStore();
+        store.onReload(tasks);
+    }
+
+    @Test
+    @DisplayName("Counts by status and creation week")
+    void countByStatusAndWeek() {
+        double columnar = measure("columnar status x week", () -> store.countByStatusAndWeek(null, null));
+        double rows = measure("row-at-a-time status x week", () -> tasks.stream()
+                .collect(Collectors.groupingBy(
+                        task -> task.getCreatedAt().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+                                .truncatedTo(ChronoUnit.DAYS),
+                        Collectors.groupingBy(Task::getStatus, Collectors.counting()))));
+
+        System.out.printf("[benchmark] status x week: columnar %.1fx row-at-a-time%n", columnar / rows);
+        assertThat(columnar).isGreaterThan(rows);
+    }
+
+    @Test
+    @DisplayName("Average title and description length")
+    void averageTextLengths() {
+        double columnar = measure("columnar text lengths", () -> store.averageTextLengths(TaskStatus.PENDING));
+        double rows = measure("row-at-a-time text lengths", () -> tasks.stream()
+                .filter(task -> task.getStatus() == TaskStatus.PENDING)
+                .collect(Collectors.teeing(
+                        Collectors.averagingInt(task -> task.getTitle().codePointCount(0, task.getTitle().length())),
+                        Collectors.averagingInt(task -> task.getDescription() == null ? 0
+                                : task.getDescription().codePointCount(0, task.getDescription().length())),
+                        Map::entry)));
+
+        System.out.printf("[benchmark] text lengths: columnar %.1fx row-at-a-time%n", columnar / rows);
+        assertThat(columnar).isGreaterThan(rows);
+    }
+
+    // Linhas por segundo por núcleo: a thread chamadora também processa blocos, além das do pool comum
+    private static double measure(String name, Supplier<?> aggregation) {
+        for (int i = 0; i < WARMUP; i++) {
+            aggregation.get();
+        }
+        long begin = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            assertThat(aggregation.get()).isNotNull();
+        }
+        double seconds = (System.nanoTime() - begin) / 1e9;
+        int cores = name.startsWith("columnar") ? ForkJoinPool.getCommonPoolParallelism() + 1 : 1;
+        double rowsPerSecondPerCore = (double) TASKS * ITERATIONS / seconds / cores;
+        System.out.printf("[benchmark] %s: %d rows, %.2f ms/query, %.1f M rows/s/core (%d cores)%n",
+                name, TASKS, seconds * 1000 / ITERATIONS, rowsPerSecondPerCore / 1e6, cores);
+        return rowsPerSecondPerCore;
+    }
+}
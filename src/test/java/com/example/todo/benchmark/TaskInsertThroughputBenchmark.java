@@ -0,0 +1,125 @@
+package com.example.todo.benchmark;
+
+import com.example.todo.model.Task;
+import com.example.todo.model.enums.TaskStatus;
+import com.example.todo.repository.TaskRepository;
+import com.example.todo.utils.SnowflakeIdGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Mede a vazão de inserts concorrentes com ids gerados pela aplicação.
+ * Executar com {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+})
+@ActiveProfiles("test")
+@DisplayName("Task insert throughput benchmark")
+class TaskInsertThroughputBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskInsertThroughputBenchmark.class);
+
+    private static final int THREADS = 8;
+    private static final int BATCHES_PER_THREAD = 50;
+    private static final int BATCH_SIZE = 50;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Raw id generation throughput")
+    void idGenerationThroughput() throws InterruptedException {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1);
+        int perThread = 1_000_000;
+
+        long elapsed = runConcurrently(() -> {
+            for (int i = 0; i < perThread; i++) {
+                generator.nextId();
+            }
+        });
+
+        report("id generation", (long) THREADS * perThread, elapsed);
+    }
+
+    @Test
+    @DisplayName("Concurrent batched insert throughput")
+    void concurrentInsertThroughput() throws InterruptedException {
+        long elapsed = runConcurrently(() -> {
+            for (int b = 0; b < BATCHES_PER_THREAD; b++) {
+                List<Task> batch = new ArrayList<>(BATCH_SIZE);
+                for (int i = 0; i < BATCH_SIZE; i++) {
+                    Task task = new Task();
+                    task.setTitle("Benchmark Task " + i);
+                    task.setDescription("Inserted by the throughput benchmark");
+                    task.setStatus(TaskStatus.PENDING);
+                    batch.add(task);
+                }
+                taskRepository.saveAll(batch);
+            }
+        });
+
+        long rows = (long) THREADS * BATCHES_PER_THREAD * BATCH_SIZE;
+        assertThat(taskRepository.count()).isEqualTo(rows);
+        report("batched inserts", rows, elapsed);
+    }
+
+    // Uma thread que falhou não pode entrar na vazão: o resultado de cada uma é conferido
+    private long runConcurrently(Runnable work) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>(THREADS);
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                work.run();
+                return null;
+            }));
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.MINUTES)).isTrue();
+        long elapsed = System.nanoTime() - begin;
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                throw new AssertionError("Thread do benchmark falhou", e.getCause());
+            }
+        }
+        return elapsed;
+    }
+
+    private void report(String name, long operations, long elapsedNanos) {
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        log.info("[benchmark] {}: {} ops in {} s ({} ops/s, {} threads)",
+                name, operations, String.format("%.3f", seconds), String.format("%.0f", operations / seconds), THREADS);
+    }
+}
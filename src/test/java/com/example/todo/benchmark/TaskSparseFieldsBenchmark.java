@@ -0,0 +1,100 @@
+package com.example.todo.benchmark;
+
+import com.example.todo.model.Task;
+import com.example.todo.model.enums.TaskStatus;
+import com.example.todo.repository.TaskRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Compara GET /tasks completo com {@code ?fields=id,title,taskStatus} em páginas grandes: tamanho do JSON e
+ * latência média. Executar com {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+        "logging.level.org.springframework.web=WARN"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Sparse fieldsets benchmark")
+class TaskSparseFieldsBenchmark {
+
+    private static final int TASKS = 5_000;
+    private static final int WARMUP = 20;
+    private static final int ITERATIONS = 50;
+    private static final String DESCRIPTION = "x".repeat(300);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @BeforeEach
+    void setUp() {
+        List<Task> tasks = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            Task task = new Task();
+            task.setTitle("Benchmark Task " + i);
+            task.setDescription(DESCRIPTION);
+            task.setStatus(i % 2 == 0 ? TaskStatus.PENDING : TaskStatus.COMPLETED);
+            tasks.add(task);
+        }
+        taskRepository.saveAll(tasks);
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Full list vs id,title,taskStatus")
+    void compareFullAndSparseList() throws Exception {
+        Result full = measure("full", get("/tasks"));
+        Result sparse = measure("sparse", get("/tasks").param("fields", "id,title,taskStatus"));
+
+        System.out.printf("[benchmark] sparse fieldsets: payload %.1f%% smaller, latency %.1f%% lower%n",
+                100.0 * (full.bytes - sparse.bytes) / full.bytes,
+                100.0 * (full.avgMillis - sparse.avgMillis) / full.avgMillis);
+        assertThat(sparse.bytes).isLessThan(full.bytes / 3);
+    }
+
+    private Result measure(String name, MockHttpServletRequestBuilder request) throws Exception {
+        for (int i = 0; i < WARMUP; i++) {
+            mockMvc.perform(request).andExpect(status().isOk());
+        }
+        long bytes = 0;
+        long begin = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            bytes = mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsByteArray().length;
+        }
+        double avgMillis = (System.nanoTime() - begin) / 1_000_000.0 / ITERATIONS;
+        System.out.printf("[benchmark] %s: %d tasks, %d bytes, %.2f ms/request%n", name, TASKS, bytes, avgMillis);
+        return new Result(bytes, avgMillis);
+    }
+
+    private record Result(long bytes, double avgMillis) {
+    }
+}
@@ -0,0 +1,235 @@
+package com.example.todo.cache;
+
+import com.example.todo.exception.OperationTimeoutException;
+import com.example.todo.service.RequestDeadline;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MicroBatcherTest {
+
+    private final List<Set<Long>> batches = new CopyOnWriteArrayList<>();
+    private SimpleMeterRegistry meterRegistry;
+    private ExecutorService executor;
+    private MicroBatcher<Long, String> batcher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = Executors.newFixedThreadPool(8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (batcher != null) {
+            batcher.close();
+        }
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should load keys requested within the window with one call")
+    void shouldBatchConcurrentLoads() throws Exception {
+        // Given
+        batcher = new MicroBatcher<>("findById", Duration.ofMillis(200), 100, 2, Duration.ofSeconds(5),
+                this::loadEven, meterRegistry);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When
+        List<Future<String>> results = new ArrayList<>();
+        for (long id = 1; id <= 4; id++) {
+            long key = id;
+            results.add(executor.submit(() -> {
+                start.await();
+                return batcher.load(key);
+            }));
+        }
+        start.countDown();
+
+        // Then
+        assertThat(results.get(0).get(5, TimeUnit.SECONDS)).isNull();
+        assertThat(results.get(1).get(5, TimeUnit.SECONDS)).isEqualTo("task-2");
+        assertThat(results.get(2).get(5, TimeUnit.SECONDS)).isNull();
+        assertThat(results.get(3).get(5, TimeUnit.SECONDS)).isEqualTo("task-4");
+        assertThat(batches).containsExactly(Set.of(1L, 2L, 3L, 4L));
+        assertThat(meterRegistry.get("tasks.micro-batch.size").summary().max()).isEqualTo(4.0);
+    }
+
+    @Test
+    @DisplayName("Should run a full batch without waiting for the window")
+    void shouldFlushFullBatchImmediately() throws Exception {
+        // Given
+        batcher = new MicroBatcher<>("findById", Duration.ofMinutes(1), 2, 2, Duration.ofSeconds(5),
+                this::loadEven, meterRegistry);
+
+        // When
+        Future<String> first = executor.submit(() -> batcher.load(2L));
+        String second = batcher.load(4L);
+
+        // Then
+        assertThat(second).isEqualTo("task-4");
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("task-2");
+        assertThat(batches).containsExactly(Set.of(2L, 4L));
+    }
+
+    @Test
+    @DisplayName("Should propagate loader failures to every caller in the batch")
+    void shouldPropagateLoaderFailure() {
+        // Given
+        batcher = new MicroBatcher<>("findById", Duration.ofNanos(500_000), 100, 2, Duration.ofSeconds(5),
+                ids -> {
+                    throw new IllegalStateException("banco indisponível");
+                }, meterRegistry);
+
+        // When / Then
+        assertThatThrownBy(() -> batcher.load(1L))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("banco indisponível");
+    }
+
+    @Test
+    @DisplayName("Should keep loading new batches while an earlier one is still running")
+    void shouldNotBlockOnSlowBatch() throws Exception {
+        // Given
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        batcher = new MicroBatcher<>("findById", Duration.ofMillis(1), 100, 2, Duration.ofSeconds(5),
+                ids -> {
+                    if (ids.contains(2L)) {
+                        firstStarted.countDown();
+                        await(releaseFirst);
+                    }
+                    return loadEven(ids);
+                }, meterRegistry);
+        Future<String> slow = executor.submit(() -> batcher.load(2L));
+        assertThat(firstStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        String fast = batcher.load(4L);
+
+        // Then
+        assertThat(fast).isEqualTo("task-4");
+        assertThat(slow).isNotDone();
+        releaseFirst.countDown();
+        assertThat(slow.get(5, TimeUnit.SECONDS)).isEqualTo("task-2");
+    }
+
+    @Test
+    @DisplayName("Should load the batch under the tightest deadline among its callers")
+    void shouldLoadUnderTightestDeadline() throws Exception {
+        // Given
+        AtomicLong remaining = new AtomicLong();
+        batcher = new MicroBatcher<>("findById", Duration.ofMillis(200), 100, 2, Duration.ofSeconds(5),
+                ids -> {
+                    remaining.set(RequestDeadline.remainingNanos());
+                    return loadEven(ids);
+                }, meterRegistry);
+
+        // When
+        Future<String> unbounded = executor.submit(() -> batcher.load(2L));
+        Future<String> bounded = executor.submit(withDeadline(Duration.ofSeconds(1), () -> batcher.load(4L)));
+
+        // Then
+        assertThat(unbounded.get(5, TimeUnit.SECONDS)).isEqualTo("task-2");
+        assertThat(bounded.get(5, TimeUnit.SECONDS)).isEqualTo("task-4");
+        assertThat(batches).containsExactly(Set.of(2L, 4L));
+        assertThat(remaining.get()).isPositive().isLessThanOrEqualTo(Duration.ofSeconds(1).toNanos());
+    }
+
+    @Test
+    @DisplayName("Should stop waiting when the caller's own deadline runs out")
+    void shouldStopWaitingAtCallerDeadline() {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        batcher = new MicroBatcher<>("findById", Duration.ofMillis(1), 100, 2, Duration.ofSeconds(5),
+                ids -> {
+                    await(release);
+                    return loadEven(ids);
+                }, meterRegistry);
+
+        // When
+        long start = System.nanoTime();
+        RequestDeadline.start(Duration.ofMillis(100));
+        try {
+            assertThatThrownBy(() -> batcher.load(2L)).isInstanceOf(OperationTimeoutException.class);
+        } finally {
+            RequestDeadline.clear();
+            release.countDown();
+        }
+
+        // Then: bem antes do timeout de 5s do lote
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+    }
+
+    @Test
+    @DisplayName("Should reload alone when the batch failed on another caller's shorter deadline")
+    void shouldReloadAloneAfterAnotherCallersDeadline() throws Exception {
+        // Given: o banco só responde a quem tem ao menos 1s de prazo
+        batcher = new MicroBatcher<>("findById", Duration.ofMillis(100), 100, 2, Duration.ofSeconds(5),
+                ids -> {
+                    if (RequestDeadline.remainingNanos() < Duration.ofSeconds(1).toNanos()) {
+                        throw new QueryTimeoutException("Comando cancelado pelo tempo limite");
+                    }
+                    return loadEven(ids);
+                }, meterRegistry);
+
+        // When
+        Future<String> patient = executor.submit(withDeadline(Duration.ofSeconds(5), () -> batcher.load(2L)));
+        Future<String> hurried = executor.submit(withDeadline(Duration.ofMillis(500), () -> batcher.load(4L)));
+
+        // Then
+        assertThat(patient.get(5, TimeUnit.SECONDS)).isEqualTo("task-2");
+        assertThatThrownBy(() -> hurried.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(QueryTimeoutException.class);
+    }
+
+    private static <T> Callable<T> withDeadline(Duration timeout, Callable<T> action) {
+        return () -> {
+            RequestDeadline.start(timeout);
+            try {
+                return action.call();
+            } finally {
+                RequestDeadline.clear();
+            }
+        };
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Map<Long, String> loadEven(Set<Long> ids) {
+        batches.add(Set.copyOf(ids));
+        Map<Long, String> loaded = new HashMap<>();
+        for (Long id : ids) {
+            if (id % 2 == 0) {
+                loaded.put(id, "task-" + id);
+            }
+        }
+        return loaded;
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.todo.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+class PostgresInvalidationBusTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final TaskCacheProperties PROPERTIES = new TaskCacheProperties(
+            100, Duration.ofMinutes(10), Duration.ofMinutes(1), "postgres", "task_invalidation");
+
+    @Test
+    @DisplayName("Should deliver invalidations published by one node to the other")
+    void shouldDeliverInvalidationsAcrossNodes() throws InterruptedException {
+        // Given
+        PostgresInvalidationBus publisher = bus();
+        PostgresInvalidationBus subscriber = bus();
+        BlockingQueue<TaskInvalidation> received = new LinkedBlockingQueue<>();
+        CountDownLatch listening = new CountDownLatch(1);
+        subscriber.subscribe(new InvalidationBus.Subscriber() {
+            @Override
+            public void onInvalidation(TaskInvalidation invalidation) {
+                received.add(invalidation);
+            }
+
+            @Override
+            public void onResync() {
+                listening.countDown();
+            }
+        });
+        subscriber.start();
+
+        try {
+            assertThat(listening.await(10, TimeUnit.SECONDS)).isTrue();
+
+            // When
+            publisher.publish(new TaskInvalidation(7L, 3L, "node-a"));
+
+            // Then
+            assertThat(received.poll(10, TimeUnit.SECONDS)).isEqualTo(new TaskInvalidation(7L, 3L, "node-a"));
+        } finally {
+            subscriber.stop();
+        }
+    }
+
+    private static PostgresInvalidationBus bus() {
+        DataSourceProperties dataSourceProperties = new DataSourceProperties();
+        dataSourceProperties.setUrl(POSTGRES.getJdbcUrl());
+        dataSourceProperties.setUsername(POSTGRES.getUsername());
+        dataSourceProperties.setPassword(POSTGRES.getPassword());
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        return new PostgresInvalidationBus(dataSourceProperties, new JdbcTemplate(dataSource), PROPERTIES);
+    }
+}
@@ -0,0 +1,266 @@
+package com.example.todo.cache;
+
+import com.example.todo.exception.OperationTimeoutException;
+import com.example.todo.exception.ResourceNotFoundException;
+import com.example.todo.model.dto.TaskResponseDTO;
+import com.example.todo.model.enums.TaskStatus;
+import com.example.todo.service.RequestDeadline;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = Executors.newFixedThreadPool(8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should share one load between concurrent callers for the same key")
+    void shouldCoalesceConcurrentCalls() throws Exception {
+        // Given
+        SingleFlight<Long, String> flight = new SingleFlight<>("findById", Duration.ofSeconds(5), meterRegistry);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+
+        // When
+        Future<String> leader = executor.submit(() -> flight.execute(1L, () -> {
+            loads.incrementAndGet();
+            leaderStarted.countDown();
+            await(release);
+            return "task-1";
+        }));
+        assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        List<Future<String>> followers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            followers.add(executor.submit(() -> flight.execute(1L, () -> {
+                loads.incrementAndGet();
+                return "other";
+            })));
+        }
+        waitForCoalesced(5);
+        release.countDown();
+
+        // Then
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("task-1");
+        for (Future<String> follower : followers) {
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("task-1");
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(count("leader")).isEqualTo(1.0);
+        assertThat(count("coalesced")).isEqualTo(5.0);
+    }
+
+    @Test
+    @DisplayName("Should give every coalesced caller its own copy of the result")
+    void shouldCopyResultForCoalescedCallers() throws Exception {
+        // Given
+        SingleFlight<Long, TaskResponseDTO> flight = new SingleFlight<>("findById", Duration.ofSeconds(5),
+                meterRegistry, TaskResponseDTO::copy);
+        TaskResponseDTO loaded = new TaskResponseDTO(1L, "Task 1", null, TaskStatus.PENDING, null);
+        loaded.setTags(new LinkedHashSet<>(List.of("api")));
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+
+        // When
+        Future<TaskResponseDTO> leader = executor.submit(() -> flight.execute(1L, () -> {
+            leaderStarted.countDown();
+            await(release);
+            return loaded;
+        }));
+        assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<TaskResponseDTO> first = executor.submit(() -> flight.execute(1L, () -> null));
+        Future<TaskResponseDTO> second = executor.submit(() -> flight.execute(1L, () -> null));
+        waitForCoalesced(2);
+        release.countDown();
+        TaskResponseDTO mutated = first.get(5, TimeUnit.SECONDS);
+        mutated.setTitle("Alterado");
+        mutated.getTags().add("alterado");
+
+        // Then
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isSameAs(loaded);
+        assertThat(mutated).isNotSameAs(loaded);
+        assertThat(second.get(5, TimeUnit.SECONDS)).satisfies(copy -> {
+            assertThat(copy).isNotSameAs(loaded).isNotSameAs(mutated);
+            assertThat(copy.getTitle()).isEqualTo("Task 1");
+            assertThat(copy.getTags()).containsExactly("api");
+        });
+        assertThat(loaded.getTitle()).isEqualTo("Task 1");
+        assertThat(loaded.getTags()).containsExactly("api");
+    }
+
+    @Test
+    @DisplayName("Should propagate the leader's exception to coalesced callers")
+    void shouldPropagateLeaderFailure() throws Exception {
+        // Given
+        SingleFlight<Long, String> flight = new SingleFlight<>("findById", Duration.ofSeconds(5), meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        Future<String> leader = executor.submit(() -> flight.execute(1L, () -> {
+            leaderStarted.countDown();
+            await(release);
+            throw new ResourceNotFoundException("Tarefa Não Encontrada Para o Id: 1");
+        }));
+        assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        Future<String> follower = executor.submit(() -> flight.execute(1L, () -> "other"));
+        waitForCoalesced(1);
+        release.countDown();
+
+        // Then
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(ResourceNotFoundException.class);
+        assertThat(flight.execute(1L, () -> "fresh")).isEqualTo("fresh");
+    }
+
+    @Test
+    @DisplayName("Should give up waiting after the timeout")
+    void shouldTimeOutCoalescedCaller() throws Exception {
+        // Given
+        SingleFlight<Long, String> flight = new SingleFlight<>("findById", Duration.ofMillis(50), meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        Future<String> leader = executor.submit(() -> flight.execute(1L, () -> {
+            leaderStarted.countDown();
+            await(release);
+            return "task-1";
+        }));
+        assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When / Then
+        assertThatThrownBy(() -> flight.execute(1L, () -> "other"))
+                .isInstanceOf(OperationTimeoutException.class);
+        assertThat(meterRegistry.get("tasks.single-flight.timeouts").counter().count()).isEqualTo(1.0);
+        release.countDown();
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("task-1");
+    }
+
+    @Test
+    @DisplayName("Should load again for a caller that still has time when the leader's deadline ran out")
+    void shouldRetryAfterLeaderDeadline() throws Exception {
+        // Given
+        SingleFlight<Long, String> flight = new SingleFlight<>("findById", Duration.ofSeconds(5), meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        Future<String> leader = executor.submit(() -> flight.execute(1L, () -> {
+            leaderStarted.countDown();
+            await(release);
+            throw new QueryTimeoutException("Comando cancelado pelo tempo limite");
+        }));
+        assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        Future<String> follower = executor.submit(() -> flight.execute(1L, () -> "task-1"));
+        waitForCoalesced(1);
+        release.countDown();
+
+        // Then
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("task-1");
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(QueryTimeoutException.class);
+        assertThat(count("leader")).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Should stop waiting when the caller's own deadline runs out")
+    void shouldStopWaitingAtCallerDeadline() throws Exception {
+        // Given
+        SingleFlight<Long, String> flight = new SingleFlight<>("findById", Duration.ofSeconds(5), meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        Future<String> leader = executor.submit(() -> flight.execute(1L, () -> {
+            leaderStarted.countDown();
+            await(release);
+            return "task-1";
+        }));
+        assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        long start = System.nanoTime();
+        RequestDeadline.start(Duration.ofMillis(100));
+        try {
+            assertThatThrownBy(() -> flight.execute(1L, () -> "other")).isInstanceOf(OperationTimeoutException.class);
+        } finally {
+            RequestDeadline.clear();
+        }
+
+        // Then: bem antes do timeout de 5s
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+        release.countDown();
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("task-1");
+    }
+
+    @Test
+    @DisplayName("Should start a new load for callers that arrive after forget")
+    void shouldNotJoinForgottenCall() throws Exception {
+        // Given
+        SingleFlight<Long, String> flight = new SingleFlight<>("findById", Duration.ofSeconds(5), meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        Future<String> leader = executor.submit(() -> flight.execute(1L, () -> {
+            leaderStarted.countDown();
+            await(release);
+            return "before-write";
+        }));
+        assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        flight.forget(1L);
+        String afterWrite = flight.execute(1L, () -> "after-write");
+        release.countDown();
+
+        // Then
+        assertThat(afterWrite).isEqualTo("after-write");
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("before-write");
+        assertThat(count("coalesced")).isZero();
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("tasks.single-flight.calls").tag("result", result).counter().count();
+    }
+
+    private void waitForCoalesced(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (count("coalesced") < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
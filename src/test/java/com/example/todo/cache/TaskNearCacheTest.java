@@ -0,0 +1,155 @@
+package com.example.todo.cache;
+
+import com.example.todo.model.Task;
+import com.example.todo.model.dto.TaskResponseDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskNearCacheTest {
+
+    private static final TaskCacheProperties PROPERTIES = new TaskCacheProperties(
+            100, Duration.ofMinutes(10), Duration.ofMinutes(1), "loopback", "task_invalidation");
+
+    private RecordingBus bus;
+    private TaskNearCache nodeA;
+    private TaskNearCache nodeB;
+
+    @BeforeEach
+    void setUp() {
+        bus = new RecordingBus();
+        nodeA = new TaskNearCache(bus, PROPERTIES, new SimpleMeterRegistry());
+        nodeB = new TaskNearCache(bus, PROPERTIES, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("Should evict the entry on every node when one node saves the task")
+    void shouldEvictOnAllNodesWhenTaskIsSaved() {
+        // Given
+        nodeA.put(1L, 0L, dto(1L, "v0"));
+        nodeB.put(1L, 0L, dto(1L, "v0"));
+
+        // When
+        nodeA.onSaved(task(1L, 1L));
+
+        // Then
+        assertThat(nodeA.get(1L)).isNull();
+        assertThat(nodeB.get(1L)).isNull();
+        assertThat(bus.published).containsExactly(new TaskInvalidation(1L, 1L, nodeA.nodeId()));
+    }
+
+    @Test
+    @DisplayName("Should not let a read that started before the write cache the old version")
+    void shouldRejectStalePutAfterInvalidation() {
+        // Given
+        nodeB.onInvalidation(new TaskInvalidation(1L, 3L, "other-node"));
+
+        // When
+        nodeB.put(1L, 2L, dto(1L, "v2"));
+
+        // Then
+        assertThat(nodeB.get(1L)).isNull();
+
+        // When
+        nodeB.put(1L, 3L, dto(1L, "v3"));
+
+        // Then
+        assertThat(nodeB.get(1L).getTitle()).isEqualTo("v3");
+    }
+
+    @Test
+    @DisplayName("Should ignore invalidations that arrive out of order")
+    void shouldIgnoreReorderedInvalidations() {
+        // Given
+        nodeB.onInvalidation(new TaskInvalidation(1L, 5L, "other-node"));
+        nodeB.put(1L, 5L, dto(1L, "v5"));
+
+        // When
+        nodeB.onInvalidation(new TaskInvalidation(1L, 4L, "other-node"));
+
+        // Then
+        assertThat(nodeB.get(1L).getTitle()).isEqualTo("v5");
+    }
+
+    @Test
+    @DisplayName("Should keep the newest version when loads race")
+    void shouldKeepNewestVersionWhenPutsRace() {
+        // When
+        nodeA.put(1L, 4L, dto(1L, "v4"));
+        nodeA.put(1L, 3L, dto(1L, "v3"));
+
+        // Then
+        assertThat(nodeA.get(1L).getTitle()).isEqualTo("v4");
+    }
+
+    @Test
+    @DisplayName("Should never cache a deleted task again")
+    void shouldTombstoneDeletedTask() {
+        // Given
+        nodeB.put(1L, 7L, dto(1L, "v7"));
+
+        // When
+        nodeA.onDeleted(1L);
+        nodeB.put(1L, 7L, dto(1L, "v7"));
+
+        // Then
+        assertThat(nodeB.get(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should drop every entry when the bus asks for a resync")
+    void shouldClearOnResync() {
+        // Given
+        nodeB.put(1L, 1L, dto(1L, "a"));
+        nodeB.put(2L, 1L, dto(2L, "b"));
+
+        // When
+        nodeB.onResync();
+
+        // Then
+        assertThat(nodeB.get(1L)).isNull();
+        assertThat(nodeB.get(2L)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should round-trip the notification payload")
+    void shouldEncodeAndDecodeInvalidation() {
+        // Given
+        TaskInvalidation invalidation = new TaskInvalidation(42L, TaskInvalidation.DELETED, "node:with:colons");
+
+        // When / Then
+        assertThat(TaskInvalidation.decode(invalidation.encode())).isEqualTo(invalidation);
+    }
+
+    private static TaskResponseDTO dto(long id, String title) {
+        TaskResponseDTO dto = new TaskResponseDTO();
+        dto.setId(id);
+        dto.setTitle(title);
+        return dto;
+    }
+
+    private static Task task(long id, long version) {
+        Task task = new Task();
+        task.setId(id);
+        task.setVersion(version);
+        return task;
+    }
+
+    private static class RecordingBus extends LoopbackInvalidationBus {
+
+        private final List<TaskInvalidation> published = new ArrayList<>();
+
+        @Override
+        public void publish(TaskInvalidation invalidation) {
+            published.add(invalidation);
+            super.publish(invalidation);
+        }
+    }
+}
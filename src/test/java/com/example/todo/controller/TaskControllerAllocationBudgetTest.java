@@ -0,0 +1,158 @@
+package com.example.todo.controller;
+
+import com.example.todo.model.Task;
+import com.example.todo.model.dto.TaskRequestDTO;
+import com.example.todo.model.enums.TaskStatus;
+import com.example.todo.repository.TaskClosureRepository;
+import com.example.todo.repository.TaskRepository;
+import com.example.todo.support.AllocationBudget;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Orçamento de alocação (bytes por chamada, medidos na thread do teste) de cada endpoint do TaskController, além do
+ * que aloca uma requisição de referência a {@code /tasks} que não acessa o banco ({@code GET /tasks/suggest} sem
+ * resultados). MockMvc, filtros e interceptadores comuns ficam na referência; os valores cobrem o trabalho de cada
+ * endpoint, inclusive o H2 embarcado, que roda na mesma thread, e devem ser revistos quando esse trabalho mudar.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.springframework.web=WARN",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("TaskController Allocation Budget Tests")
+class TaskControllerAllocationBudgetTest {
+
+    private static final int SEEDED_TASKS = 50;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskClosureRepository closureRepository;
+
+    private long taskId;
+
+    private final AtomicInteger created = new AtomicInteger();
+
+    private final AllocationBudget.Call baseline = () ->
+            mockMvc.perform(get("/tasks/suggest").param("prefix", "sem resultado")).andExpect(status().isOk());
+
+    @BeforeEach
+    void setUp() {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < SEEDED_TASKS; i++) {
+            Task task = new Task();
+            task.setTitle("Budget Task " + i);
+            task.setDescription("Seeded for the allocation budget test");
+            task.setStatus(i % 2 == 0 ? TaskStatus.PENDING : TaskStatus.COMPLETED);
+            tasks.add(task);
+        }
+        taskId = taskRepository.saveAll(tasks).get(0).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAllInBatch();
+        closureRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("GET /tasks - Should stay within allocation budget")
+    void getAllShouldStayWithinBudget() throws Exception {
+        AllocationBudget.assertWithinBudget("GET /tasks", 400_000, baseline, () ->
+                mockMvc.perform(get("/tasks")).andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("GET /tasks/{id} - Should stay within allocation budget")
+    void getByIdShouldStayWithinBudget() throws Exception {
+        AllocationBudget.assertWithinBudget("GET /tasks/{id}", 130_000, baseline, () ->
+                mockMvc.perform(get("/tasks/{id}", taskId)).andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("GET /tasks/status/{status} - Should stay within allocation budget")
+    void getByStatusShouldStayWithinBudget() throws Exception {
+        AllocationBudget.assertWithinBudget("GET /tasks/status/{status}", 280_000, baseline, () ->
+                mockMvc.perform(get("/tasks/status/{status}", TaskStatus.PENDING)).andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("POST /tasks - Should stay within allocation budget")
+    void createShouldStayWithinBudget() throws Exception {
+        // Títulos distintos a cada chamada; allowDuplicate evita que as tarefas já criadas recusem as seguintes
+        AllocationBudget.assertWithinBudget("POST /tasks", 200_000, baseline, () ->
+                mockMvc.perform(post("/tasks")
+                                .param("allowDuplicate", "true")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(
+                                        new TaskRequestDTO("Created Budget Task " + created.incrementAndGet(), "Created"))))
+                        .andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("PUT /tasks/{id} - Should stay within allocation budget")
+    void updateShouldStayWithinBudget() throws Exception {
+        String body = objectMapper.writeValueAsString(new TaskRequestDTO("Updated Budget Task", "Updated"));
+        AllocationBudget.assertWithinBudget("PUT /tasks/{id}", 160_000, baseline, () ->
+                mockMvc.perform(put("/tasks/{id}", taskId)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(body))
+                        .andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("PUT /tasks/{id}/status - Should stay within allocation budget")
+    void updateStatusShouldStayWithinBudget() throws Exception {
+        AllocationBudget.assertWithinBudget("PUT /tasks/{id}/status", 150_000, baseline, () ->
+                mockMvc.perform(put("/tasks/{id}/status", taskId)
+                                .param("taskStatus", TaskStatus.COMPLETED.toString()))
+                        .andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("DELETE /tasks/{id} - Should stay within allocation budget")
+    void deleteShouldStayWithinBudget() throws Exception {
+        // Cada chamada remove uma tarefa: as vítimas são criadas antes, fora da medição
+        List<Task> victims = new ArrayList<>();
+        for (int i = 0; i < AllocationBudget.CALLS; i++) {
+            Task task = new Task();
+            task.setTitle("Deleted Budget Task " + i);
+            task.setStatus(TaskStatus.PENDING);
+            victims.add(task);
+        }
+        Deque<Long> ids = new ArrayDeque<>();
+        taskRepository.saveAll(victims).forEach(task -> ids.add(task.getId()));
+
+        AllocationBudget.assertWithinBudget("DELETE /tasks/{id}", 220_000, baseline, () ->
+                mockMvc.perform(delete("/tasks/{id}", ids.remove())).andExpect(status().isNoContent()));
+    }
+}
@@ -1,10 +1,19 @@
 package com.example.todo.controller;
 
+import com.example.todo.model.dto.PageResponseDTO;
+import com.example.todo.model.dto.TaskAnalyticsBucketDTO;
+import com.example.todo.model.dto.TaskAnalyticsDTO;
+import com.example.todo.model.dto.TaskBatchResponseDTO;
 import com.example.todo.model.dto.TaskRequestDTO;
 import com.example.todo.model.dto.TaskResponseDTO;
+import com.example.todo.model.dto.TaskSuggestionDTO;
+import com.example.todo.model.dto.TaskWeeklyCountDTO;
+import com.example.todo.model.enums.AnalyticsBucket;
+import com.example.todo.model.enums.TaskField;
 import com.example.todo.model.enums.TaskStatus;
 import com.example.todo.service.TaskService;
 import com.example.todo.exception.ResourceNotFoundException;
+import com.example.todo.exception.TaskHasSubtasksException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,10 +24,15 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+import static org.hamcrest.Matchers.startsWith;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -26,7 +40,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
-@WebMvcTest(TaskController.class)
+@WebMvcTest(controllers = TaskController.class, properties = "todo-api.rate-limit.enabled=false")
 @DisplayName("TaskController Integration Tests")
 class TaskControllerTest {
 
@@ -70,7 +84,7 @@ class TaskControllerTest {
     @DisplayName("GET /tasks - Should return all tasks")
     void shouldReturnAllTasks() throws Exception {
         // Given
-        when(taskService.findAll()).thenReturn(taskList);
+        when(taskService.findAll(null)).thenReturn(taskList);
 
         // When & Then
         mockMvc.perform(get("/tasks"))
@@ -79,14 +93,32 @@ class TaskControllerTest {
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$").isArray())
                 .andExpect(jsonPath("$.length()").value(2))
-                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[0].id").value("1"))
                 .andExpect(jsonPath("$[0].title").value("Test Task"))
                 .andExpect(jsonPath("$[0].taskStatus").value("PENDING"))
-                .andExpect(jsonPath("$[1].id").value(2))
+                .andExpect(jsonPath("$[1].id").value("2"))
                 .andExpect(jsonPath("$[1].title").value("Test Task 2"))
                 .andExpect(jsonPath("$[1].taskStatus").value("COMPLETED"));
 
-        verify(taskService, times(1)).findAll();
+        verify(taskService, times(1)).findAll(null);
+    }
+
+    @Test
+    @DisplayName("GET /tasks?ids= - Should return the requested tasks and the missing ids")
+    void shouldReturnTasksByIds() throws Exception {
+        // Given
+        when(taskService.findByIds(List.of(2L, 9L, 1L), null))
+                .thenReturn(new TaskBatchResponseDTO(List.of(taskList.get(1), taskResponseDTO), List.of(9L)));
+
+        // When & Then
+        mockMvc.perform(get("/tasks").param("ids", "2,9,1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.content[0].id").value("2"))
+                .andExpect(jsonPath("$.content[1].id").value("1"))
+                .andExpect(jsonPath("$.missingIds[0]").value("9"));
+
+        verify(taskService, never()).findAll(any());
     }
 
     @Test
@@ -101,7 +133,7 @@ class TaskControllerTest {
                 .andDo(print())
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$.id").value(1))
+                .andExpect(jsonPath("$.id").value("1"))
                 .andExpect(jsonPath("$.title").value("Test Task"))
                 .andExpect(jsonPath("$.description").value("Test Description"))
                 .andExpect(jsonPath("$.taskStatus").value("PENDING"));
@@ -145,11 +177,145 @@ class TaskControllerTest {
         verify(taskService, times(1)).findByStatus(status);
     }
 
+    @Test
+    @DisplayName("GET /tasks/next - Should return next tasks")
+    void shouldReturnNextTasks() throws Exception {
+        // Given
+        when(taskService.findNext(5, null)).thenReturn(List.of(taskResponseDTO));
+
+        // When & Then
+        mockMvc.perform(get("/tasks/next").param("limit", "5"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value("1"));
+
+        verify(taskService, times(1)).findNext(5, null);
+    }
+
+    @Test
+    @DisplayName("GET /tasks/suggest - Should return title suggestions")
+    void shouldReturnTitleSuggestions() throws Exception {
+        // Given
+        when(taskService.suggest("comp", 5)).thenReturn(List.of(new TaskSuggestionDTO(2L, "Comprar pão")));
+
+        // When & Then
+        mockMvc.perform(get("/tasks/suggest").param("prefix", "comp").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value("2"))
+                .andExpect(jsonPath("$[0].title").value("Comprar pão"));
+
+        verify(taskService, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("GET /tasks/analytics - Should return created and completed counts per bucket")
+    void shouldReturnAnalytics() throws Exception {
+        // Given
+        LocalDateTime from = LocalDateTime.of(2025, 9, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2025, 9, 3, 0, 0);
+        when(taskService.analytics("day", from, to)).thenReturn(new TaskAnalyticsDTO(AnalyticsBucket.DAY, from, to,
+                List.of(new TaskAnalyticsBucketDTO(from, 4, 1), new TaskAnalyticsBucketDTO(from.plusDays(1), 0, 2))));
+
+        // When & Then
+        mockMvc.perform(get("/tasks/analytics")
+                        .param("from", "2025-09-01T00:00:00")
+                        .param("to", "2025-09-03T00:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.bucket").value("DAY"))
+                .andExpect(jsonPath("$.buckets.length()").value(2))
+                .andExpect(jsonPath("$.buckets[0].created").value(4))
+                .andExpect(jsonPath("$.buckets[1].completed").value(2));
+    }
+
+    @Test
+    @DisplayName("GET /tasks/analytics/weekly - Should return task counts by creation week and status")
+    void shouldReturnWeeklyCounts() throws Exception {
+        // Given
+        when(taskService.countByWeek(null, null)).thenReturn(List.of(new TaskWeeklyCountDTO(LocalDate.of(2025, 9, 1),
+                Map.of(TaskStatus.PENDING, 3L, TaskStatus.COMPLETED, 5L))));
+
+        // When & Then
+        mockMvc.perform(get("/tasks/analytics/weekly"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].weekStart").value("2025-09-01"))
+                .andExpect(jsonPath("$[0].counts.PENDING").value(3))
+                .andExpect(jsonPath("$[0].counts.COMPLETED").value(5));
+    }
+
+    @Test
+    @DisplayName("GET /tasks/search - Should filter tasks by tags and status")
+    void shouldSearchTasksByTags() throws Exception {
+        // Given
+        when(taskService.search(Set.of("a", "b"), null, Set.of("c"), TaskStatus.PENDING, 0, 20, null))
+                .thenReturn(new PageResponseDTO<>(List.of(taskResponseDTO), 0, 20, 1));
+
+        // When & Then
+        mockMvc.perform(get("/tasks/search")
+                        .param("tags", "a,b")
+                        .param("excludeTags", "c")
+                        .param("status", "PENDING"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.totalPages").value(1));
+    }
+
+    @Test
+    @DisplayName("GET /tasks?fields= - Should write only the requested properties")
+    void shouldWriteOnlyRequestedFields() throws Exception {
+        // Given
+        when(taskService.findAll(EnumSet.of(TaskField.ID, TaskField.TITLE, TaskField.TASK_STATUS))).thenReturn(taskList);
+
+        // When & Then
+        mockMvc.perform(get("/tasks").param("fields", "id, title,taskStatus"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value("1"))
+                .andExpect(jsonPath("$[0].title").value("Test Task"))
+                .andExpect(jsonPath("$[0].taskStatus").value("PENDING"))
+                .andExpect(jsonPath("$[0].description").doesNotExist())
+                .andExpect(jsonPath("$[0].createdAt").doesNotExist())
+                .andExpect(jsonPath("$[0].tags").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("GET /tasks?fields= - Should reject unknown fields")
+    void shouldRejectUnknownFields() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/tasks/{id}", 1L).param("fields", "id,secret"))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value(startsWith("Campo desconhecido: secret")));
+
+        verifyNoInteractions(taskService);
+    }
+
+    @Test
+    @DisplayName("POST /tasks?fields= - Should ignore fields outside the task reads")
+    void shouldIgnoreFieldsOutsideTaskReads() throws Exception {
+        // Given
+        when(taskService.create(any(TaskRequestDTO.class), eq(false))).thenReturn(taskResponseDTO);
+
+        // When & Then
+        mockMvc.perform(post("/tasks")
+                        .param("fields", "id")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(taskRequestDTO)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value("1"))
+                .andExpect(jsonPath("$.title").value("Test Task"))
+                .andExpect(jsonPath("$.taskStatus").value("PENDING"));
+    }
+
     @Test
     @DisplayName("POST /tasks - Should create new task")
     void shouldCreateNewTask() throws Exception {
         // Given
-        when(taskService.create(any(TaskRequestDTO.class))).thenReturn(taskResponseDTO);
+        when(taskService.create(any(TaskRequestDTO.class), eq(false))).thenReturn(taskResponseDTO);
 
         // When & Then
         mockMvc.perform(post("/tasks")
@@ -158,12 +324,12 @@ class TaskControllerTest {
                 .andDo(print())
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$.id").value(1))
+                .andExpect(jsonPath("$.id").value("1"))
                 .andExpect(jsonPath("$.title").value("Test Task"))
                 .andExpect(jsonPath("$.description").value("Test Description"))
                 .andExpect(jsonPath("$.taskStatus").value("PENDING"));
 
-        verify(taskService, times(1)).create(any(TaskRequestDTO.class));
+        verify(taskService, times(1)).create(any(TaskRequestDTO.class), eq(false));
     }
 
     @Test
@@ -181,7 +347,7 @@ class TaskControllerTest {
                 .andDo(print())
                 .andExpect(status().isBadRequest());
 
-        verify(taskService, never()).create(any(TaskRequestDTO.class));
+        verify(taskService, never()).create(any(TaskRequestDTO.class), anyBoolean());
     }
 
     @Test
@@ -209,7 +375,7 @@ class TaskControllerTest {
                 .andDo(print())
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$.id").value(taskId))
+                .andExpect(jsonPath("$.id").value(String.valueOf(taskId)))
                 .andExpect(jsonPath("$.title").value("Updated Title"))
                 .andExpect(jsonPath("$.description").value("Updated Description"));
 
@@ -238,7 +404,7 @@ class TaskControllerTest {
                 .andDo(print())
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$.id").value(taskId))
+                .andExpect(jsonPath("$.id").value(String.valueOf(taskId)))
                 .andExpect(jsonPath("$.taskStatus").value("COMPLETED"));
 
         verify(taskService, times(1)).updateStatus(taskId, newStatus);
@@ -274,4 +440,19 @@ class TaskControllerTest {
 
         verify(taskService, times(1)).delete(taskId);
     }
+
+    @Test
+    @DisplayName("DELETE /tasks/{id} - Should return 409 when the task has subtasks")
+    void shouldReturn409WhenDeletingTaskWithSubtasks() throws Exception {
+        // Given
+        Long taskId = 1L;
+        doThrow(new TaskHasSubtasksException("Tarefa Possui Subtarefas e Não Pode Ser Removida: " + taskId))
+                .when(taskService).delete(taskId);
+
+        // When & Then
+        mockMvc.perform(delete("/tasks/{id}", taskId))
+                .andDo(print())
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error").value("Tarefa Possui Subtarefas e Não Pode Ser Removida: " + taskId));
+    }
 }
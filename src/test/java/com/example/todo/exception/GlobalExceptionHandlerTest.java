@@ -1,7 +1,9 @@
 package com.example.todo.exception;
 
 import com.example.todo.controller.TaskController;
+import com.example.todo.model.Task;
 import com.example.todo.model.dto.TaskRequestDTO;
+import com.example.todo.model.enums.TaskStatus;
 import com.example.todo.service.TaskService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
@@ -9,17 +11,23 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.List;
+
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
-@WebMvcTest(TaskController.class)
+@WebMvcTest(controllers = TaskController.class, properties = "todo-api.rate-limit.enabled=false")
 @DisplayName("GlobalExceptionHandler Tests")
 class GlobalExceptionHandlerTest {
 
@@ -48,6 +56,55 @@ class GlobalExceptionHandlerTest {
                 .andExpect(jsonPath("$.error").value("Tarefa Não Encontrada Para o Id: " + taskId));
     }
 
+    @Test
+    @DisplayName("Should handle DuplicateTaskException and return 409 with the duplicate ids")
+    void shouldHandleDuplicateTaskExceptionAndReturn409() throws Exception {
+        // Given
+        TaskRequestDTO request = new TaskRequestDTO();
+        request.setTitle("Comprar pão");
+        when(taskService.create(any(TaskRequestDTO.class), eq(false)))
+                .thenThrow(new DuplicateTaskException("Já existe uma tarefa parecida com esta", List.of(7L, 3L)));
+
+        // When & Then
+        mockMvc.perform(post("/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error").value("Já existe uma tarefa parecida com esta"))
+                .andExpect(jsonPath("$.duplicateIds[0]").value("7"))
+                .andExpect(jsonPath("$.duplicateIds[1]").value("3"));
+    }
+
+    @Test
+    @DisplayName("Should handle ObjectOptimisticLockingFailureException and return 409")
+    void shouldHandleOptimisticLockingFailureAndReturn409() throws Exception {
+        // Given
+        Long taskId = 5L;
+        when(taskService.updateStatus(taskId, TaskStatus.COMPLETED))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Task.class, taskId));
+
+        // When & Then
+        mockMvc.perform(put("/tasks/{id}/status", taskId).param("taskStatus", "COMPLETED"))
+                .andDo(print())
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error")
+                        .value("A tarefa foi alterada por outra requisição; carregue a versão atual e tente novamente"));
+    }
+
+    @Test
+    @DisplayName("Should handle QueryTimeoutException and return 504")
+    void shouldHandleQueryTimeoutExceptionAndReturn504() throws Exception {
+        // Given
+        Long taskId = 5L;
+        when(taskService.findById(taskId))
+                .thenThrow(new QueryTimeoutException("canceling statement due to user request"));
+
+        // When & Then
+        mockMvc.perform(get("/tasks/{id}", taskId))
+                .andExpect(status().isGatewayTimeout())
+                .andExpect(jsonPath("$.error").value("Tempo esgotado aguardando o banco de dados"));
+    }
+
     @Test
     @DisplayName("Should handle validation errors and return 400")
     void shouldHandleValidationErrorsAndReturn400() throws Exception {
@@ -0,0 +1,74 @@
+package com.example.todo.filter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+            new ConcurrencyLimitProperties(true, 10, 2, 100, 1.5, 0.2, 600, Duration.ofSeconds(1)));
+
+    @Test
+    @DisplayName("Should reject acquisitions beyond the current limit")
+    void shouldRejectBeyondLimit() {
+        // When
+        int acquired = saturate();
+
+        // Then
+        assertThat(acquired).isEqualTo(10);
+        assertThat(limiter.tryAcquire()).isFalse();
+        limiter.release(1_000_000);
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should grow while latency is stable and shrink when it rises")
+    void shouldFollowLatency() {
+        // Given
+        saturate();
+
+        // When
+        runSaturated(200, Duration.ofMillis(1));
+        int grown = limiter.limit();
+        runSaturated(200, Duration.ofMillis(20));
+        int shrunk = limiter.limit();
+
+        // Then
+        assertThat(grown).isGreaterThan(10);
+        assertThat(shrunk).isLessThan(grown / 2);
+        assertThat(shrunk).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should ignore samples taken while mostly idle")
+    void shouldIgnoreIdleSamples() {
+        // When
+        for (int i = 0; i < 200; i++) {
+            limiter.tryAcquire();
+            limiter.release(Duration.ofMillis(i < 100 ? 1 : 50).toNanos());
+        }
+
+        // Then
+        assertThat(limiter.limit()).isEqualTo(10);
+    }
+
+    private int saturate() {
+        int acquired = 0;
+        while (limiter.tryAcquire()) {
+            acquired++;
+        }
+        return acquired;
+    }
+
+    // Mantém o limitador cheio: cada requisição que termina é substituída por outra
+    private void runSaturated(int samples, Duration latency) {
+        for (int i = 0; i < samples; i++) {
+            limiter.release(latency.toNanos());
+            saturate();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.todo.filter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrencyLimitFilterTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(
+            new ConcurrencyLimitProperties(true, 1, 1, 10, 1.5, 0.2, 600, Duration.ofMillis(1500)),
+            new StaticListableBeanFactory(Map.of("registry", registry)).getBeanProvider(MeterRegistry.class));
+
+    @Test
+    @DisplayName("Should shed excess reads with 503 and Retry-After while writes keep their own limit")
+    void shouldShedExcessRequestsPerBulkhead() throws Exception {
+        // Given
+        MockHttpServletResponse excessRead = new MockHttpServletResponse();
+        MockHttpServletResponse write = new MockHttpServletResponse();
+        MockHttpServletResponse firstRead = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/tasks/1"), firstRead, (request, response) -> {
+            filter.doFilter(new MockHttpServletRequest("GET", "/tasks/2"), excessRead, (req, res) -> { });
+            filter.doFilter(new MockHttpServletRequest("POST", "/tasks"), write, (req, res) -> { });
+        });
+
+        // Then
+        assertThat(firstRead.getStatus()).isEqualTo(200);
+        assertThat(write.getStatus()).isEqualTo(200);
+        assertThat(excessRead.getStatus()).isEqualTo(503);
+        assertThat(excessRead.getHeader("Retry-After")).isEqualTo("2");
+        assertThat(excessRead.getContentAsString()).contains("error");
+        assertThat(registry.counter(ConcurrencyLimitFilter.REJECTED_METRIC, "bulkhead", "read").count()).isEqualTo(1);
+        assertThat(registry.get(ConcurrencyLimitFilter.LIMIT_METRIC).tag("bulkhead", "write").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not limit paths outside /tasks")
+    void shouldIgnoreOtherPaths() throws Exception {
+        // Given
+        MockHttpServletResponse docs = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/tasks/1"), new MockHttpServletResponse(), (request, response) ->
+                filter.doFilter(new MockHttpServletRequest("GET", "/v3/api-docs"), docs, (req, res) -> { }));
+
+        // Then
+        assertThat(docs.getStatus()).isEqualTo(200);
+    }
+}
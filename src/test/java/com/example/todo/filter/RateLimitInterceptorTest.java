@@ -0,0 +1,163 @@
+package com.example.todo.filter;
+
+import com.example.todo.controller.TaskController;
+import com.example.todo.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RateLimitInterceptorTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final RateLimitInterceptor interceptor = new RateLimitInterceptor(
+            new RateLimitProperties(true, "X-API-Key", Set.of(), 2, 1000, 0.5, 2, 0.5, 2, 0.5, 1), registry);
+
+    @Test
+    @DisplayName("Should allow a burst per client and then answer 429 with rate-limit headers")
+    void shouldLimitEachClient() throws Exception {
+        // Given
+        HandlerMethod getById = handler("getById", Long.class, String.class);
+
+        // When
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        interceptor.preHandle(request("GET", "alpha"), first, getById);
+        interceptor.preHandle(request("GET", "alpha"), new MockHttpServletResponse(), getById);
+        MockHttpServletResponse third = new MockHttpServletResponse();
+
+        // Then
+        assertThat(first.getHeader(RateLimitInterceptor.LIMIT_HEADER)).isEqualTo("2");
+        assertThat(first.getHeader(RateLimitInterceptor.REMAINING_HEADER)).isEqualTo("1");
+        assertThat(first.getHeader(RateLimitInterceptor.RESET_HEADER)).isEqualTo("2");
+        assertThatThrownBy(() -> interceptor.preHandle(request("GET", "alpha"), third, getById))
+                .isInstanceOf(RateLimitExceededException.class)
+                .extracting(ex -> ((RateLimitExceededException) ex).getRetryAfterSeconds())
+                .isEqualTo(2L);
+        assertThat(third.getHeader(RateLimitInterceptor.REMAINING_HEADER)).isEqualTo("0");
+        assertThat(interceptor.preHandle(request("GET", "beta"), new MockHttpServletResponse(), getById)).isTrue();
+        assertThat(registry.counter(RateLimitInterceptor.REJECTED_METRIC, "operation", "read").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should keep separate buckets for reads, writes and bulk operations")
+    void shouldSeparateOperationClasses() throws Exception {
+        // Given
+        HandlerMethod getAll = handler("getAll", String.class);
+        HandlerMethod getById = handler("getById", Long.class, String.class);
+        HandlerMethod delete = handler("delete", Long.class);
+        interceptor.preHandle(request("GET", "alpha"), new MockHttpServletResponse(), getAll);
+
+        // When & Then
+        assertThatThrownBy(() -> interceptor.preHandle(request("GET", "alpha"), new MockHttpServletResponse(), getAll))
+                .isInstanceOf(RateLimitExceededException.class);
+        assertThat(interceptor.preHandle(request("GET", "alpha"), new MockHttpServletResponse(), getById)).isTrue();
+        assertThat(interceptor.preHandle(request("DELETE", "alpha"), new MockHttpServletResponse(), delete)).isTrue();
+        assertThat(registry.counter(RateLimitInterceptor.REJECTED_METRIC, "operation", "bulk").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should count keys beyond the per-address cap on the address")
+    void shouldCapKeysPerAddress() throws Exception {
+        // Given
+        HandlerMethod getById = handler("getById", Long.class, String.class);
+        interceptor.preHandle(request("GET", "alpha"), new MockHttpServletResponse(), getById);
+        interceptor.preHandle(request("GET", "beta"), new MockHttpServletResponse(), getById);
+        interceptor.preHandle(request("GET", "gamma"), new MockHttpServletResponse(), getById);
+        interceptor.preHandle(request("GET", "delta"), new MockHttpServletResponse(), getById);
+
+        // When & Then
+        assertThatThrownBy(() -> interceptor.preHandle(request("GET", "epsilon"), new MockHttpServletResponse(), getById))
+                .isInstanceOf(RateLimitExceededException.class);
+        assertThat(interceptor.preHandle(request("GET", "alpha"), new MockHttpServletResponse(), getById)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should count unknown keys on the address when keys are configured")
+    void shouldIgnoreUnknownKeys() throws Exception {
+        // Given
+        RateLimitInterceptor withKeys = new RateLimitInterceptor(
+                new RateLimitProperties(true, "X-API-Key", Set.of("alpha"), 2, 1000, 0.5, 2, 0.5, 2, 0.5, 1), registry);
+        HandlerMethod getById = handler("getById", Long.class, String.class);
+        withKeys.preHandle(request("GET", "beta"), new MockHttpServletResponse(), getById);
+        withKeys.preHandle(request("GET", "gamma"), new MockHttpServletResponse(), getById);
+
+        // When & Then
+        assertThatThrownBy(() -> withKeys.preHandle(request("GET", "delta"), new MockHttpServletResponse(), getById))
+                .isInstanceOf(RateLimitExceededException.class);
+        assertThat(withKeys.preHandle(request("GET", "alpha"), new MockHttpServletResponse(), getById)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should not reset drained buckets when the client cache is full")
+    void shouldShareOverflowBucketWhenFull() throws Exception {
+        // Given
+        RateLimitInterceptor small = new RateLimitInterceptor(
+                new RateLimitProperties(true, "X-API-Key", Set.of(), 10, 1, 0.5, 1, 0.5, 1, 0.5, 1), registry);
+        HandlerMethod getById = handler("getById", Long.class, String.class);
+        small.preHandle(request("GET", "alpha"), new MockHttpServletResponse(), getById);
+
+        // When
+        assertThat(small.preHandle(request("GET", "beta"), new MockHttpServletResponse(), getById)).isTrue();
+
+        // Then
+        assertThatThrownBy(() -> small.preHandle(request("GET", "alpha"), new MockHttpServletResponse(), getById))
+                .isInstanceOf(RateLimitExceededException.class);
+        assertThatThrownBy(() -> small.preHandle(request("GET", "gamma"), new MockHttpServletResponse(), getById))
+                .isInstanceOf(RateLimitExceededException.class);
+        assertThat(registry.counter(RateLimitInterceptor.OVERFLOW_METRIC).count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should hand out exactly the burst under concurrent access")
+    void shouldNotOverspendUnderContention() throws Exception {
+        // Given
+        TokenBucket bucket = new TokenBucket(0.001, 1000, System.nanoTime());
+        AtomicInteger granted = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // When
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                workers.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        if (bucket.tryAcquire(System.nanoTime())) {
+                            granted.incrementAndGet();
+                        }
+                    }
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then
+        assertThat(granted.get()).isEqualTo(1000);
+    }
+
+    private static MockHttpServletRequest request(String method, String apiKey) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/tasks");
+        request.addHeader("X-API-Key", apiKey);
+        return request;
+    }
+
+    private static HandlerMethod handler(String name, Class<?>... parameterTypes) throws NoSuchMethodException {
+        return new HandlerMethod(new TaskController(null), TaskController.class.getMethod(name, parameterTypes));
+    }
+}
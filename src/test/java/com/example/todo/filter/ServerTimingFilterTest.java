@@ -0,0 +1,103 @@
+package com.example.todo.filter;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ServerTimingFilterTest {
+
+    private final ServerTimingFilter filter = new ServerTimingFilter(new ServerTimingProperties(true, 0, true));
+
+    @Test
+    @DisplayName("Should report every phase when the client asks for timing")
+    void shouldReportPhasesWhenRequested() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("PUT", "/tasks/1");
+        request.addHeader(ServerTimingFilter.REQUEST_HEADER, "true");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res) throws IOException {
+                ServerTiming timing = ServerTiming.current();
+                timing.handlerStarted();
+                timing.enter(ServerTiming.Phase.CONTROLLER);
+                timing.enter(ServerTiming.Phase.SERVICE);
+                timing.enter(ServerTiming.Phase.DATABASE);
+                timing.enter(ServerTiming.Phase.DATABASE);
+                timing.exit(ServerTiming.Phase.DATABASE);
+                timing.exit(ServerTiming.Phase.DATABASE);
+                timing.exit(ServerTiming.Phase.SERVICE);
+                timing.exit(ServerTiming.Phase.CONTROLLER);
+                timing.serializationStarted();
+                res.getWriter().write("{\"id\":1}");
+            }
+        }));
+
+        // Then
+        assertThat(response.getHeader(ServerTimingFilter.RESPONSE_HEADER))
+                .matches("validation;dur=[0-9.]+, db;dur=[0-9.]+, mapping;dur=[0-9.]+, "
+                        + "serialization;dur=[0-9.]+, total;dur=[0-9.]+");
+        assertThat(response.getContentAsString()).isEqualTo("{\"id\":1}");
+        assertThat(ServerTiming.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should not measure requests that did not ask for timing")
+    void shouldSkipUnsampledRequests() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/tasks");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<ServerTiming> seen = new AtomicReference<>();
+
+        // When
+        filter.doFilter(request, response, (req, res) -> seen.set(ServerTiming.current()));
+
+        // Then
+        assertThat(seen.get()).isNull();
+        assertThat(response.getHeader(ServerTimingFilter.RESPONSE_HEADER)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should ignore the request header unless it is allowed")
+    void shouldIgnoreRequestHeaderByDefault() throws Exception {
+        // Given
+        ServerTimingFilter headerIgnored = new ServerTimingFilter(new ServerTimingProperties(true, 0, false));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/tasks");
+        request.addHeader(ServerTimingFilter.REQUEST_HEADER, "true");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<ServerTiming> seen = new AtomicReference<>();
+
+        // When
+        headerIgnored.doFilter(request, response, (req, res) -> seen.set(ServerTiming.current()));
+
+        // Then
+        assertThat(seen.get()).isNull();
+        assertThat(response.getHeader(ServerTimingFilter.RESPONSE_HEADER)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should measure every request when the sample rate is 1")
+    void shouldSampleByRate() throws Exception {
+        // Given
+        ServerTimingFilter sampling = new ServerTimingFilter(new ServerTimingProperties(true, 1, false));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        sampling.doFilter(new MockHttpServletRequest("GET", "/tasks/next"), response, new MockFilterChain());
+
+        // Then
+        assertThat(response.getHeader(ServerTimingFilter.RESPONSE_HEADER)).contains("total;dur=");
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.todo.index;
+
+import com.example.todo.model.Task;
+import com.example.todo.model.enums.TaskStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TaskDuplicateIndex Tests")
+class TaskDuplicateIndexTest {
+
+    private TaskDuplicateIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TaskDuplicateIndex(new DuplicateDetectionProperties(true, false, 0.8, 16, 4, 5));
+        index.onReload(List.of(
+                task(1, "Comprar pão na padaria", "Levar a sacola retornável"),
+                task(2, "Estudar para a prova de cálculo", "Capítulos 3 e 4"),
+                task(3, "Renovar a carteira de motorista", null)));
+    }
+
+    @Test
+    @DisplayName("Should find a task that differs only in case and spacing")
+    void shouldFindNearDuplicate() {
+        // When
+        List<TaskDuplicateIndex.Match> matches = index.findDuplicates("comprar  PÃO na padaria", "Levar a sacola retornável");
+
+        // Then
+        assertThat(matches).extracting(TaskDuplicateIndex.Match::id).containsExactly(1L);
+        assertThat(matches.get(0).similarity()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should tolerate small edits and ignore unrelated tasks")
+    void shouldTolerateSmallEdits() {
+        // When & Then
+        assertThat(index.findDuplicates("Renovar a carteira de motorista!", null))
+                .extracting(TaskDuplicateIndex.Match::id).containsExactly(3L);
+        assertThat(index.findDuplicates("Pagar a conta de luz", "Vence na sexta")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should follow updates and deletes")
+    void shouldFollowUpdatesAndDeletes() {
+        // When
+        index.onSaved(task(3, "Pagar a conta de luz", "Vence na sexta"));
+        index.onDeleted(1L);
+
+        // Then
+        assertThat(index.findDuplicates("Pagar a conta de luz", "Vence na sexta"))
+                .extracting(TaskDuplicateIndex.Match::id).containsExactly(3L);
+        assertThat(index.findDuplicates("Renovar a carteira de motorista", null)).isEmpty();
+        assertThat(index.findDuplicates("Comprar pão na padaria", "Levar a sacola retornável")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep only the most recent copies when a bucket fills up")
+    void shouldCapBucketSize() {
+        // Given
+        for (long id = 10; id < 10 + TaskDuplicateIndex.MAX_BUCKET_SIZE + 5; id++) {
+            index.onSaved(task(id, "Reunião semanal", null));
+        }
+
+        // When
+        List<TaskDuplicateIndex.Match> matches = index.findDuplicates("Reunião semanal", null);
+
+        // Then
+        assertThat(matches).extracting(TaskDuplicateIndex.Match::id).containsExactly(46L, 45L, 44L, 43L, 42L);
+    }
+
+    @Test
+    @DisplayName("Should do nothing when disabled")
+    void shouldDoNothingWhenDisabled() {
+        // Given
+        TaskDuplicateIndex disabled = new TaskDuplicateIndex(new DuplicateDetectionProperties(false, true, 0.8, 16, 4, 5));
+        disabled.onSaved(task(1, "Comprar pão na padaria", null));
+
+        // When & Then
+        assertThat(disabled.findDuplicates("Comprar pão na padaria", null)).isEmpty();
+        assertThat(disabled.rejectsDuplicates()).isFalse();
+    }
+
+    private static Task task(long id, String title, String description) {
+        return new Task(id, title, description, TaskStatus.PENDING, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.todo.index;
+
+import com.example.todo.model.Task;
+import com.example.todo.model.enums.TaskPriority;
+import com.example.todo.model.enums.TaskStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TaskPriorityIndex Tests")
+class TaskPriorityIndexTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    private TaskPriorityIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TaskPriorityIndex();
+    }
+
+    @Test
+    @DisplayName("Should order by due date, then priority, then id")
+    void shouldOrderByDueDateThenPriorityThenId() {
+        // Given
+        index.onSaved(task(1, null, TaskPriority.URGENT));
+        index.onSaved(task(2, BASE.plusDays(1), TaskPriority.LOW));
+        index.onSaved(task(3, BASE.plusDays(1), TaskPriority.HIGH));
+        index.onSaved(task(4, BASE, TaskPriority.LOW));
+        index.onSaved(task(5, BASE.plusDays(1), TaskPriority.HIGH));
+
+        // When & Then
+        assertThat(index.next(10)).containsExactly(4L, 3L, 5L, 2L, 1L);
+        assertThat(index.next(2)).containsExactly(4L, 3L);
+    }
+
+    @Test
+    @DisplayName("Should skip completed tasks and drop tasks when they are completed")
+    void shouldSkipCompletedTasks() {
+        // Given
+        Task completed = task(1, BASE, TaskPriority.HIGH);
+        completed.setStatus(TaskStatus.COMPLETED);
+        Task pending = task(2, BASE, TaskPriority.HIGH);
+        index.onSaved(completed);
+        index.onSaved(pending);
+
+        // When
+        pending.setStatus(TaskStatus.COMPLETED);
+        index.onSaved(pending);
+
+        // Then
+        assertThat(index.size()).isZero();
+        assertThat(index.next(5)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reposition a task when its due date changes")
+    void shouldRepositionUpdatedTask() {
+        // Given
+        index.onSaved(task(1, BASE, TaskPriority.MEDIUM));
+        index.onSaved(task(2, BASE.plusHours(1), TaskPriority.MEDIUM));
+
+        // When
+        index.onSaved(task(1, BASE.plusHours(2), TaskPriority.MEDIUM));
+
+        // Then
+        assertThat(index.next(2)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("Should match a full sort after random inserts, updates and deletes")
+    void shouldMatchFullSortAfterRandomOperations() {
+        // Given
+        Random random = new Random(42);
+        List<Task> live = new ArrayList<>();
+        for (int i = 1; i <= 2_000; i++) {
+            Task task = task(i, random.nextInt(10) == 0 ? null : BASE.plusMinutes(random.nextInt(500)),
+                    TaskPriority.values()[random.nextInt(TaskPriority.values().length)]);
+            live.add(task);
+            index.onSaved(task);
+        }
+        for (int i = 0; i < 500; i++) {
+            Task victim = live.remove(random.nextInt(live.size()));
+            index.onDeleted(victim.getId());
+            Task updated = live.get(random.nextInt(live.size()));
+            updated.setDueAt(BASE.plusMinutes(random.nextInt(500)));
+            index.onSaved(updated);
+        }
+
+        // When
+        long[] next = index.next(100);
+
+        // Then
+        Comparator<Task> order = Comparator
+                .comparing(Task::getDueAt, Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(Task::getPriority, Comparator.reverseOrder())
+                .thenComparing(Task::getId);
+        long[] expected = live.stream().sorted(order).limit(100).mapToLong(Task::getId).toArray();
+        assertThat(next).containsExactly(expected);
+        assertThat(index.size()).isEqualTo(live.size());
+    }
+
+    @Test
+    @DisplayName("Should rebuild from a full reload")
+    void shouldRebuildFromReload() {
+        // Given
+        index.onSaved(task(99, BASE, TaskPriority.LOW));
+
+        // When
+        index.onReload(List.of(task(1, BASE.plusDays(1), TaskPriority.LOW), task(2, BASE, TaskPriority.LOW)));
+
+        // Then
+        assertThat(index.next(10)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("Should ignore an older version saved after a newer one")
+    void shouldIgnoreOlderVersion() {
+        // Given: a conclusão (versão 2) chega antes da edição que a precedeu (versão 1)
+        Task completed = task(1, BASE, TaskPriority.LOW);
+        completed.setStatus(TaskStatus.COMPLETED);
+        completed.setVersion(2);
+        Task edited = task(1, BASE, TaskPriority.HIGH);
+        edited.setVersion(1);
+
+        // When
+        index.onSaved(completed);
+        index.onSaved(edited);
+
+        // Then
+        assertThat(index.next(10)).isEmpty();
+    }
+
+    private static Task task(long id, LocalDateTime dueAt, TaskPriority priority) {
+        Task task = new Task(id, "Task " + id, null, TaskStatus.PENDING, BASE);
+        task.setDueAt(dueAt);
+        task.setPriority(priority);
+        return task;
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.todo.index;
+
+import com.example.todo.model.Task;
+import com.example.todo.model.enums.TaskStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TaskTagIndex Tests")
+class TaskTagIndexTest {
+
+    private TaskTagIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TaskTagIndex();
+        index.onReload(List.of(
+                task(1, TaskStatus.PENDING, "a", "b"),
+                task(2, TaskStatus.PENDING, "a", "b", "c"),
+                task(3, TaskStatus.COMPLETED, "a", "b"),
+                task(4, TaskStatus.PENDING, "a"),
+                task(5, TaskStatus.PENDING, "b", "d")));
+    }
+
+    @Test
+    @DisplayName("Should evaluate A AND B AND NOT C with status")
+    void shouldEvaluateAndNotWithStatus() {
+        // When
+        TaskTagIndex.Result result = index.search(
+                new TaskTagIndex.Query(Set.of("a", "b"), Set.of(), Set.of("c"), TaskStatus.PENDING), 0, 10);
+
+        // Then
+        assertThat(result.ids()).containsExactly(1L);
+        assertThat(result.total()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should evaluate any-of tags")
+    void shouldEvaluateAnyOfTags() {
+        // When
+        TaskTagIndex.Result result = index.search(
+                new TaskTagIndex.Query(Set.of(), Set.of("c", "d"), Set.of(), null), 0, 10);
+
+        // Then
+        assertThat(result.ids()).containsExactly(2L, 5L);
+    }
+
+    @Test
+    @DisplayName("Should page results in creation order")
+    void shouldPageResultsInCreationOrder() {
+        // Given
+        TaskTagIndex.Query query = new TaskTagIndex.Query(Set.of("a"), Set.of(), Set.of(), null);
+
+        // When
+        TaskTagIndex.Result first = index.search(query, 0, 3);
+        TaskTagIndex.Result second = index.search(query, 1, 3);
+        TaskTagIndex.Result beyond = index.search(query, 2, 3);
+
+        // Then
+        assertThat(first.ids()).containsExactly(1L, 2L, 3L);
+        assertThat(second.ids()).containsExactly(4L);
+        assertThat(beyond.ids()).isEmpty();
+        assertThat(first.total()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should maintain bitmaps on updates and deletes")
+    void shouldMaintainBitmapsOnWrites() {
+        // When
+        index.onSaved(task(4, TaskStatus.COMPLETED, "c"));
+        index.onDeleted(2L);
+        index.onSaved(task(6, TaskStatus.PENDING, "c"));
+
+        // Then
+        TaskTagIndex.Result withC = index.search(new TaskTagIndex.Query(Set.of("c"), Set.of(), Set.of(), null), 0, 10);
+        TaskTagIndex.Result pendingA = index.search(new TaskTagIndex.Query(Set.of("a"), Set.of(), Set.of(), TaskStatus.PENDING), 0, 10);
+        assertThat(withC.ids()).containsExactly(4L, 6L);
+        assertThat(pendingA.ids()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Should ignore an older version saved after a newer one")
+    void shouldIgnoreOlderVersion() {
+        // Given
+        Task newer = task(7, TaskStatus.PENDING, "novo");
+        newer.setVersion(2);
+        Task older = task(7, TaskStatus.PENDING, "antigo");
+        older.setVersion(1);
+
+        // When
+        index.onSaved(newer);
+        index.onSaved(older);
+
+        // Then
+        assertThat(index.search(new TaskTagIndex.Query(Set.of("novo"), Set.of(), Set.of(), null), 0, 10).ids())
+                .containsExactly(7L);
+        assertThat(index.search(new TaskTagIndex.Query(Set.of("antigo"), Set.of(), Set.of(), null), 0, 10).ids())
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should return nothing for unknown tags")
+    void shouldReturnNothingForUnknownTags() {
+        // When
+        TaskTagIndex.Result result = index.search(new TaskTagIndex.Query(Set.of("missing"), Set.of(), Set.of(), null), 0, 10);
+
+        // Then
+        assertThat(result.ids()).isEmpty();
+        assertThat(result.total()).isZero();
+    }
+
+    private static Task task(long id, TaskStatus status, String... tags) {
+        Task task = new Task(id, "Task " + id, null, status, LocalDateTime.now());
+        task.setTags(Set.of(tags));
+        return task;
+    }
+}
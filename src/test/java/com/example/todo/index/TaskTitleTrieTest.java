@@ -0,0 +1,106 @@
+package com.example.todo.index;
+
+import com.example.todo.model.Task;
+import com.example.todo.model.enums.TaskStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TaskTitleTrie Tests")
+class TaskTitleTrieTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+    private TaskTitleTrie trie;
+
+    @BeforeEach
+    void setUp() {
+        trie = new TaskTitleTrie();
+        trie.onReload(List.of(
+                task(3, "Comprar leite", 3),
+                task(1, "Comprar pão", 1),
+                task(2, "Compra do mês", 2),
+                task(4, "Consertar bicicleta", 4),
+                task(5, "Estudar Java", 5)));
+    }
+
+    @Test
+    @DisplayName("Should suggest titles by prefix, most recent first, ignoring case")
+    void shouldSuggestMostRecentFirst() {
+        // When
+        List<TaskTitleTrie.Suggestion> suggestions = trie.suggest("COMPR", 10);
+
+        // Then
+        assertThat(suggestions).extracting(TaskTitleTrie.Suggestion::id).containsExactly(3L, 2L, 1L);
+        assertThat(suggestions.get(0).title()).isEqualTo("Comprar leite");
+    }
+
+    @Test
+    @DisplayName("Should match prefixes ending inside an edge and respect the limit")
+    void shouldMatchInsideEdgeAndLimit() {
+        // When & Then
+        assertThat(trie.suggest("co", 2)).extracting(TaskTitleTrie.Suggestion::id).containsExactly(4L, 3L);
+        assertThat(trie.suggest("comprar ", 10)).extracting(TaskTitleTrie.Suggestion::id).containsExactly(3L, 1L);
+        assertThat(trie.suggest("compras", 10)).isEmpty();
+        assertThat(trie.suggest("x", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should move an updated task to the new title as the most recent")
+    void shouldReindexUpdatedTask() {
+        // When
+        trie.onSaved(task(1, "Estudar Spring", 6));
+
+        // Then
+        assertThat(trie.suggest("compr", 10)).extracting(TaskTitleTrie.Suggestion::id).containsExactly(3L, 2L);
+        assertThat(trie.suggest("estudar", 10)).extracting(TaskTitleTrie.Suggestion::id).containsExactly(1L, 5L);
+        assertThat(trie.size()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should refill top suggestions from older tasks after a delete")
+    void shouldRefillAfterDelete() {
+        // Given
+        for (long id = 10; id < 10 + TaskTitleTrie.MAX_SUGGESTIONS; id++) {
+            trie.onSaved(task(id, "Comprar item " + id, id));
+        }
+
+        // When
+        trie.onDeleted(29L);
+        trie.onDeleted(4L);
+
+        // Then
+        List<TaskTitleTrie.Suggestion> suggestions = trie.suggest("c", TaskTitleTrie.MAX_SUGGESTIONS);
+        assertThat(suggestions).hasSize(TaskTitleTrie.MAX_SUGGESTIONS);
+        assertThat(suggestions.get(0).id()).isEqualTo(28L);
+        assertThat(suggestions.get(TaskTitleTrie.MAX_SUGGESTIONS - 1).id()).isEqualTo(3L);
+        assertThat(trie.suggest("cons", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should ignore an older version saved after a newer one")
+    void shouldIgnoreOlderVersion() {
+        // Given
+        Task newer = task(1, "Estudar Spring", 6);
+        newer.setVersion(2);
+        Task older = task(1, "Comprar pão integral", 7);
+        older.setVersion(1);
+
+        // When
+        trie.onSaved(newer);
+        trie.onSaved(older);
+
+        // Then
+        assertThat(trie.suggest("estudar", 10)).extracting(TaskTitleTrie.Suggestion::id).containsExactly(1L, 5L);
+        assertThat(trie.suggest("comprar p", 10)).isEmpty();
+    }
+
+    private static Task task(long id, String title, long minutes) {
+        return new Task(id, title, null, TaskStatus.PENDING, START.plusMinutes(minutes));
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.todo.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Gera o documento OpenAPI na construção: lê {@code /v3/api-docs} e grava em {@code static/openapi.json} dentro
+ * de {@code target/classes}, que vai para o jar. O perfil {@code fast-startup} desliga o springdoc em tempo de
+ * execução e o Swagger UI passa a usar esse arquivo. O perfil Maven {@code fast-startup} roda este teste mesmo com
+ * {@code -DskipTests}.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("OpenAPI document generation")
+class OpenApiDocumentTest {
+
+    private static final Path OUTPUT = Path.of(System.getProperty("todo-api.openapi.output",
+            "target/classes/static/openapi.json"));
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("Should write the OpenAPI document served by the fast-startup profile")
+    void shouldWriteOpenApiDocument() throws Exception {
+        // When
+        String body = mockMvc.perform(get("/v3/api-docs"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        ObjectNode document = (ObjectNode) objectMapper.readTree(body);
+        // O servidor visto pelo MockMvc (http://localhost) não vale em produção: o Swagger UI usa a origem da página
+        document.remove("servers");
+
+        Files.createDirectories(OUTPUT.getParent());
+        Files.writeString(OUTPUT, objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(document));
+
+        // Then
+        assertThat(document.path("paths").has("/tasks")).isTrue();
+        assertThat(document.path("paths").has("/tasks/{id}")).isTrue();
+        assertThat(Files.size(OUTPUT)).isPositive();
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.todo.integration;
+
+import com.example.todo.model.enums.TaskStatus;
+import com.example.todo.support.FaultInjectingDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(RequestDeadlineIntegrationTest.FaultInjection.class)
+@DisplayName("Request deadline Integration Tests")
+class RequestDeadlineIntegrationTest {
+
+    private static final String FIND_BY_STATUS = "from tasks \\w+ where \\w+\\.task_status";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    // O aquecimento da subida também passa pelo proxy: as execuções dele não contam para o teste
+    @BeforeEach
+    @AfterEach
+    void resetFaults() {
+        FaultInjectingDataSource.reset();
+    }
+
+    @Test
+    @DisplayName("Should apply the endpoint default deadline as the query timeout")
+    void shouldApplyDefaultDeadlineAsQueryTimeout() throws Exception {
+        // When
+        mockMvc.perform(get("/tasks/status/{status}", TaskStatus.PENDING))
+                .andExpect(status().isOk());
+
+        // Then: leitura tem prazo padrão de 2s
+        assertThat(findByStatusTimeouts()).isNotEmpty().allSatisfy(timeout -> assertThat(timeout).isBetween(1, 2));
+    }
+
+    @Test
+    @DisplayName("Should cancel a stalled query at the client deadline and return 504")
+    void shouldCancelStalledQueryAndReturn504() throws Exception {
+        // Given
+        FaultInjectingDataSource.delay(FIND_BY_STATUS, Duration.ofSeconds(10));
+
+        // When
+        long start = System.nanoTime();
+        mockMvc.perform(get("/tasks/status/{status}", TaskStatus.COMPLETED)
+                        .header("X-Request-Timeout", "1500"))
+                .andExpect(status().isGatewayTimeout())
+                .andExpect(jsonPath("$.error").value("Tempo esgotado aguardando o banco de dados"));
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        // Then
+        assertThat(findByStatusTimeouts()).isNotEmpty().allSatisfy(timeout -> assertThat(timeout).isBetween(1, 2));
+        assertThat(elapsed).isLessThan(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("Should reject a malformed deadline header with 400")
+    void shouldRejectMalformedDeadlineHeader() throws Exception {
+        mockMvc.perform(get("/tasks/status/{status}", TaskStatus.PENDING)
+                        .header("X-Request-Timeout", "soon"))
+                .andExpect(status().isBadRequest());
+
+        assertThat(findByStatusTimeouts()).isEmpty();
+    }
+
+    private static List<Integer> findByStatusTimeouts() {
+        return FaultInjectingDataSource.executions().stream()
+                .filter(execution -> execution.sql().matches("(?is).*" + FIND_BY_STATUS + ".*"))
+                .map(FaultInjectingDataSource.Execution::queryTimeoutSeconds)
+                .toList();
+    }
+
+    @TestConfiguration
+    static class FaultInjection {
+
+        @Bean
+        static BeanPostProcessor faultInjectingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? FaultInjectingDataSource.wrap(dataSource) : bean;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.todo.integration;
+
+import com.example.todo.service.StartupWarmup;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("StartupWarmup Integration Tests")
+class StartupWarmupIntegrationTest {
+
+    @Autowired
+    private StartupWarmup warmup;
+
+    @Autowired
+    private ApplicationAvailability availability;
+
+    @Test
+    @DisplayName("Should finish the warm-up before the application accepts traffic")
+    void shouldWarmUpBeforeAcceptingTraffic() {
+        // When
+        StartupWarmup.Report report = warmup.lastReport();
+
+        // Then: o perfil de teste configura 5 rodadas
+        assertThat(report).isNotNull();
+        assertThat(report.iterations()).isEqualTo(5);
+        assertThat(report.connections()).isPositive();
+        assertThat(report.elapsed()).isPositive();
+        assertThat(report.warmP99()).isPositive();
+        assertThat(availability.getReadinessState()).isEqualTo(ReadinessState.ACCEPTING_TRAFFIC);
+    }
+}
@@ -3,6 +3,7 @@ package com.example.todo.integration;
 import com.example.todo.model.dto.TaskRequestDTO;
 import com.example.todo.model.dto.TaskResponseDTO;
 import com.example.todo.model.enums.TaskStatus;
+import com.example.todo.service.TaskHistoryWriter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -30,6 +31,9 @@ class TaskControllerIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private TaskHistoryWriter historyWriter;
+
     @Test
     @DisplayName("Full CRUD Integration Test")
     @Transactional
@@ -56,7 +60,7 @@ class TaskControllerIntegrationTest {
         mockMvc.perform(get("/tasks/{id}", taskId))
                 .andDo(print())
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.id").value(taskId))
+                .andExpect(jsonPath("$.id").value(String.valueOf(taskId)))
                 .andExpect(jsonPath("$.title").value("Integration Test Task"))
                 .andExpect(jsonPath("$.taskStatus").value("PENDING"));
 
@@ -82,7 +86,7 @@ class TaskControllerIntegrationTest {
                         .content(objectMapper.writeValueAsString(updateRequest)))
                 .andDo(print())
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.id").value(taskId))
+                .andExpect(jsonPath("$.id").value(String.valueOf(taskId)))
                 .andExpect(jsonPath("$.title").value("Updated Integration Test Task"))
                 .andExpect(jsonPath("$.description").value("This task has been updated"));
 
@@ -91,7 +95,7 @@ class TaskControllerIntegrationTest {
                         .param("taskStatus", TaskStatus.COMPLETED.toString()))
                 .andDo(print())
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.id").value(taskId))
+                .andExpect(jsonPath("$.id").value(String.valueOf(taskId)))
                 .andExpect(jsonPath("$.taskStatus").value("COMPLETED"));
 
         // 7. DELETE - Delete the task
@@ -175,4 +179,41 @@ class TaskControllerIntegrationTest {
                 .andDo(print())
                 .andExpect(status().isNotFound());
     }
+
+    // Sem @Transactional: o histórico só é enfileirado depois do commit
+    @Test
+    @DisplayName("Should record committed changes in the task history")
+    void shouldRecordTaskHistory() throws Exception {
+        TaskRequestDTO createRequest = new TaskRequestDTO("History Task", "Original description");
+        String createResponse = mockMvc.perform(post("/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createRequest)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        Long taskId = objectMapper.readValue(createResponse, TaskResponseDTO.class).getId();
+
+        TaskRequestDTO updateRequest = new TaskRequestDTO("History Task", "Changed description");
+        mockMvc.perform(put("/tasks/{id}", taskId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateRequest)))
+                .andExpect(status().isOk());
+        mockMvc.perform(put("/tasks/{id}/status", taskId)
+                        .param("taskStatus", TaskStatus.COMPLETED.toString()))
+                .andExpect(status().isOk());
+        historyWriter.flush();
+
+        mockMvc.perform(get("/tasks/{id}/history", taskId).param("size", "1"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(2))
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].field").value("STATUS"))
+                .andExpect(jsonPath("$.content[0].oldValue").value("PENDING"))
+                .andExpect(jsonPath("$.content[0].newValue").value("COMPLETED"));
+
+        mockMvc.perform(delete("/tasks/{id}", taskId))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(get("/tasks/{id}/history", taskId))
+                .andExpect(status().isNotFound());
+    }
 }
@@ -0,0 +1,71 @@
+package com.example.todo.integration;
+
+import com.example.todo.exception.InvalidRequestException;
+import com.example.todo.model.dto.TaskRequestDTO;
+import com.example.todo.service.TaskService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Task move concurrency Integration Tests")
+class TaskMoveConcurrencyIntegrationTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("Should not let two crossing moves create a cycle")
+    void shouldRejectCrossingMoves() throws Exception {
+        // Given
+        long first = taskService.create(new TaskRequestDTO("Primeira", null), true).getId();
+        long second = taskService.create(new TaskRequestDTO("Segunda", null), true).getId();
+        CountDownLatch moved = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+
+        // When: a primeira movimentação segura a transação aberta enquanto a segunda tenta o caminho inverso
+        CompletableFuture<Void> firstMove = CompletableFuture.runAsync(() ->
+                transactionTemplate.executeWithoutResult(status -> {
+                    taskService.move(first, second);
+                    moved.countDown();
+                    await(commit);
+                }));
+        assertThat(moved.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Void> secondMove = CompletableFuture.runAsync(() -> taskService.move(second, first));
+        Thread.sleep(300);
+        boolean secondWaited = !secondMove.isDone();
+        commit.countDown();
+        firstMove.get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(secondWaited).isTrue();
+        assertThatThrownBy(() -> secondMove.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(InvalidRequestException.class);
+        assertThat(taskService.findById(first).getParentId()).isEqualTo(second);
+        assertThat(taskService.findById(second).getParentId()).isNull();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
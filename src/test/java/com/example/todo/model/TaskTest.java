@@ -22,7 +22,7 @@ class TaskTest {
         assertThat(task.getTitle()).isNull();
         assertThat(task.getDescription()).isNull();
         assertThat(task.getStatus()).isNull();
-        assertThat(task.getCreatedAt()).isNotNull(); // LocalDateTime.now() is set by default
+        assertThat(task.getCreatedAt()).isNull(); // createdAt is only set when the task is persisted
     }
 
     @Test
@@ -92,19 +92,35 @@ class TaskTest {
     }
 
     @Test
-    @DisplayName("Should have default createdAt when using default constructor")
-    void shouldHaveDefaultCreatedAtWhenUsingDefaultConstructor() {
+    @DisplayName("Should set createdAt when the task is persisted")
+    void shouldSetCreatedAtWhenPersisted() {
         // Given
         LocalDateTime beforeCreation = LocalDateTime.now().minusSeconds(1);
+        Task task = new Task();
 
         // When
-        Task task = new Task();
+        task.onCreate();
         LocalDateTime afterCreation = LocalDateTime.now().plusSeconds(1);
 
         // Then
         assertThat(task.getCreatedAt()).isBetween(beforeCreation, afterCreation);
     }
 
+    @Test
+    @DisplayName("Should keep an explicit createdAt when the task is persisted")
+    void shouldKeepExplicitCreatedAtWhenPersisted() {
+        // Given
+        LocalDateTime createdAt = LocalDateTime.now().minusDays(3);
+        Task task = new Task();
+        task.setCreatedAt(createdAt);
+
+        // When
+        task.onCreate();
+
+        // Then
+        assertThat(task.getCreatedAt()).isEqualTo(createdAt);
+    }
+
     @Test
     @DisplayName("Should allow updating all task statuses")
     void shouldAllowUpdatingAllTaskStatuses() {
@@ -9,6 +9,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -189,4 +191,33 @@ class TaskRequestDTOTest {
         // Then
         assertThat(violations).isEmpty();
     }
+
+    @Test
+    @DisplayName("Should fail validation when there are more than 20 tags")
+    void shouldFailValidationWhenThereAreTooManyTags() {
+        // Given
+        TaskRequestDTO dto = new TaskRequestDTO("Valid Task Title", "Valid description");
+        dto.setTags(IntStream.range(0, 21).mapToObj(i -> "tag" + i).collect(Collectors.toSet()));
+
+        // When
+        Set<ConstraintViolation<TaskRequestDTO>> violations = validator.validate(dto);
+
+        // Then
+        assertThat(violations).hasSize(1);
+        assertThat(violations.iterator().next().getMessage()).isEqualTo("Uma tarefa pode ter no máximo 20 tags");
+    }
+
+    @Test
+    @DisplayName("Should fail validation when a tag is blank")
+    void shouldFailValidationWhenTagIsBlank() {
+        // Given
+        TaskRequestDTO dto = new TaskRequestDTO("Valid Task Title", "Valid description");
+        dto.setTags(Set.of(" "));
+
+        // When
+        Set<ConstraintViolation<TaskRequestDTO>> violations = validator.validate(dto);
+
+        // Then
+        assertThat(violations).hasSize(1);
+    }
 }
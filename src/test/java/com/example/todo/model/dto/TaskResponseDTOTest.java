@@ -1,10 +1,14 @@
 package com.example.todo.model.dto;
 
 import com.example.todo.model.enums.TaskStatus;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -92,4 +96,27 @@ class TaskResponseDTOTest {
         assertThat(dto.getTaskStatus()).isNull();
         assertThat(dto.getCreatedAt()).isNull();
     }
+
+    @Test
+    @DisplayName("Should write ids above 2^53 as JSON strings and read them back")
+    void shouldSerializeIdsAsStrings() throws Exception {
+        // Given
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        long id = (1L << 53) + 1;
+        TaskResponseDTO dto = new TaskResponseDTO(id, "Title", null, TaskStatus.PENDING, null);
+        dto.setParentId(id + 2);
+        dto.setPossibleDuplicateIds(List.of(id + 4));
+
+        // When
+        JsonNode json = objectMapper.valueToTree(dto);
+        TaskResponseDTO read = objectMapper.treeToValue(json, TaskResponseDTO.class);
+
+        // Then
+        assertThat(json.get("id").isTextual()).isTrue();
+        assertThat(json.get("id").asText()).isEqualTo("9007199254740993");
+        assertThat(json.get("parentId").asText()).isEqualTo("9007199254740995");
+        assertThat(json.get("possibleDuplicateIds").get(0).asText()).isEqualTo("9007199254740997");
+        assertThat(read.getId()).isEqualTo(id);
+        assertThat(read.getPossibleDuplicateIds()).containsExactly(id + 4);
+    }
 }
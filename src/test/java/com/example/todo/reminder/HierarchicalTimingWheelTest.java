@@ -0,0 +1,80 @@
+package com.example.todo.reminder;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("HierarchicalTimingWheel Tests")
+class HierarchicalTimingWheelTest {
+
+    @Test
+    @DisplayName("Should fire each timer exactly on its tick, cascading from the upper levels")
+    void shouldFireOnDeadlineAcrossLevels() {
+        // Given: 4 posições por nível, então 1.000 ticks passam por cinco níveis
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(4, 100);
+        for (long deadline : new long[]{101, 103, 104, 117, 164, 500, 1_100}) {
+            wheel.schedule(deadline, deadline);
+        }
+
+        // When
+        List<long[]> fired = new ArrayList<>();
+        for (long tick = 101; tick <= 1_100; tick++) {
+            long now = tick;
+            wheel.advanceTo(tick, deadline -> fired.add(new long[]{deadline, now}));
+        }
+
+        // Then
+        assertThat(fired).extracting(entry -> entry[0]).containsExactly(101L, 103L, 104L, 117L, 164L, 500L, 1_100L);
+        assertThat(fired).allSatisfy(entry -> assertThat(entry[1]).isEqualTo(entry[0]));
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not fire cancelled timers")
+    void shouldNotFireCancelledTimers() {
+        // Given
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(8, 0);
+        HierarchicalTimingWheel.Timer<String> kept = wheel.schedule(5, "kept");
+        HierarchicalTimingWheel.Timer<String> cancelled = wheel.schedule(5, "cancelled");
+        HierarchicalTimingWheel.Timer<String> far = wheel.schedule(10_000, "far");
+
+        // When
+        boolean first = wheel.cancel(cancelled);
+        boolean second = wheel.cancel(cancelled);
+        wheel.cancel(far);
+        List<String> fired = new ArrayList<>();
+        wheel.advanceTo(20_000, fired::add);
+
+        // Then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(fired).containsExactly("kept");
+        assertThat(kept.isScheduled()).isFalse();
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should fire overdue timers on the next tick and catch up after a long pause")
+    void shouldFireOverdueTimersAndCatchUp() {
+        // Given
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(16, 1_000);
+        wheel.schedule(900, "overdue");
+        wheel.schedule(1_300, "later");
+        wheel.schedule(90_000, "much later");
+
+        // When
+        List<String> afterOneTick = new ArrayList<>();
+        wheel.advanceTo(1_001, afterOneTick::add);
+        List<String> afterPause = new ArrayList<>();
+        wheel.advanceTo(100_000, afterPause::add);
+
+        // Then
+        assertThat(afterOneTick).containsExactly("overdue");
+        assertThat(afterPause).containsExactly("later", "much later");
+        assertThat(wheel.currentTick()).isEqualTo(100_000);
+    }
+}
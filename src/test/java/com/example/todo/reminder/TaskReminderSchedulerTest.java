@@ -0,0 +1,168 @@
+package com.example.todo.reminder;
+
+import com.example.todo.model.Task;
+import com.example.todo.model.enums.TaskStatus;
+import com.example.todo.repository.TaskRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("TaskReminderScheduler Tests")
+class TaskReminderSchedulerTest {
+
+    private final List<TaskReminder> delivered = new ArrayList<>();
+    private final List<ReminderSink> sinks = new ArrayList<>(List.<ReminderSink>of(delivered::add));
+
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+
+    private SimpleMeterRegistry meterRegistry;
+    private TaskReminderScheduler scheduler;
+    private long now;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ObjectProvider<ReminderSink> provider = mock(ObjectProvider.class);
+        when(provider.orderedStream()).thenAnswer(invocation -> sinks.stream());
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new TaskReminderScheduler(
+                new ReminderProperties(true, Duration.ofSeconds(1), 8, Duration.ofMinutes(15)), provider, taskRepository,
+                meterRegistry);
+        now = LocalDateTime.now().toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    @Test
+    @DisplayName("Should deliver a reminder once its time has come, and only once")
+    void shouldDeliverReminderWhenDue() {
+        // Given
+        scheduler.onSaved(task(1L, TaskStatus.PENDING, now + 2_000));
+
+        // When
+        scheduler.fireDue(now);
+        List<TaskReminder> beforeDue = List.copyOf(delivered);
+        scheduler.fireDue(now + 3_000);
+        scheduler.fireDue(now + 60_000);
+
+        // Then
+        assertThat(beforeDue).isEmpty();
+        assertThat(delivered).singleElement().satisfies(reminder -> {
+            assertThat(reminder.taskId()).isEqualTo(1L);
+            assertThat(reminder.title()).isEqualTo("Tarefa 1");
+        });
+        assertThat(scheduler.pending()).isZero();
+        assertThat(meterRegistry.counter("tasks.reminders.fired").count()).isEqualTo(1);
+        verify(taskRepository).markReminderSent(eq(1L), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Should reschedule on update and cancel on completion and delete")
+    void shouldRescheduleAndCancel() {
+        // Given
+        scheduler.onSaved(task(1L, TaskStatus.PENDING, now + 2_000));
+        scheduler.onSaved(task(2L, TaskStatus.PENDING, now + 2_000));
+        scheduler.onSaved(task(3L, TaskStatus.PENDING, now + 2_000));
+
+        // When
+        scheduler.onSaved(task(1L, TaskStatus.PENDING, now + 20_000));
+        scheduler.onSaved(task(2L, TaskStatus.COMPLETED, now + 2_000));
+        scheduler.onDeleted(3L);
+        scheduler.fireDue(now + 5_000);
+        List<TaskReminder> afterFiveSeconds = List.copyOf(delivered);
+        scheduler.fireDue(now + 30_000);
+
+        // Then
+        assertThat(afterFiveSeconds).isEmpty();
+        assertThat(delivered).extracting(TaskReminder::taskId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Should not schedule a reminder whose time has already passed when a task is saved")
+    void shouldIgnorePastReminderOnSave() {
+        // Given
+        scheduler.onSaved(task(1L, TaskStatus.PENDING, now - 1_000));
+
+        // When
+        scheduler.fireDue(now + 5_000);
+
+        // Then
+        assertThat(scheduler.pending()).isZero();
+        assertThat(delivered).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should rebuild from the tasks at boot, catching up recently missed reminders only")
+    void shouldRebuildOnReload() {
+        // Given
+        List<Task> tasks = List.of(
+                task(1L, TaskStatus.PENDING, now - Duration.ofMinutes(5).toMillis()),
+                task(2L, TaskStatus.PENDING, now - Duration.ofHours(2).toMillis()),
+                task(3L, TaskStatus.PENDING, now + Duration.ofDays(3).toMillis()),
+                task(4L, TaskStatus.PENDING, null));
+
+        // When
+        scheduler.onReload(tasks);
+        scheduler.fireDue(now + 1_000);
+
+        // Then
+        assertThat(delivered).extracting(TaskReminder::taskId).containsExactly(1L);
+        assertThat(scheduler.pending()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not deliver again at boot a reminder already marked as sent")
+    void shouldSkipSentRemindersOnReload() {
+        // Given
+        Task sent = task(1L, TaskStatus.PENDING, now - Duration.ofMinutes(5).toMillis());
+        sent.setReminderSentAt(sent.getRemindAt().plusSeconds(1));
+        Task rescheduled = task(2L, TaskStatus.PENDING, now + 2_000);
+        rescheduled.setReminderSentAt(rescheduled.getRemindAt().minusMinutes(30));
+
+        // When
+        scheduler.onReload(List.of(sent, rescheduled));
+        scheduler.fireDue(now + 3_000);
+
+        // Then
+        assertThat(delivered).extracting(TaskReminder::taskId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("Should keep delivering to the other sinks when one of them fails")
+    void shouldIsolateFailingSinks() {
+        // Given
+        sinks.add(0, reminder -> {
+            throw new IllegalStateException("destino fora do ar");
+        });
+        scheduler.onSaved(task(1L, TaskStatus.PENDING, now + 1_000));
+
+        // When
+        scheduler.fireDue(now + 2_000);
+
+        // Then
+        assertThat(delivered).hasSize(1);
+        assertThat(meterRegistry.counter("tasks.reminders.failed").count()).isEqualTo(1);
+    }
+
+    private static Task task(long id, TaskStatus status, Long remindAtMillis) {
+        Task task = new Task(id, "Tarefa " + id, null, status, LocalDateTime.now());
+        if (remindAtMillis != null) {
+            task.setRemindAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(remindAtMillis), ZoneOffset.UTC));
+        }
+        return task;
+    }
+}
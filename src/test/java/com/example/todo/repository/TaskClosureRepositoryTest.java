@@ -0,0 +1,139 @@
+package com.example.todo.repository;
+
+import com.example.todo.model.Task;
+import com.example.todo.model.enums.TaskStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("TaskClosureRepository Tests")
+class TaskClosureRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TaskClosureRepository closureRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private Task epic;
+    private Task story;
+    private Task subtask;
+    private Task otherEpic;
+
+    // epic -> story -> subtask, otherEpic
+    @BeforeEach
+    void setUp() {
+        epic = persist("Epic", null, TaskStatus.PENDING);
+        story = persist("Story", epic, TaskStatus.PENDING);
+        subtask = persist("Subtask", story, TaskStatus.COMPLETED);
+        otherEpic = persist("Other Epic", null, TaskStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("Should find descendants by depth and ancestors from the root")
+    void shouldFindDescendantsAndAncestors() {
+        // When
+        List<Task> descendants = taskRepository.findDescendants(epic.getId());
+        List<Task> ancestors = taskRepository.findAncestors(subtask.getId());
+
+        // Then
+        assertThat(descendants).extracting(Task::getId).containsExactly(story.getId(), subtask.getId());
+        assertThat(ancestors).extracting(Task::getId).containsExactly(epic.getId(), story.getId());
+        assertThat(taskRepository.findDescendants(subtask.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should count completed descendants for the rollup")
+    void shouldCountCompletedDescendants() {
+        // When
+        Object[] epicCounts = closureRepository.countDescendantsByCompletion(epic.getId(), TaskStatus.COMPLETED).get(0);
+        Object[] leafCounts = closureRepository.countDescendantsByCompletion(subtask.getId(), TaskStatus.COMPLETED).get(0);
+
+        // Then
+        assertThat(((Number) epicCounts[0]).longValue()).isEqualTo(2);
+        assertThat(((Number) epicCounts[1]).longValue()).isEqualTo(1);
+        assertThat(((Number) leafCounts[0]).longValue()).isZero();
+        assertThat(((Number) leafCounts[1]).longValue()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should move a whole subtree under a new parent")
+    void shouldMoveSubtree() {
+        // When
+        closureRepository.detachSubtree(story.getId());
+        closureRepository.attachSubtree(story.getId(), otherEpic.getId());
+        entityManager.clear();
+
+        // Then
+        assertThat(taskRepository.findDescendants(epic.getId())).isEmpty();
+        assertThat(taskRepository.findDescendants(otherEpic.getId()))
+                .extracting(Task::getId).containsExactly(story.getId(), subtask.getId());
+        assertThat(taskRepository.findAncestors(subtask.getId()))
+                .extracting(Task::getId).containsExactly(otherEpic.getId(), story.getId());
+        assertThat(closureRepository.existsByIdAncestorIdAndIdDescendantId(story.getId(), subtask.getId())).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should backfill self paths only for tasks missing them")
+    void shouldBackfillMissingSelfPaths() {
+        // Given
+        Task legacy = new Task();
+        legacy.setTitle("Legacy");
+        legacy.setStatus(TaskStatus.PENDING);
+        entityManager.persistAndFlush(legacy);
+
+        // When
+        int inserted = closureRepository.insertMissingSelfPaths();
+
+        // Then
+        assertThat(inserted).isEqualTo(1);
+        assertThat(closureRepository.existsByIdAncestorIdAndIdDescendantId(legacy.getId(), legacy.getId())).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should turn children of a purged task into roots")
+    void shouldDetachChildrenOfPurgedTask() {
+        // Given
+        long storyVersion = story.getVersion();
+        taskRepository.deletePurgeBatch(epic.getId(), epic.getId(), TaskStatus.PENDING, LocalDateTime.now().plusDays(1));
+        closureRepository.deleteDanglingPaths(epic.getId(), epic.getId());
+
+        // When
+        List<Long> orphans = taskRepository.findOrphanedChildIds(epic.getId(), epic.getId());
+        taskRepository.clearParents(orphans);
+        entityManager.clear();
+
+        // Then
+        assertThat(orphans).containsExactly(story.getId());
+        Task detached = taskRepository.findById(story.getId()).orElseThrow();
+        assertThat(detached.getParentId()).isNull();
+        assertThat(detached.getVersion()).isGreaterThan(storyVersion);
+        assertThat(taskRepository.findAncestors(subtask.getId())).extracting(Task::getId).containsExactly(story.getId());
+        assertThat(taskRepository.existsByParentId(story.getId())).isTrue();
+    }
+
+    private Task persist(String title, Task parent, TaskStatus status) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setStatus(status);
+        task.setCreatedAt(LocalDateTime.now());
+        task.setParentId(parent == null ? null : parent.getId());
+        entityManager.persistAndFlush(task);
+        closureRepository.insertPaths(task.getId(), parent == null ? 0L : parent.getId());
+        return task;
+    }
+}
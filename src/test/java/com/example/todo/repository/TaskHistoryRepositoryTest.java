@@ -0,0 +1,48 @@
+package com.example.todo.repository;
+
+import com.example.todo.model.TaskHistory;
+import com.example.todo.model.enums.TaskHistoryField;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("TaskHistoryRepository Tests")
+class TaskHistoryRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TaskHistoryRepository historyRepository;
+
+    @Test
+    @DisplayName("Should list history by change time even when an older batch was written last")
+    void shouldOrderByChangedAt() {
+        // Given: o lote das 10h falhou e foi regravado depois do das 11h
+        LocalDateTime tenOClock = LocalDateTime.of(2025, 10, 1, 10, 0);
+        entityManager.persist(new TaskHistory(1L, TaskHistoryField.TITLE, "b", "c", tenOClock.plusHours(1)));
+        entityManager.persist(new TaskHistory(1L, TaskHistoryField.TITLE, "a", "b", tenOClock));
+        entityManager.persist(new TaskHistory(1L, TaskHistoryField.DESCRIPTION, "x", "y", tenOClock));
+        entityManager.persist(new TaskHistory(2L, TaskHistoryField.TITLE, "p", "q", tenOClock.plusHours(2)));
+        entityManager.flush();
+
+        // When
+        List<TaskHistory> history = historyRepository
+                .findByTaskIdOrderByChangedAtDescIdDesc(1L, PageRequest.of(0, 10))
+                .getContent();
+
+        // Then
+        assertThat(history).extracting(TaskHistory::getNewValue).containsExactly("c", "y", "b");
+    }
+}
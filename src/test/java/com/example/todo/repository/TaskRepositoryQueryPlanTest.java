@@ -0,0 +1,185 @@
+package com.example.todo.repository;
+
+import com.example.todo.model.Task;
+import com.example.todo.model.TaskClosure;
+import com.example.todo.model.enums.TaskField;
+import com.example.todo.model.enums.TaskPriority;
+import com.example.todo.model.enums.TaskStatus;
+import com.example.todo.support.QueryPlanCapture;
+import com.example.todo.support.QueryPlanCapture.CapturedStatement;
+import com.example.todo.support.QueryPlanCapture.Plan;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Roda cada consulta do {@link TaskRepository} contra uma base semeada, pega o plano com EXPLAIN e falha quando
+ * uma consulta que deveria usar índice varre a tabela inteira. Uma consulta nova no repositório precisa ganhar
+ * seu caso aqui.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(TaskRepositoryQueryPlanTest.CaptureConfiguration.class)
+@DisplayName("TaskRepository Query Plan Tests")
+class TaskRepositoryQueryPlanTest {
+
+    private static final int SEEDED_TASKS = 500;
+
+    // Métodos que leem a tabela inteira por definição
+    private static final Map<String, Set<String>> ALLOWED_SCANS = Map.of(
+            "findAll", Set.of("tasks", "task_tags"),
+            "findFields", Set.of("tasks")
+    );
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private Task root;
+    private Task child;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        TaskStatus[] statuses = TaskStatus.values();
+        for (int i = 0; i < SEEDED_TASKS; i++) {
+            Task task = new Task();
+            task.setTitle("Tarefa " + i);
+            task.setStatus(statuses[i % statuses.length]);
+            task.setCreatedAt(now.minusDays(i % 120));
+            task.setPriority(TaskPriority.MEDIUM);
+            task.setTags(Set.of("tag" + (i % 10)));
+            entityManager.persist(task);
+            entityManager.persist(new TaskClosure(task.getId(), task.getId(), 0));
+        }
+        root = entityManager.persist(new Task(0L, "Raiz", null, TaskStatus.PENDING, now));
+        child = new Task(0L, "Filha", null, TaskStatus.PENDING, now);
+        child.setParentId(root.getId());
+        child = entityManager.persist(child);
+        entityManager.persist(new TaskClosure(root.getId(), root.getId(), 0));
+        entityManager.persist(new TaskClosure(child.getId(), child.getId(), 0));
+        entityManager.persist(new TaskClosure(root.getId(), child.getId(), 1));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Should not scan whole tables in queries that should use an index")
+    void shouldUseIndexesForEveryQuery() throws Exception {
+        // Given
+        Map<String, QueryPlanCapture.Call> queries = queries();
+        List<String> violations = new ArrayList<>();
+
+        // When
+        for (Map.Entry<String, QueryPlanCapture.Call> query : queries.entrySet()) {
+            List<CapturedStatement> statements = QueryPlanCapture.capture(query.getValue());
+            entityManager.clear();
+            assertThat(statements).as("%s não executou nenhum comando", query.getKey()).isNotEmpty();
+            for (CapturedStatement statement : statements) {
+                Plan plan = QueryPlanCapture.explain(dataSource, statement);
+                Set<String> scans = new TreeSet<>(plan.scannedTables());
+                scans.removeAll(ALLOWED_SCANS.getOrDefault(query.getKey(), Set.of()));
+                if (!scans.isEmpty()) {
+                    violations.add(query.getKey() + " varre " + scans + ":\n" + plan.sql() + "\n" + plan.plan());
+                }
+            }
+        }
+
+        // Then
+        assertThat(violations).as("Consultas sem índice").isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should have a query plan case for every repository query method")
+    void shouldCoverEveryRepositoryQuery() {
+        // Given
+        Set<String> declared = Stream.of(TaskRepository.class, TaskProjectionRepository.class)
+                .flatMap(type -> Arrays.stream(type.getDeclaredMethods()))
+                .filter(method -> !method.isSynthetic())
+                .map(Method::getName)
+                .collect(Collectors.toCollection(TreeSet::new));
+
+        // When / Then
+        assertThat(queries().keySet()).containsAll(declared);
+    }
+
+    private Map<String, QueryPlanCapture.Call> queries() {
+        long rootId = root.getId();
+        long childId = child.getId();
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(90);
+        Set<TaskField> fields = EnumSet.of(TaskField.TITLE, TaskField.TASK_STATUS);
+
+        Map<String, QueryPlanCapture.Call> queries = new LinkedHashMap<>();
+        queries.put("findById", () -> taskRepository.findById(rootId));
+        queries.put("findAllById", () -> taskRepository.findAllById(List.of(rootId, childId)));
+        queries.put("existsById", () -> taskRepository.existsById(rootId));
+        queries.put("findAll", () -> taskRepository.findAll());
+        queries.put("findByTaskStatus", () -> taskRepository.findByTaskStatus(TaskStatus.PENDING));
+        queries.put("findByTitlePrefix", () -> taskRepository.findByTitlePrefix("Tarefa 4"));
+        queries.put("findByNormalizedTitlePrefix", () -> taskRepository.findByNormalizedTitlePrefix("raiz", "raiz%"));
+        queries.put("findByNormalizedTitleIsNullAndTitleIsNotNull", () ->
+                taskRepository.findByNormalizedTitleIsNullAndTitleIsNotNull(Limit.of(100)));
+        queries.put("findByIdGreaterThanOrderById", () ->
+                taskRepository.findByIdGreaterThanOrderById(rootId, Limit.of(100)));
+        queries.put("findPurgeCandidateIds", () ->
+                taskRepository.findPurgeCandidateIds(TaskStatus.COMPLETED, cutoff, 0L, Limit.of(100)));
+        queries.put("deletePurgeBatch", () ->
+                taskRepository.deletePurgeBatch(rootId, childId, TaskStatus.COMPLETED, cutoff));
+        queries.put("existsByParentId", () -> taskRepository.existsByParentId(rootId));
+        queries.put("findOrphanedChildIds", () -> taskRepository.findOrphanedChildIds(rootId, childId));
+        queries.put("clearParents", () -> taskRepository.clearParents(List.of(childId)));
+        queries.put("markReminderSent", () -> taskRepository.markReminderSent(rootId, LocalDateTime.now()));
+        queries.put("lockByIds", () -> taskRepository.lockByIds(List.of(rootId, childId)));
+        queries.put("findDescendants", () -> taskRepository.findDescendants(rootId));
+        queries.put("findAncestors", () -> taskRepository.findAncestors(childId));
+        queries.put("findFields", () -> taskRepository.findFields(fields, null));
+        queries.put("findFields por status", () -> taskRepository.findFields(fields, TaskStatus.COMPLETED));
+        queries.put("findFieldsByIds", () -> taskRepository.findFieldsByIds(fields, List.of(rootId, childId)));
+        queries.put("findTagsByIds", () -> taskRepository.findTagsByIds(List.of(rootId, childId)));
+        return queries;
+    }
+
+    @TestConfiguration
+    static class CaptureConfiguration {
+
+        @Bean
+        static BeanPostProcessor queryPlanCaptureDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? QueryPlanCapture.wrap(dataSource) : bean;
+                }
+            };
+        }
+    }
+}
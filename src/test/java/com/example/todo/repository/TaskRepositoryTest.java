@@ -1,18 +1,25 @@
 package com.example.todo.repository;
 
 import com.example.todo.model.Task;
+import com.example.todo.model.enums.TaskField;
 import com.example.todo.model.enums.TaskStatus;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDateTime;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -192,4 +199,143 @@ class TaskRepositoryTest {
         assertThat(pendingTasks).extracting(Task::getTitle)
                 .containsExactlyInAnyOrder("Pending Task", "Another Pending Task");
     }
+
+    @Test
+    @DisplayName("Should find tasks by title prefix ignoring case")
+    void shouldFindTasksByTitlePrefix() {
+        // Given
+        entityManager.persistAndFlush(pendingTask);
+        entityManager.persistAndFlush(completedTask);
+
+        // When
+        List<Task> found = taskRepository.findByTitlePrefix("  pending ");
+
+        // Then
+        assertThat(found).extracting(Task::getTitle).containsExactly("Pending Task");
+        assertThat(found.get(0).getNormalizedTitle()).isEqualTo("pending task");
+    }
+
+    @Test
+    @DisplayName("Should treat LIKE wildcards in the title prefix literally")
+    void shouldMatchWildcardsLiterallyInTitlePrefix() {
+        // Given
+        pendingTask.setTitle("100% Done");
+        completedTask.setTitle("1000 Items");
+        entityManager.persistAndFlush(pendingTask);
+        entityManager.persistAndFlush(completedTask);
+
+        // When
+        List<Task> percent = taskRepository.findByTitlePrefix("100%");
+        List<Task> underscore = taskRepository.findByTitlePrefix("10_");
+
+        // Then
+        assertThat(percent).extracting(Task::getTitle).containsExactly("100% Done");
+        assertThat(underscore).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should find purge candidates in id order after a cursor")
+    void shouldFindPurgeCandidatesAfterCursor() {
+        // Given
+        completedTask.setCreatedAt(LocalDateTime.now().minusDays(40));
+        Task oldCompleted = entityManager.persistAndFlush(completedTask);
+        Task anotherOldCompleted = new Task();
+        anotherOldCompleted.setTitle("Another Old Completed Task");
+        anotherOldCompleted.setStatus(TaskStatus.COMPLETED);
+        anotherOldCompleted.setCreatedAt(LocalDateTime.now().minusDays(35));
+        anotherOldCompleted = entityManager.persistAndFlush(anotherOldCompleted);
+        pendingTask.setCreatedAt(LocalDateTime.now().minusDays(40));
+        entityManager.persistAndFlush(pendingTask);
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(30);
+
+        // When
+        List<Long> firstPage = taskRepository.findPurgeCandidateIds(TaskStatus.COMPLETED, cutoff, 0L, Limit.of(1));
+        List<Long> secondPage = taskRepository.findPurgeCandidateIds(TaskStatus.COMPLETED, cutoff, firstPage.get(0), Limit.of(1));
+
+        // Then
+        assertThat(firstPage).containsExactly(oldCompleted.getId());
+        assertThat(secondPage).containsExactly(anotherOldCompleted.getId());
+    }
+
+    @Test
+    @DisplayName("Should delete only matching tasks inside the id range")
+    void shouldDeleteOnlyMatchingTasksInsideIdRange() {
+        // Given
+        completedTask.setCreatedAt(LocalDateTime.now().minusDays(40));
+        Task oldCompleted = entityManager.persistAndFlush(completedTask);
+        pendingTask.setCreatedAt(LocalDateTime.now().minusDays(40));
+        Task oldPending = entityManager.persistAndFlush(pendingTask);
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(30);
+
+        // When
+        int deleted = taskRepository.deletePurgeBatch(oldCompleted.getId(), oldPending.getId(), TaskStatus.COMPLETED, cutoff);
+        entityManager.clear();
+
+        // Then
+        assertThat(deleted).isEqualTo(1);
+        assertThat(taskRepository.existsById(oldCompleted.getId())).isFalse();
+        assertThat(taskRepository.existsById(oldPending.getId())).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should persist and load task tags")
+    void shouldPersistAndLoadTaskTags() {
+        // Given
+        pendingTask.setTags(Set.of("backend", "api"));
+        Task savedTask = entityManager.persistAndFlush(pendingTask);
+        entityManager.clear();
+
+        // When
+        List<Task> allTasks = taskRepository.findAll();
+
+        // Then
+        assertThat(allTasks).hasSize(1);
+        assertThat(allTasks.get(0).getId()).isEqualTo(savedTask.getId());
+        assertThat(allTasks.get(0).getTags()).containsExactlyInAnyOrder("backend", "api");
+    }
+
+    @Test
+    @DisplayName("Should select only the requested fields and load tags separately")
+    void shouldSelectOnlyRequestedFields() {
+        // Given
+        pendingTask.setTags(Set.of("backend"));
+        Task savedPending = entityManager.persistAndFlush(pendingTask);
+        entityManager.persistAndFlush(completedTask);
+        entityManager.clear();
+
+        // When
+        List<Tuple> rows = taskRepository.findFields(EnumSet.of(TaskField.TITLE, TaskField.TAGS), TaskStatus.PENDING);
+        Map<Long, Set<String>> tags = taskRepository.findTagsByIds(List.of(savedPending.getId()));
+
+        // Then
+        assertThat(rows).singleElement().satisfies(row -> {
+            assertThat(row.getElements()).extracting(TupleElement::getAlias).containsExactly("id", "title");
+            assertThat(row.get("id", Long.class)).isEqualTo(savedPending.getId());
+            assertThat(row.get("title", String.class)).isEqualTo("Pending Task");
+        });
+        assertThat(tags).containsEntry(savedPending.getId(), Set.of("backend"));
+    }
+
+    @Test
+    @DisplayName("Should keep the reminder mark when the task is saved again")
+    void shouldKeepReminderMarkOnSave() {
+        // Given
+        LocalDateTime remindAt = LocalDateTime.now().minusMinutes(1);
+        pendingTask.setRemindAt(remindAt);
+        Task saved = entityManager.persistAndFlush(pendingTask);
+        LocalDateTime sentAt = LocalDateTime.now();
+
+        // When
+        int marked = taskRepository.markReminderSent(saved.getId(), sentAt);
+        saved.setTitle("Pending Task (editada)");
+        entityManager.flush();
+        entityManager.clear();
+
+        // Then
+        assertThat(marked).isEqualTo(1);
+        Task reloaded = taskRepository.findById(saved.getId()).orElseThrow();
+        assertThat(reloaded.getTitle()).isEqualTo("Pending Task (editada)");
+        assertThat(reloaded.getReminderSentAt()).isNotNull();
+        assertThat(taskRepository.markReminderSent(saved.getId(), remindAt.minusMinutes(1))).isZero();
+    }
 }
@@ -0,0 +1,64 @@
+package com.example.todo.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("DeadlineAwareTransactionManager Unit Tests")
+class DeadlineAwareTransactionManagerTest {
+
+    private final DeadlineAwareTransactionManager transactionManager = new DeadlineAwareTransactionManager();
+
+    @AfterEach
+    void clearDeadline() {
+        RequestDeadline.clear();
+    }
+
+    @Test
+    @DisplayName("Should keep the default timeout when there is no request deadline")
+    void shouldKeepDefaultTimeoutWithoutDeadline() {
+        assertThat(transactionManager.determineTimeout(new DefaultTransactionDefinition()))
+                .isEqualTo(TransactionDefinition.TIMEOUT_DEFAULT);
+    }
+
+    @Test
+    @DisplayName("Should round the remaining deadline up to whole seconds")
+    void shouldUseRemainingDeadlineRoundedUp() {
+        // Given
+        RequestDeadline.start(Duration.ofMillis(1500));
+
+        // When & Then
+        assertThat(transactionManager.determineTimeout(new DefaultTransactionDefinition())).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should keep a shorter declared timeout")
+    void shouldKeepShorterDeclaredTimeout() {
+        // Given
+        RequestDeadline.start(Duration.ofSeconds(10));
+        DefaultTransactionDefinition definition = new DefaultTransactionDefinition();
+        definition.setTimeout(3);
+
+        // When & Then
+        assertThat(transactionManager.determineTimeout(definition)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should refuse to begin a transaction after the deadline")
+    void shouldRefuseTransactionAfterDeadline() {
+        // Given
+        RequestDeadline.start(Duration.ofMillis(-1));
+
+        // When & Then
+        assertThatThrownBy(() -> transactionManager.determineTimeout(new DefaultTransactionDefinition()))
+                .isInstanceOf(TransactionTimedOutException.class);
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.todo.service;
+
+import com.example.todo.diagnostics.ApiErrorEvent;
+import com.example.todo.diagnostics.TaskOperationEvent;
+import com.example.todo.exception.InvalidRequestException;
+import com.example.todo.exception.ResourceNotFoundException;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FlightRecordingServiceTest {
+
+    private FlightRecordingService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new FlightRecordingService(new FlightRecordingProperties(
+                true, Duration.ZERO, Duration.ofMinutes(1), DataSize.ofMegabytes(10), "token"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.destroy();
+    }
+
+    @Test
+    @DisplayName("Should record task operations and API errors and return them as a .jfr file")
+    void shouldRecordApplicationEvents() throws Exception {
+        // Given
+        service.start();
+
+        // When
+        TaskOperationEvent operation = TaskOperationEvent.start("findById", 42L);
+        operation.databaseDone();
+        operation.finish();
+        ApiErrorEvent.emit(new ResourceNotFoundException("Tarefa Não Encontrada Para o Id: 42"), 404);
+        Path file = service.stop();
+
+        // Then
+        try {
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            assertThat(events).filteredOn(event -> event.getEventType().getName().equals(TaskOperationEvent.NAME))
+                    .singleElement()
+                    .satisfies(event -> {
+                        assertThat(event.getString("operation")).isEqualTo("findById");
+                        assertThat(event.getLong("taskId")).isEqualTo(42L);
+                    });
+            assertThat(events).filteredOn(event -> event.getEventType().getName().equals(ApiErrorEvent.NAME))
+                    .singleElement()
+                    .satisfies(event -> assertThat(event.getInt("status")).isEqualTo(404));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    @DisplayName("Should not record environment variables or system properties")
+    void shouldNotRecordEnvironment() throws Exception {
+        // Given
+        service.start();
+
+        // When
+        Path file = service.stop();
+
+        // Then
+        try {
+            assertThat(RecordingFile.readAllEvents(file)).extracting(event -> event.getEventType().getName())
+                    .doesNotContain("jdk.InitialEnvironmentVariable", "jdk.InitialSystemProperty");
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    @DisplayName("Should allow only one recording at a time")
+    void shouldRejectSecondRecording() throws Exception {
+        // Given
+        service.start();
+
+        // When / Then
+        assertThatThrownBy(() -> service.start()).isInstanceOf(InvalidRequestException.class);
+        Files.deleteIfExists(service.stop());
+    }
+
+    @Test
+    @DisplayName("Should fail to stop when nothing is recording")
+    void shouldFailToStopWithoutRecording() {
+        assertThatThrownBy(() -> service.stop()).isInstanceOf(ResourceNotFoundException.class);
+    }
+}
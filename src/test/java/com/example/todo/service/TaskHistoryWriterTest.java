@@ -0,0 +1,152 @@
+package com.example.todo.service;
+
+import com.example.todo.model.TaskHistory;
+import com.example.todo.model.enums.TaskHistoryField;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskHistoryWriter Unit Tests")
+class TaskHistoryWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @TempDir
+    private Path spillDirectory;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TaskHistoryWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        writer = new TaskHistoryWriter(jdbcTemplate,
+                new TaskHistoryProperties(100, 3, Duration.ofMillis(50), 2, spillDirectory), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should drain the queue in multi-row inserts on stop")
+    void shouldFlushQueueInMultiRowInsertsOnStop() {
+        // Given
+        writer.start();
+        writer.enqueue(changes(5));
+
+        // When
+        writer.stop();
+
+        // Then
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate, atLeast(2)).update(sql.capture(), any(Object[].class));
+        assertThat(sql.getAllValues()).allMatch(statement -> statement.startsWith("INSERT INTO task_history"));
+        assertThat(sql.getAllValues().stream().mapToInt(statement -> statement.split("\\(\\?").length - 1).sum())
+                .isEqualTo(5);
+        assertThat(meterRegistry.counter("tasks.history.written").count()).isEqualTo(5);
+        assertThat(writer.isRunning()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should write synchronously when the writer is not running")
+    void shouldWriteSynchronouslyWhenNotRunning() {
+        // When
+        writer.enqueue(changes(2));
+
+        // Then
+        verify(jdbcTemplate).update(eq("INSERT INTO task_history (task_id, field, old_value, new_value, changed_at) "
+                + "VALUES (?, ?, ?, ?, ?), (?, ?, ?, ?, ?)"), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("Should retry on the writer thread and spill the batch after the last attempt")
+    void shouldRetryOnWriterThreadAndSpillAfterLastAttempt() throws Exception {
+        // Given
+        writer = new TaskHistoryWriter(jdbcTemplate,
+                new TaskHistoryProperties(100, 3, Duration.ofMillis(1), 2, spillDirectory), meterRegistry);
+        when(jdbcTemplate.update(anyString(), any(Object[].class)))
+                .thenThrow(new DataAccessResourceFailureException("down"));
+        writer.start();
+
+        // When
+        writer.enqueue(changes(1));
+        writer.stop();
+
+        // Then
+        verify(jdbcTemplate, atLeast(2)).update(anyString(), any(Object[].class));
+        assertThat(meterRegistry.counter("tasks.history.spilled").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("tasks.history.dropped").count()).isZero();
+        assertThat(spilledFiles()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should spill without retrying when writing on the caller thread fails")
+    void shouldSpillWithoutRetryingOnCallerThread() throws Exception {
+        // Given
+        when(jdbcTemplate.update(anyString(), any(Object[].class)))
+                .thenThrow(new DataAccessResourceFailureException("down"));
+
+        // When
+        writer.enqueue(changes(2));
+
+        // Then
+        verify(jdbcTemplate, times(1)).update(anyString(), any(Object[].class));
+        assertThat(meterRegistry.counter("tasks.history.spilled").count()).isEqualTo(2);
+        assertThat(spilledFiles()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should replay spilled batches once the database is back")
+    void shouldReplaySpilledBatches() throws Exception {
+        // Given
+        TaskHistory change = new TaskHistory(7, TaskHistoryField.DESCRIPTION, null, "linha 1\n\tlinha 2 \\N",
+                LocalDateTime.of(2026, 1, 2, 3, 4, 5));
+        when(jdbcTemplate.update(anyString(), any(Object[].class)))
+                .thenThrow(new DataAccessResourceFailureException("down"))
+                .thenReturn(1);
+        writer.enqueue(List.of(change));
+
+        // When
+        writer.replaySpilled();
+
+        // Then
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate, times(2)).update(anyString(), args.capture());
+        assertThat(args.getValue()).containsExactly(7L, "DESCRIPTION", null, "linha 1\n\tlinha 2 \\N",
+                LocalDateTime.of(2026, 1, 2, 3, 4, 5));
+        assertThat(meterRegistry.counter("tasks.history.written").count()).isEqualTo(1);
+        assertThat(spilledFiles()).isEmpty();
+    }
+
+    private List<Path> spilledFiles() throws IOException {
+        try (Stream<Path> files = Files.list(spillDirectory)) {
+            return files.toList();
+        }
+    }
+
+    private static List<TaskHistory> changes(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new TaskHistory(i, TaskHistoryField.STATUS, "PENDING", "COMPLETED", LocalDateTime.now()))
+                .toList();
+    }
+}
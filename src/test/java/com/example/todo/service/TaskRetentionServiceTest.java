@@ -0,0 +1,127 @@
+package com.example.todo.service;
+
+import com.example.todo.model.enums.TaskStatus;
+import com.example.todo.repository.TaskClosureRepository;
+import com.example.todo.repository.TaskRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskRetentionService Unit Tests")
+class TaskRetentionServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskClosureRepository closureRepository;
+
+    private MeterRegistry meterRegistry;
+    private TaskRetentionService retentionService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        TaskRetentionProperties properties = new TaskRetentionProperties(
+                true, TaskStatus.COMPLETED, Duration.ofDays(30), 2, 1000,
+                Duration.ofMillis(100), Duration.ofMillis(1));
+        retentionService = new TaskRetentionService(taskRepository, closureRepository, properties, meterRegistry, List.of());
+    }
+
+    @Test
+    @DisplayName("Should delete candidates in id-range batches until none are left")
+    void shouldDeleteInIdRangeBatches() {
+        // Given
+        when(taskRepository.findPurgeCandidateIds(eq(TaskStatus.COMPLETED), any(LocalDateTime.class), eq(0L), any(Limit.class)))
+                .thenReturn(List.of(10L, 20L));
+        when(taskRepository.findPurgeCandidateIds(eq(TaskStatus.COMPLETED), any(LocalDateTime.class), eq(20L), any(Limit.class)))
+                .thenReturn(List.of(30L));
+        when(taskRepository.deletePurgeBatch(anyLong(), anyLong(), eq(TaskStatus.COMPLETED), any(LocalDateTime.class)))
+                .thenReturn(2, 1);
+
+        // When
+        long purged = retentionService.purge();
+
+        // Then
+        assertThat(purged).isEqualTo(3);
+        verify(taskRepository).deletePurgeBatch(eq(10L), eq(20L), eq(TaskStatus.COMPLETED), any(LocalDateTime.class));
+        verify(taskRepository).deletePurgeBatch(eq(30L), eq(30L), eq(TaskStatus.COMPLETED), any(LocalDateTime.class));
+        assertThat(meterRegistry.get("tasks.retention.purged").counter().count()).isEqualTo(3.0);
+        assertThat(meterRegistry.get("tasks.retention.run.last-id").gauge().value()).isEqualTo(30.0);
+    }
+
+    @Test
+    @DisplayName("Should not delete anything when there are no candidates")
+    void shouldNotDeleteWhenThereAreNoCandidates() {
+        // Given
+        when(taskRepository.findPurgeCandidateIds(any(), any(), anyLong(), any())).thenReturn(List.of());
+
+        // When
+        long purged = retentionService.purge();
+
+        // Then
+        assertThat(purged).isZero();
+        verify(taskRepository, never()).deletePurgeBatch(anyLong(), anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should pause while request latency is above the threshold")
+    void shouldPauseWhileLatencyIsHigh() {
+        // Given
+        Timer requests = Timer.builder(TaskRetentionService.REQUEST_LATENCY_METRIC).register(meterRegistry);
+        when(taskRepository.findPurgeCandidateIds(any(), any(), anyLong(), any())).thenAnswer(invocation -> {
+            // Requisições lentas chegam enquanto o primeiro lote é processado
+            if (invocation.<Long>getArgument(2) == 0L) {
+                requests.record(500, TimeUnit.MILLISECONDS);
+                return List.of(1L, 2L);
+            }
+            return List.of();
+        });
+        when(taskRepository.deletePurgeBatch(anyLong(), anyLong(), any(), any())).thenReturn(2);
+
+        // When
+        long purged = retentionService.purge();
+
+        // Then
+        assertThat(purged).isEqualTo(2);
+        assertThat(meterRegistry.get("tasks.retention.pauses").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("tasks.retention.paused").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should turn children of purged tasks into roots")
+    void shouldDetachChildrenOfPurgedTasks() {
+        // Given
+        when(taskRepository.findPurgeCandidateIds(any(), any(), anyLong(), any()))
+                .thenReturn(List.of(10L))
+                .thenReturn(List.of());
+        when(taskRepository.deletePurgeBatch(anyLong(), anyLong(), any(), any())).thenReturn(1);
+        when(taskRepository.findOrphanedChildIds(10L, 10L)).thenReturn(List.of(40L));
+
+        // When
+        retentionService.purge();
+
+        // Then
+        verify(closureRepository).deleteDanglingPaths(10L, 10L);
+        verify(taskRepository).clearParents(List.of(40L));
+    }
+}
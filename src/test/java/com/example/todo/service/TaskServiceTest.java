@@ -1,27 +1,71 @@
 package com.example.todo.service;
 
+import com.example.todo.analytics.TaskAnalyticsProperties;
+import com.example.todo.analytics.TaskColumnStore;
+import com.example.todo.analytics.TaskCompletionRollup;
+import com.example.todo.cache.LoopbackInvalidationBus;
+import com.example.todo.cache.TaskCacheProperties;
+import com.example.todo.cache.TaskLookupBatcher;
+import com.example.todo.cache.MicroBatchProperties;
+import com.example.todo.cache.SingleFlightProperties;
+import com.example.todo.cache.TaskNearCache;
+import com.example.todo.cache.TaskReadCoalescer;
+import com.example.todo.exception.InvalidRequestException;
 import com.example.todo.exception.ResourceNotFoundException;
+import com.example.todo.exception.TaskHasSubtasksException;
+import com.example.todo.index.DuplicateDetectionProperties;
+import com.example.todo.index.TaskDuplicateIndex;
+import com.example.todo.index.TaskPriorityIndex;
+import com.example.todo.index.TaskTagIndex;
+import com.example.todo.index.TaskTitleTrie;
 import com.example.todo.model.Task;
+import com.example.todo.model.TaskHistory;
+import com.example.todo.model.dto.PageResponseDTO;
+import com.example.todo.model.dto.TaskAnalyticsBucketDTO;
+import com.example.todo.model.dto.TaskAnalyticsDTO;
+import com.example.todo.model.dto.TaskBatchResponseDTO;
 import com.example.todo.model.dto.TaskRequestDTO;
 import com.example.todo.model.dto.TaskResponseDTO;
+import com.example.todo.model.dto.TaskRollupDTO;
+import com.example.todo.model.dto.TaskTextStatsDTO;
+import com.example.todo.model.dto.TaskWeeklyCountDTO;
+import com.example.todo.model.enums.TaskField;
+import com.example.todo.model.enums.TaskHistoryField;
+import com.example.todo.model.enums.TaskPriority;
 import com.example.todo.model.enums.TaskStatus;
+import com.example.todo.repository.TaskClosureRepository;
+import com.example.todo.repository.TaskHistoryRepository;
 import com.example.todo.repository.TaskRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.Tuple;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionOperations;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,7 +75,22 @@ class TaskServiceTest {
     @Mock
     private TaskRepository taskRepository;
 
-    @InjectMocks
+    @Mock
+    private TaskClosureRepository closureRepository;
+
+    @Mock
+    private TaskHistoryRepository historyRepository;
+
+    @Mock
+    private TaskHistoryWriter historyWriter;
+
+    private TaskPriorityIndex priorityIndex;
+    private TaskTagIndex tagIndex;
+    private TaskTitleTrie titleTrie;
+    private TaskDuplicateIndex duplicateIndex;
+    private TaskNearCache nearCache;
+    private TaskCompletionRollup completionRollup;
+    private TaskColumnStore columnStore;
     private TaskService taskService;
 
     private Task task;
@@ -40,6 +99,22 @@ class TaskServiceTest {
 
     @BeforeEach
     void setUp() {
+        priorityIndex = new TaskPriorityIndex();
+        tagIndex = new TaskTagIndex();
+        titleTrie = new TaskTitleTrie();
+        duplicateIndex = new TaskDuplicateIndex(new DuplicateDetectionProperties(true, false, 0.8, 16, 4, 5));
+        nearCache = new TaskNearCache(new LoopbackInvalidationBus(),
+                new TaskCacheProperties(100, Duration.ofMinutes(10), Duration.ofMinutes(1), "loopback", "task_invalidation"),
+                new SimpleMeterRegistry());
+        TaskReadCoalescer readCoalescer = new TaskReadCoalescer(TransactionOperations.withoutTransaction(),
+                new SingleFlightProperties(true, Duration.ofSeconds(5)), new SimpleMeterRegistry());
+        TaskLookupBatcher lookupBatcher = new TaskLookupBatcher(taskRepository, TransactionOperations.withoutTransaction(),
+                new MicroBatchProperties(false, Duration.ofNanos(500_000), 100, 4, Duration.ofSeconds(5)), new SimpleMeterRegistry());
+        completionRollup = new TaskCompletionRollup(mock(JdbcTemplate.class), TransactionOperations.withoutTransaction(),
+                new TaskAnalyticsProperties(Duration.ofMinutes(1), 10_000));
+        columnStore = new TaskColumnStore();
+        taskService = new TaskService(taskRepository, closureRepository, historyRepository, historyWriter, priorityIndex, tagIndex, titleTrie, duplicateIndex, completionRollup, columnStore, nearCache, readCoalescer, lookupBatcher, List.of(priorityIndex, tagIndex, titleTrie, duplicateIndex, nearCache, completionRollup, columnStore));
+
         task = new Task();
         task.setId(1L);
         task.setTitle("Test Task");
@@ -109,6 +184,29 @@ class TaskServiceTest {
         verify(taskRepository, times(1)).findById(taskId);
     }
 
+    @Test
+    @DisplayName("Should serve repeated lookups from the near cache until the task changes")
+    void shouldServeFindByIdFromNearCache() {
+        // Given
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        taskService.findById(1L);
+
+        // When
+        TaskResponseDTO cached = taskService.findById(1L, EnumSet.of(TaskField.TITLE));
+
+        // Then
+        assertThat(cached.getTitle()).isEqualTo("Test Task");
+        verify(taskRepository, times(1)).findById(1L);
+
+        // When
+        task.setVersion(1L);
+        nearCache.onSaved(task);
+        taskService.findById(1L);
+
+        // Then
+        verify(taskRepository, times(2)).findById(1L);
+    }
+
     @Test
     @DisplayName("Should return tasks by status successfully")
     void shouldReturnTasksByStatusSuccessfully() {
@@ -143,6 +241,22 @@ class TaskServiceTest {
         verify(taskRepository, times(1)).save(any(Task.class));
     }
 
+    @Test
+    @DisplayName("Should report a near-duplicate of an existing task on create")
+    void shouldReportPossibleDuplicatesOnCreate() {
+        // Given
+        when(taskRepository.save(any(Task.class))).thenReturn(task);
+        TaskResponseDTO first = taskService.create(taskRequestDTO);
+        taskRequestDTO.setTitle("test  TASK");
+
+        // When
+        TaskResponseDTO second = taskService.create(taskRequestDTO);
+
+        // Then
+        assertThat(first.getPossibleDuplicateIds()).isEmpty();
+        assertThat(second.getPossibleDuplicateIds()).containsExactly(1L);
+    }
+
     @Test
     @DisplayName("Should update task successfully")
     void shouldUpdateTaskSuccessfully() {
@@ -166,6 +280,33 @@ class TaskServiceTest {
         verify(taskRepository, times(1)).save(any(Task.class));
     }
 
+    @Test
+    @DisplayName("Should keep due date, reminder, priority and tags when an update omits them")
+    void shouldKeepFieldsOmittedFromUpdate() {
+        // Given: corpo de um cliente anterior a prazo, lembrete, prioridade e tags
+        Long taskId = 1L;
+        LocalDateTime dueAt = LocalDateTime.of(2025, 10, 1, 18, 0);
+        LocalDateTime remindAt = LocalDateTime.of(2025, 10, 1, 9, 0);
+        task.setDueAt(dueAt);
+        task.setRemindAt(remindAt);
+        task.setPriority(TaskPriority.HIGH);
+        task.setTags(new LinkedHashSet<>(Set.of("backend", "api")));
+        TaskRequestDTO updateDTO = new TaskRequestDTO("Updated Title", "Updated Description");
+
+        when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
+        when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        TaskResponseDTO result = taskService.update(taskId, updateDTO);
+
+        // Then
+        assertThat(result.getTitle()).isEqualTo("Updated Title");
+        assertThat(result.getDueAt()).isEqualTo(dueAt);
+        assertThat(result.getRemindAt()).isEqualTo(remindAt);
+        assertThat(result.getPriority()).isEqualTo(TaskPriority.HIGH);
+        assertThat(result.getTags()).containsExactly("api", "backend");
+    }
+
     @Test
     @DisplayName("Should throw exception when updating non-existent task")
     void shouldThrowExceptionWhenUpdatingNonExistentTask() {
@@ -248,4 +389,384 @@ class TaskServiceTest {
         verify(taskRepository, times(1)).existsById(taskId);
         verify(taskRepository, never()).deleteById(taskId);
     }
+
+    @Test
+    @DisplayName("Should default priority to MEDIUM and index the created task")
+    void shouldDefaultPriorityAndIndexCreatedTask() {
+        // Given
+        when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> {
+            Task saved = invocation.getArgument(0);
+            saved.setId(10L);
+            return saved;
+        });
+
+        // When
+        TaskResponseDTO result = taskService.create(taskRequestDTO);
+
+        // Then
+        assertThat(result.getPriority()).isEqualTo(TaskPriority.MEDIUM);
+        assertThat(priorityIndex.next(10)).containsExactly(10L);
+    }
+
+    @Test
+    @DisplayName("Should reload the listeners page by page instead of loading every task at once")
+    void shouldReloadListenersInPages() {
+        // Given
+        when(taskRepository.findByIdGreaterThanOrderById(eq(Long.MIN_VALUE), any(Limit.class)))
+                .thenReturn(List.of(task, task2Completed()));
+        when(taskRepository.findByIdGreaterThanOrderById(eq(2L), any(Limit.class))).thenReturn(List.of());
+
+        // When
+        taskService.reloadChangeListeners();
+
+        // Then
+        assertThat(priorityIndex.next(10)).containsExactly(1L);
+        assertThat(titleTrie.size()).isEqualTo(2);
+        verify(taskRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Should return next tasks in index order")
+    void shouldReturnNextTasksInIndexOrder() {
+        // Given
+        Task later = new Task(3L, "Later", null, TaskStatus.PENDING, LocalDateTime.now());
+        later.setDueAt(LocalDateTime.now().plusDays(2));
+        Task sooner = new Task(4L, "Sooner", null, TaskStatus.PENDING, LocalDateTime.now());
+        sooner.setDueAt(LocalDateTime.now().plusDays(1));
+        priorityIndex.onReload(List.of(later, sooner, task2Completed()));
+        when(taskRepository.findAllById(List.of(4L, 3L))).thenReturn(List.of(later, sooner));
+
+        // When
+        List<TaskResponseDTO> result = taskService.findNext(5);
+
+        // Then
+        assertThat(result).extracting(TaskResponseDTO::getId).containsExactly(4L, 3L);
+    }
+
+    @Test
+    @DisplayName("Should remove completed and deleted tasks from the next tasks index")
+    void shouldRemoveCompletedAndDeletedTasksFromIndex() {
+        // Given
+        Task other = new Task(5L, "Other", null, TaskStatus.PENDING, LocalDateTime.now());
+        priorityIndex.onReload(List.of(task, other));
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(taskRepository.save(any(Task.class))).thenReturn(task);
+        when(taskRepository.existsById(5L)).thenReturn(true);
+
+        // When
+        taskService.updateStatus(1L, TaskStatus.COMPLETED);
+        taskService.delete(5L);
+
+        // Then
+        assertThat(priorityIndex.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should normalize tags and search them through the tag index")
+    void shouldNormalizeTagsAndSearchThem() {
+        // Given
+        taskRequestDTO.setTags(Set.of(" Backend ", "API"));
+        when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> {
+            Task saved = invocation.getArgument(0);
+            saved.setId(20L);
+            return saved;
+        });
+        TaskResponseDTO created = taskService.create(taskRequestDTO);
+        Task stored = new Task(20L, "Test Task", null, TaskStatus.PENDING, LocalDateTime.now());
+        stored.setTags(created.getTags());
+        when(taskRepository.findAllById(List.of(20L))).thenReturn(List.of(stored));
+
+        // When
+        PageResponseDTO<TaskResponseDTO> page = taskService.search(Set.of("BACKEND"), null, Set.of("urgent"),
+                TaskStatus.PENDING, 0, 10);
+
+        // Then
+        assertThat(created.getTags()).containsExactly("api", "backend");
+        assertThat(page.getTotalElements()).isEqualTo(1);
+        assertThat(page.getContent()).extracting(TaskResponseDTO::getId).containsExactly(20L);
+    }
+
+    @Test
+    @DisplayName("Should link a new subtask under its parent in the closure table")
+    void shouldLinkSubtaskUnderParent() {
+        // Given
+        taskRequestDTO.setParentId(1L);
+        when(taskRepository.existsById(1L)).thenReturn(true);
+        when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> {
+            Task saved = invocation.getArgument(0);
+            saved.setId(30L);
+            return saved;
+        });
+
+        // When
+        TaskResponseDTO created = taskService.create(taskRequestDTO);
+
+        // Then
+        assertThat(created.getParentId()).isEqualTo(1L);
+        verify(closureRepository).insertPaths(30L, 1L);
+    }
+
+    @Test
+    @DisplayName("Should reject moving a task under one of its own subtasks")
+    void shouldRejectMoveIntoOwnSubtree() {
+        // Given
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(taskRepository.existsById(7L)).thenReturn(true);
+        when(closureRepository.existsByIdAncestorIdAndIdDescendantId(1L, 7L)).thenReturn(true);
+
+        // When & Then
+        assertThatThrownBy(() -> taskService.move(1L, 7L))
+                .isInstanceOf(InvalidRequestException.class);
+        verify(closureRepository, never()).detachSubtree(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should lock the task and the whole path of the new parent before checking for cycles")
+    void shouldLockPathBeforeMove() {
+        // Given
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(taskRepository.existsById(7L)).thenReturn(true);
+        when(closureRepository.findAncestorIds(7L)).thenReturn(List.of(3L, 5L));
+        when(taskRepository.save(any(Task.class))).thenReturn(task);
+
+        // When
+        taskService.move(1L, 7L);
+
+        // Then
+        InOrder order = inOrder(taskRepository, closureRepository);
+        order.verify(taskRepository).lockByIds(Set.of(1L, 3L, 5L, 7L));
+        order.verify(closureRepository).existsByIdAncestorIdAndIdDescendantId(1L, 7L);
+        order.verify(closureRepository).attachSubtree(1L, 7L);
+    }
+
+    @Test
+    @DisplayName("Should move a task to the root with a single detach")
+    void shouldMoveTaskToRoot() {
+        // Given
+        task.setParentId(7L);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(taskRepository.save(any(Task.class))).thenReturn(task);
+
+        // When
+        TaskResponseDTO moved = taskService.move(1L, null);
+
+        // Then
+        assertThat(moved.getParentId()).isNull();
+        verify(closureRepository).detachSubtree(1L);
+        verify(closureRepository, never()).attachSubtree(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should compute the rollup and refuse to delete a task with subtasks")
+    void shouldComputeRollupAndRefuseToDeleteParent() {
+        // Given
+        when(taskRepository.existsById(1L)).thenReturn(true);
+        when(taskRepository.existsByParentId(1L)).thenReturn(true);
+        List<Object[]> counts = List.<Object[]>of(new Object[]{4L, 3L});
+        when(closureRepository.countDescendantsByCompletion(1L, TaskStatus.COMPLETED)).thenReturn(counts);
+
+        // When
+        TaskRollupDTO rollup = taskService.rollup(1L);
+
+        // Then
+        assertThat(rollup.getCompletionPercentage()).isEqualTo(75.0);
+        assertThatThrownBy(() -> taskService.delete(1L))
+                .isInstanceOf(TaskHasSubtasksException.class)
+                .hasMessage("Tarefa Possui Subtarefas e Não Pode Ser Removida: 1");
+        verify(closureRepository, never()).deleteByDescendantIds(any());
+        verify(taskRepository, never()).deleteById(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should stamp completedAt when completing and clear it when reopening")
+    void shouldStampCompletedAtWhenCompleting() {
+        // Given
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(taskRepository.save(any(Task.class))).thenReturn(task);
+
+        // When
+        TaskResponseDTO completed = taskService.updateStatus(1L, TaskStatus.COMPLETED);
+        LocalDateTime completedAt = completed.getCompletedAt();
+        TaskResponseDTO stillCompleted = taskService.updateStatus(1L, TaskStatus.COMPLETED);
+        TaskResponseDTO reopened = taskService.updateStatus(1L, TaskStatus.PENDING);
+
+        // Then
+        assertThat(completedAt).isNotNull();
+        assertThat(stillCompleted.getCompletedAt()).isEqualTo(completedAt);
+        assertThat(reopened.getCompletedAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should count creations and completions in the analytics buckets")
+    void shouldCountCreationsAndCompletionsInAnalytics() {
+        // Given
+        when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> {
+            Task saved = invocation.getArgument(0);
+            saved.setId(10L);
+            saved.setCreatedAt(LocalDateTime.now());
+            return saved;
+        });
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+
+        // When
+        taskService.create(taskRequestDTO);
+        when(taskRepository.save(any(Task.class))).thenReturn(task);
+        taskService.updateStatus(1L, TaskStatus.COMPLETED);
+        taskService.updateStatus(1L, TaskStatus.PENDING);
+        taskService.updateStatus(1L, TaskStatus.COMPLETED);
+        TaskAnalyticsDTO result = taskService.analytics("hour", null, null);
+
+        // Then
+        assertThat(result.getBuckets()).hasSizeBetween(24, 25);
+        assertThat(result.getBuckets().stream().mapToLong(TaskAnalyticsBucketDTO::getCreated).sum()).isEqualTo(1);
+        assertThat(result.getBuckets().stream().mapToLong(TaskAnalyticsBucketDTO::getCompleted).sum()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should reject an unknown analytics bucket")
+    void shouldRejectUnknownAnalyticsBucket() {
+        // When / Then
+        assertThatThrownBy(() -> taskService.analytics("week", null, null))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("week");
+    }
+
+    @Test
+    @DisplayName("Should keep the column store current with status changes and deletes")
+    void shouldKeepColumnStoreCurrent() {
+        // Given
+        Task other = new Task(5L, "Other", null, TaskStatus.PENDING, task.getCreatedAt());
+        columnStore.onReload(List.of(task, other));
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(taskRepository.save(any(Task.class))).thenReturn(task);
+        when(taskRepository.existsById(5L)).thenReturn(true);
+
+        // When
+        taskService.updateStatus(1L, TaskStatus.COMPLETED);
+        taskService.delete(5L);
+        List<TaskWeeklyCountDTO> weeks = taskService.countByWeek(null, null);
+        TaskTextStatsDTO completed = taskService.textStats(TaskStatus.COMPLETED);
+
+        // Then
+        assertThat(weeks).singleElement().satisfies(week -> assertThat(week.getCounts())
+                .containsEntry(TaskStatus.COMPLETED, 1L)
+                .containsEntry(TaskStatus.PENDING, 0L));
+        assertThat(completed.getTasks()).isEqualTo(1);
+        assertThat(completed.getAverageTitleLength()).isEqualTo("Test Task".length());
+    }
+
+    @Test
+    @DisplayName("Should store and return the reminder time from the request")
+    void shouldStoreReminderTime() {
+        // Given
+        LocalDateTime remindAt = LocalDateTime.of(2030, 1, 15, 9, 0);
+        taskRequestDTO.setRemindAt(remindAt);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(taskRepository.save(any(Task.class))).thenReturn(task);
+
+        // When
+        TaskResponseDTO result = taskService.update(1L, taskRequestDTO);
+
+        // Then
+        assertThat(task.getRemindAt()).isEqualTo(remindAt);
+        assertThat(result.getRemindAt()).isEqualTo(remindAt);
+    }
+
+    @Test
+    @DisplayName("Should record only the fields that actually changed")
+    void shouldRecordOnlyChangedFields() {
+        // Given
+        taskRequestDTO.setDescription("New Description");
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(taskRepository.save(any(Task.class))).thenReturn(task);
+
+        // When
+        taskService.update(1L, taskRequestDTO);
+        taskService.updateStatus(1L, TaskStatus.PENDING);
+
+        // Then
+        ArgumentCaptor<List<TaskHistory>> changes = ArgumentCaptor.forClass(List.class);
+        verify(historyWriter, times(1)).enqueue(changes.capture());
+        assertThat(changes.getValue()).singleElement().satisfies(change -> {
+            assertThat(change.getField()).isEqualTo(TaskHistoryField.DESCRIPTION);
+            assertThat(change.getOldValue()).isEqualTo("Test Description");
+            assertThat(change.getNewValue()).isEqualTo("New Description");
+        });
+    }
+
+    @Test
+    @DisplayName("Should build DTOs from the projected columns only")
+    void shouldBuildDtosFromProjection() {
+        // Given
+        Set<TaskField> fields = EnumSet.of(TaskField.TITLE, TaskField.TAGS);
+        Tuple row = mock(Tuple.class);
+        when(row.get("id", Long.class)).thenReturn(1L);
+        when(row.get("title")).thenReturn("Test Task");
+        when(taskRepository.findFields(fields, null)).thenReturn(List.of(row));
+        when(taskRepository.findTagsByIds(List.of(1L))).thenReturn(Map.of(1L, Set.of("api")));
+
+        // When
+        List<TaskResponseDTO> result = taskService.findAll(fields);
+
+        // Then
+        assertThat(result).singleElement().satisfies(dto -> {
+            assertThat(dto.getId()).isEqualTo(1L);
+            assertThat(dto.getTitle()).isEqualTo("Test Task");
+            assertThat(dto.getTags()).containsExactly("api");
+            assertThat(dto.getDescription()).isNull();
+        });
+        verify(taskRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Should fetch several tasks with one query, keeping order and reporting missing ids")
+    void shouldFindByIdsInRequestedOrder() {
+        // Given
+        Task task2 = task2Completed();
+        when(taskRepository.findAllById(List.of(2L, 3L, 1L))).thenReturn(List.of(task, task2));
+
+        // When
+        TaskBatchResponseDTO result = taskService.findByIds(List.of(2L, 3L, 1L, 2L), null);
+
+        // Then
+        assertThat(result.getContent()).extracting(TaskResponseDTO::getId).containsExactly(2L, 1L);
+        assertThat(result.getMissingIds()).containsExactly(3L);
+        verify(taskRepository, times(1)).findAllById(any());
+    }
+
+    @Test
+    @DisplayName("Should serve cached tasks and query only the rest")
+    void shouldFindByIdsQueryingOnlyCacheMisses() {
+        // Given
+        when(taskRepository.findAllById(List.of(1L))).thenReturn(List.of(task));
+        taskService.findByIds(List.of(1L), null);
+        when(taskRepository.findAllById(List.of(2L))).thenReturn(List.of(task2Completed()));
+
+        // When
+        TaskBatchResponseDTO result = taskService.findByIds(List.of(1L, 2L), null);
+
+        // Then
+        assertThat(result.getContent()).extracting(TaskResponseDTO::getId).containsExactly(1L, 2L);
+        assertThat(result.getMissingIds()).isEmpty();
+        verify(taskRepository, never()).findAllById(List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("Should reject more than the maximum number of ids")
+    void shouldRejectTooManyIds() {
+        // Given
+        List<Long> ids = new ArrayList<>();
+        for (long id = 1; id <= TaskService.MAX_BATCH_IDS + 1; id++) {
+            ids.add(id);
+        }
+
+        // When / Then
+        assertThatThrownBy(() -> taskService.findByIds(ids, null))
+                .isInstanceOf(InvalidRequestException.class);
+        verifyNoInteractions(taskRepository);
+    }
+
+    private Task task2Completed() {
+        return new Task(2L, "Done", null, TaskStatus.COMPLETED, LocalDateTime.now());
+    }
 }
@@ -0,0 +1,366 @@
+package com.example.todo.service;
+
+import com.example.todo.model.Task;
+import com.example.todo.model.WebhookDeadLetter;
+import com.example.todo.model.WebhookSubscription;
+import com.example.todo.model.dto.WebhookEventDTO;
+import com.example.todo.model.enums.TaskStatus;
+import com.example.todo.repository.WebhookDeadLetterRepository;
+import com.example.todo.repository.WebhookSubscriptionRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WebhookDispatcher Tests")
+class WebhookDispatcherTest {
+
+    @Mock
+    private WebhookSubscriptionRepository subscriptionRepository;
+
+    @Mock
+    private WebhookDeadLetterRepository deadLetterRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final List<JsonNode> receivedBatches = new CopyOnWriteArrayList<>();
+    private final List<SignedRequest> signedRequests = new CopyOnWriteArrayList<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private volatile IntSupplier responseStatus = () -> 200;
+    private volatile long responseDelayMillis;
+
+    private HttpServer server;
+    private WebhookDispatcher dispatcher;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newFixedThreadPool(8));
+        server.createContext("/hook", exchange -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                byte[] body = exchange.getRequestBody().readAllBytes();
+                receivedBatches.add(objectMapper.readTree(body));
+                signedRequests.add(new SignedRequest(
+                        exchange.getRequestHeaders().getFirst(WebhookDispatcher.TIMESTAMP_HEADER),
+                        exchange.getRequestHeaders().getFirst(WebhookDispatcher.SIGNATURE_HEADER), body));
+                Thread.sleep(responseDelayMillis);
+                exchange.sendResponseHeaders(responseStatus.getAsInt(), -1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+                exchange.close();
+            }
+        });
+        server.start();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (dispatcher != null && dispatcher.isRunning()) {
+            dispatcher.stop();
+        }
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("Should coalesce events into one batch per subscriber")
+    void shouldCoalesceEventsIntoBatches() {
+        // Given
+        start(properties(50, Duration.ofMillis(100), 2, 3), TaskStatus.COMPLETED);
+
+        // When
+        for (long id = 1; id <= 5; id++) {
+            dispatcher.onStatusChanged(task(id, TaskStatus.COMPLETED), TaskStatus.PENDING);
+        }
+        dispatcher.onStatusChanged(task(6L, TaskStatus.PENDING), TaskStatus.COMPLETED);
+
+        // Then
+        awaitDelivered(5);
+        assertThat(receivedBatches).hasSize(1);
+        assertThat(receivedBatches.get(0)).hasSize(5);
+        assertThat(receivedBatches.get(0).get(0).get("previousStatus").asText()).isEqualTo("PENDING");
+    }
+
+    @Test
+    @DisplayName("Should retry failed deliveries with backoff until they succeed")
+    void shouldRetryUntilSuccess() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+        responseStatus = () -> calls.incrementAndGet() < 3 ? 503 : 200;
+        start(properties(50, Duration.ofMillis(10), 2, 5), null);
+
+        // When
+        dispatcher.onStatusChanged(task(1L, TaskStatus.COMPLETED), TaskStatus.PENDING);
+
+        // Then
+        awaitDelivered(1);
+        assertThat(calls.get()).isEqualTo(3);
+        assertThat(meterRegistry.counter("webhooks.retries").count()).isEqualTo(2);
+        verifyNoInteractions(deadLetterRepository);
+    }
+
+    @Test
+    @DisplayName("Should store events as dead letters after the last attempt")
+    @SuppressWarnings("unchecked")
+    void shouldDeadLetterAfterLastAttempt() {
+        // Given
+        responseStatus = () -> 500;
+        start(properties(50, Duration.ofMillis(10), 2, 2), null);
+
+        // When
+        dispatcher.onStatusChanged(task(1L, TaskStatus.COMPLETED), TaskStatus.PENDING);
+
+        // Then
+        ArgumentCaptor<List<WebhookDeadLetter>> deadLetters = ArgumentCaptor.forClass(List.class);
+        verify(deadLetterRepository, timeout(5_000)).saveAll(deadLetters.capture());
+        assertThat(deadLetters.getValue()).singleElement().satisfies(deadLetter -> {
+            assertThat(deadLetter.getSubscriptionId()).isEqualTo(10L);
+            assertThat(deadLetter.getAttempts()).isEqualTo(2);
+            assertThat(deadLetter.getLastError()).isEqualTo("HTTP 500");
+        });
+        assertThat(receivedBatches).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should sign each delivery with the subscription secret")
+    void shouldSignDeliveries() {
+        // Given
+        String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/hook";
+        WebhookSubscription subscription = new WebhookSubscription(10L, url, null);
+        subscription.setSecret(WebhookSignatures.newSecret());
+        startWith(properties(50, Duration.ofMillis(1), 2, 1), subscription);
+
+        // When
+        dispatcher.onStatusChanged(task(1L, TaskStatus.COMPLETED), TaskStatus.PENDING);
+
+        // Then
+        awaitDelivered(1);
+        assertThat(signedRequests).singleElement().satisfies(request -> {
+            assertThat(Long.parseLong(request.timestamp()))
+                    .isCloseTo(Instant.now().getEpochSecond(), within(60L));
+            assertThat(request.signature()).isEqualTo(WebhookSignatures.sign(subscription.getSecret(),
+                    Long.parseLong(request.timestamp()), request.body()));
+            assertThat(request.signature()).startsWith("sha256=").hasSize(7 + 64);
+        });
+    }
+
+    @Test
+    @DisplayName("Should send without signature headers when the subscription has no secret")
+    void shouldNotSignWithoutSecret() {
+        // Given
+        start(properties(50, Duration.ofMillis(1), 2, 1), null);
+
+        // When
+        dispatcher.onStatusChanged(task(1L, TaskStatus.COMPLETED), TaskStatus.PENDING);
+
+        // Then
+        awaitDelivered(1);
+        assertThat(signedRequests).singleElement().satisfies(request -> {
+            assertThat(request.timestamp()).isNull();
+            assertThat(request.signature()).isNull();
+        });
+    }
+
+    @Test
+    @DisplayName("Should dead-letter events for an internal address without calling it")
+    @SuppressWarnings("unchecked")
+    void shouldRefuseInternalAddresses() {
+        // Given
+        start(properties(50, Duration.ofMillis(1), 2, 3, false), null);
+
+        // When
+        dispatcher.onStatusChanged(task(1L, TaskStatus.COMPLETED), TaskStatus.PENDING);
+
+        // Then
+        ArgumentCaptor<List<WebhookDeadLetter>> deadLetters = ArgumentCaptor.forClass(List.class);
+        verify(deadLetterRepository, timeout(5_000)).saveAll(deadLetters.capture());
+        assertThat(deadLetters.getValue()).singleElement()
+                .satisfies(deadLetter -> assertThat(deadLetter.getLastError()).contains("interno"));
+        assertThat(receivedBatches).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should never exceed the concurrency limit of an endpoint")
+    void shouldLimitConcurrencyPerEndpoint() {
+        // Given
+        responseDelayMillis = 100;
+        start(properties(1, Duration.ofMillis(1), 2, 1), null);
+
+        // When
+        for (long id = 1; id <= 8; id++) {
+            dispatcher.onStatusChanged(task(id, TaskStatus.COMPLETED), TaskStatus.PENDING);
+        }
+
+        // Then
+        awaitDelivered(8);
+        assertThat(receivedBatches).hasSize(8);
+        assertThat(maxInFlight.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should not block the caller while the endpoint is slow")
+    void shouldNotBlockCaller() {
+        // Given
+        responseDelayMillis = 1_000;
+        start(properties(50, Duration.ofMillis(1), 1, 1), null);
+
+        // When
+        long started = System.nanoTime();
+        for (long id = 1; id <= 100; id++) {
+            dispatcher.onStatusChanged(task(id, TaskStatus.COMPLETED), TaskStatus.PENDING);
+        }
+
+        // Then
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)).isLessThan(500);
+    }
+
+    @Test
+    @DisplayName("Should deliver replayed events to a subscription registered on another node")
+    void shouldDeliverReplayedEventsToSubscriptionFromDatabase() {
+        // Given
+        start(properties(50, Duration.ofMillis(100), 2, 1), null);
+        String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/hook";
+
+        // When
+        dispatcher.enqueue(new WebhookSubscription(11L, url, null), List.of(event(1L), event(2L)));
+
+        // Then
+        awaitDelivered(2);
+        assertThat(receivedBatches).singleElement().satisfies(batch -> assertThat(batch).hasSize(2));
+    }
+
+    @Test
+    @DisplayName("Should pick up subscriptions created and deleted on other nodes")
+    void shouldRefreshSubscriptionsFromDatabase() {
+        // Given
+        start(properties(50, Duration.ofMillis(1), 2, 1), null);
+        String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/hook";
+        when(subscriptionRepository.findAll()).thenReturn(List.of(new WebhookSubscription(11L, url, null)));
+
+        // When
+        dispatcher.refreshSubscriptions();
+        dispatcher.onStatusChanged(task(1L, TaskStatus.COMPLETED), TaskStatus.PENDING);
+
+        // Then
+        awaitDelivered(1);
+        assertThat(receivedBatches).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should not bring back a subscription deleted on this node from a stale read")
+    void shouldNotRestoreUnregisteredSubscriptionOnRefresh() {
+        // Given
+        start(properties(50, Duration.ofMillis(1), 2, 1), null);
+        dispatcher.unregister(10L);
+
+        // When: a leitura ainda traz o webhook, que só sumiu da tabela depois dela
+        dispatcher.refreshSubscriptions();
+        dispatcher.onStatusChanged(task(1L, TaskStatus.COMPLETED), TaskStatus.PENDING);
+
+        // Then
+        verify(subscriptionRepository, times(2)).findAll();
+        assertThat(receivedBatches).isEmpty();
+        verifyNoInteractions(deadLetterRepository);
+    }
+
+    @Test
+    @DisplayName("Should keep dead letters off the caller thread while stopped and store them on start")
+    void shouldQueueDeadLettersWhileStopped() {
+        // Given
+        String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/hook";
+        when(subscriptionRepository.findAll()).thenReturn(List.of());
+        when(deadLetterRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        dispatcher = new WebhookDispatcher(subscriptionRepository, deadLetterRepository, objectMapper,
+                properties(50, Duration.ofMillis(1), 2, 1), meterRegistry);
+
+        // When
+        dispatcher.enqueue(new WebhookSubscription(11L, url, null), List.of(event(1L)));
+        verifyNoInteractions(deadLetterRepository);
+        dispatcher.start();
+
+        // Then
+        verify(deadLetterRepository, timeout(5_000)).saveAll(anyList());
+        assertThat(receivedBatches).isEmpty();
+    }
+
+    private void start(WebhookProperties properties, TaskStatus status) {
+        String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/hook";
+        startWith(properties, new WebhookSubscription(10L, url, status));
+    }
+
+    private void startWith(WebhookProperties properties, WebhookSubscription subscription) {
+        when(subscriptionRepository.findAll()).thenReturn(List.of(subscription));
+        lenient().when(deadLetterRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        dispatcher = new WebhookDispatcher(subscriptionRepository, deadLetterRepository, objectMapper, properties,
+                meterRegistry);
+        dispatcher.start();
+    }
+
+    private void awaitDelivered(int events) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.counter("webhooks.delivered").count() < events && System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        assertThat(meterRegistry.counter("webhooks.delivered").count()).isEqualTo(events);
+    }
+
+    // O servidor de teste escuta em loopback: os endereços internos ficam liberados, exceto no teste de SSRF
+    private static WebhookProperties properties(int batchSize, Duration batchWindow, int maxConcurrency, int maxAttempts) {
+        return properties(batchSize, batchWindow, maxConcurrency, maxAttempts, true);
+    }
+
+    private static WebhookProperties properties(int batchSize, Duration batchWindow, int maxConcurrency, int maxAttempts,
+                                                boolean allowPrivateAddresses) {
+        return new WebhookProperties(1000, batchSize, batchWindow, maxConcurrency, maxAttempts,
+                Duration.ofMillis(10), Duration.ofMillis(50), Duration.ofSeconds(2), Duration.ofMinutes(1),
+                allowPrivateAddresses);
+    }
+
+    private static WebhookEventDTO event(long taskId) {
+        return new WebhookEventDTO(taskId, "Task " + taskId, TaskStatus.PENDING, TaskStatus.COMPLETED,
+                LocalDateTime.now());
+    }
+
+    private static Task task(long id, TaskStatus status) {
+        return new Task(id, "Task " + id, null, status, LocalDateTime.now());
+    }
+
+    private record SignedRequest(String timestamp, String signature, byte[] body) {
+    }
+}
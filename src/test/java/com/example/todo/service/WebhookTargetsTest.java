@@ -0,0 +1,52 @@
+package com.example.todo.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("WebhookTargets Tests")
+class WebhookTargetsTest {
+
+    @Test
+    @DisplayName("Should treat loopback, link-local and private ranges as internal")
+    void shouldDetectInternalAddresses() throws UnknownHostException {
+        // Given
+        List<String> internal = List.of("127.0.0.1", "0.0.0.0", "10.1.2.3", "172.16.0.1", "192.168.1.1",
+                "169.254.169.254", "100.64.0.1", "224.0.0.1", "::1", "fe80::1", "fd00::1");
+
+        // When / Then
+        for (String address : internal) {
+            assertThat(WebhookTargets.isInternal(InetAddress.getByName(address))).as(address).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("Should accept public addresses")
+    void shouldAcceptPublicAddresses() throws UnknownHostException {
+        // Given
+        List<String> external = List.of("93.184.216.34", "100.128.0.1", "8.8.8.8", "2606:4700::1111");
+
+        // When / Then
+        for (String address : external) {
+            assertThat(WebhookTargets.isInternal(InetAddress.getByName(address))).as(address).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject a URL whose host resolves to an internal address")
+    void shouldRejectInternalUrl() {
+        // When / Then
+        assertThatThrownBy(() -> WebhookTargets.requirePublic(URI.create("http://[::ffff:127.0.0.1]:8080/hook")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("interno");
+        assertThatThrownBy(() -> WebhookTargets.requirePublic(URI.create("http://localhost/hook")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.todo.support;
+
+import com.example.todo.filter.AllocationTrackingFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Mede os bytes alocados por chamada na thread atual e falha quando o orçamento é estourado.
+ * <p>
+ * O orçamento vale só para o que a chamada aloca além de uma chamada de referência: o custo comum a todas as
+ * requisições (MockMvc, filtros, interceptadores) fica fora e pode mudar sem exigir a revisão de cada orçamento.
+ */
+public final class AllocationBudget {
+
+    private static final Logger log = LoggerFactory.getLogger(AllocationBudget.class);
+
+    private static final int WARMUP_CALLS = 100;
+    private static final int MEASURED_CALLS = 100;
+
+    /** Quantas vezes {@link #bytesPerCall} executa a chamada: quem consome dados a cada chamada prepara esse tanto. */
+    public static final int CALLS = WARMUP_CALLS + MEASURED_CALLS;
+
+    @FunctionalInterface
+    public interface Call {
+        void run() throws Exception;
+    }
+
+    private AllocationBudget() {
+    }
+
+    public static long bytesPerCall(Call call) throws Exception {
+        assumeTrue(AllocationTrackingFilter.currentThreadAllocatedBytes() >= 0,
+                "JVM sem suporte a contadores de alocação por thread");
+        for (int i = 0; i < WARMUP_CALLS; i++) {
+            call.run();
+        }
+        long before = AllocationTrackingFilter.currentThreadAllocatedBytes();
+        for (int i = 0; i < MEASURED_CALLS; i++) {
+            call.run();
+        }
+        return (AllocationTrackingFilter.currentThreadAllocatedBytes() - before) / MEASURED_CALLS;
+    }
+
+    /**
+     * Falha se {@code call} alocar, por chamada, mais de {@code budgetBytes} além do que {@code baseline} aloca.
+     */
+    public static void assertWithinBudget(String name, long budgetBytes, Call baseline, Call call) throws Exception {
+        long baselinePerCall = bytesPerCall(baseline);
+        long perCall = bytesPerCall(call) - baselinePerCall;
+        log.info("[allocation] {}: {} bytes/call above a {} bytes/call baseline (budget {})",
+                name, perCall, baselinePerCall, budgetBytes);
+        assertThat(perCall)
+                .as("%s alocou %d bytes por chamada, orçamento é %d", name, perCall, budgetBytes)
+                .isLessThanOrEqualTo(budgetBytes);
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.todo.support;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLTimeoutException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Proxy JDBC que simula um banco parado: comandos cujo SQL casa com o padrão injetado demoram o atraso configurado
+ * antes de executar. Como um driver de verdade, respeita o {@code setQueryTimeout} do comando: se o atraso passar
+ * do tempo limite, espera só o tempo limite e falha com {@link SQLTimeoutException} (SQLState {@code 57014}).
+ * <p>
+ * O {@link DataSource} da aplicação é envolvido por {@link #wrap}; cada execução de {@link PreparedStatement} fica
+ * registrada com o tempo limite que tinha, para o teste conferir o que a aplicação aplicou.
+ */
+public final class FaultInjectingDataSource {
+
+    public record Execution(String sql, int queryTimeoutSeconds) {
+    }
+
+    private record Fault(Pattern sql, Duration delay) {
+    }
+
+    private static volatile Fault fault;
+    private static final List<Execution> EXECUTIONS = new CopyOnWriteArrayList<>();
+
+    private FaultInjectingDataSource() {
+    }
+
+    public static DataSource wrap(DataSource dataSource) {
+        return proxy(DataSource.class, (method, args) -> {
+            Object result = method.invoke(dataSource, args);
+            return result instanceof Connection connection ? connection(connection) : result;
+        });
+    }
+
+    /**
+     * Atrasa os comandos cujo SQL contém {@code sqlRegex} (sem diferenciar maiúsculas).
+     */
+    public static void delay(String sqlRegex, Duration delay) {
+        fault = new Fault(Pattern.compile(sqlRegex, Pattern.CASE_INSENSITIVE), delay);
+    }
+
+    public static void reset() {
+        fault = null;
+        EXECUTIONS.clear();
+    }
+
+    public static List<Execution> executions() {
+        return List.copyOf(EXECUTIONS);
+    }
+
+    private static Connection connection(Connection connection) {
+        return proxy(Connection.class, (method, args) -> {
+            Object result = method.invoke(connection, args);
+            return result instanceof PreparedStatement prepared && method.getName().equals("prepareStatement")
+                    ? preparedStatement(prepared, (String) args[0])
+                    : result;
+        });
+    }
+
+    private static PreparedStatement preparedStatement(PreparedStatement statement, String sql) {
+        return proxy(PreparedStatement.class, (method, args) -> {
+            if (method.getName().startsWith("execute") && (args == null || args.length == 0)) {
+                int queryTimeout = statement.getQueryTimeout();
+                EXECUTIONS.add(new Execution(sql, queryTimeout));
+                stall(sql, queryTimeout);
+            }
+            return method.invoke(statement, args);
+        });
+    }
+
+    private static void stall(String sql, int queryTimeoutSeconds) throws SQLTimeoutException, InterruptedException {
+        Fault current = fault;
+        if (current == null || !current.sql().matcher(sql).find()) {
+            return;
+        }
+        long delay = current.delay().toMillis();
+        long timeout = TimeUnit.SECONDS.toMillis(queryTimeoutSeconds);
+        if (queryTimeoutSeconds > 0 && delay > timeout) {
+            Thread.sleep(timeout);
+            throw new SQLTimeoutException("Comando cancelado pelo tempo limite (falha injetada)", "57014");
+        }
+        Thread.sleep(delay);
+    }
+
+    private interface Call {
+        Object invoke(Method method, Object[] args) throws Exception;
+    }
+
+    private static <T> T proxy(Class<T> type, Call call) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            try {
+                return call.invoke(method, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        };
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+}
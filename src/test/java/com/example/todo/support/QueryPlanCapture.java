@@ -0,0 +1,166 @@
+package com.example.todo.support;
+
+import org.springframework.jdbc.datasource.DataSourceUtils;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Registra os comandos SQL (com os parâmetros) executados durante uma chamada e obtém o plano de execução de
+ * cada um com {@code EXPLAIN}, no H2 ou no PostgreSQL.
+ * <p>
+ * O {@link DataSource} da aplicação é envolvido por {@link #wrap}; o EXPLAIN usa a conexão da transação atual,
+ * então enxerga os dados semeados pelo teste. No PostgreSQL {@code enable_seqscan} é desligado durante o EXPLAIN:
+ * com tabelas pequenas o planejador prefere varrer a tabela mesmo havendo índice, e assim um {@code Seq Scan}
+ * só aparece quando nenhum índice serve.
+ */
+public final class QueryPlanCapture {
+
+    private static final Pattern H2_TABLE_SCAN = Pattern.compile("(\\w+)\\.tableScan");
+    private static final Pattern POSTGRES_SEQ_SCAN = Pattern.compile("Seq Scan on (\\w+)");
+
+    private static final ThreadLocal<List<CapturedStatement>> CURRENT = new ThreadLocal<>();
+
+    public record CapturedStatement(String sql, Map<Integer, Object> parameters) {
+    }
+
+    public record Plan(String sql, String plan, Set<String> scannedTables) {
+    }
+
+    @FunctionalInterface
+    public interface Call {
+        void run() throws Exception;
+    }
+
+    private QueryPlanCapture() {
+    }
+
+    public static DataSource wrap(DataSource dataSource) {
+        return proxy(DataSource.class, dataSource, (method, args, result) ->
+                result instanceof Connection connection ? connection(connection) : result);
+    }
+
+    /**
+     * Executa {@code call} registrando os comandos que ele envia ao banco pela thread atual.
+     */
+    public static List<CapturedStatement> capture(Call call) throws Exception {
+        List<CapturedStatement> statements = new ArrayList<>();
+        CURRENT.set(statements);
+        try {
+            call.run();
+        } finally {
+            CURRENT.remove();
+        }
+        return statements;
+    }
+
+    public static Plan explain(DataSource dataSource, CapturedStatement statement) throws SQLException {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            boolean postgres = connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT)
+                    .contains("postgres");
+            if (postgres) {
+                execute(connection, "SET enable_seqscan = off");
+            }
+            try {
+                String plan = plan(connection, statement);
+                return new Plan(statement.sql(), plan, scannedTables(plan, postgres ? POSTGRES_SEQ_SCAN : H2_TABLE_SCAN));
+            } finally {
+                if (postgres) {
+                    execute(connection, "RESET enable_seqscan");
+                }
+            }
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private static String plan(Connection connection, CapturedStatement statement) throws SQLException {
+        try (PreparedStatement explain = connection.prepareStatement("EXPLAIN " + statement.sql())) {
+            for (Map.Entry<Integer, Object> parameter : statement.parameters().entrySet()) {
+                explain.setObject(parameter.getKey(), parameter.getValue());
+            }
+            StringBuilder plan = new StringBuilder();
+            try (ResultSet rows = explain.executeQuery()) {
+                while (rows.next()) {
+                    plan.append(rows.getString(1)).append('\n');
+                }
+            }
+            return plan.toString();
+        }
+    }
+
+    private static Set<String> scannedTables(String plan, Pattern scan) {
+        Set<String> tables = new TreeSet<>();
+        Matcher matcher = scan.matcher(plan);
+        while (matcher.find()) {
+            tables.add(matcher.group(1).toLowerCase(Locale.ROOT));
+        }
+        return tables;
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static Connection connection(Connection connection) {
+        return proxy(Connection.class, connection, (method, args, result) ->
+                result instanceof PreparedStatement prepared && method.getName().equals("prepareStatement")
+                        ? preparedStatement(prepared, (String) args[0])
+                        : result);
+    }
+
+    // Guarda os parâmetros de set*(índice, valor, ...) e registra o comando a cada execução
+    private static PreparedStatement preparedStatement(PreparedStatement statement, String sql) {
+        Map<Integer, Object> parameters = new TreeMap<>();
+        return proxy(PreparedStatement.class, statement, (method, args, result) -> {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                parameters.put(index, name.equals("setNull") ? null : args[1]);
+            } else if (name.equals("clearParameters")) {
+                parameters.clear();
+            } else if (name.startsWith("execute") && (args == null || args.length == 0)) {
+                List<CapturedStatement> statements = CURRENT.get();
+                if (statements != null) {
+                    statements.add(new CapturedStatement(sql, Collections.unmodifiableMap(new TreeMap<>(parameters))));
+                }
+            }
+            return result;
+        });
+    }
+
+    private interface AfterCall {
+        Object apply(Method method, Object[] args, Object result) throws Exception;
+    }
+
+    private static <T> T proxy(Class<T> type, T target, AfterCall afterCall) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            try {
+                return afterCall.apply(method, args, method.invoke(target, args));
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        };
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+}
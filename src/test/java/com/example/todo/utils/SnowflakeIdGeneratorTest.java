@@ -0,0 +1,120 @@
+package com.example.todo.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SnowflakeIdGenerator Tests")
+class SnowflakeIdGeneratorTest {
+
+    @Test
+    @DisplayName("Should generate strictly increasing ids")
+    void shouldGenerateStrictlyIncreasingIds() {
+        // Given
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1);
+
+        // When & Then
+        long previous = generator.nextId();
+        for (int i = 0; i < 100_000; i++) {
+            long next = generator.nextId();
+            assertThat(next).isGreaterThan(previous);
+            previous = next;
+        }
+    }
+
+    @Test
+    @DisplayName("Should embed node id and timestamp")
+    void shouldEmbedNodeIdAndTimestamp() {
+        // Given
+        long now = SnowflakeIdGenerator.DEFAULT_EPOCH + 123_456L;
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(42, SnowflakeIdGenerator.DEFAULT_EPOCH, () -> now);
+
+        // When
+        long id = generator.nextId();
+
+        // Then
+        assertThat(generator.extractTimestamp(id)).isEqualTo(now);
+        assertThat((id >>> 12) & SnowflakeIdGenerator.MAX_NODE_ID).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("Should keep ids increasing when the clock moves backwards")
+    void shouldKeepIdsIncreasingWhenClockMovesBackwards() {
+        // Given
+        AtomicLong clock = new AtomicLong(SnowflakeIdGenerator.DEFAULT_EPOCH + 10_000L);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(3, SnowflakeIdGenerator.DEFAULT_EPOCH, clock::get);
+        long beforeRegression = generator.nextId();
+
+        // When
+        clock.addAndGet(-5_000L);
+        long afterRegression = generator.nextId();
+
+        // Then
+        assertThat(afterRegression).isGreaterThan(beforeRegression);
+        assertThat(generator.extractTimestamp(afterRegression)).isEqualTo(generator.extractTimestamp(beforeRegression));
+    }
+
+    @Test
+    @DisplayName("Should roll over to the next millisecond when the sequence is exhausted")
+    void shouldRollOverWhenSequenceIsExhausted() {
+        // Given
+        long now = SnowflakeIdGenerator.DEFAULT_EPOCH + 1_000L;
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(0, SnowflakeIdGenerator.DEFAULT_EPOCH, () -> now);
+
+        // When
+        long last = 0;
+        for (int i = 0; i < 4097; i++) {
+            last = generator.nextId();
+        }
+
+        // Then
+        assertThat(generator.extractTimestamp(last)).isEqualTo(now + 1);
+    }
+
+    @Test
+    @DisplayName("Should generate unique ids across threads")
+    void shouldGenerateUniqueIdsAcrossThreads() throws InterruptedException {
+        // Given
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(7);
+        int threads = 8;
+        int perThread = 50_000;
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    ids.add(generator.nextId());
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        // Then
+        assertThat(ids).hasSize(threads * perThread);
+    }
+
+    @Test
+    @DisplayName("Should reject node ids out of range")
+    void shouldRejectNodeIdsOutOfRange() {
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(-1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}